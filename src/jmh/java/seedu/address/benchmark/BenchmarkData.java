@@ -0,0 +1,33 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.ContactList;
+import seedu.address.model.ExpenditureList;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Contains utility methods for filling the lists benchmarked with generated data.
+ * Every benchmark generates its data from the same seed, so that results from different runs are comparable.
+ */
+public class BenchmarkData {
+    public static final long SEED = 4113;
+
+    private BenchmarkData() {} // prevents instantiation
+
+    /**
+     * Returns a contact list of {@code size} generated persons.
+     */
+    public static ContactList getContactList(int size) {
+        ContactList contactList = new ContactList();
+        contactList.setPersons(SyntheticDataUtil.generate(size, SEED, SyntheticDataUtil::generatePerson));
+        return contactList;
+    }
+
+    /**
+     * Returns an expenditure list of {@code size} generated purchases.
+     */
+    public static ExpenditureList getExpenditureList(int size) {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.setPurchases(SyntheticDataUtil.generate(size, SEED, SyntheticDataUtil::generatePurchase));
+        return expenditureList;
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.purchase.ColumnarPurchaseList;
+import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.PurchaseName;
+import seedu.address.model.search.IndexedFilteredList;
+import seedu.address.model.search.ListSearchIndex;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures reading every purchase of a {@code ColumnarPurchaseList} of {@code size} purchases, which creates each
+ * purchase as it is read, against reading them from a list that keeps the purchases, and finding the purchases with a
+ * name through indexes that keep their names rather than the purchases, as {@code ModelManager} does.
+ * Run with {@code gradlew jmh -PjmhInclude=ColumnarPurchaseList -PjmhProfilers=gc} to also report the memory allocated
+ * by each read, as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ColumnarPurchaseListBenchmark {
+
+    private static final List<String> FIND_KEYWORDS = Collections.singletonList("kopi");
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Purchase> purchases;
+    private ColumnarPurchaseList columnarPurchases;
+    private ListSearchIndex<Purchase, PurchaseName> searchIndex;
+    private IndexedFilteredList<Purchase> filteredPurchases;
+
+    @Setup(Level.Trial)
+    public void generatePurchases() {
+        purchases = new ArrayList<>(SyntheticDataUtil.generate(size, BenchmarkData.SEED,
+                SyntheticDataUtil::generatePurchase));
+        columnarPurchases = new ColumnarPurchaseList();
+        columnarPurchases.setAll(purchases);
+        searchIndex = new ListSearchIndex<>(columnarPurchases, Purchase::getPurchaseName, name -> name.fullName);
+        filteredPurchases = new IndexedFilteredList<>(columnarPurchases, Purchase::getPurchaseName,
+                columnarPurchases::getPurchaseName);
+    }
+
+    @Benchmark
+    public void readColumnarPurchases(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(columnarPurchases.get(i));
+        }
+    }
+
+    @Benchmark
+    public void readPurchases(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(purchases.get(i));
+        }
+    }
+
+    @Benchmark
+    public List<Purchase> findColumnarPurchases() {
+        return filteredPurchases.getSourceElements(searchIndex.find(FIND_KEYWORDS));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures adding persons to a {@code UniquePersonList} that already holds {@code size} persons.
+ * Every measurement adds the same {@value #BATCH_SIZE} new persons to a freshly filled list, so the list stays the
+ * same size however many measurements are taken.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = UniquePersonListBenchmark.BATCH_SIZE)
+@Measurement(iterations = 10, batchSize = UniquePersonListBenchmark.BATCH_SIZE)
+public class UniquePersonListBenchmark {
+    static final int BATCH_SIZE = 1000;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private List<Person> newPersons;
+    private UniquePersonList personList;
+    private int nextNewPerson;
+
+    @Setup(Level.Trial)
+    public void generatePersons() {
+        List<Person> generated = SyntheticDataUtil.generate(size + BATCH_SIZE, BenchmarkData.SEED,
+                SyntheticDataUtil::generatePerson);
+        persons = generated.subList(0, size);
+        newPersons = generated.subList(size, size + BATCH_SIZE);
+    }
+
+    @Setup(Level.Iteration)
+    public void fillList() {
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        nextNewPerson = 0;
+    }
+
+    @Benchmark
+    public UniquePersonList add() {
+        personList.add(newPersons.get(nextNewPerson++));
+        return personList;
+    }
+}
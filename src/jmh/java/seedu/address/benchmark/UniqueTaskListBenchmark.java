@@ -0,0 +1,60 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.task.Task;
+import seedu.address.model.task.UniqueTaskList;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures sorting a {@code UniqueTaskList} of {@code size} tasks by deadline.
+ * The tasks are put back in a random order before every sort, as the tasks added by the user would be.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniqueTaskListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private final Random random = new Random(BenchmarkData.SEED);
+    private List<Task> tasks;
+    private UniqueTaskList taskList;
+
+    @Setup(Level.Trial)
+    public void generateTasks() {
+        tasks = new ArrayList<>(SyntheticDataUtil.generate(size, BenchmarkData.SEED, SyntheticDataUtil::generateTask));
+        taskList = new UniqueTaskList();
+    }
+
+    @Setup(Level.Invocation)
+    public void shuffleTasks() {
+        Collections.shuffle(tasks, random);
+        taskList.setTasks(tasks);
+    }
+
+    @Benchmark
+    public UniqueTaskList sortTask() {
+        taskList.sortTask();
+        return taskList;
+    }
+}
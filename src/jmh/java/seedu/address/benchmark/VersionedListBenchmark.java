@@ -0,0 +1,85 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ContactList;
+import seedu.address.model.TaskList;
+import seedu.address.model.VersionedContactList;
+import seedu.address.model.VersionedTaskList;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures committing a change to a versioned list of {@code size} entries, as every command that changes a list does.
+ * Every measurement makes the same {@value #BATCH_SIZE} changes to freshly filled lists, so the lists stay the same
+ * size however many measurements are taken.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = VersionedListBenchmark.BATCH_SIZE)
+@Measurement(iterations = 10, batchSize = VersionedListBenchmark.BATCH_SIZE)
+public class VersionedListBenchmark {
+    static final int BATCH_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private ContactList contactList;
+    private TaskList taskList;
+    private List<Person> newPersons;
+    private List<Task> newTasks;
+    private VersionedContactList versionedContactList;
+    private VersionedTaskList versionedTaskList;
+    private int nextChange;
+
+    @Setup(Level.Trial)
+    public void generateLists() {
+        List<Person> persons = SyntheticDataUtil.generate(size + BATCH_SIZE, BenchmarkData.SEED,
+                SyntheticDataUtil::generatePerson);
+        contactList = new ContactList();
+        contactList.setPersons(persons.subList(0, size));
+        newPersons = persons.subList(size, size + BATCH_SIZE);
+
+        List<Task> tasks = SyntheticDataUtil.generate(size + BATCH_SIZE, BenchmarkData.SEED,
+                SyntheticDataUtil::generateTask);
+        taskList = new TaskList();
+        taskList.setTasks(tasks.subList(0, size));
+        newTasks = tasks.subList(size, size + BATCH_SIZE);
+    }
+
+    @Setup(Level.Iteration)
+    public void fillLists() {
+        versionedContactList = new VersionedContactList(contactList);
+        versionedTaskList = new VersionedTaskList(taskList);
+        nextChange = 0;
+    }
+
+    @Benchmark
+    public VersionedContactList commitContactList() {
+        versionedContactList.addPerson(newPersons.get(nextChange++));
+        versionedContactList.commit();
+        return versionedContactList;
+    }
+
+    @Benchmark
+    public VersionedTaskList commitTaskList() {
+        versionedTaskList.addTask(newTasks.get(nextChange++));
+        versionedTaskList.commit();
+        return versionedTaskList;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ContactList;
+import seedu.address.model.ExpenditureList;
+
+/**
+ * Measures converting a contact list and an expenditure list of {@code size} entries to JSON and back, in the same
+ * way as they are saved and loaded, without the time taken to write and read the files.
+ * This benchmark is in the storage package to use the package-private JSON-friendly versions of the lists.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class JsonStorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private ContactList contactList;
+    private ExpenditureList expenditureList;
+    private String contactListJson;
+    private String expenditureListJson;
+
+    @Setup(Level.Trial)
+    public void generateLists() throws IOException {
+        contactList = BenchmarkData.getContactList(size);
+        expenditureList = BenchmarkData.getExpenditureList(size);
+        contactListJson = JsonUtil.toJsonString(new JsonSerializableContactList(contactList));
+        expenditureListJson = JsonUtil.toJsonString(new JsonSerializableExpenditureList(expenditureList));
+    }
+
+    @Benchmark
+    public String serializeContactList() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableContactList(contactList));
+    }
+
+    @Benchmark
+    public ContactList deserializeContactList() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(contactListJson, JsonSerializableContactList.class).toModelType();
+    }
+
+    @Benchmark
+    public String serializeExpenditureList() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableExpenditureList(expenditureList));
+    }
+
+    @Benchmark
+    public ExpenditureList deserializeExpenditureList() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(expenditureListJson, JsonSerializableExpenditureList.class).toModelType();
+    }
+}
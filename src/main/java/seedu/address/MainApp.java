@@ -2,19 +2,32 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsRegistry;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.JsonFileOptions;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ReminderScheduler;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -22,13 +35,8 @@ import seedu.address.model.ContactList;
 import seedu.address.model.ExpenditureList;
 import seedu.address.model.HabitTrackerList;
 import seedu.address.model.Model;
+import seedu.address.model.ModelLoader;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyContactList;
-import seedu.address.model.ReadOnlyExpenditureList;
-import seedu.address.model.ReadOnlyHabitTrackerList;
-import seedu.address.model.ReadOnlyTaskList;
-import seedu.address.model.ReadOnlyUserPrefs;
-import seedu.address.model.ReadOnlyWorkoutBook;
 import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.WorkoutBook;
@@ -36,6 +44,7 @@ import seedu.address.storage.ContactListStorage;
 import seedu.address.storage.ExpenditureListStorage;
 import seedu.address.storage.HabitTrackerListStorage;
 import seedu.address.storage.WorkoutBookStorage;
+import seedu.address.storage.JournalStorageManager;
 import seedu.address.storage.JsonContactListStorage;
 import seedu.address.storage.JsonExpenditureListStorage;
 import seedu.address.storage.JsonTaskListStorage;
@@ -61,15 +70,16 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** Number of data files read by {@link #initModelLoader(Storage, Model, Executor)}. */
+    private static final int DATA_FILE_COUNT = 5;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
-    private Optional<ReadOnlyTaskList> taskListOptional;
-    private Optional<ReadOnlyExpenditureList> expListOptional;
-    private Optional<ReadOnlyWorkoutBook> workoutBookOptional;
-    private Optional<ReadOnlyHabitTrackerList> habitTrackerListOptional;
+    protected ReminderScheduler reminderScheduler;
+    protected MetricsRegistry metricsRegistry;
 
 
     @Override
@@ -82,131 +92,150 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ContactListStorage contactListStorage = new JsonContactListStorage(userPrefs.getContactListFilePath());
-        TaskListStorage taskListStorage = new JsonTaskListStorage(userPrefs.getTaskListFilePath());
+        JsonFileOptions dataFileOptions =
+                new JsonFileOptions(userPrefs.isCompactDataFiles(), userPrefs.isBackupDataFiles());
+        ContactListStorage contactListStorage =
+                new JsonContactListStorage(userPrefs.getContactListFilePath(), dataFileOptions);
+        TaskListStorage taskListStorage = new JsonTaskListStorage(userPrefs.getTaskListFilePath(), dataFileOptions);
         TickedTaskListStorage tickedTaskListStorage =
-                new JsonTickedTaskListStorage(userPrefs.getTickedTaskListFilePath());
+                new JsonTickedTaskListStorage(userPrefs.getTickedTaskListFilePath(), dataFileOptions);
         ExpenditureListStorage expenditureListStorage =
-                new JsonExpenditureListStorage(userPrefs.getExpenditureListFilePath());
-        WorkoutBookStorage workoutBookStorage = new JsonWorkoutBookStorage(userPrefs.getWorkoutBookFilePath());
+                new JsonExpenditureListStorage(userPrefs.getExpenditureListFilePath(), dataFileOptions);
+        WorkoutBookStorage workoutBookStorage =
+                new JsonWorkoutBookStorage(userPrefs.getWorkoutBookFilePath(), dataFileOptions);
         HabitTrackerListStorage habitTrackerListStorage =
-                new JsonHabitTrackerListStorage(userPrefs.getHabitTrackerListFilePath());
-        storage = new StorageManager(contactListStorage, userPrefsStorage, taskListStorage,
-                expenditureListStorage, workoutBookStorage, tickedTaskListStorage, habitTrackerListStorage);
+                new JsonHabitTrackerListStorage(userPrefs.getHabitTrackerListFilePath(), dataFileOptions);
+        if (userPrefs.isJournalDataFiles()) {
+            storage = new JournalStorageManager(contactListStorage, userPrefsStorage, taskListStorage,
+                    expenditureListStorage, workoutBookStorage, tickedTaskListStorage, habitTrackerListStorage);
+        } else {
+            // changes left in journals while journalling was turned on would otherwise be lost
+            new JournalStorageManager(contactListStorage, userPrefsStorage, taskListStorage, expenditureListStorage,
+                    workoutBookStorage, tickedTaskListStorage, habitTrackerListStorage).compactJournals();
+            storage = new StorageManager(contactListStorage, userPrefsStorage, taskListStorage,
+                    expenditureListStorage, workoutBookStorage, tickedTaskListStorage, habitTrackerListStorage);
+        }
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        metricsRegistry = new MetricsRegistry();
+        ModelManager modelManager = new ModelManager(new ContactList(), userPrefs, new TaskList(),
+                new ExpenditureList(), new WorkoutBook(), new HabitTrackerList());
+        modelManager.registerMetrics(metricsRegistry);
+        model = modelManager;
+        ModelLoader modelLoader;
+        if (config.isDataLoadingDeferred()) {
+            logger.info("Loading data in the background.");
+            modelLoader = initModelLoader(storage, model, Platform::runLater);
+            modelLoader.start();
+        } else {
+            modelLoader = initModelLoader(storage, model, Runnable::run);
+            modelLoader.awaitLoaded();
+        }
 
-        logic = new LogicManager(model, storage);
+        CommandMetrics commandMetrics = new CommandMetrics(config.isAllocationMeasured());
+        commandMetrics.registerSaveMetrics(metricsRegistry);
+        if (config.getMetricsLoggingIntervalMinutes() > 0) {
+            commandMetrics.startLogging(initMetricsTimer(), config.getMetricsLoggingIntervalMinutes(),
+                    TimeUnit.MINUTES);
+        }
+        logic = new LogicManager.Builder(model, storage)
+                .withSaveExecutor(initSaveExecutor())
+                .withModelLoader(modelLoader)
+                .withLiveFilters(initLiveFilterWorker(), Platform::runLater)
+                .withMetrics(commandMetrics)
+                .build();
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s contact list and {@code userPrefs}. <br>
-     * The data from the sample contact list will be used instead if {@code storage}'s contact list is not found,
-     * or an empty contact list will be used instead if errors occur when reading {@code storage}'s contact list.
+     * Returns an executor that saves data on a background thread, so that the UI is not blocked while files are
+     * written. The thread does not keep the application alive; pending saves are flushed in {@link #stop()}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyContactList> contactListOptional;
-        Optional<ReadOnlyTaskList> taskListOptional;
-        Optional<ReadOnlyExpenditureList> expenditureListOptional;
-        Optional<ReadOnlyTaskList> tickedTaskListOptional;
-        ReadOnlyContactList initialData;
-        ReadOnlyTaskList initialTasks;
-        ReadOnlyTaskList initialTickedTasks;
-        ReadOnlyExpenditureList initialPurchases;
-        ReadOnlyWorkoutBook initialWorkout;
-        ReadOnlyHabitTrackerList initialHabit;
-
-        try {
-            contactListOptional = storage.readContactList();
-            if (!contactListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample ContactList");
-            }
-            initialData = contactListOptional.orElseGet(SampleDataUtil::getSampleContactList);
-
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty ContactList");
-            initialData = new ContactList();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty ContactList");
-            initialData = new ContactList();
-        }
+    private Executor initSaveExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
-        try {
-            taskListOptional = storage.readTaskList();
-            if (!taskListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample ContactList");
-            }
-            initialTasks = taskListOptional.orElseGet(SampleDataUtil::getSampleTaskList);
+    /**
+     * Returns a scheduler that runs the searches typed into the command box on a background thread.
+     * The thread does not keep the application alive.
+     */
+    private ScheduledExecutorService initLiveFilterWorker() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty task List");
-            initialTasks = new TaskList();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty task List");
-            initialTasks = new TaskList();
-        }
+    /**
+     * Returns a timer that logs how long commands take on a background thread.
+     * The thread does not keep the application alive.
+     */
+    private ScheduledExecutorService initMetricsTimer() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
+    /**
+     * Returns a {@code ModelLoader} that fills {@code model} with the data from {@code storage}'s data files. <br>
+     * The files are read concurrently, and each is set in {@code model} on {@code applyExecutor} as soon as it has
+     * been read. For each file, sample data will be used instead if the file is not found,
+     * or empty data will be used instead if errors occur when reading the file.
+     */
+    private ModelLoader initModelLoader(Storage storage, Model model, Executor applyExecutor) {
+        ExecutorService readExecutor = Executors.newFixedThreadPool(
+                Math.min(DATA_FILE_COUNT, Runtime.getRuntime().availableProcessors()));
         try {
-            tickedTaskListOptional = storage.readTickedTaskList();
-            if (!tickedTaskListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a empty ticked task list");
-            }
-            initialTickedTasks = tickedTaskListOptional.orElseGet(SampleDataUtil::getSampleTaskList);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty Ticked task List");
-            initialTickedTasks = new TaskList();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty Ticked task List");
-            initialTickedTasks = new TaskList();
+            ModelLoader modelLoader = new ModelLoader(model, applyExecutor);
+            modelLoader.load(readDataFile(readExecutor, "ContactList", storage::readContactList,
+                    SampleDataUtil::getSampleContactList, ContactList::new), model::setContactList);
+            modelLoader.load(readDataFile(readExecutor, "task List", storage::readTaskList,
+                    SampleDataUtil::getSampleTaskList, TaskList::new), model::setTaskList);
+            modelLoader.load(readDataFile(readExecutor, "ExpenditureList", storage::readExpenditureList,
+                    SampleDataUtil::getSampleExpenditureList, ExpenditureList::new), model::setExpenditureList);
+            modelLoader.load(readDataFile(readExecutor, "WorkoutList", storage::readWorkoutBook,
+                    SampleDataUtil::getSampleWorkoutBook, WorkoutBook::new), model::setWorkoutBook);
+            modelLoader.load(readDataFile(readExecutor, "Habit Tracker List", storage::readHabitTrackerList,
+                    SampleDataUtil::getSampleHabitTrackerList, HabitTrackerList::new), model::setHabitTrackerList);
+            return modelLoader;
+        } finally {
+            // lets the submitted reads finish, then releases the threads
+            readExecutor.shutdown();
         }
+    }
 
-
-        try {
-            expenditureListOptional = storage.readExpenditureList();
-            if (!expenditureListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample ExpenditureList");
-            }
-            initialPurchases = expenditureListOptional.orElseGet(SampleDataUtil::getSampleExpenditureList);
-
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty ExpenditureList");
-            initialPurchases = new ExpenditureList();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty ExpenditureList");
-            initialPurchases = new ExpenditureList();
-        }
-        try {
-            workoutBookOptional = storage.readWorkoutBook();
-            if (!workoutBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample WorkoutList");
-            }
-            initialWorkout = workoutBookOptional.orElseGet(SampleDataUtil::getSampleWorkoutBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty WorkoutList");
-            initialWorkout = new WorkoutBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty WorkoutList");
-            initialWorkout = new WorkoutBook();
-        }
-        try {
-            habitTrackerListOptional = storage.readHabitTrackerList();
-            if (!habitTrackerListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample Habit Tracker List");
+    /**
+     * Reads a data file with {@code reader} on {@code executor}.
+     * The data from {@code sampleData} will be used instead if the file is not found,
+     * or the data from {@code emptyData} will be used instead if errors occur when reading the file.
+     * @param dataName name of the data, used in log messages.
+     */
+    private <T> CompletableFuture<T> readDataFile(Executor executor, String dataName, DataFileReader<T> reader,
+            Supplier<? extends T> sampleData, Supplier<? extends T> emptyData) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Optional<? extends T> dataOptional = reader.read();
+                if (!dataOptional.isPresent()) {
+                    logger.info("Data file not found. Will be starting with a sample " + dataName);
+                }
+                return dataOptional.isPresent() ? dataOptional.get() : sampleData.get();
+            } catch (DataConversionException e) {
+                logger.warning("Data file not in the correct format. Will be starting with an empty " + dataName);
+                return emptyData.get();
+            } catch (IOException e) {
+                logger.warning("Problem while reading from the file. Will be starting with an empty " + dataName);
+                return emptyData.get();
             }
-            initialHabit = habitTrackerListOptional.orElseGet(SampleDataUtil::getSampleHabitTrackerList);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty Habit Tracker List");
-            initialHabit = new HabitTrackerList();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty Habit Tracker List");
-            initialHabit = new HabitTrackerList();
-        }
-
-        return new ModelManager(initialData, userPrefs, initialTasks, initialPurchases, initialWorkout, initialHabit);
+        }, executor);
     }
 
     private void initLogging(Config config) {
@@ -285,16 +314,47 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ContactList " + MainApp.VERSION);
         ui.start(primaryStage);
+
+        reminderScheduler = new ReminderScheduler(model, initReminderTimer(), Platform::runLater,
+                Clock.systemDefaultZone(), ui::showReminder);
+        reminderScheduler.start();
+    }
+
+    /**
+     * Returns a timer that waits for task deadlines on a background thread.
+     * The thread does not keep the application alive.
+     */
+    private ScheduledExecutorService initReminderTimer() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping LIFE application ] =============================");
+        if (reminderScheduler != null) {
+            reminderScheduler.stop();
+        }
+        logic.flush();
+        storage.compactJournals();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        metricsRegistry.unregisterAll();
+        LogsCenter.flush();
+    }
+
+    /**
+     * Reads a data file from storage.
+     */
+    @FunctionalInterface
+    private interface DataFileReader<T> {
+        Optional<? extends T> read() throws DataConversionException, IOException;
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,158 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Publishes log records to other handlers on a background thread, so that the thread that logs a record, e.g. the
+ * JavaFX application thread, does not wait for the console or the log file to be written.
+ * <p>
+ * Records are queued in a bounded buffer. If the buffer is full, e.g. because the log file cannot keep up with a
+ * burst of records, further records are dropped instead of making the logging thread wait, and how many were dropped
+ * is logged right after the records that were being written when they were dropped.
+ * <p>
+ * Records are formatted on the background thread, so the formatters of the handlers must not infer the method that
+ * logged a record from the current stack, as {@code SimpleFormatter} does.
+ */
+public class AsyncHandler extends Handler {
+    public static final String MESSAGE_RECORDS_DROPPED = "%1$d log records were dropped as logging could not keep up.";
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 1000;
+
+    private final List<Handler> handlers;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    /** Guards {@code writtenCount}, and is notified whenever records have been written. */
+    private final Object writeLock = new Object();
+    private long writtenCount = 0;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Creates an {@code AsyncHandler} that buffers up to {@code capacity} records and publishes them to
+     * {@code handlers} in the order they were logged.
+     */
+    public AsyncHandler(int capacity, Handler... handlers) {
+        checkArgument(capacity > 0, "The capacity must be positive");
+        this.handlers = new ArrayList<>(Arrays.asList(handlers));
+        buffer = new ArrayBlockingQueue<>(capacity);
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        if (buffer.offer(record)) {
+            queuedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until the records published so far have been written, for up to a second, then flushes the handlers.
+     */
+    @Override
+    public void flush() {
+        long targetCount = queuedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        synchronized (writeLock) {
+            long remainingNanos = deadline - System.nanoTime();
+            while (writtenCount < targetCount && remainingNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(writeLock, remainingNanos);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remainingNanos = deadline - System.nanoTime();
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * Stops the background thread, which writes the records published so far and then closes the handlers, and waits
+     * for it for up to a second. If it takes longer, e.g. because a handler is blocked, the handlers are still closed
+     * by the background thread once it has written every record, rather than while it may be writing to them.
+     * Records published afterwards are ignored.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        writer.interrupt();
+        try {
+            writer.join(FLUSH_TIMEOUT_MILLIS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the buffered records to the handlers, as many at a time as are available, until interrupted by
+     * {@code close()}, then writes the records left in the buffer and closes the handlers.
+     */
+    private void writeRecords() {
+        List<LogRecord> records = new ArrayList<>();
+        while (true) {
+            try {
+                records.add(buffer.take());
+            } catch (InterruptedException ie) {
+                break;
+            }
+            buffer.drainTo(records);
+            write(records);
+            records.clear();
+        }
+        buffer.drainTo(records);
+        write(records);
+        handlers.forEach(Handler::close);
+    }
+
+    private void write(List<LogRecord> records) {
+        synchronized (writeLock) {
+            records.forEach(this::publishToHandlers);
+            reportDroppedRecords();
+            writtenCount += records.size();
+            writeLock.notifyAll();
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord record = new LogRecord(Level.WARNING, String.format(MESSAGE_RECORDS_DROPPED, dropped));
+            record.setLoggerName(AsyncHandler.class.getSimpleName());
+            publishToHandlers(record);
+        }
+    }
+
+    private void publishToHandlers(LogRecord record) {
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (RuntimeException re) {
+                reportError(null, re, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean dataLoadingDeferred = false;
+    private long metricsLoggingIntervalMinutes = 10;
+    private boolean allocationMeasured = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,41 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the main window should be shown before the data files are loaded,
+     * with each list filled in as its data file finishes loading.
+     */
+    public boolean isDataLoadingDeferred() {
+        return dataLoadingDeferred;
+    }
+
+    public void setDataLoadingDeferred(boolean dataLoadingDeferred) {
+        this.dataLoadingDeferred = dataLoadingDeferred;
+    }
+
+    /**
+     * Returns the number of minutes between the logged summaries of how long commands take,
+     * or 0 if the summaries are not logged.
+     */
+    public long getMetricsLoggingIntervalMinutes() {
+        return metricsLoggingIntervalMinutes;
+    }
+
+    public void setMetricsLoggingIntervalMinutes(long metricsLoggingIntervalMinutes) {
+        this.metricsLoggingIntervalMinutes = metricsLoggingIntervalMinutes;
+    }
+
+    /**
+     * Returns true if the bytes allocated by each command should be measured too.
+     */
+    public boolean isAllocationMeasured() {
+        return allocationMeasured;
+    }
+
+    public void setAllocationMeasured(boolean allocationMeasured) {
+        this.allocationMeasured = allocationMeasured;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +82,16 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && dataLoadingDeferred == o.dataLoadingDeferred
+                && metricsLoggingIntervalMinutes == o.metricsLoggingIntervalMinutes
+                && allocationMeasured == o.allocationMeasured;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, dataLoadingDeferred, metricsLoggingIntervalMinutes,
+                allocationMeasured);
     }
 
     @Override
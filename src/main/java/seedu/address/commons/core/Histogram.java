@@ -0,0 +1,88 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts non-negative values, e.g. durations in nanoseconds, so that percentiles of them can be reported.
+ * <p>
+ * Instead of keeping every value, values are counted in buckets whose widths grow with the values in them, so the
+ * histogram takes the same small amount of memory and the same time to record a value no matter how many values it
+ * has counted. Every power of two is split into {@value #SUB_BUCKET_COUNT} buckets, so a reported percentile is at
+ * most an eighth larger than the actual value.
+ * <p>
+ * This class is thread-safe.
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private final long[] bucketCounts = new long[(Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Counts {@code value}, which must not be negative.
+     */
+    public synchronized void record(long value) {
+        checkArgument(value >= 0, "Recorded values cannot be negative");
+        bucketCounts[getBucketIndex(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the smallest value that {@code percentile} percent of the counted values are at most, to within the
+     * width of its bucket, or 0 if no values have been counted.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentiles must be from 0 to 100");
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int index = 0; index < bucketCounts.length && count > 0; index++) {
+            seen += bucketCounts[index];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(index), max);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the index of the bucket that {@code value} is counted in.
+     * Values less than {@value #SUB_BUCKET_COUNT} each have their own bucket, and the larger values between each pair
+     * of consecutive powers of two are split evenly into {@value #SUB_BUCKET_COUNT} buckets.
+     */
+    private static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Returns the largest value counted in the bucket at {@code index}.
+     */
+    private static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
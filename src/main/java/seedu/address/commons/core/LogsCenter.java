@@ -1,12 +1,21 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 /**
  * Configures and manages loggers and handlers, including their logging level
@@ -14,39 +23,38 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written to the console and the file on a background thread by an {@link AsyncHandler}, so logging
+ *   only costs the thread that logs the time to queue the message. Messages that are costly to build, and that may
+ *   be logged at a level that is disabled, should be passed as a {@code Supplier}, e.g.
+ *   {@code logger.fine(() -> "Read " + list)}, so they are only built if they are logged.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int BUFFER_CAPACITY = 8192;
     private static final String LOG_FILE = "addressbook.log";
-    private static Level currentLogLevel = Level.INFO;
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static volatile Level currentLogLevel = Level.INFO;
+    private static AsyncHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The logging levels of loggers obtained both before and after this initialization are changed.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        getAsyncHandler().setLevel(currentLogLevel);
+        loggers.values().forEach(namedLogger -> namedLogger.setLevel(currentLogLevel));
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
+     * The logger is only configured the first time it is requested, so later requests are cheap.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -60,14 +68,24 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Waits until the messages logged so far have been written, e.g. before the application exits.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    public static void flush() {
+        getAsyncHandler().flush();
+    }
+
+    /**
+     * Configures the logger with the given name to log at the current level, to the console and the log file only.
+     */
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
+
+        removeHandlers(logger);
+        logger.addHandler(getAsyncHandler());
+
+        return logger;
     }
 
     /**
@@ -79,18 +97,37 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the {@code AsyncHandler} that writes to the console and the log file. <br>
+     * Creates the {@code asyncHandler} if it is null.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized AsyncHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
+        }
+        return asyncHandler;
+    }
+
+    /**
+     * Creates an {@code AsyncHandler} that writes to the console, and to the log file if it can be opened.
+     */
+    private static AsyncHandler createAsyncHandler() {
+        List<Handler> handlers = new ArrayList<>();
+        handlers.add(createConsoleHandler());
+        IOException fileException = null;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            handlers.add(createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            fileException = e;
+        }
+
+        AsyncHandler asyncHandler = new AsyncHandler(BUFFER_CAPACITY, handlers.toArray(new Handler[0]));
+        asyncHandler.setLevel(currentLogLevel);
+        if (fileException != null) {
+            LogRecord record = new LogRecord(Level.WARNING, "Error adding file handler for logger.");
+            record.setLoggerName(LogsCenter.class.getSimpleName());
+            asyncHandler.publish(record);
         }
+        return asyncHandler;
     }
 
     /**
@@ -99,14 +136,38 @@ public class LogsCenter {
      */
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
-        fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setFormatter(new LogFormatter());
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setFormatter(new LogFormatter());
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
+
+    /**
+     * Formats records like {@code SimpleFormatter} does by default, but names the logger instead of the method that
+     * logged the record, as the method can only be found on the thread that logged it.
+     */
+    private static class LogFormatter extends Formatter {
+        private static final String FORMAT = "%1$tb %1$td, %1$tY %1$tl:%1$tM:%1$tS %1$Tp %2$s%n%3$s: %4$s%5$s%n";
+
+        @Override
+        public String format(LogRecord record) {
+            String thrown = "";
+            if (record.getThrown() != null) {
+                StringWriter stackTrace = new StringWriter();
+                PrintWriter writer = new PrintWriter(stackTrace);
+                writer.println();
+                record.getThrown().printStackTrace(writer);
+                writer.close();
+                thrown = stackTrace.toString();
+            }
+            return String.format(FORMAT, new Date(record.getMillis()), record.getLoggerName(),
+                    record.getLevel().getLocalizedName(), formatMessage(record), thrown);
+        }
+    }
 }
@@ -10,5 +10,9 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_INVALID_TASK_DISPLAYED_INDEX = "The task index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_TASKS_LISTED_OVERVIEW = "%1$d tasks listed!";
+    public static final String MESSAGE_PURCHASES_LISTED_OVERVIEW = "%1$d purchases listed!";
+    public static final String MESSAGE_WORKOUTS_LISTED_OVERVIEW = "%1$d workouts listed!";
+    public static final String MESSAGE_HABITS_LISTED_OVERVIEW = "%1$d habits listed!";
     public static final String MESSAGE_INVALID_HABIT_DISPLAYED_INDEX = "The habit index provided is invalid.";
 }
@@ -0,0 +1,120 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Registers MXBeans that report the state of LIFE with an MBean server, so that they can be read while LIFE is
+ * running, e.g. with JConsole or VisualVM attached to the local process, without starting any network service.
+ * <p>
+ * Each MXBean is named {@code seedu.address:type=TYPE,name=NAME}. The MXBeans only read counters that are kept up to
+ * date anyway, so registering them costs nothing until they are read.
+ * <p>
+ * Each MXBean is registered wrapped in a {@link RegisteredMxBean} that notes when it is unregistered, so that a
+ * registry only unregisters the MXBeans that it registered and that have not been replaced since.
+ */
+public class MetricsRegistry {
+    public static final String DOMAIN = "seedu.address";
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsRegistry.class);
+
+    private final MBeanServer server;
+    private final Map<ObjectName, RegisteredMxBean> registeredMxBeans = new HashMap<>();
+
+    /**
+     * Creates a {@code MetricsRegistry} that registers MXBeans with the platform MBean server.
+     */
+    public MetricsRegistry() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public MetricsRegistry(MBeanServer server) {
+        requireNonNull(server);
+        this.server = server;
+    }
+
+    /**
+     * Registers {@code mxBean} with the given {@code type} and {@code name}, replacing any MXBean already registered
+     * with the same type and name, e.g. by an earlier instance of LIFE in the same JVM.
+     * Metrics are not essential, so an MXBean that cannot be registered is logged and skipped.
+     */
+    public synchronized void register(String type, String name, Object mxBean) {
+        requireNonNull(mxBean);
+        try {
+            ObjectName objectName = getObjectName(type, name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            RegisteredMxBean registeredMxBean = new RegisteredMxBean(mxBean);
+            server.registerMBean(registeredMxBean, objectName);
+            registeredMxBeans.put(objectName, registeredMxBean);
+        } catch (JMException | IllegalArgumentException e) {
+            // IllegalArgumentException is thrown for an object that is not an MXBean
+            logger.warning("Could not register metrics " + type + " " + name + ": " + e);
+        }
+    }
+
+    /**
+     * Unregisters every MXBean registered through this registry that is still registered, leaving alone any MXBean
+     * that has since been registered with the same name, e.g. by another registry.
+     */
+    public synchronized void unregisterAll() {
+        registeredMxBeans.forEach((objectName, registeredMxBean) -> {
+            if (!registeredMxBean.isRegistered()) {
+                return;
+            }
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException jme) {
+                // already unregistered in the meantime
+            }
+        });
+        registeredMxBeans.clear();
+    }
+
+    /**
+     * Returns the name that an MXBean with the given {@code type} and {@code name} is registered with.
+     */
+    public static ObjectName getObjectName(String type, String name) throws MalformedObjectNameException {
+        requireNonNull(type);
+        requireNonNull(name);
+        return new ObjectName(DOMAIN + ":type=" + type + ",name=" + name);
+    }
+
+    /**
+     * An MXBean as registered with the MBean server, which notes whether it is still registered.
+     */
+    private static class RegisteredMxBean extends StandardMBean {
+        private volatile boolean isRegistered = false;
+
+        RegisteredMxBean(Object mxBean) {
+            super(mxBean, null, true);
+        }
+
+        boolean isRegistered() {
+            return isRegistered;
+        }
+
+        @Override
+        public void postRegister(Boolean registrationDone) {
+            super.postRegister(registrationDone);
+            isRegistered = registrationDone;
+        }
+
+        @Override
+        public void postDeregister() {
+            super.postDeregister();
+            isRegistered = false;
+        }
+    }
+}
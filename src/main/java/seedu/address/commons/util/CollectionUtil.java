@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -26,6 +27,22 @@ public class CollectionUtil {
         items.forEach(Objects::requireNonNull);
     }
 
+    /**
+     * Replaces the elements of {@code list} from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}.
+     * A single element replaced by a single element is {@code set} in place, so that observers see a replacement
+     * rather than a removal followed by an addition.
+     */
+    public static <T> void replaceRange(List<T> list, int fromIndex, int toIndex, List<? extends T> replacement) {
+        requireAllNonNull(list, replacement);
+        if (toIndex - fromIndex == 1 && replacement.size() == 1) {
+            list.set(fromIndex, replacement.get(0));
+            return;
+        }
+        list.subList(fromIndex, toIndex).clear();
+        list.addAll(fromIndex, replacement);
+    }
+
     /**
      * Returns true if {@code items} contain any elements that are non-null.
      */
@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Helper functions for validating and converting dates and times entered as digits.
+ * The digits are checked directly, without creating any objects, so validation is cheap enough to run on every
+ * deadline that is loaded and is safe to call from any thread.
+ */
+public class DateTimeUtil {
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private DateTimeUtil() {} // prevents instantiation
+
+    /**
+     * Returns true if {@code value} consists of exactly {@code length} ASCII digits.
+     * @param value cannot be null
+     */
+    public static boolean isDigits(String value, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code date} is a date that exists, in the ddMMyy format.
+     * A two digit year that is a multiple of 4 is a leap year, as every such year from 1901 to 2099 is.
+     * @param date cannot be null
+     */
+    public static boolean isValidDate(String date) {
+        if (!isDigits(date, 6)) {
+            return false;
+        }
+        int day = parseTwoDigits(date, 0);
+        int month = parseTwoDigits(date, 2);
+        int year = parseTwoDigits(date, 4);
+        if (month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        if (month == 2 && day == 29) {
+            return year % 4 == 0;
+        }
+        return day <= DAYS_IN_MONTH[month - 1];
+    }
+
+    /**
+     * Returns true if {@code time} is a time in the HHmm format of a 24 hour clock.
+     * @param time cannot be null
+     */
+    public static boolean isValidTime(String time) {
+        return isDigits(time, 4) && parseTwoDigits(time, 0) < 24 && parseTwoDigits(time, 2) < 60;
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to the given date and time, so that date-times can be compared as
+     * numbers. Two digit years are taken to be in the 2000s.
+     * @param date a valid date in the ddMMyy format
+     * @param time a valid time in the HHmm format
+     */
+    public static long toEpochMinutes(String date, String time) {
+        return toEpochDay(date) * MINUTES_PER_DAY + parseTwoDigits(time, 0) * MINUTES_PER_HOUR
+                + parseTwoDigits(time, 2);
+    }
+
+    /**
+     * Returns the number of days from the epoch to the given date. Two digit years are taken to be in the 2000s.
+     * @param date a valid date in the ddMMyy format
+     */
+    public static long toEpochDay(String date) {
+        return LocalDate.of(2000 + parseTwoDigits(date, 4), parseTwoDigits(date, 2), parseTwoDigits(date, 0))
+                .toEpochDay();
+    }
+
+    /**
+     * Returns the date {@code epochDay} days from the epoch in the ddMMyy format.
+     * @param epochDay a day in the 2000s
+     */
+    public static String fromEpochDay(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return String.format("%02d%02d%02d", date.getDayOfMonth(), date.getMonthValue(), date.getYear() % 100);
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to {@code dateTime}, counted in the same way as
+     * {@link #toEpochMinutes(String, String)}.
+     */
+    public static long toEpochMinutes(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the number formed by the two digits of {@code value} starting at {@code index}.
+     * Assumes both characters are digits.
+     */
+    static int parseTwoDigits(String value, int index) {
+        return (value.charAt(index) - '0') * 10 + (value.charAt(index + 1) - '0');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -1,10 +1,21 @@
 package seedu.address.commons.util;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +23,11 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    /** The number of bytes written to files through this class by each thread. */
+    private static final ThreadLocal<long[]> bytesWritten = ThreadLocal.withInitial(() -> new long[1]);
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +91,147 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * @see #writeAtomically(Path, ContentWriter, boolean)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, outputStream -> outputStream.write(content.getBytes(CHARSET)), false);
+    }
+
+    /**
+     * Appends given string to the end of a file and forces it to the disk.
+     * Will create the file if it does not exist yet.
+     * @return the number of bytes appended.
+     */
+    public static long appendToFile(Path file, String content) throws IOException {
+        createParentDirsOfFile(file);
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        bytesWritten.get()[0] += buffer.limit();
+        return buffer.limit();
+    }
+
+    /**
+     * Writes the content given by {@code contentWriter} to {@code file}, creating the file and its missing parent
+     * directories if needed.
+     * The content is written to a temporary file next to {@code file}, forced to the disk, and then moved over
+     * {@code file}, so a crash while writing leaves either the old or the new content in {@code file}, never a mix.
+     * The permissions of {@code file} are kept.
+     * If {@code keepBackup} is true, the old content is first copied to {@link #getBackupPath(Path)}.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, boolean keepBackup)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempFile(directory, file.getFileName().toString());
+        try {
+            copyPermissions(file, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                contentWriter.writeTo(new UnclosableOutputStream(Channels.newOutputStream(channel)));
+                channel.force(true);
+                bytesWritten.get()[0] += channel.size();
+            }
+
+            if (keepBackup && isFileExists(file)) {
+                Files.copy(file, getBackupPath(file), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Creates an empty temporary file in {@code directory} whose name starts with {@code prefix}.
+     * Unlike a file created by {@code Files.createTempFile}, which only its owner can read, the file gets the
+     * permissions of any new file.
+     */
+    private static Path createTempFile(Path directory, String prefix) throws IOException {
+        while (true) {
+            Path tempFile = directory.resolve(prefix
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX);
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException faee) {
+                // try another name
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the permissions of {@code source}, if {@code source} exists and the file system has
+     * POSIX permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (isFileExists(source) && Files.getFileAttributeView(source, PosixFileAttributeView.class) != null) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+
+    /**
+     * Returns the number of bytes that the calling thread has written to files through this class, so that the bytes
+     * written by an operation can be told by calling this before and after it.
+     */
+    public static long getBytesWrittenByCurrentThread() {
+        return bytesWritten.get()[0];
+    }
+
+    /**
+     * Returns the path of the backup kept by {@link #writeAtomically(Path, ContentWriter, boolean)} for {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Forces the entry of a moved file in {@code directory} to the disk.
+     * Not all platforms allow a directory to be opened, so failures are ignored.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // the move itself has succeeded
+        }
+    }
+
+    /**
+     * Writes content to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * An {@code OutputStream} that only flushes the underlying stream when closed, so that the file it writes to can
+     * still be forced to the disk after a {@link ContentWriter} closes it.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
@@ -0,0 +1,47 @@
+package seedu.address.commons.util;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * How {@link JsonUtil} writes a JSON file.
+ */
+public class JsonFileOptions {
+    /** Indented files, written without keeping a backup. */
+    public static final JsonFileOptions DEFAULT = new JsonFileOptions(false, false);
+
+    private final boolean isCompact;
+    private final boolean isBackupKept;
+
+    /**
+     * @param isCompact whether files are written without indentation and line breaks.
+     *                  Compact files are smaller and faster to write, but harder to read.
+     * @param isBackupKept whether the previous content of a file is kept as a backup when the file is overwritten.
+     * @see FileUtil#getBackupPath(Path)
+     */
+    public JsonFileOptions(boolean isCompact, boolean isBackupKept) {
+        this.isCompact = isCompact;
+        this.isBackupKept = isBackupKept;
+    }
+
+    public boolean isCompact() {
+        return isCompact;
+    }
+
+    public boolean isBackupKept() {
+        return isBackupKept;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JsonFileOptions // instanceof handles nulls
+                && isCompact == ((JsonFileOptions) other).isCompact
+                && isBackupKept == ((JsonFileOptions) other).isBackupKept);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isCompact, isBackupKept);
+    }
+}
@@ -3,18 +3,24 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,13 +45,33 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
-    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile} as it is serialized,
+     * without building the whole document in memory first.
+     * The file is replaced atomically, so it is never left partially written.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, JsonFileOptions options)
+            throws IOException {
+        ObjectWriter writer = options.isCompact()
+                ? objectMapper.writer()
+                : objectMapper.writerWithDefaultPrettyPrinter();
+        FileUtil.writeAtomically(jsonFile, outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+                writer.writeValue(generator, objectToSerialize);
+            }
+        }, options.isBackupKept());
     }
 
+    /**
+     * Reads an instance of {@code classOfObjectToDeserialize} from {@code jsonFile} as it is parsed,
+     * without loading the whole file into memory first.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = Files.newInputStream(jsonFile);
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            return objectMapper.readValue(parser, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -84,12 +110,54 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, JsonFileOptions.DEFAULT);
+    }
+
+    /**
+     * Saves the Json object to the specified file, written as {@code options} say.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, JsonFileOptions options) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
+        requireNonNull(options);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, options);
     }
 
+    /**
+     * Saves a Json object with a single array named {@code arrayName} to the specified file, serializing the
+     * elements of the array one at a time as they are returned by {@code elements}.
+     * Unlike {@link #saveJsonFile(Object, Path)}, the elements never have to be held in memory all at once, so the
+     * array can be arbitrarily long. The file is written as {@code options} say.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonArrayFile(Path filePath, String arrayName, Iterator<?> elements,
+            JsonFileOptions options) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayName);
+        requireNonNull(elements);
+        requireNonNull(options);
+
+        // the generator is flushed once at the end, rather than after every element
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        FileUtil.writeAtomically(filePath, outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+                if (!options.isCompact()) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayName);
+                while (elements.hasNext()) {
+                    writer.writeValue(generator, elements.next());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }, options.isBackupKept());
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +178,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without line breaks
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writer().writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
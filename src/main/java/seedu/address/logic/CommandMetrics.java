@@ -0,0 +1,282 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Histogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsRegistry;
+
+/**
+ * Measures how long each kind of command takes to be parsed, executed and persisted, and how long each data file
+ * takes to be saved and how many bytes are written to it, so that commands that get slower as the data grows can be
+ * found.
+ * <p>
+ * Commands are measured by their command word, and data files by the name of the data they save.
+ * Optionally, the bytes allocated by the thread executing each command are measured too, if the JVM supports it.
+ * <p>
+ * The saves of each data file can also be read as MXBeans, once the metrics are registered with a
+ * {@code MetricsRegistry}.
+ * <p>
+ * This class is thread-safe, so saves can be measured on the thread that runs them.
+ */
+public class CommandMetrics {
+    public static final String MESSAGE_NO_METRICS = "No commands have been measured yet.";
+    public static final String MESSAGE_COMMANDS_HEADER = "Command times in ms (p50/p99):";
+    public static final String MESSAGE_COMMAND = "\n%1$s x%2$d: parse %3$s, execute %4$s, persist %5$s";
+    public static final String MESSAGE_COMMAND_ALLOCATED = ", allocated %1$s KB";
+    public static final String MESSAGE_SAVES_HEADER = "\nSaves in ms (p50/p99):";
+    public static final String MESSAGE_SAVE = "\n%1$s x%2$d: %3$s, %4$.1f KB written";
+    public static final String SAVE_METRICS_TYPE = "Storage";
+
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double BYTES_PER_KILOBYTE = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+
+    /**
+     * The phases that a command is measured in.
+     */
+    public enum Phase {
+        /** Parsing the command text into a command. */
+        PARSE,
+        /** Executing the command on the model. */
+        EXECUTE,
+        /** Copying the modified data, and queuing or writing the saves. */
+        PERSIST
+    }
+
+    private final Map<String, Map<Phase, Histogram>> phaseTimes = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> allocatedBytes = new ConcurrentHashMap<>();
+    private final Map<String, SaveStatistics> saves = new ConcurrentHashMap<>();
+    /** The registry that the saves of each data file are registered with, or null if they are not registered. */
+    private volatile MetricsRegistry registry;
+    /** The bean that allocated bytes are measured with, or null if they are not measured. */
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /**
+     * Creates a {@code CommandMetrics} that does not measure allocated bytes.
+     */
+    public CommandMetrics() {
+        this(false);
+    }
+
+    /**
+     * Creates a {@code CommandMetrics} that measures allocated bytes if {@code isAllocationMeasured} is true and the
+     * JVM supports it.
+     */
+    public CommandMetrics(boolean isAllocationMeasured) {
+        allocationBean = isAllocationMeasured ? getAllocationBean() : null;
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            logger.info("Allocated bytes cannot be measured by this JVM.");
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported()) {
+            logger.info("Allocated bytes cannot be measured by this JVM.");
+            return null;
+        }
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        return allocationBean;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the calling thread so far, or -1 if allocated bytes are not measured.
+     */
+    public long getCurrentThreadAllocatedBytes() {
+        return allocationBean == null ? -1 : allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void recordPhase(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        phaseTimes.computeIfAbsent(commandWord, unused -> createPhaseHistograms()).get(phase).record(nanos);
+    }
+
+    /**
+     * Records that a command with {@code commandWord} allocated {@code bytes} bytes.
+     */
+    public void recordAllocation(String commandWord, long bytes) {
+        requireNonNull(commandWord);
+        allocatedBytes.computeIfAbsent(commandWord, unused -> new Histogram()).record(bytes);
+    }
+
+    /**
+     * Records that saving the data named {@code dataName} took {@code nanos} nanoseconds and wrote {@code bytes}
+     * bytes.
+     */
+    public void recordSave(String dataName, long nanos, long bytes) {
+        requireNonNull(dataName);
+        SaveStatistics statistics = saves.computeIfAbsent(dataName, this::createSaveStatistics);
+        statistics.times.record(nanos);
+        statistics.bytes.record(bytes);
+    }
+
+    /**
+     * Registers the saves of each data file with {@code registry}, including those of data files that are first
+     * saved later.
+     */
+    public void registerSaveMetrics(MetricsRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+        saves.forEach((dataName, statistics) -> registry.register(SAVE_METRICS_TYPE, dataName, statistics));
+    }
+
+    private SaveStatistics createSaveStatistics(String dataName) {
+        SaveStatistics statistics = new SaveStatistics();
+        MetricsRegistry currentRegistry = registry;
+        if (currentRegistry != null) {
+            currentRegistry.register(SAVE_METRICS_TYPE, dataName, statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the times of {@code phase} of the commands with {@code commandWord}, or an empty histogram if no such
+     * commands have been measured.
+     */
+    public Histogram getPhaseTimes(String commandWord, Phase phase) {
+        return phaseTimes.getOrDefault(commandWord, createPhaseHistograms()).get(phase);
+    }
+
+    /**
+     * Returns the times of the saves of the data named {@code dataName}.
+     */
+    public Histogram getSaveTimes(String dataName) {
+        SaveStatistics statistics = saves.get(dataName);
+        return statistics == null ? new Histogram() : statistics.times;
+    }
+
+    /**
+     * Returns the bytes written by the saves of the data named {@code dataName}.
+     */
+    public Histogram getSavedBytes(String dataName) {
+        SaveStatistics statistics = saves.get(dataName);
+        return statistics == null ? new Histogram() : statistics.bytes;
+    }
+
+    /**
+     * Returns a summary of the measured commands and saves, sorted by command word and data name.
+     */
+    public String getSummary() {
+        if (phaseTimes.isEmpty()) {
+            return MESSAGE_NO_METRICS;
+        }
+
+        StringBuilder summary = new StringBuilder(MESSAGE_COMMANDS_HEADER);
+        new TreeMap<>(phaseTimes).forEach((commandWord, histograms) -> {
+            summary.append(String.format(MESSAGE_COMMAND, commandWord, histograms.get(Phase.PARSE).getCount(),
+                    formatMillis(histograms.get(Phase.PARSE)), formatMillis(histograms.get(Phase.EXECUTE)),
+                    formatMillis(histograms.get(Phase.PERSIST))));
+            Histogram allocated = allocatedBytes.get(commandWord);
+            if (allocated != null) {
+                summary.append(String.format(MESSAGE_COMMAND_ALLOCATED, formatKilobytes(allocated)));
+            }
+        });
+
+        if (!saves.isEmpty()) {
+            summary.append(MESSAGE_SAVES_HEADER);
+            new TreeMap<>(saves).forEach((dataName, statistics) -> {
+                summary.append(String.format(MESSAGE_SAVE, dataName, statistics.times.getCount(),
+                        formatMillis(statistics.times), statistics.bytes.getTotal() / BYTES_PER_KILOBYTE));
+            });
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Logs the summary every {@code interval} {@code unit} on {@code timer}, as long as some commands have been
+     * executed since it was last logged.
+     */
+    public void startLogging(ScheduledExecutorService timer, long interval, TimeUnit unit) {
+        requireNonNull(timer);
+        requireNonNull(unit);
+        long[] loggedCommandCount = {0};
+        timer.scheduleWithFixedDelay(() -> {
+            long commandCount = phaseTimes.values().stream()
+                    .mapToLong(histograms -> histograms.get(Phase.PARSE).getCount()).sum();
+            if (commandCount != loggedCommandCount[0]) {
+                loggedCommandCount[0] = commandCount;
+                logger.info(getSummary());
+            }
+        }, interval, interval, unit);
+    }
+
+    private static Map<Phase, Histogram> createPhaseHistograms() {
+        Map<Phase, Histogram> histograms = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new Histogram());
+        }
+        return histograms;
+    }
+
+    /**
+     * Returns the median and 99th percentile of {@code nanos} in milliseconds.
+     */
+    private static String formatMillis(Histogram nanos) {
+        return String.format("%.2f/%.2f", nanos.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                nanos.getValueAtPercentile(99) / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Returns the median and 99th percentile of {@code bytes} in kilobytes.
+     */
+    private static String formatKilobytes(Histogram bytes) {
+        return String.format("%.1f/%.1f", bytes.getValueAtPercentile(50) / BYTES_PER_KILOBYTE,
+                bytes.getValueAtPercentile(99) / BYTES_PER_KILOBYTE);
+    }
+
+    /**
+     * The times and written bytes of the saves of one data file.
+     */
+    private static class SaveStatistics implements SaveMetricsMXBean {
+        private final Histogram times = new Histogram();
+        private final Histogram bytes = new Histogram();
+
+        @Override
+        public long getSaveCount() {
+            return times.getCount();
+        }
+
+        @Override
+        public double getTotalSaveMillis() {
+            return times.getTotal() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getMedianSaveMillis() {
+            return times.getValueAtPercentile(50) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double get99thPercentileSaveMillis() {
+            return times.getValueAtPercentile(99) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getMaxSaveMillis() {
+            return times.getMax() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public long getBytesWritten() {
+            return bytes.getTotal();
+        }
+    }
+}
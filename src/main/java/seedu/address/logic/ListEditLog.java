@@ -0,0 +1,69 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ListEdit;
+
+/**
+ * Records the edits made to an observable list, including those made by undoing and redoing commands, so that a save
+ * can append just the edits to a journal instead of comparing the whole list with what was saved before.
+ * <p>
+ * Edits are recorded on the thread that edits the list, and taken on the thread that saves it. Saves of the same list
+ * may be combined by {@link SaveQueue}, so each save is given a mark when it is queued, and takes all edits up to its
+ * mark that have not been taken yet, including those of any earlier save that it replaced.
+ *
+ * @param <E> the type of elements in the list.
+ */
+class ListEditLog<E> implements ListChangeListener<E> {
+    private final List<ListEdit<E>> edits = new ArrayList<>();
+    /** The number of edits that have been taken, which is the mark of the first edit in {@code edits}. */
+    private long takenCount = 0;
+
+    @Override
+    public void onChanged(Change<? extends E> change) {
+        List<ListEdit<E>> changeEdits = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            List<? extends E> elements = change.getList().subList(from, change.getTo());
+            if (change.wasPermutated()) {
+                List<E> oldElements = new ArrayList<>();
+                for (int i = from; i < change.getTo(); i++) {
+                    oldElements.add(change.getList().get(change.getPermutation(i)));
+                }
+                changeEdits.add(new ListEdit<>(from, oldElements, elements));
+            } else if (change.wasUpdated()) {
+                changeEdits.add(new ListEdit<>(from, elements, elements));
+            } else {
+                changeEdits.add(new ListEdit<>(from, change.getRemoved(), change.getAddedSubList()));
+            }
+        }
+        synchronized (this) {
+            edits.addAll(changeEdits);
+        }
+    }
+
+    /**
+     * Returns the mark of the edits recorded so far.
+     */
+    public synchronized long mark() {
+        return takenCount + edits.size();
+    }
+
+    /**
+     * Returns the edits recorded up to {@code mark} that have not been taken yet, in the order they were made, and
+     * forgets them.
+     */
+    public synchronized List<ListEdit<E>> takeUntil(long mark) {
+        if (mark <= takenCount) {
+            return Collections.emptyList();
+        }
+        List<ListEdit<E>> takenEdits = edits.subList(0, (int) (mark - takenCount));
+        List<ListEdit<E>> result = new ArrayList<>(takenEdits);
+        takenEdits.clear();
+        takenCount = mark;
+        return result;
+    }
+}
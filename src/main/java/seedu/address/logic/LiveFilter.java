@@ -0,0 +1,200 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Filters a list as the user types a search, showing the items in which every word typed starts some word.
+ * <p>
+ * Typing more of a search can only narrow its results, so when a search extends the one shown, only the items shown
+ * are tested again. Otherwise, the items with a word starting with the first word typed are looked up in a search
+ * index, and only those are tested. Searches are started after the user pauses typing, tested on
+ * {@code worker}, and dropped as soon as a newer search is typed, so typing is never held up by the list's size.
+ * The items that match are shown without testing the rest of the list again, and the filter of the list from before
+ * the search is put back once the search is stopped.
+ *
+ * @param <T> the type of the items in the list
+ */
+public class LiveFilter<T> {
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    /** Number of items tested between checks for a newer search. */
+    private static final int STALENESS_CHECK_INTERVAL = 1024;
+
+    private final Function<String, Set<T>> prefixFinder;
+    private final Function<T, List<String>> wordsOf;
+    private final Supplier<Predicate<? super T>> filterGetter;
+    private final Consumer<Predicate<T>> filterUpdater;
+    private final Consumer<Collection<T>> resultsUpdater;
+    private final ScheduledExecutorService worker;
+    private final Executor modelExecutor;
+    private final long debounceMillis;
+
+    /** Incremented for every search typed, so that searches can tell when they have been replaced. */
+    private final AtomicLong latestSearch = new AtomicLong();
+
+    // Only accessed through modelExecutor
+    private List<String> shownWords = Collections.emptyList();
+    private List<T> shownItems;
+    /** The filter of the list before search results were shown, or null if none are shown. */
+    private Predicate<? super T> previousFilter;
+    private ScheduledFuture<?> pendingSearch;
+
+    /**
+     * Creates a {@code LiveFilter} that finds the items with a word starting with a given word using
+     * {@code prefixFinder}, splits items into words with {@code wordsOf}, and shows search results by passing them to
+     * {@code resultsUpdater}. The filter of the list is read with {@code filterGetter} before results are shown, and
+     * put back with {@code filterUpdater} once the search is stopped.
+     * All but {@code wordsOf} are only called through {@code modelExecutor}, while {@code wordsOf} is called on
+     * {@code worker}. Searches are started {@code debounceMillis} milliseconds after they are typed.
+     */
+    public LiveFilter(Function<String, Set<T>> prefixFinder, Function<T, List<String>> wordsOf,
+                      Supplier<Predicate<? super T>> filterGetter, Consumer<Predicate<T>> filterUpdater,
+                      Consumer<Collection<T>> resultsUpdater, ScheduledExecutorService worker, Executor modelExecutor,
+                      long debounceMillis) {
+        requireAllNonNull(prefixFinder, wordsOf, filterGetter, filterUpdater, resultsUpdater, worker, modelExecutor);
+        this.prefixFinder = prefixFinder;
+        this.wordsOf = wordsOf;
+        this.filterGetter = filterGetter;
+        this.filterUpdater = filterUpdater;
+        this.resultsUpdater = resultsUpdater;
+        this.worker = worker;
+        this.modelExecutor = modelExecutor;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Shows the items in which every one of {@code words} starts some word, once the user pauses typing.
+     * Shows every item if {@code words} is empty.
+     * Must be called on the thread that {@code modelExecutor} runs tasks on.
+     *
+     * @param words words in lower case, the last of which may be incomplete
+     */
+    public void filter(List<String> words) {
+        if (words.isEmpty()) {
+            stop();
+            return;
+        }
+
+        long search = replacePendingSearch();
+        List<T> narrowedItems = shownItems != null && isNarrowing(shownWords, words) ? shownItems : null;
+        pendingSearch = worker.schedule(() -> {
+            if (narrowedItems != null) {
+                test(search, words, narrowedItems);
+                return;
+            }
+            modelExecutor.execute(() -> {
+                if (!isStale(search)) {
+                    List<T> candidates = new ArrayList<>(prefixFinder.apply(words.get(0)));
+                    worker.execute(() -> test(search, words, candidates));
+                }
+            });
+        }, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drops any search not shown yet, and puts back the filter the list had before search results were shown, if
+     * any are shown.
+     * Must be called on the thread that {@code modelExecutor} runs tasks on.
+     */
+    public void stop() {
+        Predicate<? super T> filter = previousFilter;
+        reset();
+        if (filter != null) {
+            filterUpdater.accept(filter::test);
+        }
+    }
+
+    /**
+     * Drops any search not shown yet, and forgets the search results shown, e.g. because the list is about to be
+     * filtered in another way.
+     * Must be called on the thread that {@code modelExecutor} runs tasks on.
+     */
+    public void reset() {
+        replacePendingSearch();
+        shownWords = Collections.emptyList();
+        shownItems = null;
+        previousFilter = null;
+    }
+
+    /**
+     * Cancels the search waiting to be started, if any, and returns the number of the next search.
+     */
+    private long replacePendingSearch() {
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+        return latestSearch.incrementAndGet();
+    }
+
+    private boolean isStale(long search) {
+        return search != latestSearch.get();
+    }
+
+    /**
+     * Tests {@code candidates} against {@code words}, and shows the items that match, unless a newer search has been
+     * typed in the meantime.
+     */
+    private void test(long search, List<String> words, List<T> candidates) {
+        List<T> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % STALENESS_CHECK_INTERVAL == 0 && isStale(search)) {
+                return;
+            }
+            T candidate = candidates.get(i);
+            if (startsWords(wordsOf.apply(candidate), words)) {
+                matches.add(candidate);
+            }
+        }
+        modelExecutor.execute(() -> show(search, words, matches));
+    }
+
+    private void show(long search, List<String> words, List<T> matches) {
+        if (isStale(search)) {
+            return;
+        }
+        pendingSearch = null;
+        if (previousFilter == null) {
+            previousFilter = filterGetter.get();
+        }
+        shownWords = words;
+        shownItems = matches;
+        resultsUpdater.accept(matches);
+    }
+
+    /**
+     * Returns true if every one of {@code words} starts one of {@code itemWords}.
+     */
+    private static boolean startsWords(List<String> itemWords, List<String> words) {
+        return words.stream().allMatch(word -> itemWords.stream().anyMatch(itemWord -> itemWord.startsWith(word)));
+    }
+
+    /**
+     * Returns true if the results of searching for {@code words} are always among the results of searching for
+     * {@code previousWords}, i.e. {@code words} repeats {@code previousWords}, except that the last previous word may
+     * have been extended, and may be followed by more words.
+     */
+    static boolean isNarrowing(List<String> previousWords, List<String> words) {
+        if (previousWords.isEmpty() || words.size() < previousWords.size()) {
+            return false;
+        }
+        int lastIndex = previousWords.size() - 1;
+        return previousWords.subList(0, lastIndex).equals(words.subList(0, lastIndex))
+                && words.get(lastIndex).startsWith(previousWords.get(lastIndex));
+    }
+}
@@ -25,6 +25,7 @@ import seedu.address.model.workout.Workout;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * A save that failed since the previous command is reported after the feedback of the result.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -32,6 +33,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Filters the list that the command being typed searches, as it is typed, if it is a find command.
+     * Shows the unfiltered list again when the command typed is no longer a find command.
+     * The list is filtered to the entries with a word starting with every keyword typed, searching only their names,
+     * exercises or titles. This can differ from the results of {@link #execute(String)}, which matches whole words
+     * unless a keyword ends with {@code *} or {@code ~}, lists entries matching any keyword, and searches other fields
+     * when {@code find} is given field prefixes.
+     * @param commandText The command typed so far.
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Saves all data modified by earlier commands that has not been saved yet,
+     * waiting for any save in progress to complete.
+     */
+    void flush();
+
+    /**
+     * Message describing the last save that failed.
+     * null if no save has failed, or if every save that failed has since been retried successfully.
+     * The property is set to null before each failure is described, so that a failure with the same message as the
+     * previous one is still reported to listeners.
+     * The property may be updated from the thread that saves the data.
+     */
+    ReadOnlyProperty<String> saveErrorProperty();
+
     /**
      * Returns the ContactList.
      *
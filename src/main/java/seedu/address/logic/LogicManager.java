@@ -1,25 +1,52 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandMetrics.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindHabitCommand;
+import seedu.address.logic.commands.FindPurchaseCommand;
+import seedu.address.logic.commands.FindTaskCommand;
+import seedu.address.logic.commands.FindWorkoutCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.LifeParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.habit.Habit;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.purchase.Purchase;
+import seedu.address.model.search.SearchKeyword;
 import seedu.address.model.task.Task;
 import seedu.address.model.workout.Workout;
 import seedu.address.storage.Storage;
 import seedu.address.model.Model;
+import seedu.address.model.ModelLoader;
 import seedu.address.model.ReadOnlyContactList;
 import seedu.address.model.ReadOnlyExpenditureList;
 import seedu.address.model.ReadOnlyHabitTrackerList;
@@ -32,12 +59,28 @@ import seedu.address.model.ReadOnlyWorkoutBook;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_DATA_LOADING = "Your data is still being loaded, please try again shortly.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final CommandHistory history;
     private final LifeParser lifeParser;
+    private final ModelLoader modelLoader;
+    private final SaveQueue saveQueue;
+    private final CommandMetrics metrics;
+    /** Live filters of the lists searched by find commands, keyed by the command word. */
+    private final Map<String, LiveFilter<?>> liveFilters = new HashMap<>();
+    private final AtomicReference<IOException> unreportedSaveError = new AtomicReference<>();
+    private final SimpleStringProperty saveError = new SimpleStringProperty();
+    /** Held while a command modifies the model, so that its lists can be copied from the thread that saves them. */
+    private final Object modelLock = new Object();
+    private final ListEditLog<Person> contactListEdits = new ListEditLog<>();
+    private final ListEditLog<Task> taskListEdits = new ListEditLog<>();
+    private final ListEditLog<Purchase> expenditureListEdits = new ListEditLog<>();
+    private final ListEditLog<Workout> workoutBookEdits = new ListEditLog<>();
+    private final ListEditLog<Habit> habitTrackerListEdits = new ListEditLog<>();
+    private boolean isRecordingEdits = false;
     private boolean contactListModified;
     private boolean taskListModified;
     private boolean tickedTaskListModified;
@@ -46,10 +89,17 @@ public class LogicManager implements Logic {
     private boolean habitTrackerListModified;
 
     public LogicManager(Model model, Storage storage) {
-        this.model = model;
-        this.storage = storage;
+        this(new Builder(model, storage));
+    }
+
+    private LogicManager(Builder builder) {
+        model = builder.model;
+        modelLoader = builder.modelLoader;
+        storage = builder.storage;
+        metrics = builder.metrics;
+        saveQueue = new SaveQueue(builder.saveExecutor, this::handleSaveError, this::handleSaveRecovery, metrics);
         history = new CommandHistory();
-        lifeParser = new LifeParser();
+        lifeParser = new LifeParser(metrics);
 
 
         // Set contactListModified to true whenever the models' contact list is modified.
@@ -59,32 +109,83 @@ public class LogicManager implements Logic {
         model.getExpenditureList().addListener(observable -> expenditureListModified = true);
         model.getWorkoutList().addListener(observable -> workoutBookModified = true);
         model.getHabitTrackerList().addListener(observable -> habitTrackerListModified = true);
+
+        if (builder.liveFilterWorker != null) {
+            liveFilters.put(FindCommand.COMMAND_WORD, createLiveFilter(builder,
+                    keywords -> model.findPersons(new NameContainsKeywordsPredicate(keywords)),
+                    person -> person.getName().fullName, model::getFilteredPersonListPredicate,
+                    model::updateFilteredPersonList, model::updateFilteredPersonList));
+            liveFilters.put(FindTaskCommand.COMMAND_WORD, createLiveFilter(builder, model::findTasks,
+                    task -> task.getTaskName().fullName, model::getFilteredTaskListPredicate,
+                    model::updateFilteredTaskList, model::updateFilteredTaskList));
+            liveFilters.put(FindPurchaseCommand.COMMAND_WORD, createLiveFilter(builder, model::findPurchases,
+                    purchase -> purchase.getPurchaseName().fullName, model::getFilteredPurchaseListPredicate,
+                    model::updateFilteredPurchaseList, model::updateFilteredPurchaseList));
+            liveFilters.put(FindWorkoutCommand.COMMAND_WORD, createLiveFilter(builder, model::findWorkouts,
+                    workout -> workout.getExercise().exerciseName, model::getFilteredWorkoutListPredicate,
+                    model::updateFilteredWorkoutList, model::updateFilteredWorkoutList));
+            liveFilters.put(FindHabitCommand.COMMAND_WORD, createLiveFilter(builder, model::findHabits,
+                    habit -> habit.getHabitTitle().fullName, model::getFilteredHabitListPredicate,
+                    model::updateFilteredHabitList, model::updateFilteredHabitList));
+        }
+    }
+
+    /**
+     * Creates a {@code LiveFilter} of a list whose items are found by keywords with {@code finder}, and searched by
+     * the words of the text returned by {@code textOf}.
+     * Every keyword typed is matched as a prefix, unlike in the find commands; see {@link Logic#previewCommand}.
+     * The filter of the list is read with {@code filterGetter}, and updated with {@code filterUpdater}, or with
+     * {@code resultsUpdater} to show search results.
+     */
+    private static <T> LiveFilter<T> createLiveFilter(Builder builder, Function<List<String>, Set<T>> finder,
+            Function<T, String> textOf, Supplier<Predicate<? super T>> filterGetter,
+            Consumer<Predicate<T>> filterUpdater, Consumer<Collection<T>> resultsUpdater) {
+        return new LiveFilter<>(word -> finder.apply(Collections.singletonList(word + SearchKeyword.PREFIX_SUFFIX)),
+                item -> SearchKeyword.toWords(textOf.apply(item)), filterGetter, filterUpdater, resultsUpdater,
+                builder.liveFilterWorker, builder.modelExecutor, LiveFilter.DEFAULT_DEBOUNCE_MILLIS);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (!modelLoader.isLoaded()) {
+            throw new CommandException(MESSAGE_DATA_LOADING);
+        }
+        if (!isRecordingEdits) {
+            startRecordingEdits();
+        }
         contactListModified = false;
         taskListModified = false;
         tickedTaskListModified = false;
         expenditureListModified = false;
         workoutBookModified = false;
         habitTrackerListModified = false;
-
+        // the command replaces any filter shown while it was typed
+        liveFilters.values().forEach(LiveFilter::reset);
+
+        // only commands that are executed successfully are measured
+        long startTime = System.nanoTime();
+        long startAllocatedBytes = metrics.getCurrentThreadAllocatedBytes();
+        long parsedTime;
+        long executedTime;
         CommandResult commandResult;
         try {
             Command command = lifeParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
+            parsedTime = System.nanoTime();
+            synchronized (modelLock) {
+                commandResult = command.execute(model, history);
+            }
+            executedTime = System.nanoTime();
         } finally {
             history.add(commandText);
         }
+        // Only the edits are handed to the save thread. The whole list is only copied, on the save thread, if the save
+        // has to write all of it.
         if (taskListModified) {
             logger.info("Task list modified, saving to file.");
-            try {
-                storage.saveTaskList(model.getTaskList());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            long editMark = taskListEdits.mark();
+            Supplier<List<Task>> tasks = copier(model.getTaskList().getTaskList(), taskListEdits);
+            saveQueue.queue("task list", () -> storage.saveTaskListEdits(taskListEdits.takeUntil(editMark), tasks));
         }
 
         if (tickedTaskListModified) {
@@ -93,41 +194,134 @@ public class LogicManager implements Logic {
 
         if (expenditureListModified) {
             logger.info("Expenditure list modified, saving to file.");
-            try {
-                storage.saveExpenditureList(model.getExpenditureList());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            long editMark = expenditureListEdits.mark();
+            Supplier<List<Purchase>> purchases = copier(model.getExpenditureList().getPurchaseList(),
+                    expenditureListEdits);
+            saveQueue.queue("expenditure list", () ->
+                    storage.saveExpenditureListEdits(expenditureListEdits.takeUntil(editMark), purchases));
         }
         if (habitTrackerListModified) {
             logger.info("Habit Tracker List modified, saving to file.");
-            try {
-                storage.saveHabitTrackerList(model.getHabitTrackerList());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            long editMark = habitTrackerListEdits.mark();
+            Supplier<List<Habit>> habits = copier(model.getHabitTrackerList().getHabitList(), habitTrackerListEdits);
+            saveQueue.queue("habit tracker list", () ->
+                    storage.saveHabitTrackerListEdits(habitTrackerListEdits.takeUntil(editMark), habits));
         }
         if (workoutBookModified) {
             logger.info("Workout list modified, saving to file.");
-            try {
-                storage.saveWorkoutBook(model.getWorkoutList());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            long editMark = workoutBookEdits.mark();
+            Supplier<List<Workout>> workouts = copier(model.getWorkoutList().getWorkoutList(), workoutBookEdits);
+            saveQueue.queue("workout book", () ->
+                    storage.saveWorkoutBookEdits(workoutBookEdits.takeUntil(editMark), workouts));
         }
 
         if (contactListModified) {
             logger.info("Contact List modified, saving to file.");
-            try {
-                storage.saveContactList(model.getContactList());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            long editMark = contactListEdits.mark();
+            Supplier<List<Person>> persons = copier(model.getContactList().getPersonList(), contactListEdits);
+            saveQueue.queue("contact list", () ->
+                    storage.saveContactListEdits(contactListEdits.takeUntil(editMark), persons));
+        }
+
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        metrics.recordPhase(commandWord, Phase.PARSE, parsedTime - startTime);
+        metrics.recordPhase(commandWord, Phase.EXECUTE, executedTime - parsedTime);
+        metrics.recordPhase(commandWord, Phase.PERSIST, System.nanoTime() - executedTime);
+        if (startAllocatedBytes != -1) {
+            metrics.recordAllocation(commandWord, metrics.getCurrentThreadAllocatedBytes() - startAllocatedBytes);
+        }
+
+        // Report a save that failed since the last command, which may have been run in the background, along with the
+        // result of this command, which has succeeded regardless.
+        IOException saveError = unreportedSaveError.getAndSet(null);
+        if (saveError != null) {
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n" + FILE_OPS_ERROR_MESSAGE + saveError,
+                    commandResult.isShowHelp(), commandResult.isExit());
         }
 
         return commandResult;
     }
 
+    @Override
+    public void previewCommand(String commandText) {
+        if (liveFilters.isEmpty() || !modelLoader.isLoaded()) {
+            return;
+        }
+
+        String trimmedText = commandText.trim();
+        int argumentsIndex = trimmedText.indexOf(' ');
+        String commandWord = argumentsIndex == -1 ? trimmedText : trimmedText.substring(0, argumentsIndex);
+        String arguments = argumentsIndex == -1 ? "" : trimmedText.substring(argumentsIndex);
+        // prefixed find arguments search other fields, and are only run when entered
+        boolean isPreviewable = argumentsIndex != -1 && !arguments.contains("/");
+
+        liveFilters.forEach((filterCommandWord, liveFilter) -> {
+            if (isPreviewable && filterCommandWord.equals(commandWord)) {
+                liveFilter.filter(SearchKeyword.toWords(arguments));
+            } else {
+                liveFilter.stop();
+            }
+        });
+    }
+
+    /**
+     * Starts recording the edits made to the lists in the model, so that saves only have to write the edits.
+     * Edits are only recorded once all data has been loaded, as the loaded data is already in storage.
+     */
+    private void startRecordingEdits() {
+        model.getContactList().getPersonList().addListener(contactListEdits);
+        model.getTaskList().getTaskList().addListener(taskListEdits);
+        model.getExpenditureList().getPurchaseList().addListener(expenditureListEdits);
+        model.getWorkoutList().getWorkoutList().addListener(workoutBookEdits);
+        model.getHabitTrackerList().getHabitList().addListener(habitTrackerListEdits);
+        isRecordingEdits = true;
+    }
+
+    /**
+     * Returns a supplier of copies of {@code list}, whose edits are recorded in {@code edits}, for a save to write the
+     * whole list from the thread that saves it.
+     * Each copy is taken while no command is modifying the model, and the edits up to it are taken from {@code edits},
+     * so that later saves only write the edits made after it.
+     */
+    private <E> Supplier<List<E>> copier(List<E> list, ListEditLog<E> edits) {
+        return () -> {
+            synchronized (modelLock) {
+                edits.takeUntil(edits.mark());
+                return Collections.unmodifiableList(new ArrayList<>(list));
+            }
+        };
+    }
+
+    /**
+     * Records a failed save so that it is reported to the user.
+     * This may be called from the thread running the save.
+     */
+    private void handleSaveError(IOException ioe) {
+        unreportedSaveError.set(ioe);
+        // cleared first so that listeners are told about an error equal to the previous one too
+        saveError.set(null);
+        saveError.set(FILE_OPS_ERROR_MESSAGE + ioe);
+    }
+
+    /**
+     * Forgets the failed saves once all of them have been retried successfully.
+     * This may be called from the thread running the save.
+     */
+    private void handleSaveRecovery() {
+        unreportedSaveError.set(null);
+        saveError.set(null);
+    }
+
+    @Override
+    public void flush() {
+        saveQueue.flush();
+    }
+
+    @Override
+    public ReadOnlyProperty<String> saveErrorProperty() {
+        return saveError;
+    }
+
     @Override
     public ReadOnlyContactList getContactList() {
 
@@ -292,4 +486,64 @@ public class LogicManager implements Logic {
 
         model.selectedHabitProperty();
     }
+
+    /**
+     * Builds a {@code LogicManager}. Unless told otherwise, the {@code LogicManager} saves data on the thread that
+     * executes commands, does not wait for data to be loaded, does not preview commands, and records how long
+     * commands take in a new {@code CommandMetrics}.
+     */
+    public static class Builder {
+        private final Model model;
+        private final Storage storage;
+        private Executor saveExecutor = Runnable::run;
+        private ModelLoader modelLoader;
+        private ScheduledExecutorService liveFilterWorker;
+        private Executor modelExecutor;
+        private CommandMetrics metrics = new CommandMetrics();
+
+        public Builder(Model model, Storage storage) {
+            requireAllNonNull(model, storage);
+            this.model = model;
+            this.storage = storage;
+            modelLoader = new ModelLoader(model, Runnable::run);
+        }
+
+        /**
+         * Saves modified data to the storage on {@code saveExecutor}.
+         */
+        public Builder withSaveExecutor(Executor saveExecutor) {
+            this.saveExecutor = requireNonNull(saveExecutor);
+            return this;
+        }
+
+        /**
+         * Rejects commands until {@code modelLoader} has finished loading data into the model.
+         */
+        public Builder withModelLoader(ModelLoader modelLoader) {
+            this.modelLoader = requireNonNull(modelLoader);
+            return this;
+        }
+
+        /**
+         * Previews find commands as they are typed by searching on {@code liveFilterWorker}, and reading the model
+         * on {@code modelExecutor}.
+         */
+        public Builder withLiveFilters(ScheduledExecutorService liveFilterWorker, Executor modelExecutor) {
+            this.liveFilterWorker = requireNonNull(liveFilterWorker);
+            this.modelExecutor = requireNonNull(modelExecutor);
+            return this;
+        }
+
+        /**
+         * Records how long each command and save takes in {@code metrics}.
+         */
+        public Builder withMetrics(CommandMetrics metrics) {
+            this.metrics = requireNonNull(metrics);
+            return this;
+        }
+
+        public LogicManager build() {
+            return new LogicManager(this);
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.beans.InvalidationListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+
+/**
+ * Reminds the user of tasks as their deadlines arrive.
+ * Instead of checking the task list periodically, a single wake-up is scheduled for the next deadline, and it is
+ * rescheduled whenever the task list changes. Finding the next deadline takes time proportional to the log of the
+ * number of tasks.
+ */
+public class ReminderScheduler {
+    public static final String MESSAGE_REMINDER = "Reminder, due now: %1$s";
+
+    private static final long MILLIS_PER_MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final Model model;
+    private final ScheduledExecutorService timer;
+    private final Executor modelExecutor;
+    private final Clock clock;
+    private final ReminderHandler reminderHandler;
+    private final InvalidationListener taskListListener = observable -> scheduleNextReminder();
+
+    /** Tasks due before this minute have already been reminded of. Only accessed through {@code modelExecutor}. */
+    private long remindedUntilEpochMinutes;
+    private ScheduledFuture<?> nextReminder;
+
+    /**
+     * Creates a {@code ReminderScheduler} that waits for deadlines on {@code timer}, reads {@code model} on
+     * {@code modelExecutor}, and passes reminder messages to {@code reminderHandler}.
+     * The time is told with {@code clock}.
+     */
+    public ReminderScheduler(Model model, ScheduledExecutorService timer, Executor modelExecutor, Clock clock,
+                             ReminderHandler reminderHandler) {
+        requireNonNull(model);
+        requireNonNull(timer);
+        requireNonNull(modelExecutor);
+        requireNonNull(clock);
+        requireNonNull(reminderHandler);
+        this.model = model;
+        this.timer = timer;
+        this.modelExecutor = modelExecutor;
+        this.clock = clock;
+        this.reminderHandler = reminderHandler;
+    }
+
+    /**
+     * Starts reminding the user of tasks due from the next minute onwards.
+     * Must be called on the thread that {@code modelExecutor} runs tasks on.
+     */
+    public void start() {
+        remindedUntilEpochMinutes = Math.floorDiv(currentEpochMillis(), MILLIS_PER_MINUTE) + 1;
+        model.getTaskList().addListener(taskListListener);
+        scheduleNextReminder();
+    }
+
+    /**
+     * Stops reminding the user, and stops {@code timer}.
+     * Must be called on the thread that {@code modelExecutor} runs tasks on.
+     */
+    public void stop() {
+        model.getTaskList().removeListener(taskListListener);
+        if (nextReminder != null) {
+            nextReminder.cancel(false);
+        }
+        timer.shutdownNow();
+    }
+
+    /**
+     * Schedules a wake-up at the deadline of the next task that has not been reminded of yet,
+     * replacing any wake-up scheduled before.
+     */
+    private void scheduleNextReminder() {
+        if (nextReminder != null) {
+            nextReminder.cancel(false);
+            nextReminder = null;
+        }
+
+        Optional<Task> nextTask = model.getNextTaskDue(remindedUntilEpochMinutes);
+        if (!nextTask.isPresent() || timer.isShutdown()) {
+            return;
+        }
+        long delayMillis = nextTask.get().getDeadlineEpochMinutes() * MILLIS_PER_MINUTE - currentEpochMillis();
+        nextReminder = timer.schedule(() -> modelExecutor.execute(this::remindDueTasks), Math.max(0, delayMillis),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reminds the user of the tasks that have become due since the last reminder.
+     */
+    private void remindDueTasks() {
+        long nowEpochMinutes = Math.floorDiv(currentEpochMillis(), MILLIS_PER_MINUTE);
+        List<Task> dueTasks = model.getTasksDueBetween(remindedUntilEpochMinutes, nowEpochMinutes + 1);
+        remindedUntilEpochMinutes = Math.max(remindedUntilEpochMinutes, nowEpochMinutes + 1);
+        if (!dueTasks.isEmpty()) {
+            String taskNames = dueTasks.stream().map(task -> task.getTaskName().fullName)
+                    .collect(Collectors.joining(", "));
+            logger.info("Reminding user of " + dueTasks.size() + " due tasks");
+            reminderHandler.remind(String.format(MESSAGE_REMINDER, taskNames));
+        }
+        scheduleNextReminder();
+    }
+
+    /**
+     * Returns the current local time as milliseconds from the epoch, counted in the same way as task deadlines.
+     *
+     * @see Task#getDeadlineEpochMinutes()
+     */
+    private long currentEpochMillis() {
+        return LocalDateTime.now(clock).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Shows a reminder to the user.
+     */
+    @FunctionalInterface
+    public interface ReminderHandler {
+        void remind(String message);
+    }
+}
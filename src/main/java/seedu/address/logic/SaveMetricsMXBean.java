@@ -0,0 +1,26 @@
+package seedu.address.logic;
+
+/**
+ * Reports how often one of the data files has been saved, how long the saves took and how much they wrote,
+ * e.g. to JConsole.
+ */
+public interface SaveMetricsMXBean {
+
+    /** Returns the number of successful saves. */
+    long getSaveCount();
+
+    /** Returns the total time taken by the saves in milliseconds. */
+    double getTotalSaveMillis();
+
+    /** Returns the median time taken by a save in milliseconds. */
+    double getMedianSaveMillis();
+
+    /** Returns the 99th percentile of the time taken by a save in milliseconds. */
+    double get99thPercentileSaveMillis();
+
+    /** Returns the longest time taken by a save in milliseconds. */
+    double getMaxSaveMillis();
+
+    /** Returns the total number of bytes written by the saves. */
+    long getBytesWritten();
+}
@@ -0,0 +1,134 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Saves data to storage through an {@code Executor}, so that callers do not have to wait for files to be written.
+ * Saves of the same data that are queued before the previous save of that data has started are combined, so each
+ * file is written at most once per flush no matter how many changes were made to it.
+ */
+public class SaveQueue {
+    private final Logger logger = LogsCenter.getLogger(SaveQueue.class);
+
+    private final Executor executor;
+    private final Consumer<IOException> errorHandler;
+    private final Runnable recoveryHandler;
+    private final CommandMetrics metrics;
+
+    /** Pending saves keyed by the name of the data they save. A newer save of the same data replaces the older one. */
+    private final Map<String, SaveTask> pendingSaves = new LinkedHashMap<>();
+    /** The names of the data whose last save failed. */
+    private final Set<String> failedSaves = new HashSet<>();
+    /** Held while saves are being written, so that flushes do not overlap. */
+    private final Object writeLock = new Object();
+    private boolean isFlushScheduled = false;
+
+    /**
+     * Creates a {@code SaveQueue} that flushes pending saves on {@code executor} and passes any {@code IOException}
+     * thrown by a save to {@code errorHandler}.
+     */
+    public SaveQueue(Executor executor, Consumer<IOException> errorHandler) {
+        this(executor, errorHandler, new CommandMetrics());
+    }
+
+    /**
+     * Creates a {@code SaveQueue} that flushes pending saves on {@code executor}, passes any {@code IOException}
+     * thrown by a save to {@code errorHandler}, and records the time taken and bytes written by each successful save
+     * in {@code metrics}.
+     */
+    public SaveQueue(Executor executor, Consumer<IOException> errorHandler, CommandMetrics metrics) {
+        this(executor, errorHandler, () -> {}, metrics);
+    }
+
+    /**
+     * Creates a {@code SaveQueue} that flushes pending saves on {@code executor}, passes any {@code IOException}
+     * thrown by a save to {@code errorHandler}, runs {@code recoveryHandler} once every save that failed has since
+     * succeeded, and records the time taken and bytes written by each successful save in {@code metrics}.
+     */
+    public SaveQueue(Executor executor, Consumer<IOException> errorHandler, Runnable recoveryHandler,
+                     CommandMetrics metrics) {
+        requireNonNull(executor);
+        requireNonNull(errorHandler);
+        requireNonNull(recoveryHandler);
+        requireNonNull(metrics);
+        this.executor = executor;
+        this.errorHandler = errorHandler;
+        this.recoveryHandler = recoveryHandler;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Queues {@code saveTask} to save the data named {@code dataName}, replacing any pending save of the same data.
+     */
+    public void queue(String dataName, SaveTask saveTask) {
+        requireNonNull(dataName);
+        requireNonNull(saveTask);
+        synchronized (this) {
+            pendingSaves.put(dataName, saveTask);
+            if (isFlushScheduled) {
+                return;
+            }
+            isFlushScheduled = true;
+        }
+        executor.execute(this::flush);
+    }
+
+    /**
+     * Writes all pending saves on the calling thread, after waiting for any flush in progress to complete.
+     * A save that fails is kept pending, unless a newer save of the same data has been queued, and is retried by the
+     * next flush.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            Map<String, SaveTask> saves;
+            synchronized (this) {
+                saves = new LinkedHashMap<>(pendingSaves);
+                pendingSaves.clear();
+                isFlushScheduled = false;
+            }
+
+            boolean isRecovered = false;
+            for (Map.Entry<String, SaveTask> save : saves.entrySet()) {
+                long startTime = System.nanoTime();
+                long startBytesWritten = FileUtil.getBytesWrittenByCurrentThread();
+                try {
+                    save.getValue().save();
+                    metrics.recordSave(save.getKey(), System.nanoTime() - startTime,
+                            FileUtil.getBytesWrittenByCurrentThread() - startBytesWritten);
+                    isRecovered |= failedSaves.remove(save.getKey()) && failedSaves.isEmpty();
+                } catch (IOException ioe) {
+                    logger.warning("Failed to save " + save.getKey() + ": " + ioe);
+                    synchronized (this) {
+                        pendingSaves.putIfAbsent(save.getKey(), save.getValue());
+                    }
+                    failedSaves.add(save.getKey());
+                    isRecovered = false;
+                    errorHandler.accept(ioe);
+                }
+            }
+            if (isRecovered) {
+                recoveryHandler.run();
+            }
+        }
+    }
+
+    /**
+     * Saves some data to storage.
+     */
+    @FunctionalInterface
+    public interface SaveTask {
+        void save() throws IOException;
+    }
+}
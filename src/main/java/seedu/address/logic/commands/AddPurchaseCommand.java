@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PURCHASENAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PURCHASE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import seedu.address.logic.CommandHistory;
@@ -21,10 +22,12 @@ public class AddPurchaseCommand extends Command {
             + "Parameters: "
             + PREFIX_PURCHASENAME + "NAME "
             + PREFIX_PRICE + "PRICE "
+            + "[" + PREFIX_PURCHASE_DATE + "DATE (ddMMyy, today if not given)] "
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_PURCHASENAME + "Chicken rice "
             + PREFIX_PRICE + "4.50 "
+            + PREFIX_PURCHASE_DATE + "010419 "
             + PREFIX_TAG + "food";
 
     public static final String MESSAGE_SUCCESS = "New purchase added: %1$s";
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+
+/**
+ * Lists the tasks that are due within a number of hours from now, or the tasks that are overdue.
+ */
+public class DueTaskCommand extends Command {
+
+    public static final String COMMAND_WORD = "duetask";
+    public static final String OVERDUE_KEYWORD = "overdue";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the tasks due within the given number of hours from now, "
+            + "or the tasks whose deadlines have passed.\n"
+            + "Parameters: HOURS (must be a positive integer) or " + OVERDUE_KEYWORD + "\n"
+            + "Example: " + COMMAND_WORD + " 24\n"
+            + "Example: " + COMMAND_WORD + " " + OVERDUE_KEYWORD;
+
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final boolean isOverdue;
+    private final int hours;
+    private final Clock clock;
+
+    private DueTaskCommand(boolean isOverdue, int hours, Clock clock) {
+        requireNonNull(clock);
+        this.isOverdue = isOverdue;
+        this.hours = hours;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a {@code DueTaskCommand} that lists the tasks due from now until {@code hours} hours from now,
+     * according to {@code clock}.
+     */
+    public static DueTaskCommand dueWithinHours(int hours, Clock clock) {
+        return new DueTaskCommand(false, hours, clock);
+    }
+
+    /**
+     * Creates a {@code DueTaskCommand} that lists the tasks due before now, according to {@code clock}.
+     */
+    public static DueTaskCommand overdue(Clock clock) {
+        return new DueTaskCommand(true, 0, clock);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        long now = DateTimeUtil.toEpochMinutes(LocalDateTime.now(clock));
+        List<Task> dueTasks = isOverdue
+                ? model.getTasksDueBetween(Long.MIN_VALUE, now)
+                : model.getTasksDueBetween(now, now + (long) hours * MINUTES_PER_HOUR);
+        model.updateFilteredTaskList(dueTasks);
+        return new CommandResult(String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, dueTasks.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DueTaskCommand // instanceof handles nulls
+                && isOverdue == ((DueTaskCommand) other).isOverdue
+                && hours == ((DueTaskCommand) other).hours
+                && clock.equals(((DueTaskCommand) other).clock)); // state check
+    }
+}
@@ -1,15 +1,22 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in contact list whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in contact list whose name contains any of the argument keywords, or whose given fields
+ * each contain any of the keywords given for them.
+ * Keyword matching is case insensitive, and keywords may match by prefix or within a few typing mistakes.
+ * Fields and keywords are split into words at every character that is not a letter or digit, not only at whitespace,
+ * so a keyword such as {@code alice@example.com} matches the fields containing each of its words.
  */
 public class FindCommand extends Command {
 
@@ -17,19 +24,27 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + FindKeywordsCommand.MESSAGE_KEYWORD_SUFFIXES
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
-
-    private final NameContainsKeywordsPredicate predicate;
-
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "To search other fields, find the persons whose given fields each contain any of their keywords.\n"
+            + "Parameters: "
+            + "[" + PREFIX_NAME + "KEYWORDS] "
+            + "[" + PREFIX_EMAIL + "KEYWORDS] "
+            + "[" + PREFIX_ADDRESS + "KEYWORDS] "
+            + "[" + PREFIX_TAG + "KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ADDRESS + "clementi jurong " + PREFIX_TAG + "friends";
+
+    private final PersonContainsKeywordsPredicate predicate;
+
+    public FindCommand(PersonContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(model.findPersons(predicate));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
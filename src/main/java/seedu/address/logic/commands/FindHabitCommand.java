@@ -0,0 +1,22 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.habit.Habit;
+
+/**
+ * Finds and lists all habits whose titles match any of the argument keywords.
+ */
+public class FindHabitCommand extends FindKeywordsCommand<Habit> {
+
+    public static final String COMMAND_WORD = "findHabit";
+
+    public static final String MESSAGE_USAGE = getMessageUsage(COMMAND_WORD, "habits whose titles", "read* exercize~");
+
+    public FindHabitCommand(List<String> keywords) {
+        super(keywords, Model::findHabits, Model::updateFilteredHabitList, Model::getFilteredHabitList,
+                Messages.MESSAGE_HABITS_LISTED_OVERVIEW);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Finds and lists all items of a list whose text matches any of the argument keywords, looking the keywords up in the
+ * list's search index instead of testing every item.
+ * Keyword matching is case insensitive, and keywords may match by prefix or within a few typing mistakes.
+ *
+ * @param <T> the type of the items in the list
+ * @see seedu.address.model.search.SearchKeyword
+ */
+public abstract class FindKeywordsCommand<T> extends Command {
+
+    public static final String MESSAGE_KEYWORD_SUFFIXES = "End a keyword with * to match words starting with it, "
+            + "or with ~ to match words one typing mistake away from it (~2 for two).\n";
+
+    private final List<String> keywords;
+    private final BiFunction<Model, List<String>, Set<T>> finder;
+    private final BiConsumer<Model, Collection<T>> filterUpdater;
+    private final Function<Model, List<T>> filteredList;
+    private final String messageListedOverview;
+
+    /**
+     * Creates a {@code FindKeywordsCommand} that finds the items matching {@code keywords} with {@code finder}, and
+     * shows them by passing them to {@code filterUpdater}.
+     *
+     * @param filteredList returns the list shown, whose size is reported in {@code messageListedOverview}
+     */
+    protected FindKeywordsCommand(List<String> keywords, BiFunction<Model, List<String>, Set<T>> finder,
+                                  BiConsumer<Model, Collection<T>> filterUpdater, Function<Model, List<T>> filteredList,
+                                  String messageListedOverview) {
+        requireAllNonNull(keywords, finder, filterUpdater, filteredList, messageListedOverview);
+        this.keywords = keywords;
+        this.finder = finder;
+        this.filterUpdater = filterUpdater;
+        this.filteredList = filteredList;
+        this.messageListedOverview = messageListedOverview;
+    }
+
+    /**
+     * Returns the usage message of the command {@code commandWord}, which finds {@code items}, e.g.
+     * {@code "tasks whose names"}.
+     */
+    protected static String getMessageUsage(String commandWord, String items, String exampleKeywords) {
+        return commandWord + ": Finds all " + items + " contain any of "
+                + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+                + MESSAGE_KEYWORD_SUFFIXES
+                + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+                + "Example: " + commandWord + " " + exampleKeywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        filterUpdater.accept(model, finder.apply(model, keywords));
+        return new CommandResult(String.format(messageListedOverview, filteredList.apply(model).size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // handles nulls and other commands
+                && keywords.equals(((FindKeywordsCommand<?>) other).keywords)); // state check
+    }
+}
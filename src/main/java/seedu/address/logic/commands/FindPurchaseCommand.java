@@ -0,0 +1,22 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.purchase.Purchase;
+
+/**
+ * Finds and lists all purchases whose names match any of the argument keywords.
+ */
+public class FindPurchaseCommand extends FindKeywordsCommand<Purchase> {
+
+    public static final String COMMAND_WORD = "findpurchase";
+
+    public static final String MESSAGE_USAGE = getMessageUsage(COMMAND_WORD, "purchases whose names", "coffee lunch*");
+
+    public FindPurchaseCommand(List<String> keywords) {
+        super(keywords, Model::findPurchases, Model::updateFilteredPurchaseList, Model::getFilteredPurchaseList,
+                Messages.MESSAGE_PURCHASES_LISTED_OVERVIEW);
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+
+/**
+ * Finds and lists all tasks whose names match any of the argument keywords.
+ */
+public class FindTaskCommand extends FindKeywordsCommand<Task> {
+
+    public static final String COMMAND_WORD = "findtask";
+
+    public static final String MESSAGE_USAGE = getMessageUsage(COMMAND_WORD, "tasks whose names", "report* assignmnt~");
+
+    public FindTaskCommand(List<String> keywords) {
+        super(keywords, Model::findTasks, Model::updateFilteredTaskList, Model::getFilteredTaskList,
+                Messages.MESSAGE_TASKS_LISTED_OVERVIEW);
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.workout.Workout;
+
+/**
+ * Finds and lists all workouts whose exercises match any of the argument keywords.
+ */
+public class FindWorkoutCommand extends FindKeywordsCommand<Workout> {
+
+    public static final String COMMAND_WORD = "findworkout";
+
+    public static final String MESSAGE_USAGE = getMessageUsage(COMMAND_WORD, "workouts whose exercises",
+            "push* squat~");
+
+    public FindWorkoutCommand(List<String> keywords) {
+        super(keywords, Model::findWorkouts, Model::updateFilteredWorkoutList, Model::getFilteredWorkoutList,
+                Messages.MESSAGE_WORKOUTS_LISTED_OVERVIEW);
+    }
+}
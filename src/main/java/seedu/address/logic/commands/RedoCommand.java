@@ -1,14 +1,18 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_HABIT;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PURCHASES;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_WORKOUTS;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
 /**
- * Reverts the {@code model}'s contact list to its previously undone state.
+ * Reverts the most recently undone list in the {@code model} to its previously undone state.
  */
 public class RedoCommand extends Command {
 
@@ -20,12 +24,16 @@ public class RedoCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        if (!model.canRedoContactList()) {
+        if (!model.canRedo()) {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.redoContactList();
+        model.redo();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        model.updateFilteredPurchaseList(PREDICATE_SHOW_ALL_PURCHASES);
+        model.updateFilteredHabitList(PREDICATE_SHOW_ALL_HABIT);
+        model.updateFilteredWorkoutList(PREDICATE_SHOW_ALL_WORKOUTS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
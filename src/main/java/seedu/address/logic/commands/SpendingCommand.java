@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.purchase.Price;
+import seedu.address.model.purchase.SpendingSummary;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Shows a summary of the spending on the purchases in the expenditure list with all of the given tags.
+ * The totals for every purchase are kept up to date by the expenditure list, so without tags this takes the same time
+ * however many purchases there are.
+ */
+public class SpendingCommand extends Command {
+
+    public static final String COMMAND_WORD = "spending";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the total spent on all purchases, "
+            + "the cheapest and dearest purchases, and the total spent on purchases with each tag. "
+            + "If tags are given, only the purchases with all of them are summarised.\n"
+            + "Parameters: [" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "food";
+
+    public static final String MESSAGE_NO_PURCHASES = "No purchases recorded";
+    public static final String MESSAGE_SUCCESS = "Spent $%1$s on %2$d purchases (cheapest $%3$s, dearest $%4$s)";
+    public static final String MESSAGE_TAG_TOTALS = "\nBy tag: %1$s";
+    public static final String MESSAGE_REQUIRED_TAGS = "Tagged %1$s: ";
+
+    /** Orders tags from the most spent on, breaking ties by name. */
+    private static final Comparator<Map.Entry<Tag, Long>> TAG_TOTAL_ORDER =
+            Comparator.<Map.Entry<Tag, Long>>comparingLong(Map.Entry::getValue).reversed()
+                    .thenComparing(entry -> entry.getKey().tagName);
+
+    private final Set<Tag> requiredTags;
+
+    /**
+     * Creates a SpendingCommand to summarise the purchases with every one of {@code requiredTags}.
+     */
+    public SpendingCommand(Set<Tag> requiredTags) {
+        requireNonNull(requiredTags);
+        this.requiredTags = requiredTags;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        SpendingSummary summary = model.getSpendingSummary(requiredTags);
+        if (summary.getPurchaseCount() == 0) {
+            return new CommandResult(MESSAGE_NO_PURCHASES);
+        }
+
+        StringBuilder message = new StringBuilder();
+        if (!requiredTags.isEmpty()) {
+            message.append(String.format(MESSAGE_REQUIRED_TAGS, requiredTags.stream().map(tag -> tag.tagName)
+                    .sorted().collect(Collectors.joining(", "))));
+        }
+        message.append(String.format(MESSAGE_SUCCESS,
+                Price.formatCents(summary.getTotalCents()), summary.getPurchaseCount(),
+                Price.formatCents(summary.getMinCents()), Price.formatCents(summary.getMaxCents())));
+        if (!summary.getTagTotalCents().isEmpty()) {
+            message.append(String.format(MESSAGE_TAG_TOTALS, formatTagTotals(summary.getTagTotalCents())));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Returns {@code tagTotalCents} as a list of tags and totals, from the tag most spent on.
+     */
+    static String formatTagTotals(Map<Tag, Long> tagTotalCents) {
+        return tagTotalCents.entrySet().stream()
+                .sorted(TAG_TOTAL_ORDER)
+                .map(entry -> entry.getKey().tagName + " $" + Price.formatCents(entry.getValue()))
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SpendingCommand // instanceof handles nulls
+                && requiredTags.equals(((SpendingCommand) other).requiredTags)); // state check
+    }
+}
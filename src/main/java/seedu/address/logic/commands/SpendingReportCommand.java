@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.purchase.PeriodSpending;
+import seedu.address.model.purchase.Price;
+import seedu.address.model.purchase.SpendingPeriod;
+import seedu.address.model.purchase.SpendingSummary;
+
+/**
+ * Shows the spending in each of a number of days, weeks or months up to and including the current one.
+ * The totals of every period are kept up to date by the expenditure list, so this takes time proportional to the
+ * number of periods shown, however many purchases there are.
+ */
+public class SpendingReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "spendingreport";
+    public static final int MAX_PERIOD_COUNT = 366;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the total spent, and the total spent on purchases with each tag, in each of the last "
+            + "given number of days, weeks (starting on Monday) or months, up to and including the current one.\n"
+            + "Parameters: day|week|month COUNT (a positive integer up to " + MAX_PERIOD_COUNT + ")\n"
+            + "Example: " + COMMAND_WORD + " month 36";
+
+    public static final String MESSAGE_HEADER = "Spending per %1$s over the last %2$d %1$ss:";
+    public static final String MESSAGE_PERIOD = "\n%1$s: $%2$s";
+    public static final String MESSAGE_PERIOD_PURCHASES = " on %1$d purchases";
+    public static final String MESSAGE_PERIOD_TAG_TOTALS = " (%1$s)";
+    public static final String MESSAGE_TOTAL = "\nTotal: $%1$s on %2$d purchases";
+
+    private final SpendingPeriod period;
+    private final int periodCount;
+    private final Clock clock;
+
+    /**
+     * Creates a SpendingReportCommand to show the spending in each of the last {@code periodCount} {@code period}s,
+     * counting the current one according to {@code clock}.
+     */
+    public SpendingReportCommand(SpendingPeriod period, int periodCount, Clock clock) {
+        requireNonNull(period);
+        requireNonNull(clock);
+        this.period = period;
+        this.periodCount = periodCount;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        long lastIndex = period.indexOf(LocalDate.now(clock).toEpochDay());
+        List<PeriodSpending> spending = model.getSpendingPerPeriod(period, lastIndex - periodCount + 1, lastIndex);
+
+        String periodName = period.name().toLowerCase(Locale.ENGLISH);
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_HEADER, periodName, periodCount));
+        int purchaseCount = 0;
+        long totalCents = 0;
+        for (PeriodSpending periodSpending : spending) {
+            SpendingSummary summary = periodSpending.getSummary();
+            message.append(String.format(MESSAGE_PERIOD, periodSpending.getLabel(),
+                    Price.formatCents(summary.getTotalCents())));
+            if (summary.getPurchaseCount() > 0) {
+                message.append(String.format(MESSAGE_PERIOD_PURCHASES, summary.getPurchaseCount()));
+            }
+            if (!summary.getTagTotalCents().isEmpty()) {
+                message.append(String.format(MESSAGE_PERIOD_TAG_TOTALS,
+                        SpendingCommand.formatTagTotals(summary.getTagTotalCents())));
+            }
+            purchaseCount += summary.getPurchaseCount();
+            totalCents += summary.getTotalCents();
+        }
+        message.append(String.format(MESSAGE_TOTAL, Price.formatCents(totalCents), purchaseCount));
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SpendingReportCommand // instanceof handles nulls
+                && period == ((SpendingReportCommand) other).period
+                && periodCount == ((SpendingReportCommand) other).periodCount
+                && clock.equals(((SpendingReportCommand) other).clock)); // state check
+    }
+}
@@ -41,8 +41,7 @@ public class TickTaskCommand extends Command {
         Task taskToTick = lastShownList.get(targetIndex.getZeroBased());
         model.addTickedTaskList(taskToTick);
         model.deleteTask(taskToTick);
-        model.commitTickedTaskList();
-        model.commitTaskList();
+        model.commitTaskAndTickedTaskLists();
         return new CommandResult(String.format(MESSAGE_TICK_TASK_SUCCESS, taskToTick));
     }
 
@@ -1,14 +1,18 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_HABIT;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PURCHASES;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_WORKOUTS;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
 /**
- * Reverts the {@code model}'s contact list to its previous state.
+ * Reverts the most recently changed list in the {@code model} to its previous state.
  */
 public class UndoCommand extends Command {
 
@@ -20,12 +24,16 @@ public class UndoCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        if (!model.canUndoContactList()) {
+        if (!model.canUndo()) {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undoContactList();
+        model.undo();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        model.updateFilteredPurchaseList(PREDICATE_SHOW_ALL_PURCHASES);
+        model.updateFilteredHabitList(PREDICATE_SHOW_ALL_HABIT);
+        model.updateFilteredWorkoutList(PREDICATE_SHOW_ALL_WORKOUTS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
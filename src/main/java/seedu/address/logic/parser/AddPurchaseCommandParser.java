@@ -3,8 +3,10 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PURCHASENAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PURCHASE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.Clock;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -12,6 +14,7 @@ import seedu.address.logic.commands.AddPurchaseCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.purchase.Price;
 import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.PurchaseDate;
 import seedu.address.model.purchase.PurchaseName;
 import seedu.address.model.tag.Tag;
 
@@ -19,6 +22,21 @@ import seedu.address.model.tag.Tag;
  * Parses input arguments and creates a new AddPurchaseCommand object
  */
 public class AddPurchaseCommandParser implements Parser<AddPurchaseCommand> {
+
+    private final Clock clock;
+
+    public AddPurchaseCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an {@code AddPurchaseCommandParser} that dates purchases without a date today, according to
+     * {@code clock}.
+     */
+    public AddPurchaseCommandParser(Clock clock) {
+        this.clock = clock;
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddPurchaseCommand
      * and returns an AddPurchaseCommand object for execution.
@@ -26,7 +44,7 @@ public class AddPurchaseCommandParser implements Parser<AddPurchaseCommand> {
      */
     public AddPurchaseCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PURCHASENAME, PREFIX_PRICE, PREFIX_TAG);
+                ArgumentTokenizer.tokenize(args, PREFIX_PURCHASENAME, PREFIX_PRICE, PREFIX_PURCHASE_DATE, PREFIX_TAG);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_PURCHASENAME, PREFIX_PRICE)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -36,10 +54,13 @@ public class AddPurchaseCommandParser implements Parser<AddPurchaseCommand> {
         PurchaseName name;
         name = ParserUtil.parsePurchaseName(argMultimap.getValue(PREFIX_PURCHASENAME).get());
         Price price = ParserUtil.parsePrice(argMultimap.getValue(PREFIX_PRICE).get());
+        PurchaseDate date = argMultimap.getValue(PREFIX_PURCHASE_DATE).isPresent()
+                ? ParserUtil.parsePurchaseDate(argMultimap.getValue(PREFIX_PURCHASE_DATE).get())
+                : PurchaseDate.today(clock);
 
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
-        Purchase purchase = new Purchase(name, price, tagList);
+        Purchase purchase = new Purchase(name, price, date, tagList);
 
         return new AddPurchaseCommand(purchase);
     }
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.Clock;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.DueTaskCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DueTaskCommand object
+ */
+public class DueTaskCommandParser implements Parser<DueTaskCommand> {
+
+    private final Clock clock;
+
+    public DueTaskCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code DueTaskCommandParser} whose commands tell the time with {@code clock}.
+     */
+    public DueTaskCommandParser(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DueTaskCommand
+     * and returns a DueTaskCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DueTaskCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.equalsIgnoreCase(DueTaskCommand.OVERDUE_KEYWORD)) {
+            return DueTaskCommand.overdue(clock);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueTaskCommand.MESSAGE_USAGE));
+        }
+        return DueTaskCommand.dueWithinHours(Integer.parseInt(trimmedArgs), clock);
+    }
+}
@@ -1,12 +1,22 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearchIndex.Field;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -25,9 +35,41 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        Map<Field, List<String>> fieldKeywords = new EnumMap<>(Field.class);
+        putKeywords(fieldKeywords, Field.NAME, argMultimap.getAllValues(PREFIX_NAME));
+        putKeywords(fieldKeywords, Field.EMAIL, argMultimap.getAllValues(PREFIX_EMAIL));
+        putKeywords(fieldKeywords, Field.ADDRESS, argMultimap.getAllValues(PREFIX_ADDRESS));
+        putKeywords(fieldKeywords, Field.TAG, argMultimap.getAllValues(PREFIX_TAG));
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (fieldKeywords.isEmpty()) {
+            String[] nameKeywords = trimmedArgs.split("\\s+");
+            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
+
+        if (!argMultimap.getPreamble().isEmpty() || fieldKeywords.values().stream().anyMatch(List::isEmpty)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(new PersonContainsKeywordsPredicate(fieldKeywords));
+    }
+
+    /**
+     * Adds the keywords in {@code values} to the keywords of {@code field}, if any values are given for it.
+     */
+    private static void putKeywords(Map<Field, List<String>> fieldKeywords, Field field, List<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<String> keywords = new ArrayList<>();
+        for (String value : values) {
+            String trimmedValue = value.trim();
+            if (!trimmedValue.isEmpty()) {
+                keywords.addAll(Arrays.asList(trimmedValue.split("\\s+")));
+            }
+        }
+        fieldKeywords.put(field, keywords);
     }
 
 }
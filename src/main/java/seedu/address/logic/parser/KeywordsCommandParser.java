@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments made up of one or more keywords, and creates a new command of type {@code T} searching for
+ * them.
+ */
+public class KeywordsCommandParser<T extends Command> implements Parser<T> {
+
+    private final Function<List<String>, T> commandFactory;
+    private final String commandUsage;
+
+    /**
+     * Creates a {@code KeywordsCommandParser} that creates commands with {@code commandFactory}, and shows
+     * {@code commandUsage} when there are no keywords.
+     */
+    public KeywordsCommandParser(Function<List<String>, T> commandFactory, String commandUsage) {
+        requireNonNull(commandFactory);
+        requireNonNull(commandUsage);
+        this.commandFactory = commandFactory;
+        this.commandUsage = commandUsage;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments into keywords and returns a command searching for them.
+     * @throws ParseException if there are no keywords
+     */
+    public T parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, commandUsage));
+        }
+
+        return commandFactory.apply(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+
+}
@@ -1,11 +1,13 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.commands.AddHabitCommand;
 import seedu.address.logic.commands.DeleteHabitCommand;
 import seedu.address.logic.commands.AddCommand;
@@ -15,18 +17,26 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearExpListCommand;
 import seedu.address.logic.commands.DeleteTaskCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DueTaskCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExpListCommand;
 import seedu.address.logic.commands.EditTaskCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindHabitCommand;
+import seedu.address.logic.commands.FindPurchaseCommand;
+import seedu.address.logic.commands.FindTaskCommand;
+import seedu.address.logic.commands.FindWorkoutCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RecordCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.SortTaskCommand;
+import seedu.address.logic.commands.SpendingCommand;
+import seedu.address.logic.commands.SpendingReportCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.TickTaskCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.WorkoutCommand;
@@ -43,6 +53,20 @@ public class LifeParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandMetrics metrics;
+
+    public LifeParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a {@code LifeParser} whose stats commands show {@code metrics}.
+     */
+    public LifeParser(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -84,6 +108,9 @@ public class LifeParser {
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(metrics);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -114,9 +141,18 @@ public class LifeParser {
         case ClearExpListCommand.COMMAND_WORD:
             return new ClearExpListCommand();
 
+        case SpendingCommand.COMMAND_WORD:
+            return new SpendingCommandParser().parse(arguments);
+
+        case SpendingReportCommand.COMMAND_WORD:
+            return new SpendingReportCommandParser().parse(arguments);
+
         case SortTaskCommand.COMMAND_WORD:
             return new SortTaskCommand();
 
+        case DueTaskCommand.COMMAND_WORD:
+            return new DueTaskCommandParser().parse(arguments);
+
         case RecordCommand.COMMAND_WORD:
             return new RecordCommandParser().parse(arguments);
 
@@ -132,6 +168,20 @@ public class LifeParser {
         case WorkoutCommand.COMMAND_WORD:
             return new WorkoutCommand();
 
+        case FindTaskCommand.COMMAND_WORD:
+            return new KeywordsCommandParser<>(FindTaskCommand::new, FindTaskCommand.MESSAGE_USAGE).parse(arguments);
+
+        case FindPurchaseCommand.COMMAND_WORD:
+            return new KeywordsCommandParser<>(FindPurchaseCommand::new, FindPurchaseCommand.MESSAGE_USAGE)
+                    .parse(arguments);
+
+        case FindWorkoutCommand.COMMAND_WORD:
+            return new KeywordsCommandParser<>(FindWorkoutCommand::new, FindWorkoutCommand.MESSAGE_USAGE)
+                    .parse(arguments);
+
+        case FindHabitCommand.COMMAND_WORD:
+            return new KeywordsCommandParser<>(FindHabitCommand::new, FindHabitCommand.MESSAGE_USAGE).parse(arguments);
+
 
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -16,6 +16,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.purchase.Price;
+import seedu.address.model.purchase.PurchaseDate;
 import seedu.address.model.purchase.PurchaseName;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.DeadlineDate;
@@ -228,6 +229,22 @@ public class ParserUtil {
         }
         return new Price(trimmedPrice);
     }
+
+    /**
+     * Parses a {@code String date} into a {@code PurchaseDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static PurchaseDate parsePurchaseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!PurchaseDate.isValidDate(trimmedDate)) {
+            throw new ParseException(PurchaseDate.MESSAGE_CONSTRAINTS);
+        }
+        return new PurchaseDate(trimmedDate);
+    }
+
     /**
      * Parses a {@code String price} into a {@code Price}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.Clock;
+import java.util.Locale;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.SpendingReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.purchase.SpendingPeriod;
+
+/**
+ * Parses input arguments and creates a new SpendingReportCommand object
+ */
+public class SpendingReportCommandParser implements Parser<SpendingReportCommand> {
+
+    private final Clock clock;
+
+    public SpendingReportCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code SpendingReportCommandParser} whose commands tell the date with {@code clock}.
+     */
+    public SpendingReportCommandParser(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SpendingReportCommand
+     * and returns a SpendingReportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SpendingReportCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+");
+        if (words.length != 2 || !isPeriod(words[0]) || !StringUtil.isNonZeroUnsignedInteger(words[1])
+                || Integer.parseInt(words[1]) > SpendingReportCommand.MAX_PERIOD_COUNT) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SpendingReportCommand.MESSAGE_USAGE));
+        }
+
+        SpendingPeriod period = SpendingPeriod.valueOf(words[0].toUpperCase(Locale.ENGLISH));
+        return new SpendingReportCommand(period, Integer.parseInt(words[1]), clock);
+    }
+
+    private static boolean isPeriod(String word) {
+        for (SpendingPeriod period : SpendingPeriod.values()) {
+            if (period.name().equalsIgnoreCase(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,11 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -43,6 +45,14 @@ public class ContactList implements ReadOnlyContactList {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates a ContactList containing the Persons in {@code persons}.
+     */
+    public ContactList(List<Person> persons) {
+        this();
+        setPersons(persons);
+    }
+
     //// list overwrite operations
 
     /**
@@ -73,6 +83,13 @@ public class ContactList implements ReadOnlyContactList {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the persons in the contact list matching {@code predicate}.
+     */
+    public Set<Person> findPersons(PersonContainsKeywordsPredicate predicate) {
+        return persons.find(predicate);
+    }
+
     /**
      * Adds a person to the contact list.
      * The person must not already exist in the contact list.
@@ -105,6 +122,15 @@ public class ContactList implements ReadOnlyContactList {
         indicateModified();
     }
 
+    /**
+     * Replaces the persons from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     * Duplicate checks are skipped, so this must only be used to restore a previously valid state of the contact list.
+     */
+    protected void replacePersons(int fromIndex, int toIndex, List<Person> replacement) {
+        persons.replace(fromIndex, toIndex, replacement);
+        indicateModified();
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
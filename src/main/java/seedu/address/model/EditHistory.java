@@ -0,0 +1,208 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records the edits made to a list between commits, so that committed versions of the list can be undone and redone.
+ * Only the elements touched by each edit are kept, so the cost of a commit and the memory held by the history scale
+ * with the size of each change rather than with the size of the list.
+ * At most {@code maxHistorySize} versions are kept; the oldest version is forgotten once the limit is exceeded.
+ *
+ * @param <T> the type of elements in the list.
+ */
+public class EditHistory<T> {
+
+    public static final int DEFAULT_MAX_HISTORY_SIZE = 100;
+
+    private final ListEditor<T> editor;
+    private final int maxHistorySize;
+
+    /** {@code versions.get(i)} holds the edits that turn version {@code i} of the list into version {@code i + 1}. */
+    private final List<List<ListEdit<T>>> versions = new ArrayList<>();
+    private List<ListEdit<T>> uncommittedEdits = new ArrayList<>();
+    private int currentVersionPointer = 0;
+    /** The number of elements held by the versions and uncommitted edits, which may be read from other threads. */
+    private volatile long elementCount = 0;
+
+    /**
+     * Creates an empty history that restores versions of the list through {@code editor}.
+     */
+    public EditHistory(ListEditor<T> editor, int maxHistorySize) {
+        requireNonNull(editor);
+        if (maxHistorySize < 0) {
+            throw new IllegalArgumentException("History size cannot be negative.");
+        }
+        this.editor = editor;
+        this.maxHistorySize = maxHistorySize;
+    }
+
+    /**
+     * Records that the elements from {@code index} (inclusive) to {@code index + removed.size()} (exclusive) of the
+     * list have been replaced by {@code added}.
+     * The given lists are copied, so later changes to them do not affect the history.
+     * An edit that does not change the list is not recorded.
+     */
+    public void recordEdit(int index, List<? extends T> removed, List<? extends T> added) {
+        if (removed.equals(added)) {
+            return;
+        }
+        uncommittedEdits.add(new ListEdit<>(index, removed, added));
+        elementCount += removed.size() + added.size();
+    }
+
+    /**
+     * Saves the edits recorded since the last commit as a new version of the list.
+     * Undone versions are forgotten.
+     */
+    public void commit() {
+        List<List<ListEdit<T>>> undoneVersions = versions.subList(currentVersionPointer, versions.size());
+        undoneVersions.forEach(version -> elementCount -= countElements(version));
+        undoneVersions.clear();
+        versions.add(uncommittedEdits);
+        uncommittedEdits = new ArrayList<>();
+        currentVersionPointer++;
+
+        if (versions.size() > maxHistorySize) {
+            elementCount -= countElements(versions.remove(0));
+            currentVersionPointer--;
+        }
+    }
+
+    /**
+     * Forgets all versions and uncommitted edits, making the current state of the list the only version.
+     */
+    public void clear() {
+        versions.clear();
+        uncommittedEdits = new ArrayList<>();
+        currentVersionPointer = 0;
+        elementCount = 0;
+    }
+
+    /**
+     * Returns true if there is a previous version of the list to restore.
+     */
+    public boolean canUndo() {
+        return currentVersionPointer > 0;
+    }
+
+    /**
+     * Returns true if there is an undone version of the list to restore.
+     */
+    public boolean canRedo() {
+        return currentVersionPointer < versions.size();
+    }
+
+    /**
+     * Returns the number of versions that can be undone.
+     */
+    public int getUndoDepth() {
+        return currentVersionPointer;
+    }
+
+    /**
+     * Returns the number of undone versions that can be redone.
+     */
+    public int getRedoDepth() {
+        return versions.size() - currentVersionPointer;
+    }
+
+    /**
+     * Returns the number of elements held by the history, which is proportional to the memory it takes up.
+     * Elements that are still in the list are shared with it, so only the references to them take up memory.
+     */
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * Restores the list to its previous version, discarding any uncommitted edits.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No previous version to restore.");
+        }
+        revertUncommittedEdits();
+        currentVersionPointer--;
+        revert(versions.get(currentVersionPointer));
+    }
+
+    /**
+     * Restores the list to its previously undone version, discarding any uncommitted edits.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No undone version to restore.");
+        }
+        revertUncommittedEdits();
+        apply(versions.get(currentVersionPointer));
+        currentVersionPointer++;
+    }
+
+    private void revertUncommittedEdits() {
+        revert(uncommittedEdits);
+        elementCount -= countElements(uncommittedEdits);
+        uncommittedEdits = new ArrayList<>();
+    }
+
+    private static long countElements(List<? extends ListEdit<?>> edits) {
+        long count = 0;
+        for (ListEdit<?> edit : edits) {
+            count += edit.getRemoved().size() + edit.getAdded().size();
+        }
+        return count;
+    }
+
+    private void apply(List<ListEdit<T>> edits) {
+        for (ListEdit<T> edit : edits) {
+            editor.replace(edit.getIndex(), edit.getIndex() + edit.getRemoved().size(), edit.getAdded());
+        }
+    }
+
+    private void revert(List<ListEdit<T>> edits) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            ListEdit<T> edit = edits.get(i);
+            editor.replace(edit.getIndex(), edit.getIndex() + edit.getAdded().size(), edit.getRemoved());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditHistory)) {
+            return false;
+        }
+
+        EditHistory<?> otherEditHistory = (EditHistory<?>) other;
+
+        // state check
+        return versions.equals(otherEditHistory.versions)
+                && uncommittedEdits.equals(otherEditHistory.uncommittedEdits)
+                && currentVersionPointer == otherEditHistory.currentVersionPointer;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(versions, uncommittedEdits, currentVersionPointer);
+    }
+
+    /**
+     * Replaces a range of elements of the list whose history is being recorded.
+     */
+    @FunctionalInterface
+    public interface ListEditor<T> {
+        /**
+         * Replaces the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+         * {@code replacement}.
+         */
+        void replace(int fromIndex, int toIndex, List<T> replacement);
+    }
+}
@@ -2,13 +2,22 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
+import seedu.address.model.purchase.PeriodSpending;
 import seedu.address.model.purchase.Purchase;
 import seedu.address.model.purchase.PurchaseList;
+import seedu.address.model.purchase.PurchaseName;
+import seedu.address.model.purchase.SpendingPeriod;
+import seedu.address.model.purchase.SpendingRollups;
+import seedu.address.model.purchase.SpendingSummary;
+import seedu.address.model.purchase.SpendingTotals;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the expenditure list level
@@ -18,6 +27,8 @@ import seedu.address.model.purchase.PurchaseList;
 public class ExpenditureList implements ReadOnlyExpenditureList {
 
     private final PurchaseList purchases;
+    private final SpendingTotals spendingTotals = new SpendingTotals();
+    private final SpendingRollups spendingRollups = new SpendingRollups();
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
     {
         purchases = new PurchaseList();
@@ -34,6 +45,14 @@ public class ExpenditureList implements ReadOnlyExpenditureList {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an ExpenditureList containing the Purchases in {@code purchases}.
+     */
+    public ExpenditureList(List<Purchase> purchases) {
+        this();
+        setPurchases(purchases);
+    }
+
     //// list overwrite operations
 
     /**
@@ -41,6 +60,9 @@ public class ExpenditureList implements ReadOnlyExpenditureList {
      */
     public void setPurchases(List<Purchase> purchases) {
         this.purchases.setPurchases(purchases);
+        spendingTotals.clear();
+        spendingRollups.clear();
+        purchases.forEach(this::addToTotals);
         indicateModified();
     }
 
@@ -60,6 +82,7 @@ public class ExpenditureList implements ReadOnlyExpenditureList {
      */
     public void addPurchase(Purchase p) {
         purchases.add(p);
+        addToTotals(p);
         indicateModified();
     }
 
@@ -69,9 +92,67 @@ public class ExpenditureList implements ReadOnlyExpenditureList {
      */
     public void removePurchase(Purchase key) {
         purchases.remove(key);
+        removeFromTotals(key);
         indicateModified();
     }
 
+    /**
+     * Replaces the purchases from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}.
+     */
+    protected void replacePurchases(int fromIndex, int toIndex, List<Purchase> replacement) {
+        List<Purchase> replaced = new ArrayList<>(getPurchaseList().subList(fromIndex, toIndex));
+        purchases.replace(fromIndex, toIndex, replacement);
+        replaced.forEach(this::removeFromTotals);
+        replacement.forEach(this::addToTotals);
+        indicateModified();
+    }
+
+    private void addToTotals(Purchase purchase) {
+        spendingTotals.add(purchase);
+        spendingRollups.add(purchase);
+    }
+
+    private void removeFromTotals(Purchase purchase) {
+        spendingTotals.remove(purchase);
+        spendingRollups.remove(purchase);
+    }
+
+    /**
+     * Returns a summary of the spending on the purchases in this {@code ExpenditureList}.
+     * The totals are kept up to date as purchases are added and removed, so this does not go through the purchases.
+     */
+    public SpendingSummary getSpendingSummary() {
+        return spendingTotals.getSummary();
+    }
+
+    /**
+     * Returns a summary of the spending on the purchases in this {@code ExpenditureList} with every one of
+     * {@code requiredTags}. Unless {@code requiredTags} is empty, the prices and tags of every purchase are scanned.
+     */
+    public SpendingSummary getSpendingSummary(Set<Tag> requiredTags) {
+        requireNonNull(requiredTags);
+        return requiredTags.isEmpty() ? getSpendingSummary() : purchases.summarise(requiredTags);
+    }
+
+    /**
+     * Returns the spending in each {@code period} numbered from {@code firstIndex} to {@code lastIndex} (inclusive),
+     * in order. The totals of every period are kept up to date as purchases are added and removed, so this takes time
+     * proportional to the number of periods, not the number of purchases.
+     *
+     * @see SpendingPeriod#indexOf(long)
+     */
+    public List<PeriodSpending> getSpendingPerPeriod(SpendingPeriod period, long firstIndex, long lastIndex) {
+        return spendingRollups.getSpending(period, firstIndex, lastIndex);
+    }
+
+    /**
+     * Returns the name of the purchase at {@code index} in the purchase list, without creating the purchase.
+     */
+    public PurchaseName getPurchaseName(int index) {
+        return purchases.getPurchaseName(index);
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
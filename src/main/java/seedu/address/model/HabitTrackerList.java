@@ -43,6 +43,14 @@ public class HabitTrackerList implements ReadOnlyHabitTrackerList {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates a HabitTrackerList containing the Habits in {@code habits}.
+     */
+    public HabitTrackerList(List<Habit> habits) {
+        this();
+        setHabits(habits);
+    }
+
     //// list overwrite operations
 
     /**
@@ -96,6 +104,14 @@ public class HabitTrackerList implements ReadOnlyHabitTrackerList {
         indicateModified();
     }
 
+    /**
+     * Replaces the habits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     */
+    protected void replaceHabits(int fromIndex, int toIndex, List<Habit> replacement) {
+        habits.replace(fromIndex, toIndex, replacement);
+        indicateModified();
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
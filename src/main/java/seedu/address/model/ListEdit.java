@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A replacement of a contiguous range of elements in a list: the elements {@code removed} from {@code index}
+ * onwards were replaced by the elements {@code added}.
+ * Guarantees: immutable.
+ *
+ * @param <T> the type of elements in the list.
+ */
+public class ListEdit<T> {
+    private final int index;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * The given lists are copied, so later changes to them do not affect the edit.
+     */
+    public ListEdit(int index, List<? extends T> removed, List<? extends T> added) {
+        requireAllNonNull(removed, added);
+        this.index = index;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListEdit // instanceof handles nulls
+                && index == ((ListEdit<?>) other).index
+                && removed.equals(((ListEdit<?>) other).removed)
+                && added.equals(((ListEdit<?>) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "Replace " + removed + " at " + index + " with " + added;
+    }
+}
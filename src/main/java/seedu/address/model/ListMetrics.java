@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts how often the filter of a list in the model is replaced, and reports it together with the size and undo
+ * history of the list.
+ * The counts are updated on the thread that changes the model, and may be read from any thread; the size and history
+ * that are read from other threads may be slightly out of date.
+ */
+public class ListMetrics implements ListMetricsMXBean {
+    private final List<?> list;
+    private final Versioned versioned;
+    private final AtomicLong filterUpdateCount = new AtomicLong();
+    private final AtomicLong filterEvaluationCount = new AtomicLong();
+
+    /**
+     * Creates a {@code ListMetrics} for {@code list}, whose history is kept by {@code versioned}.
+     */
+    public ListMetrics(List<?> list, Versioned versioned) {
+        requireAllNonNull(list, versioned);
+        this.list = list;
+        this.versioned = versioned;
+    }
+
+    /**
+     * Records that the filter of the list has been replaced by a predicate, so every element of the list has been
+     * tested again.
+     */
+    public void recordFilterUpdate() {
+        recordFilterUpdate(list.size());
+    }
+
+    /**
+     * Records that the filter of the list has been replaced after testing {@code evaluationCount} elements, e.g. none
+     * when the list is filtered to elements found in a search index.
+     */
+    public void recordFilterUpdate(long evaluationCount) {
+        filterUpdateCount.incrementAndGet();
+        filterEvaluationCount.addAndGet(evaluationCount);
+    }
+
+    @Override
+    public int getSize() {
+        return list.size();
+    }
+
+    @Override
+    public int getUndoDepth() {
+        return versioned.getUndoDepth();
+    }
+
+    @Override
+    public int getRedoDepth() {
+        return versioned.getRedoDepth();
+    }
+
+    @Override
+    public long getHistoryElementCount() {
+        return versioned.getHistoryElementCount();
+    }
+
+    @Override
+    public long getFilterUpdateCount() {
+        return filterUpdateCount.get();
+    }
+
+    @Override
+    public long getFilterEvaluationCount() {
+        return filterEvaluationCount.get();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model;
+
+/**
+ * Reports the size, undo history and filtering of one of the lists in the model, e.g. to JConsole.
+ */
+public interface ListMetricsMXBean {
+
+    /** Returns the number of elements in the list. */
+    int getSize();
+
+    /** Returns the number of states of the list that can be undone. */
+    int getUndoDepth();
+
+    /** Returns the number of undone states of the list that can be redone. */
+    int getRedoDepth();
+
+    /**
+     * Returns the number of elements held to undo and redo states, which the memory taken by the history scales with.
+     */
+    long getHistoryElementCount();
+
+    /** Returns the number of times the filter shown to the user has been replaced. */
+    long getFilterUpdateCount();
+
+    /**
+     * Returns the number of elements that have been tested against a predicate when the filter shown to the user was
+     * replaced. Showing elements found in a search index tests none.
+     */
+    long getFilterEvaluationCount();
+}
@@ -2,6 +2,10 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -9,7 +13,12 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.habit.Habit;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.purchase.PeriodSpending;
 import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.SpendingPeriod;
+import seedu.address.model.purchase.SpendingSummary;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
 import seedu.address.model.workout.Workout;
 
@@ -80,6 +89,11 @@ public interface Model {
 
     void addTask(Task task);
 
+    /**
+     * Replaces task list data with the data in {@code taskList}.
+     */
+    void setTaskList(ReadOnlyTaskList taskList);
+
     void addTickedTaskList(Task task);
 
     boolean hasTask(Task task);
@@ -91,6 +105,12 @@ public interface Model {
     void commitTaskList();
 
     void commitTickedTaskList();
+
+    /**
+     * Saves the current states of the task list and the ticked task list for undo/redo, as one state that is undone
+     * and redone together.
+     */
+    void commitTaskAndTickedTaskLists();
     /**
      * Adds the given person.
      * {@code person} must not already exist in the contact list.
@@ -104,6 +124,11 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons in the contact list matching {@code predicate}, found without testing every person.
+     */
+    Set<Person> findPersons(PersonContainsKeywordsPredicate predicate);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -113,7 +138,32 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show only {@code persons}, e.g. persons found through an
+     * index, without testing every person.
+     * @throws NullPointerException if {@code persons} is null.
+     */
+    void updateFilteredPersonList(Collection<? extends Person> persons);
+
+    /**
+     * Returns the filter of the filtered person list, e.g. to restore it after showing other persons.
+     */
+    Predicate<? super Person> getFilteredPersonListPredicate();
+
     void updateFilteredTaskList(Predicate<Task> predicate);
+
+    /**
+     * Updates the filter of the filtered task list to show only {@code tasks}, e.g. tasks found through an index,
+     * without testing every task.
+     * @throws NullPointerException if {@code tasks} is null.
+     */
+    void updateFilteredTaskList(Collection<? extends Task> tasks);
+
+    /**
+     * Returns the filter of the filtered task list, e.g. to restore it after showing other tasks.
+     */
+    Predicate<? super Task> getFilteredTaskListPredicate();
+
     /**
      * Updates the filter of the filtered ticked task list by the given {@code predicate}.
      * @throws NullPointerException IF {@code predicate} is null;
@@ -145,6 +195,31 @@ public interface Model {
      */
     void commitContactList();
 
+    /**
+     * Returns true if the model has a previous state of the most recently committed list to restore.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if the model has an undone state of the most recently undone list to restore.
+     */
+    boolean canRedo();
+
+    /**
+     * Restores the most recently committed list in the model to its previous state.
+     */
+    void undo();
+
+    /**
+     * Restores the most recently undone list in the model to its previously undone state.
+     */
+    void redo();
+
+    /**
+     * Forgets all states saved for undo and redo, making the current data the only state.
+     */
+    void clearHistory();
+
     /**
      * Selected person in the filtered person list.
      * null if no person is selected.
@@ -164,6 +239,32 @@ public interface Model {
 
     public ObservableList<Task> getFilteredTaskList();
 
+    /**
+     * Returns an unmodifiable view of all tasks, ordered from the earliest deadline.
+     * The view stays in order as tasks change.
+     */
+    ObservableList<Task> getTaskListByDeadline();
+
+    /**
+     * Returns the tasks due from {@code fromEpochMinutes} (inclusive) to {@code toEpochMinutes} (exclusive), earliest
+     * first. Takes time proportional to the log of the number of tasks plus the number of tasks returned.
+     *
+     * @see Task#getDeadlineEpochMinutes()
+     */
+    List<Task> getTasksDueBetween(long fromEpochMinutes, long toEpochMinutes);
+
+    /**
+     * Returns the first task due at or after {@code fromEpochMinutes}, or {@code Optional.empty()} if there is none.
+     */
+    Optional<Task> getNextTaskDue(long fromEpochMinutes);
+
+    /**
+     * Returns the tasks whose names match any of {@code keywords}, found without testing every task.
+     *
+     * @see seedu.address.model.search.SearchKeyword
+     */
+    Set<Task> findTasks(List<String> keywords);
+
     public ObservableList<Task> getFilteredTickedTaskList();
 
     public ReadOnlyProperty<Task> selectedTaskProperty();
@@ -201,6 +302,40 @@ public interface Model {
      */
     void updateFilteredPurchaseList(Predicate<Purchase> predicate);
 
+    /**
+     * Updates the filter of the filtered purchase list to show only {@code purchases}, e.g. purchases found through
+     * an index, without testing every purchase.
+     * @throws NullPointerException if {@code purchases} is null.
+     */
+    void updateFilteredPurchaseList(Collection<? extends Purchase> purchases);
+
+    /**
+     * Returns the filter of the filtered purchase list, e.g. to restore it after showing other purchases.
+     */
+    Predicate<? super Purchase> getFilteredPurchaseListPredicate();
+
+    /**
+     * Returns the purchases whose names match any of {@code keywords}, found without testing every purchase.
+     *
+     * @see seedu.address.model.search.SearchKeyword
+     */
+    Set<Purchase> findPurchases(List<String> keywords);
+
+    /**
+     * Returns a summary of the spending on the purchases in the expenditure list with every one of
+     * {@code requiredTags}. The summary of every purchase, for empty {@code requiredTags}, is kept up to date as
+     * purchases are added and removed.
+     */
+    SpendingSummary getSpendingSummary(Set<Tag> requiredTags);
+
+    /**
+     * Returns the spending in each {@code period} numbered from {@code firstIndex} to {@code lastIndex} (inclusive),
+     * in order. The totals of every day, week and month are kept up to date as purchases are added and removed.
+     *
+     * @see SpendingPeriod#indexOf(long)
+     */
+    List<PeriodSpending> getSpendingPerPeriod(SpendingPeriod period, long firstIndex, long lastIndex);
+
 
     /**
      * Saves the current expenditure list state for undo/redo.
@@ -234,6 +369,9 @@ public interface Model {
      */
     void setExpenditureListFilePath(Path expenditureListFilePath);
 
+    /** {@code Predicate} that always evaluate to true */
+    Predicate<Workout> PREDICATE_SHOW_ALL_WORKOUTS = unused -> true;
+
     void addWorkout(Workout workout);
 
     void commitWorkoutBook();
@@ -249,6 +387,25 @@ public interface Model {
 
     void updateFilteredWorkoutList(Predicate<Workout> predicate);
 
+    /**
+     * Updates the filter of the filtered workout list to show only {@code workouts}, e.g. workouts found through an
+     * index, without testing every workout.
+     * @throws NullPointerException if {@code workouts} is null.
+     */
+    void updateFilteredWorkoutList(Collection<? extends Workout> workouts);
+
+    /**
+     * Returns the filter of the filtered workout list, e.g. to restore it after showing other workouts.
+     */
+    Predicate<? super Workout> getFilteredWorkoutListPredicate();
+
+    /**
+     * Returns the workouts whose exercises match any of {@code keywords}, found without testing every workout.
+     *
+     * @see seedu.address.model.search.SearchKeyword
+     */
+    Set<Workout> findWorkouts(List<String> keywords);
+
     void setWorkoutBook(ReadOnlyWorkoutBook workoutBook);
 
     ArrayList<Workout> getRecent();
@@ -278,6 +435,25 @@ public interface Model {
      */
     void updateFilteredHabitList(Predicate<Habit> predicate);
 
+    /**
+     * Updates the filter of the filtered habit list to show only {@code habits}, e.g. habits found through an index,
+     * without testing every habit.
+     * @throws NullPointerException if {@code habits} is null.
+     */
+    void updateFilteredHabitList(Collection<? extends Habit> habits);
+
+    /**
+     * Returns the filter of the filtered habit list, e.g. to restore it after showing other habits.
+     */
+    Predicate<? super Habit> getFilteredHabitListPredicate();
+
+    /**
+     * Returns the habits whose titles match any of {@code keywords}, found without testing every habit.
+     *
+     * @see seedu.address.model.search.SearchKeyword
+     */
+    Set<Habit> findHabits(List<String> keywords);
+
 
     /**
      * Saves the current habit tracker list state for undo/redo.
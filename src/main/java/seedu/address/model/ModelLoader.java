@@ -0,0 +1,150 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Fills a {@code Model} with data that is being read in the background.
+ * Each piece of data is set in the model through {@code applyExecutor} as soon as it has been read, so that it can be
+ * shown without waiting for the rest. Once all data is in the model, the model's undo history is cleared so that
+ * loading cannot be undone.
+ * <p>
+ * All data is passed to {@link #load(CompletableFuture, Consumer)} before {@link #start()} is called, so that the
+ * loader cannot finish while some data has yet to be passed to it.
+ */
+public class ModelLoader {
+    private static final Logger logger = LogsCenter.getLogger(ModelLoader.class);
+
+    private final Model model;
+    private final Executor applyExecutor;
+    private final List<PendingData<?>> pendingData = new ArrayList<>();
+    private boolean isStarted = false;
+    private boolean isLoaded = true;
+
+    /**
+     * Creates a {@code ModelLoader} that sets data in {@code model} on {@code applyExecutor}.
+     */
+    public ModelLoader(Model model, Executor applyExecutor) {
+        requireNonNull(model);
+        requireNonNull(applyExecutor);
+        this.model = model;
+        this.applyExecutor = applyExecutor;
+    }
+
+    /**
+     * Sets the result of {@code data} in the model through {@code setter} once it has been read.
+     *
+     * @throws IllegalStateException if the loader has been started.
+     */
+    public synchronized <T> void load(CompletableFuture<? extends T> data, Consumer<? super T> setter) {
+        requireNonNull(data);
+        requireNonNull(setter);
+        if (isStarted) {
+            throw new IllegalStateException("Data cannot be loaded after the loader has been started.");
+        }
+        isLoaded = false;
+        pendingData.add(new PendingData<>(data, setter));
+        data.whenComplete((result, error) -> applyExecutor.execute(this::applyReadData));
+    }
+
+    /**
+     * Finishes loading through {@code applyExecutor} once all data passed to
+     * {@link #load(CompletableFuture, Consumer)} has been read.
+     */
+    public void start() {
+        CompletableFuture.allOf(startLoading()).whenComplete((result, error) ->
+                applyExecutor.execute(this::finishLoading));
+    }
+
+    /**
+     * Returns true if all data has been set in the model.
+     */
+    public synchronized boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Waits until all data has been read, then sets any data that has not been set yet in the model on the calling
+     * thread. Does nothing if all data has already been set.
+     * The loader is started if it has not been started yet.
+     */
+    public void awaitLoaded() {
+        CompletableFuture<?>[] futures = startLoading();
+        if (isLoaded()) {
+            return;
+        }
+
+        logger.info("Waiting for data to finish loading.");
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException ce) {
+            // reported when the failed data is applied
+        }
+        finishLoading();
+    }
+
+    /**
+     * Marks the loader as started, and returns the data that is being read.
+     */
+    private synchronized CompletableFuture<?>[] startLoading() {
+        isStarted = true;
+        return pendingData.stream().map(data -> data.future).toArray(CompletableFuture<?>[]::new);
+    }
+
+    /**
+     * Sets all data that has been read but not set yet in the model.
+     */
+    private synchronized void applyReadData() {
+        pendingData.removeIf(PendingData::applyIfRead);
+    }
+
+    /**
+     * Sets the remaining data in the model once all data has been read, and clears the model's undo history.
+     */
+    private synchronized void finishLoading() {
+        if (isLoaded) {
+            return;
+        }
+        applyReadData();
+        assert pendingData.isEmpty() : "All data should have been read";
+        model.clearHistory();
+        isLoaded = true;
+        logger.info("All data loaded.");
+    }
+    /**
+     * Data that is being read, and where to set it once it has been read.
+     */
+    private static class PendingData<T> {
+        private final CompletableFuture<? extends T> future;
+        private final Consumer<? super T> setter;
+
+        PendingData(CompletableFuture<? extends T> future, Consumer<? super T> setter) {
+            this.future = future;
+            this.setter = setter;
+        }
+
+        /**
+         * Sets the data if it has been read. Returns true if the data no longer needs to be set.
+         */
+        boolean applyIfRead() {
+            if (!future.isDone()) {
+                return false;
+            }
+            try {
+                setter.accept(future.join());
+            } catch (CompletionException ce) {
+                logger.warning("Failed to load data, it will be left empty: " + ce.getCause());
+            }
+            return true;
+        }
+    }
+}
@@ -4,11 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -19,12 +25,22 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsRegistry;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.habit.Habit;
 import seedu.address.model.habit.exceptions.HabitNotFoundException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.purchase.PeriodSpending;
 import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.PurchaseName;
+import seedu.address.model.purchase.SpendingPeriod;
+import seedu.address.model.purchase.SpendingSummary;
 import seedu.address.model.purchase.exceptions.PurchaseNotFoundException;
+import seedu.address.model.search.IndexedFilteredList;
+import seedu.address.model.search.ListSearchIndex;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
 import seedu.address.model.workout.Workout;
 
@@ -32,6 +48,8 @@ import seedu.address.model.workout.Workout;
  * Represents the in-memory model of the LIFE application data.
  */
 public class ModelManager implements Model {
+    public static final String LIST_METRICS_TYPE = "List";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedContactList versionedContactList;
@@ -41,18 +59,36 @@ public class ModelManager implements Model {
     private final VersionedTaskList versionedTaskList;
     private final VersionedTaskList versionedTickedTaskList;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Task> filteredTasks;
+    private final IndexedFilteredList<Person> filteredPersons;
+    private final IndexedFilteredList<Task> filteredTasks;
     private final FilteredList<Task> filteredTickTasks;
-    private final FilteredList<Purchase> filteredPurchases;
-    private final FilteredList<Workout> filteredWorkout;
-    private final FilteredList<Habit> filteredHabit;
+    private final IndexedFilteredList<Purchase> filteredPurchases;
+    private final IndexedFilteredList<Workout> filteredWorkout;
+    private final IndexedFilteredList<Habit> filteredHabit;
+    private final ListSearchIndex<Task, Task> taskSearchIndex;
+    private final ListSearchIndex<Purchase, PurchaseName> purchaseSearchIndex;
+    private final ListSearchIndex<Workout, Workout> workoutSearchIndex;
+    private final ListSearchIndex<Habit, Habit> habitSearchIndex;
+    private final ListMetrics contactListMetrics;
+    private final ListMetrics taskListMetrics;
+    private final ListMetrics tickedTaskListMetrics;
+    private final ListMetrics expenditureListMetrics;
+    private final ListMetrics workoutBookMetrics;
+    private final ListMetrics habitTrackerListMetrics;
     private final SimpleObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Task> selectedTask = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Purchase> selectedPurchase = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Workout> selectedWorkout = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Habit> selectedHabit = new SimpleObjectProperty<>();
 
+    /**
+     * The lists committed by each command, in the order they were committed, most recent first. The lists committed
+     * by one command are undone and redone together.
+     */
+    private final Deque<List<Versioned>> committedLists = new ArrayDeque<>();
+    /** The lists committed by each command, in the order they were undone, most recent first. */
+    private final Deque<List<Versioned>> undoneLists = new ArrayDeque<>();
+
     /**
      * Initializes a ModelManager with the given lifeApp and userPrefs.
      */
@@ -62,7 +98,7 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(contactList, userPrefs, taskList, expenditureList, workoutBook, habitTrackerList);
 
-        logger.fine("Initializing with contact list: " + contactList + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with contact list: " + contactList + " and user prefs " + userPrefs);
         versionedTaskList = new VersionedTaskList(taskList);
         versionedContactList = new VersionedContactList(contactList);
         versionedExpenditureList = new VersionedExpenditureList(expenditureList);
@@ -71,15 +107,34 @@ public class ModelManager implements Model {
         versionedTickedTaskList = new VersionedTaskList(new TaskList());
 
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(versionedContactList.getPersonList());
+        filteredPersons = new IndexedFilteredList<>(versionedContactList.getPersonList());
         filteredPersons.addListener(this::ensureSelectedPersonIsValid);
-        filteredTasks = new FilteredList<>(versionedTaskList.getTaskList());
+        filteredTasks = new IndexedFilteredList<>(versionedTaskList.getTaskList());
         filteredTickTasks = new FilteredList<>(versionedTickedTaskList.getTaskList());
-        filteredWorkout = new FilteredList<>(versionedWorkoutBook.getWorkoutList());
-        filteredPurchases = new FilteredList<>(versionedExpenditureList.getPurchaseList());
+        filteredWorkout = new IndexedFilteredList<>(versionedWorkoutBook.getWorkoutList());
+        // Purchases are created as they are read from the list, so they are found by name rather than kept.
+        filteredPurchases = new IndexedFilteredList<>(versionedExpenditureList.getPurchaseList(),
+                Purchase::getPurchaseName, versionedExpenditureList::getPurchaseName);
         filteredPurchases.addListener(this::ensureSelectedPurchaseIsValid);
-        filteredHabit = new FilteredList<>(versionedHabitTrackerList.getHabitList());
+        filteredHabit = new IndexedFilteredList<>(versionedHabitTrackerList.getHabitList());
         filteredHabit.addListener(this::ensureSelectedHabitIsValid);
+
+        taskSearchIndex = ListSearchIndex.of(versionedTaskList.getTaskList(), task -> task.getTaskName().fullName);
+        purchaseSearchIndex = new ListSearchIndex<>(versionedExpenditureList.getPurchaseList(),
+                Purchase::getPurchaseName, name -> name.fullName);
+        workoutSearchIndex = ListSearchIndex.of(versionedWorkoutBook.getWorkoutList(),
+                workout -> workout.getExercise().exerciseName);
+        habitSearchIndex = ListSearchIndex.of(versionedHabitTrackerList.getHabitList(),
+                habit -> habit.getHabitTitle().fullName);
+
+        contactListMetrics = new ListMetrics(versionedContactList.getPersonList(), versionedContactList);
+        taskListMetrics = new ListMetrics(versionedTaskList.getTaskList(), versionedTaskList);
+        tickedTaskListMetrics = new ListMetrics(versionedTickedTaskList.getTaskList(), versionedTickedTaskList);
+        expenditureListMetrics = new ListMetrics(versionedExpenditureList.getPurchaseList(),
+                versionedExpenditureList);
+        workoutBookMetrics = new ListMetrics(versionedWorkoutBook.getWorkoutList(), versionedWorkoutBook);
+        habitTrackerListMetrics = new ListMetrics(versionedHabitTrackerList.getHabitList(),
+                versionedHabitTrackerList);
     }
 
     public ModelManager() {
@@ -87,6 +142,19 @@ public class ModelManager implements Model {
                 new HabitTrackerList());
     }
 
+    /**
+     * Registers the metrics of every list in the model with {@code registry}, so they can be read e.g. with JConsole.
+     */
+    public void registerMetrics(MetricsRegistry registry) {
+        requireNonNull(registry);
+        registry.register(LIST_METRICS_TYPE, "ContactList", contactListMetrics);
+        registry.register(LIST_METRICS_TYPE, "TaskList", taskListMetrics);
+        registry.register(LIST_METRICS_TYPE, "TickedTaskList", tickedTaskListMetrics);
+        registry.register(LIST_METRICS_TYPE, "ExpenditureList", expenditureListMetrics);
+        registry.register(LIST_METRICS_TYPE, "WorkoutBook", workoutBookMetrics);
+        registry.register(LIST_METRICS_TYPE, "HabitTrackerList", habitTrackerListMetrics);
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -168,6 +236,12 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
         versionedContactList.setPerson(target, editedPerson);
     }
+
+    @Override
+    public Set<Person> findPersons(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return versionedContactList.findPersons(predicate);
+    }
     //=========== task List ================================================================================
 
     @Override
@@ -229,6 +303,11 @@ public class ModelManager implements Model {
         versionedExpenditureList.resetData(expenditureList);
     }
 
+    @Override
+    public void setTaskList(ReadOnlyTaskList taskList) {
+        versionedTaskList.resetData(taskList);
+    }
+
     @Override
     public ReadOnlyExpenditureList getExpenditureList() {
         return versionedExpenditureList;
@@ -250,6 +329,36 @@ public class ModelManager implements Model {
     public void updateFilteredPurchaseList(Predicate<Purchase> predicate) {
         requireNonNull(predicate);
         filteredPurchases.setPredicate(predicate);
+        expenditureListMetrics.recordFilterUpdate();
+    }
+
+    @Override
+    public void updateFilteredPurchaseList(Collection<? extends Purchase> purchases) {
+        requireNonNull(purchases);
+        filteredPurchases.setElements(purchases);
+        expenditureListMetrics.recordFilterUpdate(0);
+    }
+
+    @Override
+    public Predicate<? super Purchase> getFilteredPurchaseListPredicate() {
+        return filteredPurchases.getPredicate();
+    }
+
+    @Override
+    public Set<Purchase> findPurchases(List<String> keywords) {
+        requireNonNull(keywords);
+        return new HashSet<>(filteredPurchases.getSourceElements(purchaseSearchIndex.find(keywords)));
+    }
+
+    @Override
+    public SpendingSummary getSpendingSummary(Set<Tag> requiredTags) {
+        return versionedExpenditureList.getSpendingSummary(requiredTags);
+    }
+
+    @Override
+    public List<PeriodSpending> getSpendingPerPeriod(SpendingPeriod period, long firstIndex, long lastIndex) {
+        requireNonNull(period);
+        return versionedExpenditureList.getSpendingPerPeriod(period, firstIndex, lastIndex);
     }
 
     //===========Habit Tracker List===========================================================================
@@ -282,7 +391,26 @@ public class ModelManager implements Model {
 
         requireAllNonNull(predicate);
         filteredHabit.setPredicate(predicate);
+        habitTrackerListMetrics.recordFilterUpdate();
+
+    }
+
+    @Override
+    public void updateFilteredHabitList(Collection<? extends Habit> habits) {
+        requireNonNull(habits);
+        filteredHabit.setElements(habits);
+        habitTrackerListMetrics.recordFilterUpdate(0);
+    }
 
+    @Override
+    public Predicate<? super Habit> getFilteredHabitListPredicate() {
+        return filteredHabit.getPredicate();
+    }
+
+    @Override
+    public Set<Habit> findHabits(List<String> keywords) {
+        requireNonNull(keywords);
+        return habitSearchIndex.find(keywords);
     }
 
 
@@ -305,7 +433,20 @@ public class ModelManager implements Model {
 
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        contactListMetrics.recordFilterUpdate();
+
+    }
 
+    @Override
+    public void updateFilteredPersonList(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        filteredPersons.setElements(persons);
+        contactListMetrics.recordFilterUpdate(0);
+    }
+
+    @Override
+    public Predicate<? super Person> getFilteredPersonListPredicate() {
+        return filteredPersons.getPredicate();
     }
 
     //=========== Filtered task List Accessors =============================================================
@@ -316,6 +457,27 @@ public class ModelManager implements Model {
         return filteredTasks;
     }
 
+    @Override
+    public ObservableList<Task> getTaskListByDeadline() {
+        return versionedTaskList.getTaskListByDeadline();
+    }
+
+    @Override
+    public List<Task> getTasksDueBetween(long fromEpochMinutes, long toEpochMinutes) {
+        return versionedTaskList.getTasksDueBetween(fromEpochMinutes, toEpochMinutes);
+    }
+
+    @Override
+    public Optional<Task> getNextTaskDue(long fromEpochMinutes) {
+        return versionedTaskList.getNextTaskDue(fromEpochMinutes);
+    }
+
+    @Override
+    public Set<Task> findTasks(List<String> keywords) {
+        requireNonNull(keywords);
+        return taskSearchIndex.find(keywords);
+    }
+
     @Override
     public ObservableList<Task> getFilteredTickedTaskList() {
 
@@ -327,7 +489,20 @@ public class ModelManager implements Model {
 
         requireNonNull(predicate);
         filteredTasks.setPredicate(predicate);
+        taskListMetrics.recordFilterUpdate();
+
+    }
+
+    @Override
+    public void updateFilteredTaskList(Collection<? extends Task> tasks) {
+        requireNonNull(tasks);
+        filteredTasks.setElements(tasks);
+        taskListMetrics.recordFilterUpdate(0);
+    }
 
+    @Override
+    public Predicate<? super Task> getFilteredTaskListPredicate() {
+        return filteredTasks.getPredicate();
     }
 
     @Override
@@ -335,6 +510,7 @@ public class ModelManager implements Model {
 
         requireNonNull(predicate);
         filteredTickTasks.setPredicate(predicate);
+        tickedTaskListMetrics.recordFilterUpdate();
 
     }
 
@@ -343,7 +519,7 @@ public class ModelManager implements Model {
     @Override
     public void commitExpenditureList() {
 
-        versionedExpenditureList.commit();
+        commit(versionedExpenditureList);
     }
 
     @Override
@@ -376,7 +552,7 @@ public class ModelManager implements Model {
     @Override
     public void commitHabitTrackerList() {
 
-        versionedHabitTrackerList.commit();
+        commit(versionedHabitTrackerList);
 
     }
 
@@ -429,27 +605,103 @@ public class ModelManager implements Model {
 
     @Override
     public void undoContactList() {
-        versionedContactList.undo();
+        undo(Collections.singletonList(versionedContactList));
     }
 
     @Override
     public void redoContactList() {
-        versionedContactList.redo();
+        redo(Collections.singletonList(versionedContactList));
+    }
+
+    @Override
+    public boolean canUndo() {
+        return !committedLists.isEmpty() && committedLists.peek().stream().allMatch(Versioned::canUndo);
+    }
+
+    @Override
+    public boolean canRedo() {
+        return !undoneLists.isEmpty() && undoneLists.peek().stream().allMatch(Versioned::canRedo);
+    }
+
+    @Override
+    public void undo() {
+        undo(committedLists.peek());
+    }
+
+    @Override
+    public void redo() {
+        redo(undoneLists.peek());
+    }
+
+    @Override
+    public void clearHistory() {
+        versionedContactList.clearHistory();
+        versionedTaskList.clearHistory();
+        versionedTickedTaskList.clearHistory();
+        versionedExpenditureList.clearHistory();
+        versionedHabitTrackerList.clearHistory();
+        versionedWorkoutBook.clearHistory();
+        committedLists.clear();
+        undoneLists.clear();
+    }
+
+    /**
+     * Commits the current states of {@code lists} and remembers them as the most recently committed lists, to be
+     * undone and redone together.
+     */
+    private void commit(Versioned... lists) {
+        for (Versioned list : lists) {
+            list.commit();
+        }
+        committedLists.push(Arrays.asList(lists));
+        undoneLists.clear();
+        if (committedLists.size() > EditHistory.DEFAULT_MAX_HISTORY_SIZE) {
+            committedLists.removeLast();
+        }
+    }
+
+    /**
+     * Restores {@code lists} to their previous states, in the reverse of the order they were committed in, and
+     * remembers them as the most recently undone lists.
+     */
+    private void undo(List<Versioned> lists) {
+        requireNonNull(lists);
+        for (int i = lists.size() - 1; i >= 0; i--) {
+            lists.get(i).undo();
+        }
+        committedLists.removeFirstOccurrence(lists);
+        undoneLists.push(lists);
+    }
+
+    /**
+     * Restores {@code lists} to their previously undone states and remembers them as the most recently committed
+     * lists.
+     */
+    private void redo(List<Versioned> lists) {
+        requireNonNull(lists);
+        lists.forEach(Versioned::redo);
+        undoneLists.removeFirstOccurrence(lists);
+        committedLists.push(lists);
     }
 
     @Override
     public void commitContactList() {
-        versionedContactList.commit();
+        commit(versionedContactList);
     }
 
     @Override
     public void commitTaskList() {
-        versionedTaskList.commit();
+        commit(versionedTaskList);
     }
 
     @Override
     public void commitTickedTaskList() {
-        versionedTickedTaskList.commit();
+        commit(versionedTickedTaskList);
+    }
+
+    @Override
+    public void commitTaskAndTickedTaskLists() {
+        commit(versionedTickedTaskList, versionedTaskList);
     }
 
     //=========== Selected ===========================================================================
@@ -602,10 +854,30 @@ public class ModelManager implements Model {
     public void updateFilteredWorkoutList(Predicate<Workout> predicate) {
         requireNonNull(predicate);
         filteredWorkout.setPredicate(predicate);
+        workoutBookMetrics.recordFilterUpdate();
     }
+
+    @Override
+    public void updateFilteredWorkoutList(Collection<? extends Workout> workouts) {
+        requireNonNull(workouts);
+        filteredWorkout.setElements(workouts);
+        workoutBookMetrics.recordFilterUpdate(0);
+    }
+
+    @Override
+    public Predicate<? super Workout> getFilteredWorkoutListPredicate() {
+        return filteredWorkout.getPredicate();
+    }
+
+    @Override
+    public Set<Workout> findWorkouts(List<String> keywords) {
+        requireNonNull(keywords);
+        return workoutSearchIndex.find(keywords);
+    }
+
     @Override
     public void commitWorkoutBook() {
-        versionedWorkoutBook.commit();
+        commit(versionedWorkoutBook);
     }
 
     @Override
@@ -648,32 +920,20 @@ public class ModelManager implements Model {
     /**
      * Checks for the validity of the input time string
      * @return a boolean indicating the validity
+     * @see DateTimeUtil#isValidTime(String)
      **/
     public static boolean isValidTime(String string) {
-        DateFormat format = new SimpleDateFormat("HHmm");
-        format.setLenient(false);
-        try {
-            format.parse(string);
-        } catch (ParseException e) {
-            return false;
-        }
-        return true;
+        return DateTimeUtil.isValidTime(string);
     }
 
     /**
      * Checks for the valid date
      * @param date an input string containing the date
      * @return a boolean indicating the validity of the input date string
+     * @see DateTimeUtil#isValidDate(String)
      */
     public static boolean isValidDate(String date) {
-        DateFormat format = new SimpleDateFormat("ddMMyy");
-        format.setLenient(false);
-        try {
-            format.parse(date);
-        } catch (ParseException e) {
-            return false;
-        }
-        return true;
+        return DateTimeUtil.isValidDate(date);
     }
 
 }
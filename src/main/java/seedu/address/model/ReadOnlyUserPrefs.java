@@ -22,4 +22,19 @@ public interface ReadOnlyUserPrefs {
     Path getWorkoutBookFilePath();
 
     Path getHabitTrackerListFilePath();
+
+    /**
+     * Returns true if data files should be saved without indentation and line breaks.
+     */
+    boolean isCompactDataFiles();
+
+    /**
+     * Returns true if the previous version of a data file should be kept as a backup when it is saved.
+     */
+    boolean isBackupDataFiles();
+
+    /**
+     * Returns true if changes to data files should be appended to journals instead of rewriting the whole files.
+     */
+    boolean isJournalDataFiles();
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
@@ -28,6 +29,14 @@ public class TaskList implements seedu.address.model.ReadOnlyTaskList {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates a TaskList containing the Tasks in {@code tasks}.
+     */
+    public TaskList(List<Task> tasks) {
+        this();
+        setTasks(tasks);
+    }
+
     {
         tasks = new UniqueTaskList();
     }
@@ -102,6 +111,13 @@ public class TaskList implements seedu.address.model.ReadOnlyTaskList {
         indicateModified();
     }
 
+    /**
+     * Returns the position of {@code task} in the task list, or -1 if it is not in the task list.
+     */
+    protected int indexOfTask(Task task) {
+        return tasks.indexOf(task);
+    }
+
     /**
      * sorts the task list
      */
@@ -110,6 +126,15 @@ public class TaskList implements seedu.address.model.ReadOnlyTaskList {
         indicateModified();
     }
 
+    /**
+     * Replaces the tasks from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     * Duplicate checks are skipped, so this must only be used to restore a previously valid state of the task list.
+     */
+    protected void replaceTasks(int fromIndex, int toIndex, List<Task> replacement) {
+        tasks.replace(fromIndex, toIndex, replacement);
+        indicateModified();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this || (other instanceof TaskList)
@@ -126,6 +151,28 @@ public class TaskList implements seedu.address.model.ReadOnlyTaskList {
         return tasks.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the tasks ordered from the earliest deadline, kept in order as tasks are added, edited and removed.
+     */
+    public ObservableList<Task> getTaskListByDeadline() {
+        return tasks.asDeadlineOrderedList();
+    }
+
+    /**
+     * Returns the tasks due from {@code fromEpochMinutes} (inclusive) to {@code toEpochMinutes} (exclusive), earliest
+     * first.
+     */
+    public List<Task> getTasksDueBetween(long fromEpochMinutes, long toEpochMinutes) {
+        return tasks.getTasksDueBetween(fromEpochMinutes, toEpochMinutes);
+    }
+
+    /**
+     * Returns the first task due at or after {@code fromEpochMinutes}, if any.
+     */
+    public Optional<Task> getNextTaskDue(long fromEpochMinutes) {
+        return tasks.getNextTaskDue(fromEpochMinutes);
+    }
+
     @Override
     public int hashCode() {
         return tasks.hashCode();
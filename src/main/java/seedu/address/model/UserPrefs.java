@@ -20,6 +20,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path expenditureListFilePath = Paths.get("data" , "expenditurelist.json");
     private Path workoutBookFilePath = Paths.get("data" , "workoutbook.json");
     private Path habitTrackerListFilePath = Paths.get("data", "habittrackerlist.json");
+    private boolean compactDataFiles = false;
+    private boolean backupDataFiles = false;
+    private boolean journalDataFiles = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -46,6 +49,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setExpenditureListFilePath(newUserPrefs.getExpenditureListFilePath());
         setWorkoutBookFilePath(newUserPrefs.getWorkoutBookFilePath());
         setHabitTrackerListFilePath(newUserPrefs.getHabitTrackerListFilePath());
+        setCompactDataFiles(newUserPrefs.isCompactDataFiles());
+        setBackupDataFiles(newUserPrefs.isBackupDataFiles());
+        setJournalDataFiles(newUserPrefs.isJournalDataFiles());
     }
 
     public GuiSettings getGuiSettings() {
@@ -115,6 +121,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     }
 
+    public boolean isCompactDataFiles() {
+        return compactDataFiles;
+    }
+
+    public void setCompactDataFiles(boolean compactDataFiles) {
+        this.compactDataFiles = compactDataFiles;
+    }
+
+    public boolean isBackupDataFiles() {
+        return backupDataFiles;
+    }
+
+    public void setBackupDataFiles(boolean backupDataFiles) {
+        this.backupDataFiles = backupDataFiles;
+    }
+
+    public boolean isJournalDataFiles() {
+        return journalDataFiles;
+    }
+
+    public void setJournalDataFiles(boolean journalDataFiles) {
+        this.journalDataFiles = journalDataFiles;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+/**
+ * A part of the LIFE application data that keeps track of its own history, so that committed states can be undone
+ * and redone.
+ */
+public interface Versioned {
+
+    /**
+     * Saves the changes made since the previous commit as a new state.
+     * Undone states are removed from the history.
+     */
+    void commit();
+
+    /**
+     * Returns true if {@code undo()} has states to undo.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if {@code redo()} has states to redo.
+     */
+    boolean canRedo();
+
+    /**
+     * Returns the history of the committed and uncommitted edits, which {@code undo()} and {@code redo()} apply.
+     */
+    EditHistory<?> getEditHistory();
+
+    /**
+     * Returns the number of states that can be undone.
+     */
+    default int getUndoDepth() {
+        return getEditHistory().getUndoDepth();
+    }
+
+    /**
+     * Returns the number of undone states that can be redone.
+     */
+    default int getRedoDepth() {
+        return getEditHistory().getRedoDepth();
+    }
+
+    /**
+     * Returns the number of elements held to undo and redo states, which is proportional to the memory taken up by
+     * the history.
+     */
+    default long getHistoryElementCount() {
+        return getEditHistory().getElementCount();
+    }
+
+    /**
+     * Restores the previous state.
+     */
+    void undo();
+
+    /**
+     * Restores the previously undone state.
+     */
+    void redo();
+
+    /**
+     * Forgets all committed and uncommitted changes, making the current state the only state.
+     */
+    void clearHistory();
+}
@@ -1,73 +1,116 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import seedu.address.model.person.Person;
+
 /**
  * {@code ContactList} that keeps track of its own history.
+ * Each commit records only the persons added, removed or replaced since the previous commit.
  */
-public class VersionedContactList extends ContactList {
+public class VersionedContactList extends ContactList implements Versioned {
 
-    private final List<ReadOnlyContactList> contactListStateList;
-    private int currentStatePointer;
+    private final EditHistory<Person> history;
 
     public VersionedContactList(ReadOnlyContactList initialState) {
-        super(initialState);
+        this(initialState, EditHistory.DEFAULT_MAX_HISTORY_SIZE);
+    }
+
+    /**
+     * Creates a {@code VersionedContactList} starting at {@code initialState} that can undo at most
+     * {@code maxHistorySize} commits.
+     */
+    public VersionedContactList(ReadOnlyContactList initialState, int maxHistorySize) {
+        history = new EditHistory<>(this::replacePersons, maxHistorySize);
+        resetData(initialState);
+        history.clear();
+    }
 
-        contactListStateList = new ArrayList<>();
-        contactListStateList.add(new ContactList(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> oldPersons = new ArrayList<>(getPersonList());
+        super.setPersons(persons);
+        history.recordEdit(0, oldPersons, persons);
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        history.recordEdit(getPersonList().size() - 1, Collections.emptyList(), Collections.singletonList(p));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        int index = getPersonList().indexOf(target);
+        super.setPerson(target, editedPerson);
+        history.recordEdit(index, Collections.singletonList(target), Collections.singletonList(editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = getPersonList().indexOf(key);
+        super.removePerson(key);
+        history.recordEdit(index, Collections.singletonList(key), Collections.emptyList());
     }
 
     /**
-     * Saves a copy of the current {@code ContactList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the previous commit as a new state of the contact list.
+     * Undone states are removed from the history.
      */
+    @Override
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        contactListStateList.add(new ContactList(this));
-        currentStatePointer++;
+        history.commit();
         indicateModified();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        contactListStateList.subList(currentStatePointer + 1, contactListStateList.size()).clear();
-    }
-
     /**
      * Restores the contact list to its previous state.
      */
+    @Override
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(contactListStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
      * Restores the contact list to its previously undone state.
      */
+    @Override
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(contactListStateList.get(currentStatePointer));
+        history.redo();
+    }
+
+    @Override
+    public void clearHistory() {
+        history.clear();
     }
 
     /**
      * Returns true if {@code undo()} has contact list states to undo.
      */
+    @Override
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has contact list states to redo.
      */
+    @Override
     public boolean canRedo() {
-        return currentStatePointer < contactListStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    @Override
+    public EditHistory<?> getEditHistory() {
+        return history;
     }
 
     @Override
@@ -86,8 +129,7 @@ public class VersionedContactList extends ContactList {
 
         // state check
         return super.equals(otherVersionedContactList)
-                && contactListStateList.equals(otherVersionedContactList.contactListStateList)
-                && currentStatePointer == otherVersionedContactList.currentStatePointer;
+                && history.equals(otherVersionedContactList.history);
     }
 
     /**
@@ -1,72 +1,109 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import seedu.address.model.purchase.Purchase;
+
 /**
  * {@code ExpenditureList} that keeps track of its own history.
+ * Each commit records only the purchases added, removed or replaced since the previous commit.
  */
-public class VersionedExpenditureList extends ExpenditureList {
-    private final List<ReadOnlyExpenditureList> expenditureListStateList;
-    private int currentStatePointer;
+public class VersionedExpenditureList extends ExpenditureList implements Versioned {
+
+    private final EditHistory<Purchase> history;
 
     public VersionedExpenditureList(ReadOnlyExpenditureList initialState) {
-        super(initialState);
+        this(initialState, EditHistory.DEFAULT_MAX_HISTORY_SIZE);
+    }
+
+    /**
+     * Creates a {@code VersionedExpenditureList} starting at {@code initialState} that can undo at most
+     * {@code maxHistorySize} commits.
+     */
+    public VersionedExpenditureList(ReadOnlyExpenditureList initialState, int maxHistorySize) {
+        history = new EditHistory<>(this::replacePurchases, maxHistorySize);
+        resetData(initialState);
+        history.clear();
+    }
 
-        expenditureListStateList = new ArrayList<>();
-        expenditureListStateList.add(new ExpenditureList(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void setPurchases(List<Purchase> purchases) {
+        List<Purchase> oldPurchases = new ArrayList<>(getPurchaseList());
+        super.setPurchases(purchases);
+        history.recordEdit(0, oldPurchases, purchases);
+    }
+
+    @Override
+    public void addPurchase(Purchase p) {
+        super.addPurchase(p);
+        history.recordEdit(getPurchaseList().size() - 1, Collections.emptyList(), Collections.singletonList(p));
+    }
+
+    @Override
+    public void removePurchase(Purchase key) {
+        int index = getPurchaseList().indexOf(key);
+        super.removePurchase(key);
+        history.recordEdit(index, Collections.singletonList(key), Collections.emptyList());
     }
 
     /**
-     * Saves a copy of the current {@code ExpenditureList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the previous commit as a new state of the expenditure list.
+     * Undone states are removed from the history.
      */
+    @Override
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        expenditureListStateList.add(new ExpenditureList(this));
-        currentStatePointer++;
+        history.commit();
         indicateModified();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        expenditureListStateList.subList(currentStatePointer + 1, expenditureListStateList.size()).clear();
-    }
-
     /**
      * Restores the expenditure list to its previous state.
      */
+    @Override
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(expenditureListStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
      * Restores the expenditure list to its previously undone state.
      */
+    @Override
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(expenditureListStateList.get(currentStatePointer));
+        history.redo();
+    }
+
+    @Override
+    public void clearHistory() {
+        history.clear();
     }
 
     /**
      * Returns true if {@code undo()} has expenditure list states to undo.
      */
+    @Override
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has expenditure list states to redo.
      */
+    @Override
     public boolean canRedo() {
-        return currentStatePointer < expenditureListStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    @Override
+    public EditHistory<?> getEditHistory() {
+        return history;
     }
 
     @Override
@@ -85,8 +122,7 @@ public class VersionedExpenditureList extends ExpenditureList {
 
         // state check
         return super.equals(otherVersionedExpenditureList)
-                && expenditureListStateList.equals(otherVersionedExpenditureList.expenditureListStateList)
-                && currentStatePointer == otherVersionedExpenditureList.currentStatePointer;
+                && history.equals(otherVersionedExpenditureList.history);
     }
 
     /**
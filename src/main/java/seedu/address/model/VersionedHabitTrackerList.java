@@ -1,72 +1,109 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import seedu.address.model.habit.Habit;
+
 /**
  * {@code HabitTrackerList} that keeps track of its own history.
+ * Each commit records only the habits added, removed or replaced since the previous commit.
  */
-public class VersionedHabitTrackerList extends HabitTrackerList {
-    private final List<ReadOnlyHabitTrackerList> habitTrackerListStateList;
-    private int currentStatePointer;
+public class VersionedHabitTrackerList extends HabitTrackerList implements Versioned {
+
+    private final EditHistory<Habit> history;
 
     public VersionedHabitTrackerList(ReadOnlyHabitTrackerList initialState) {
-        super(initialState);
+        this(initialState, EditHistory.DEFAULT_MAX_HISTORY_SIZE);
+    }
+
+    /**
+     * Creates a {@code VersionedHabitTrackerList} starting at {@code initialState} that can undo at most
+     * {@code maxHistorySize} commits.
+     */
+    public VersionedHabitTrackerList(ReadOnlyHabitTrackerList initialState, int maxHistorySize) {
+        history = new EditHistory<>(this::replaceHabits, maxHistorySize);
+        resetData(initialState);
+        history.clear();
+    }
 
-        habitTrackerListStateList = new ArrayList<>();
-        habitTrackerListStateList.add(new HabitTrackerList(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void setHabits(List<Habit> habits) {
+        List<Habit> oldHabits = new ArrayList<>(getHabitList());
+        super.setHabits(habits);
+        history.recordEdit(0, oldHabits, habits);
+    }
+
+    @Override
+    public void addHabit(Habit h) {
+        super.addHabit(h);
+        history.recordEdit(getHabitList().size() - 1, Collections.emptyList(), Collections.singletonList(h));
+    }
+
+    @Override
+    public void removeHabit(Habit key) {
+        int index = getHabitList().indexOf(key);
+        super.removeHabit(key);
+        history.recordEdit(index, Collections.singletonList(key), Collections.emptyList());
     }
 
     /**
-     * Saves a copy of the current {@code HabitTrackerList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the previous commit as a new state of the habit tracker list.
+     * Undone states are removed from the history.
      */
+    @Override
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        habitTrackerListStateList.add(new HabitTrackerList(this));
-        currentStatePointer++;
+        history.commit();
         indicateModified();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        habitTrackerListStateList.subList(currentStatePointer + 1, habitTrackerListStateList.size()).clear();
-    }
-
     /**
      * Restores the habit tracker list to its previous state.
      */
+    @Override
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(habitTrackerListStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
      * Restores the habit tracker list to its previously undone state.
      */
+    @Override
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(habitTrackerListStateList.get(currentStatePointer));
+        history.redo();
+    }
+
+    @Override
+    public void clearHistory() {
+        history.clear();
     }
 
     /**
      * Returns true if {@code undo()} has habit tracker list states to undo.
      */
+    @Override
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has habit tracker list states to redo.
      */
+    @Override
     public boolean canRedo() {
-        return currentStatePointer < habitTrackerListStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    @Override
+    public EditHistory<?> getEditHistory() {
+        return history;
     }
 
     @Override
@@ -85,8 +122,7 @@ public class VersionedHabitTrackerList extends HabitTrackerList {
 
         // state check
         return super.equals(otherVersionedHabitTrackerList)
-                && habitTrackerListStateList.equals(otherVersionedHabitTrackerList.habitTrackerListStateList)
-                && currentStatePointer == otherVersionedHabitTrackerList.currentStatePointer;
+                && history.equals(otherVersionedHabitTrackerList.history);
     }
 
     /**
@@ -107,4 +143,3 @@ public class VersionedHabitTrackerList extends HabitTrackerList {
         }
     }
 }
-
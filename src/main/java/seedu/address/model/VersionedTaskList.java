@@ -1,45 +1,159 @@
 package seedu.address.model;
 
-import static java.util.Objects.requireNonNull;
-
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import seedu.address.model.task.Task;
+
 /**
- * The class of {@code VersionedTaskList}
+ * {@code TaskList} that keeps track of its own history.
+ * Each commit records only the tasks added, removed or replaced since the previous commit.
  */
-public class VersionedTaskList extends TaskList {
-    private final List<ReadOnlyTaskList> taskListStateList;
-    private int currentStatePointer;
+public class VersionedTaskList extends TaskList implements Versioned {
+
+    private final EditHistory<Task> history;
 
     public VersionedTaskList(ReadOnlyTaskList initialState) {
-        super(initialState);
-        taskListStateList = new ArrayList<>();
-        taskListStateList.add(new TaskList(initialState));
-        currentStatePointer = 0;
+        this(initialState, EditHistory.DEFAULT_MAX_HISTORY_SIZE);
+    }
+
+    /**
+     * Creates a {@code VersionedTaskList} starting at {@code initialState} that can undo at most
+     * {@code maxHistorySize} commits.
+     */
+    public VersionedTaskList(ReadOnlyTaskList initialState, int maxHistorySize) {
+        history = new EditHistory<>(this::replaceTasks, maxHistorySize);
+        resetData(initialState);
+        history.clear();
+    }
+
+    @Override
+    public void setTasks(List<Task> tasks) {
+        List<Task> oldTasks = new ArrayList<>(getTaskList());
+        super.setTasks(tasks);
+        history.recordEdit(0, oldTasks, tasks);
+    }
+
+    @Override
+    public void setTask(Task target, Task editedTask) {
+        int index = indexOfTask(target);
+        super.setTask(target, editedTask);
+        history.recordEdit(index, Collections.singletonList(target), Collections.singletonList(editedTask));
     }
+
+    @Override
+    public void addTask(Task task) {
+        super.addTask(task);
+        history.recordEdit(getTaskList().size() - 1, Collections.emptyList(), Collections.singletonList(task));
+    }
+
+    @Override
+    public void removeTask(Task task) {
+        int index = indexOfTask(task);
+        super.removeTask(task);
+        history.recordEdit(index, Collections.singletonList(task), Collections.emptyList());
+    }
+
+    @Override
+    public void sortTask() {
+        List<Task> oldTasks = new ArrayList<>(getTaskList());
+        super.sortTask();
+        history.recordEdit(0, oldTasks, getTaskList());
+    }
+
     /**
-     * Saves a copy of the current {@code TaskList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the previous commit as a new state of the task list.
+     * Undone states are removed from the history.
      */
+    @Override
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        taskListStateList.add(new TaskList(this));
-        currentStatePointer++;
+        history.commit();
         indicateModified();
     }
 
     /**
-     * resets the data of the tasklist
-     * @param newData
+     * Restores the task list to its previous state.
+     */
+    @Override
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        history.undo();
+    }
+
+    /**
+     * Restores the task list to its previously undone state.
      */
-    public void resetData(ReadOnlyTaskList newData) {
-        requireNonNull(newData);
-        setTasks(newData.getTaskList());
+    @Override
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        history.redo();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        taskListStateList.subList(currentStatePointer + 1, taskListStateList.size()).clear();
+    @Override
+    public void clearHistory() {
+        history.clear();
     }
 
+    /**
+     * Returns true if {@code undo()} has task list states to undo.
+     */
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    /**
+     * Returns true if {@code redo()} has task list states to redo.
+     */
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public EditHistory<?> getEditHistory() {
+        return history;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof VersionedTaskList)) {
+            return false;
+        }
+
+        VersionedTaskList otherVersionedTaskList = (VersionedTaskList) other;
+
+        // state check
+        return super.equals(otherVersionedTaskList)
+                && history.equals(otherVersionedTaskList.history);
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but can't.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("Current state pointer at start of taskListState list, unable to undo.");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but can't.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("Current state pointer at end of taskListState list, unable to redo.");
+        }
+    }
 }
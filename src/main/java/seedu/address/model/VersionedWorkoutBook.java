@@ -1,44 +1,119 @@
 package seedu.address.model;
 
-import static java.util.Objects.requireNonNull;
-
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import seedu.address.model.workout.Workout;
+
 /**
- * some workoutbook
+ * {@code WorkoutBook} that keeps track of its own history.
+ * Each commit records only the workouts added, removed or replaced since the previous commit.
  */
-public class VersionedWorkoutBook extends WorkoutBook {
-    private final List<ReadOnlyWorkoutBook> workoutBookStateList;
-    private int currentStatePointer;
+public class VersionedWorkoutBook extends WorkoutBook implements Versioned {
+
+    private final EditHistory<Workout> history;
 
     public VersionedWorkoutBook(ReadOnlyWorkoutBook initialState) {
-        super(initialState);
-        workoutBookStateList = new ArrayList<>();
-        workoutBookStateList.add(new WorkoutBook(initialState));
-        currentStatePointer = 0;
+        this(initialState, EditHistory.DEFAULT_MAX_HISTORY_SIZE);
     }
+
     /**
-     * Saves a copy of the current {@code WorkoutList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Creates a {@code VersionedWorkoutBook} starting at {@code initialState} that can undo at most
+     * {@code maxHistorySize} commits.
      */
+    public VersionedWorkoutBook(ReadOnlyWorkoutBook initialState, int maxHistorySize) {
+        history = new EditHistory<>(this::replaceWorkouts, maxHistorySize);
+        resetData(initialState);
+        history.clear();
+    }
+
+    @Override
+    public void setWorkouts(List<Workout> workouts) {
+        List<Workout> oldWorkouts = new ArrayList<>(getWorkoutList());
+        super.setWorkouts(workouts);
+        history.recordEdit(0, oldWorkouts, workouts);
+    }
+
+    @Override
+    public void addWorkout(Workout w) {
+        super.addWorkout(w);
+        history.recordEdit(getWorkoutList().size() - 1, Collections.emptyList(), Collections.singletonList(w));
+    }
+
+    /**
+     * Saves the changes made since the previous commit as a new state of the workout book.
+     * Undone states are removed from the history.
+     */
+    @Override
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        workoutBookStateList.add(new WorkoutBook(this));
-        currentStatePointer++;
+        history.commit();
         indicateModified();
     }
+
+    /**
+     * Restores the workout book to its previous state.
+     */
+    @Override
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        history.undo();
+    }
+
+    /**
+     * Restores the workout book to its previously undone state.
+     */
+    @Override
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        history.redo();
+    }
+
+    @Override
+    public void clearHistory() {
+        history.clear();
+    }
+
     /**
-     * resets the Data
-     * @param newData
+     * Returns true if {@code undo()} has workout book states to undo.
      */
-    public void resetData(ReadOnlyWorkoutBook newData) {
-        requireNonNull(newData);
-        setWorkouts(newData.getWorkoutList());
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        workoutBookStateList.subList(currentStatePointer + 1, workoutBookStateList.size()).clear();
+    /**
+     * Returns true if {@code redo()} has workout book states to redo.
+     */
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
     }
 
+    @Override
+    public EditHistory<?> getEditHistory() {
+        return history;
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but can't.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("Current state pointer at start of workoutBookState list, unable to undo.");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but can't.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("Current state pointer at end of workoutBookState list, unable to redo.");
+        }
+    }
 }
@@ -35,6 +35,14 @@ public class WorkoutBook implements ReadOnlyWorkoutBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates a WorkoutBook containing the Workouts in {@code workouts}.
+     */
+    public WorkoutBook(List<Workout> workouts) {
+        this();
+        setWorkouts(workouts);
+    }
+
     /**
      * Replaces the contents of the workout list with {@code workouts}.
      */
@@ -63,6 +71,15 @@ public class WorkoutBook implements ReadOnlyWorkoutBook {
         return workouts.getRecent();
     }
 
+    /**
+     * Replaces the workouts from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}.
+     */
+    protected void replaceWorkouts(int fromIndex, int toIndex, List<Workout> replacement) {
+        workouts.replace(fromIndex, toIndex, replacement);
+        indicateModified();
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
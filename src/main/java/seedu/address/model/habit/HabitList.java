@@ -5,6 +5,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.purchase.exceptions.PurchaseNotFoundException;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.replaceRange;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Iterator;
 import java.util.List;
@@ -75,6 +76,14 @@ public class HabitList implements Iterable<Habit> {
         internalList.setAll(habits);
     }
 
+    /**
+     * Replaces the habits from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     */
+    public void replace(int fromIndex, int toIndex, List<Habit> replacement) {
+        requireAllNonNull(replacement);
+        replaceRange(internalList, fromIndex, toIndex, replacement);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.PersonSearchIndex.Field;
+import seedu.address.model.search.SearchKeyword;
+
+/**
+ * Tests that, for every field given, a {@code Person}'s field matches any of the keywords given for it.
+ *
+ * @see SearchKeyword
+ * @see PersonSearchIndex#search(Map)
+ */
+public class PersonContainsKeywordsPredicate implements Predicate<Person> {
+    private final Map<Field, List<String>> keywords;
+
+    public PersonContainsKeywordsPredicate(Map<Field, List<String>> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords.isEmpty() ? Collections.emptyMap() : new EnumMap<>(keywords);
+    }
+
+    /**
+     * Returns an unmodifiable view of the keywords given for each field.
+     */
+    public Map<Field, List<String>> getKeywords() {
+        return Collections.unmodifiableMap(keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !keywords.isEmpty() && keywords.entrySet().stream().allMatch(entry -> {
+            List<String> fieldWords = PersonSearchIndex.getWords(person, entry.getKey());
+            return entry.getValue().stream().anyMatch(keyword -> SearchKeyword.parse(keyword).matches(fieldWords));
+        });
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonContainsKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((PersonContainsKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.search.SearchKeyword;
+import seedu.address.model.search.WordIndex;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the words in the searchable fields of persons to the persons containing them.
+ * Persons are added and removed one at a time as the list they belong to changes, so the index never needs to be
+ * rebuilt, and a search only looks at the persons under the words matching the keywords searched for.
+ *
+ * @see SearchKeyword
+ */
+public class PersonSearchIndex {
+
+    /**
+     * The fields of a {@code Person} that can be searched.
+     */
+    public enum Field {
+        NAME, EMAIL, ADDRESS, TAG
+    }
+
+    private final Map<Field, WordIndex<Person>> fieldIndexes = new EnumMap<>(Field.class);
+
+    public PersonSearchIndex() {
+        for (Field field : Field.values()) {
+            fieldIndexes.put(field, new WordIndex<>());
+        }
+    }
+
+    /**
+     * Adds the words in the searchable fields of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        fieldIndexes.forEach((field, index) -> index.add(person, getWords(person, field)));
+    }
+
+    /**
+     * Removes the words in the searchable fields of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        fieldIndexes.forEach((field, index) -> index.remove(person, getWords(person, field)));
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        fieldIndexes.values().forEach(WordIndex::clear);
+    }
+
+    /**
+     * Returns the persons matching {@code keywords}.
+     * A person matches if, for every field given, the field matches any of the keywords given for it.
+     */
+    public Set<Person> search(Map<Field, List<String>> keywords) {
+        requireNonNull(keywords);
+        List<Set<Person>> fieldMatches = new ArrayList<>();
+        keywords.forEach((field, fieldKeywords) -> {
+            Set<Person> matches = new HashSet<>();
+            for (String keyword : fieldKeywords) {
+                matches.addAll(fieldIndexes.get(field).find(SearchKeyword.parse(keyword)));
+            }
+            fieldMatches.add(matches);
+        });
+        return WordIndex.intersect(fieldMatches);
+    }
+
+    /**
+     * Returns the words in {@code field} of {@code person}.
+     */
+    static List<String> getWords(Person person, Field field) {
+        switch (field) {
+        case NAME:
+            return SearchKeyword.toWords(person.getName().fullName);
+        case EMAIL:
+            return SearchKeyword.toWords(person.getEmail().value);
+        case ADDRESS:
+            return SearchKeyword.toWords(person.getAddress().value);
+        case TAG:
+            List<String> words = new ArrayList<>();
+            for (Tag tag : person.getTags()) {
+                words.addAll(SearchKeyword.toWords(tag.tagName));
+            }
+            return words;
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.replaceRange;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +26,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The identity fields of every person in the list are additionally indexed by hash, so that duplicate checks do not
+ * need to scan the whole list, and the searchable fields are indexed by word, so that searches do not either.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,12 +37,17 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Number of persons in {@code internalList} carrying each identity key. */
+    private final Map<IdentityKey, Integer> identityIndex = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(IdentityKey.ofPhone(toCheck))
+                || identityIndex.containsKey(IdentityKey.ofEmail(toCheck));
     }
 
     /**
@@ -46,6 +60,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -66,6 +81,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        unindex(target);
+        index(editedPerson);
     }
 
     /**
@@ -74,14 +91,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.remove(index));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        searchIndex.clear();
+        internalList.forEach(searchIndex::add);
     }
 
     /**
@@ -95,6 +118,30 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        searchIndex.clear();
+        persons.forEach(this::index);
+    }
+
+    /**
+     * Replaces the persons from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     * Unlike the other mutators, {@code replacement} is not checked for duplicates, so this must only be used to
+     * restore a previously valid state of the list, e.g. when undoing or redoing a change.
+     */
+    public void replace(int fromIndex, int toIndex, List<Person> replacement) {
+        requireAllNonNull(replacement);
+        internalList.subList(fromIndex, toIndex).forEach(this::unindex);
+        replaceRange(internalList, fromIndex, toIndex, replacement);
+        replacement.forEach(this::index);
+    }
+
+    /**
+     * Returns the persons in the list matching {@code predicate}, found through the search index instead of by testing
+     * every person.
+     */
+    public Set<Person> find(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.search(predicate.getKeywords());
     }
 
     /**
@@ -125,13 +172,71 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seen = new HashSet<>();
+        for (Person person : persons) {
+            IdentityKey phoneKey = IdentityKey.ofPhone(person);
+            IdentityKey emailKey = IdentityKey.ofEmail(person);
+            if (seen.contains(phoneKey) || seen.contains(emailKey)) {
+                return false;
             }
+            seen.add(phoneKey);
+            seen.add(emailKey);
         }
         return true;
     }
+
+    /**
+     * Adds the identity keys of {@code person} to {@code identityIndex}, and its words to {@code searchIndex}.
+     */
+    private void index(Person person) {
+        identityIndex.merge(IdentityKey.ofPhone(person), 1, Integer::sum);
+        identityIndex.merge(IdentityKey.ofEmail(person), 1, Integer::sum);
+        searchIndex.add(person);
+    }
+
+    /**
+     * Removes the identity keys of {@code person} from {@code identityIndex}, and its words from {@code searchIndex}.
+     */
+    private void unindex(Person person) {
+        identityIndex.computeIfPresent(IdentityKey.ofPhone(person), (key, count) -> count == 1 ? null : count - 1);
+        identityIndex.computeIfPresent(IdentityKey.ofEmail(person), (key, count) -> count == 1 ? null : count - 1);
+        searchIndex.remove(person);
+    }
+
+    /**
+     * A name paired with one other identity field of a {@code Person}.
+     * Two persons are the same person iff they share at least one {@code IdentityKey}.
+     *
+     * @see Person#isSamePerson(Person)
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object field;
+
+        private IdentityKey(Name name, Object field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        static IdentityKey ofPhone(Person person) {
+            return new IdentityKey(person.getName(), person.getPhone());
+        }
+
+        static IdentityKey ofEmail(Person person) {
+            return new IdentityKey(person.getName(), person.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && field.equals(((IdentityKey) other).field));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, field);
+        }
+    }
 }
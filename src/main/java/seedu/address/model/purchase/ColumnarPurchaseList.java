@@ -0,0 +1,451 @@
+package seedu.address.model.purchase;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import javafx.collections.ObservableListBase;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An observable list of purchases that stores each field of the purchases in its own column of primitives.
+ * <p>
+ * A purchase takes up a {@code long} for its price in cents, an {@code int} each for the positions of its price, date
+ * and name in dictionaries of the distinct prices, dates and names, and a bitset of the positions of its tags in a
+ * dictionary of distinct tags, instead of a graph of objects of its own. A {@code Purchase} is only created when it is
+ * read from the list, from the fields kept in the dictionaries, so the list can be shown as usual, while summaries are
+ * computed by scanning the columns without creating any objects.
+ * <p>
+ * Prices are kept as they were given, e.g. "01.50", so reading a purchase returns the same price that was stored.
+ * A value is dropped from its dictionary once no purchase in the list has it, and its position is reused.
+ * Run {@code ColumnarPurchaseListBenchmark} with {@code -prof gc} to measure the memory allocated by reading purchases.
+ */
+public class ColumnarPurchaseList extends ObservableListBase<Purchase> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size;
+    private long[] cents = new long[INITIAL_CAPACITY];
+    private int[] priceIds = new int[INITIAL_CAPACITY];
+    private int[] dateIds = new int[INITIAL_CAPACITY];
+    private int[] nameIds = new int[INITIAL_CAPACITY];
+    /** The tags of the purchase at each index, as {@code tagWords} consecutive words of bits indexed by tag id. */
+    private long[] tagBits = new long[INITIAL_CAPACITY];
+    private int tagWords = 1;
+
+    /** Prices are told apart by their text, as equal prices may be written differently. */
+    private final Dictionary<Price> prices = new Dictionary<>(price -> price.value);
+    private final Dictionary<PurchaseDate> dates = new Dictionary<>(date -> date);
+    private final Dictionary<PurchaseName> names = new Dictionary<>(name -> name);
+    private final Dictionary<Tag> tags = new Dictionary<>(tag -> tag);
+
+    /**
+     * Returns a new {@code Purchase} with the fields of the purchase at {@code index}.
+     */
+    @Override
+    public Purchase get(int index) {
+        checkIndex(index, size);
+        return new Purchase(names.get(nameIds[index]), prices.get(priceIds[index]), dates.get(dateIds[index]),
+                getTags(index));
+    }
+
+    /**
+     * Returns the name of the purchase at {@code index}, without creating the purchase.
+     */
+    public PurchaseName getPurchaseName(int index) {
+        checkIndex(index, size);
+        return names.get(nameIds[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void add(int index, Purchase purchase) {
+        requireNonNull(purchase);
+        checkIndex(index, size + 1);
+        insertRows(index, 1);
+        writeRow(index, purchase);
+        modCount++;
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Purchase> purchases) {
+        return addAll(size, purchases);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Purchase> purchases) {
+        requireNonNull(purchases);
+        checkIndex(index, size + 1);
+        if (purchases.isEmpty()) {
+            return false;
+        }
+
+        List<Purchase> toAdd = new ArrayList<>(purchases);
+        toAdd.forEach(Objects::requireNonNull);
+        insertRows(index, toAdd.size());
+        for (int i = 0; i < toAdd.size(); i++) {
+            writeRow(index + i, toAdd.get(i));
+        }
+        modCount++;
+        beginChange();
+        nextAdd(index, index + toAdd.size());
+        endChange();
+        return true;
+    }
+
+    @Override
+    public Purchase set(int index, Purchase purchase) {
+        requireNonNull(purchase);
+        Purchase oldPurchase = get(index);
+        releaseRow(index);
+        writeRow(index, purchase);
+        beginChange();
+        nextSet(index, oldPurchase);
+        endChange();
+        return oldPurchase;
+    }
+
+    @Override
+    public Purchase remove(int index) {
+        Purchase oldPurchase = get(index);
+        deleteRows(index, index + 1);
+        modCount++;
+        beginChange();
+        nextRemove(index, oldPurchase);
+        endChange();
+        return oldPurchase;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        List<Purchase> removed = new ArrayList<>(subList(fromIndex, toIndex));
+        deleteRows(fromIndex, toIndex);
+        modCount++;
+        beginChange();
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code purchases}, rebuilding the dictionaries.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Purchase> purchases) {
+        requireNonNull(purchases);
+        List<Purchase> toAdd = new ArrayList<>(purchases);
+        toAdd.forEach(Objects::requireNonNull);
+        List<Purchase> removed = new ArrayList<>(this);
+
+        size = 0;
+        prices.clear();
+        dates.clear();
+        names.clear();
+        tags.clear();
+        tagWords = 1;
+        tagBits = new long[cents.length];
+        insertRows(0, toAdd.size());
+        for (int i = 0; i < toAdd.size(); i++) {
+            writeRow(i, toAdd.get(i));
+        }
+        modCount++;
+
+        if (!removed.isEmpty() || !toAdd.isEmpty()) {
+            beginChange();
+            nextReplace(0, size, removed);
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of distinct prices, dates, names and tags kept in the dictionaries.
+     */
+    int getDictionarySize() {
+        return prices.size() + dates.size() + names.size() + tags.size();
+    }
+
+    /**
+     * Returns a summary of the spending on the purchases with every one of {@code requiredTags}.
+     * The summary is computed by scanning the price and tag columns, without creating any purchases.
+     */
+    public SpendingSummary summarise(Set<Tag> requiredTags) {
+        requireNonNull(requiredTags);
+        long[] requiredBits = new long[tagWords];
+        for (Tag tag : requiredTags) {
+            int tagId = tags.idOf(tag);
+            if (tagId == -1) {
+                return new SpendingSummary(0, 0, 0, 0, Collections.emptyMap());
+            }
+            requiredBits[tagId / Long.SIZE] |= 1L << (tagId % Long.SIZE);
+        }
+
+        int purchaseCount = 0;
+        long totalCents = 0;
+        long minCents = Long.MAX_VALUE;
+        long maxCents = Long.MIN_VALUE;
+        int[] tagPurchaseCounts = new int[tags.capacity()];
+        long[] tagTotalCents = new long[tags.capacity()];
+        for (int row = 0; row < size; row++) {
+            if (!hasBits(row, requiredBits)) {
+                continue;
+            }
+            long rowCents = cents[row];
+            purchaseCount++;
+            totalCents += rowCents;
+            minCents = Math.min(minCents, rowCents);
+            maxCents = Math.max(maxCents, rowCents);
+            for (int word = 0; word < tagWords; word++) {
+                long bits = tagBits[row * tagWords + word];
+                while (bits != 0) {
+                    int tagId = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    tagPurchaseCounts[tagId]++;
+                    tagTotalCents[tagId] += rowCents;
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        if (purchaseCount == 0) {
+            return new SpendingSummary(0, 0, 0, 0, Collections.emptyMap());
+        }
+        Map<Tag, Long> tagTotals = new HashMap<>();
+        for (int tagId = 0; tagId < tagTotalCents.length; tagId++) {
+            if (tagPurchaseCounts[tagId] > 0) {
+                tagTotals.put(tags.get(tagId), tagTotalCents[tagId]);
+            }
+        }
+        return new SpendingSummary(purchaseCount, totalCents, minCents, maxCents, tagTotals);
+    }
+
+    private boolean hasBits(int row, long[] requiredBits) {
+        for (int word = 0; word < tagWords; word++) {
+            if ((tagBits[row * tagWords + word] & requiredBits[word]) != requiredBits[word]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Set<Tag> getTags(int row) {
+        Set<Tag> rowTags = new HashSet<>();
+        forEachTagId(row, tagId -> rowTags.add(tags.get(tagId)));
+        return rowTags;
+    }
+
+    private void forEachTagId(int row, IntConsumer action) {
+        for (int word = 0; word < tagWords; word++) {
+            long bits = tagBits[row * tagWords + word];
+            while (bits != 0) {
+                action.accept(word * Long.SIZE + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Stores the fields of {@code purchase} in the row at {@code row}, adding them to the dictionaries.
+     */
+    private void writeRow(int row, Purchase purchase) {
+        cents[row] = purchase.getPrice().cents;
+        priceIds[row] = prices.add(purchase.getPrice());
+        dateIds[row] = dates.add(purchase.getDate());
+        nameIds[row] = names.add(purchase.getPurchaseName());
+
+        List<Integer> rowTagIds = new ArrayList<>();
+        for (Tag tag : purchase.getTags()) {
+            rowTagIds.add(tags.add(tag));
+        }
+        int requiredTagWords = (tags.capacity() + Long.SIZE - 1) / Long.SIZE;
+        if (requiredTagWords > tagWords) {
+            widenTagBits(requiredTagWords);
+        }
+        Arrays.fill(tagBits, row * tagWords, (row + 1) * tagWords, 0);
+        for (int tagId : rowTagIds) {
+            tagBits[row * tagWords + tagId / Long.SIZE] |= 1L << (tagId % Long.SIZE);
+        }
+    }
+
+    /**
+     * Removes the fields of the purchase in the row at {@code row} from the dictionaries.
+     */
+    private void releaseRow(int row) {
+        prices.remove(priceIds[row]);
+        dates.remove(dateIds[row]);
+        names.remove(nameIds[row]);
+        forEachTagId(row, tags::remove);
+    }
+
+    /**
+     * Makes room for {@code count} rows at {@code index}, moving the rows from {@code index} onwards.
+     */
+    private void insertRows(int index, int count) {
+        ensureCapacity(size + count);
+        System.arraycopy(cents, index, cents, index + count, size - index);
+        System.arraycopy(priceIds, index, priceIds, index + count, size - index);
+        System.arraycopy(dateIds, index, dateIds, index + count, size - index);
+        System.arraycopy(nameIds, index, nameIds, index + count, size - index);
+        System.arraycopy(tagBits, index * tagWords, tagBits, (index + count) * tagWords,
+                (size - index) * tagWords);
+        size += count;
+    }
+
+    /**
+     * Removes the rows from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+     */
+    private void deleteRows(int fromIndex, int toIndex) {
+        for (int row = fromIndex; row < toIndex; row++) {
+            releaseRow(row);
+        }
+        System.arraycopy(cents, toIndex, cents, fromIndex, size - toIndex);
+        System.arraycopy(priceIds, toIndex, priceIds, fromIndex, size - toIndex);
+        System.arraycopy(dateIds, toIndex, dateIds, fromIndex, size - toIndex);
+        System.arraycopy(nameIds, toIndex, nameIds, fromIndex, size - toIndex);
+        System.arraycopy(tagBits, toIndex * tagWords, tagBits, fromIndex * tagWords, (size - toIndex) * tagWords);
+        size -= toIndex - fromIndex;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= cents.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, cents.length * 2);
+        cents = Arrays.copyOf(cents, newCapacity);
+        priceIds = Arrays.copyOf(priceIds, newCapacity);
+        dateIds = Arrays.copyOf(dateIds, newCapacity);
+        nameIds = Arrays.copyOf(nameIds, newCapacity);
+        tagBits = Arrays.copyOf(tagBits, newCapacity * tagWords);
+    }
+
+    /**
+     * Lays the tag bits out again with {@code newTagWords} words for each row.
+     */
+    private void widenTagBits(int newTagWords) {
+        long[] newTagBits = new long[cents.length * newTagWords];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(tagBits, row * tagWords, newTagBits, row * newTagWords, tagWords);
+        }
+        tagBits = newTagBits;
+        tagWords = newTagWords;
+    }
+
+    /**
+     * Throws an {@code IndexOutOfBoundsException} unless {@code index} is from 0 (inclusive) to {@code bound}
+     * (exclusive).
+     */
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Numbers distinct values from 0, and counts how many purchases in the list have each of them.
+     * A value is dropped once no purchase has it, and its number is given to the next new value.
+     *
+     * @param <V> the type of the values
+     */
+    private static class Dictionary<V> {
+        private final Function<V, Object> keyOf;
+        private final List<V> values = new ArrayList<>();
+        private final List<Integer> counts = new ArrayList<>();
+        private final Map<Object, Integer> idsByKey = new HashMap<>();
+        private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+        /**
+         * Creates a {@code Dictionary} in which values with equal keys, as returned by {@code keyOf}, are the same.
+         */
+        Dictionary(Function<V, Object> keyOf) {
+            this.keyOf = keyOf;
+        }
+
+        V get(int id) {
+            return values.get(id);
+        }
+
+        /**
+         * Returns the number of {@code value}, or -1 if no purchase has it.
+         */
+        int idOf(V value) {
+            return idsByKey.getOrDefault(keyOf.apply(value), -1);
+        }
+
+        /**
+         * Returns the number of values that some purchase has.
+         */
+        int size() {
+            return idsByKey.size();
+        }
+
+        /**
+         * Returns one more than the largest number given to a value, which may belong to a dropped value.
+         */
+        int capacity() {
+            return values.size();
+        }
+
+        /**
+         * Counts one more purchase with {@code value}, and returns its number.
+         */
+        int add(V value) {
+            Integer id = idsByKey.get(keyOf.apply(value));
+            if (id != null) {
+                counts.set(id, counts.get(id) + 1);
+                return id;
+            }
+            if (freeIds.isEmpty()) {
+                id = values.size();
+                values.add(value);
+                counts.add(1);
+            } else {
+                id = freeIds.pop();
+                values.set(id, value);
+                counts.set(id, 1);
+            }
+            idsByKey.put(keyOf.apply(value), id);
+            return id;
+        }
+
+        /**
+         * Counts one less purchase with the value numbered {@code id}, dropping the value if no purchase has it.
+         */
+        void remove(int id) {
+            int count = counts.get(id) - 1;
+            counts.set(id, count);
+            if (count == 0) {
+                idsByKey.remove(keyOf.apply(values.get(id)));
+                values.set(id, null);
+                freeIds.push(id);
+            }
+        }
+
+        void clear() {
+            values.clear();
+            counts.clear();
+            idsByKey.clear();
+            freeIds.clear();
+        }
+    }
+}
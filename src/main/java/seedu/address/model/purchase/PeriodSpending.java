@@ -0,0 +1,63 @@
+package seedu.address.model.purchase;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * The spending on the purchases made in one period.
+ * Guarantees: immutable.
+ */
+public class PeriodSpending {
+    private final SpendingPeriod period;
+    private final long index;
+    private final SpendingSummary summary;
+
+    /**
+     * Creates a {@code PeriodSpending} of the {@code period} numbered {@code index}.
+     */
+    public PeriodSpending(SpendingPeriod period, long index, SpendingSummary summary) {
+        requireAllNonNull(period, summary);
+        this.period = period;
+        this.index = index;
+        this.summary = summary;
+    }
+
+    public SpendingPeriod getPeriod() {
+        return period;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public SpendingSummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Returns a description of the period for the user.
+     */
+    public String getLabel() {
+        return period.getLabel(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PeriodSpending // instanceof handles nulls
+                && period == ((PeriodSpending) other).period
+                && index == ((PeriodSpending) other).index
+                && summary.equals(((PeriodSpending) other).summary)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(period, index, summary);
+    }
+
+    @Override
+    public String toString() {
+        return getLabel() + ": " + summary;
+    }
+}
@@ -9,11 +9,20 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  */
 
 public class Price {
+    /** Prices have at most this many digits for dollars, so that many of them can be added up in a {@code long}. */
+    public static final int MAX_DOLLAR_DIGITS = 14;
+    /** The largest price, in cents. */
+    public static final long MAX_CENTS = (long) Math.pow(10, MAX_DOLLAR_DIGITS + 2) - 1;
     public static final String MESSAGE_CONSTRAINTS = "Price should contain numbers for dollars,"
             + " followed by one decimal point "
-            + "then followed by two numbers for cents.";
-    public static final String VALIDATION_REGEX = "\\d+\\.\\d{2}";
+            + "then followed by two numbers for cents. "
+            + "There should be at most " + MAX_DOLLAR_DIGITS + " numbers for dollars.";
+    public static final String VALIDATION_REGEX = "\\d{1," + MAX_DOLLAR_DIGITS + "}\\.\\d{2}";
+    private static final int CENTS_PER_DOLLAR = 100;
+
     public final String value;
+    /** The price in cents, so that prices can be added up without parsing them again. */
+    public final long cents;
 
     /**
      * Constructs a {@code Price}.
@@ -24,6 +33,20 @@ public class Price {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
         value = price;
+        cents = parseCents(price);
+    }
+
+    private Price(String value, long cents) {
+        this.value = value;
+        this.cents = cents;
+    }
+
+    /**
+     * Returns a {@code Price} of {@code cents}.
+     * @param cents a non-negative amount with at most {@link #MAX_DOLLAR_DIGITS} digits for dollars
+     */
+    public static Price fromCents(long cents) {
+        return new Price(formatCents(cents), cents);
     }
 
     /**
@@ -33,6 +56,28 @@ public class Price {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns {@code cents} in the same format as a valid price.
+     * @param cents a non-negative amount
+     */
+    public static String formatCents(long cents) {
+        return String.format("%d.%02d", cents / CENTS_PER_DOLLAR, cents % CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Returns the amount of a valid price in cents.
+     */
+    private static long parseCents(String price) {
+        long cents = 0;
+        for (int i = 0; i < price.length(); i++) {
+            char c = price.charAt(i);
+            if (c != '.') {
+                cents = cents * 10 + (c - '0');
+            }
+        }
+        return cents;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -42,12 +87,12 @@ public class Price {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Price // instanceof handles nulls
-                && value.equals(((Price) other).value)); // state check
+                && cents == ((Price) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 
 }
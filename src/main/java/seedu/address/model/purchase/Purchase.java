@@ -16,16 +16,18 @@ import seedu.address.model.tag.Tag;
 public class Purchase {
     private final PurchaseName name;
     private final Price price;
+    private final PurchaseDate date;
 
     private final Set<Tag> tags = new HashSet<>();
 
     /**
      * Every field must be present and not null.
      */
-    public Purchase(PurchaseName name, Price price, Set<Tag> tags) {
-        requireAllNonNull(name, price, tags);
+    public Purchase(PurchaseName name, Price price, PurchaseDate date, Set<Tag> tags) {
+        requireAllNonNull(name, price, date, tags);
         this.name = name;
         this.price = price;
+        this.date = date;
         this.tags.addAll(tags);
     }
 
@@ -37,6 +39,10 @@ public class Purchase {
         return price;
     }
 
+    public PurchaseDate getDate() {
+        return date;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -59,10 +65,31 @@ public class Purchase {
                 && (otherPurchase.getPrice().equals(getPrice()));
     }
 
+    /**
+     * Returns true if both purchases have the same name, price, date and tags.
+     * This defines a stronger notion of equality between two purchases.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Purchase)) {
+            return false;
+        }
+
+        Purchase otherPurchase = (Purchase) other;
+        return otherPurchase.getPurchaseName().equals(getPurchaseName())
+                && otherPurchase.getPrice().equals(getPrice())
+                && otherPurchase.getDate().equals(getDate())
+                && otherPurchase.getTags().equals(getTags());
+    }
+
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, price, tags);
+        return Objects.hash(name, price, date, tags);
     }
 
     @Override
@@ -71,6 +98,8 @@ public class Purchase {
         builder.append(getPurchaseName())
                 .append(" Price: $")
                 .append(getPrice())
+                .append(" Date: ")
+                .append(getDate())
                 .append(" Tags: ");
         getTags().forEach(builder::append);
         return builder.toString();
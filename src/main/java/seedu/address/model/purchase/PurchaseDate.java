@@ -0,0 +1,91 @@
+package seedu.address.model.purchase;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import seedu.address.commons.util.DateTimeUtil;
+
+/**
+ * Represents the date of a Purchase in the expenditure list.
+ * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
+ */
+public class PurchaseDate {
+    public static final String MESSAGE_CONSTRAINTS = "Purchase date should be a date that exists, "
+            + "given as 6 integers in the ddMMyy format";
+
+    /** The date of purchases saved before purchases were dated, which is not known. */
+    public static final PurchaseDate UNDATED = new PurchaseDate("", Long.MIN_VALUE);
+
+    public final String value;
+    /**
+     * The number of days from the epoch to the date, so that dates can be grouped without parsing them again.
+     * Not a day of any date if the date is {@link #UNDATED}.
+     */
+    public final long epochDay;
+
+    /**
+     * Constructs a {@code PurchaseDate}.
+     *
+     * @param date A valid date in the ddMMyy format.
+     */
+    public PurchaseDate(String date) {
+        requireNonNull(date);
+        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
+        value = date;
+        epochDay = DateTimeUtil.toEpochDay(date);
+    }
+
+    private PurchaseDate(String value, long epochDay) {
+        this.value = value;
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * Returns a {@code PurchaseDate} of the date {@code epochDay} days from the epoch.
+     * @param epochDay a day in the 2000s
+     */
+    public static PurchaseDate fromEpochDay(long epochDay) {
+        return new PurchaseDate(DateTimeUtil.fromEpochDay(epochDay), epochDay);
+    }
+
+    /**
+     * Returns a {@code PurchaseDate} of the current date, according to {@code clock}.
+     */
+    public static PurchaseDate today(Clock clock) {
+        return fromEpochDay(LocalDate.now(clock).toEpochDay());
+    }
+
+    /**
+     * Returns true if this is the date of a day, i.e. not {@link #UNDATED}.
+     */
+    public boolean isDated() {
+        return !value.isEmpty();
+    }
+
+    /**
+     * Returns true if a given string is a date that exists in the ddMMyy format.
+     */
+    public static boolean isValidDate(String test) {
+        return DateTimeUtil.isValidDate(test);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PurchaseDate // instanceof handles nulls
+                && value.equals(((PurchaseDate) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
@@ -1,21 +1,27 @@
 package seedu.address.model.purchase;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.replaceRange;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.purchase.exceptions.PurchaseNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of purchases that does not allow nulls.
+ * The purchases are stored column by column, so that summaries can scan their prices and tags directly.
+ *
+ * @see ColumnarPurchaseList
  */
 
 public class PurchaseList implements Iterable<Purchase> {
-    private final ObservableList<Purchase> internalList = FXCollections.observableArrayList();
+    private final ColumnarPurchaseList internalList = new ColumnarPurchaseList();
     private final ObservableList<Purchase> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -75,6 +81,29 @@ public class PurchaseList implements Iterable<Purchase> {
         internalList.setAll(purchases);
     }
 
+    /**
+     * Replaces the purchases from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     */
+    public void replace(int fromIndex, int toIndex, List<Purchase> replacement) {
+        requireAllNonNull(replacement);
+        replaceRange(internalList, fromIndex, toIndex, replacement);
+    }
+
+    /**
+     * Returns a summary of the spending on the purchases with every one of {@code requiredTags}.
+     */
+    public SpendingSummary summarise(Set<Tag> requiredTags) {
+        requireNonNull(requiredTags);
+        return internalList.summarise(requiredTags);
+    }
+
+    /**
+     * Returns the name of the purchase at {@code index}, without creating the purchase.
+     */
+    public PurchaseName getPurchaseName(int index) {
+        return internalList.getPurchaseName(index);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
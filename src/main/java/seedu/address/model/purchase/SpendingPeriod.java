@@ -0,0 +1,72 @@
+package seedu.address.model.purchase;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * A length of time that spending can be totalled over.
+ * The periods of each length are numbered consecutively, so that a range of periods is a range of numbers.
+ */
+public enum SpendingPeriod {
+    DAY, WEEK, MONTH;
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int MONTHS_PER_YEAR = 12;
+    /** The epoch was a Thursday, 3 days after the Monday that starts its week. */
+    private static final int EPOCH_DAY_OF_WEEK = 3;
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy", Locale.ENGLISH);
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMM yyyy", Locale.ENGLISH);
+
+    /**
+     * Returns the number of the period containing the date {@code epochDay} days from the epoch.
+     * Weeks start on Monday.
+     */
+    public long indexOf(long epochDay) {
+        switch (this) {
+        case DAY:
+            return epochDay;
+        case WEEK:
+            return Math.floorDiv(epochDay + EPOCH_DAY_OF_WEEK, DAYS_PER_WEEK);
+        case MONTH:
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            return (long) date.getYear() * MONTHS_PER_YEAR + date.getMonthValue() - 1;
+        default:
+            throw new AssertionError("Unknown period: " + this);
+        }
+    }
+
+    /**
+     * Returns the first day of the period numbered {@code index}.
+     */
+    public LocalDate getFirstDay(long index) {
+        switch (this) {
+        case DAY:
+            return LocalDate.ofEpochDay(index);
+        case WEEK:
+            return LocalDate.ofEpochDay(index * DAYS_PER_WEEK - EPOCH_DAY_OF_WEEK);
+        case MONTH:
+            return LocalDate.of(Math.toIntExact(Math.floorDiv(index, MONTHS_PER_YEAR)),
+                    (int) Math.floorMod(index, MONTHS_PER_YEAR) + 1, 1);
+        default:
+            throw new AssertionError("Unknown period: " + this);
+        }
+    }
+
+    /**
+     * Returns a description of the period numbered {@code index} for the user, e.g. "Apr 2019" for a month.
+     */
+    public String getLabel(long index) {
+        switch (this) {
+        case DAY:
+            return DAY_FORMATTER.format(getFirstDay(index));
+        case WEEK:
+            return "Week of " + DAY_FORMATTER.format(getFirstDay(index));
+        case MONTH:
+            return MONTH_FORMATTER.format(getFirstDay(index));
+        default:
+            throw new AssertionError("Unknown period: " + this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.purchase;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running totals of the prices of a collection of purchases for every day, week and month with purchases.
+ * Purchases are added and removed one at a time as the list they belong to changes, so the totals never need to be
+ * recomputed, and the spending in a range of periods is found in time proportional to the number of periods, however
+ * many purchases there are.
+ * Undated purchases are not in any period, so they are left out of the totals.
+ */
+public class SpendingRollups {
+    private static final SpendingSummary NO_SPENDING = new SpendingSummary(0, 0, 0, 0, Collections.emptyMap());
+
+    /** The totals of each period with purchases, keyed by the number of the period. */
+    private final Map<SpendingPeriod, TreeMap<Long, SpendingTotals>> rollups = new EnumMap<>(SpendingPeriod.class);
+
+    public SpendingRollups() {
+        for (SpendingPeriod period : SpendingPeriod.values()) {
+            rollups.put(period, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Adds the price of {@code purchase} to the totals of the periods it was made in.
+     */
+    public void add(Purchase purchase) {
+        requireNonNull(purchase);
+        if (!purchase.getDate().isDated()) {
+            return;
+        }
+        long epochDay = purchase.getDate().epochDay;
+        rollups.forEach((period, periodTotals) ->
+                periodTotals.computeIfAbsent(period.indexOf(epochDay), unused -> new SpendingTotals()).add(purchase));
+    }
+
+    /**
+     * Removes the price of {@code purchase} from the totals of the periods it was made in.
+     * {@code purchase} must have been added before.
+     */
+    public void remove(Purchase purchase) {
+        requireNonNull(purchase);
+        if (!purchase.getDate().isDated()) {
+            return;
+        }
+        long epochDay = purchase.getDate().epochDay;
+        rollups.forEach((period, periodTotals) -> {
+            long index = period.indexOf(epochDay);
+            SpendingTotals totals = periodTotals.get(index);
+            totals.remove(purchase);
+            if (totals.isEmpty()) {
+                periodTotals.remove(index);
+            }
+        });
+    }
+
+    /**
+     * Removes every purchase from the totals.
+     */
+    public void clear() {
+        rollups.values().forEach(TreeMap::clear);
+    }
+
+    /**
+     * Returns the spending in each {@code period} numbered from {@code firstIndex} to {@code lastIndex} (inclusive),
+     * in order, including the periods without purchases.
+     */
+    public List<PeriodSpending> getSpending(SpendingPeriod period, long firstIndex, long lastIndex) {
+        requireNonNull(period);
+        List<PeriodSpending> spending = new ArrayList<>();
+        TreeMap<Long, SpendingTotals> periodTotals = rollups.get(period);
+        for (long index = firstIndex; index <= lastIndex; index++) {
+            SpendingTotals totals = periodTotals.get(index);
+            spending.add(new PeriodSpending(period, index, totals == null ? NO_SPENDING : totals.getSummary()));
+        }
+        return spending;
+    }
+}
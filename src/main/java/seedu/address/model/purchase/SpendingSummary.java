@@ -0,0 +1,90 @@
+package seedu.address.model.purchase;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Summarises the spending on a collection of purchases.
+ * Guarantees: immutable.
+ */
+public class SpendingSummary {
+    private final int purchaseCount;
+    private final long totalCents;
+    private final long minCents;
+    private final long maxCents;
+    private final Map<Tag, Long> tagTotalCents;
+
+    /**
+     * Creates a {@code SpendingSummary} of {@code purchaseCount} purchases.
+     * {@code minCents} and {@code maxCents} should be 0 if there are no purchases.
+     *
+     * @param tagTotalCents the total price of the purchases with each tag, in cents
+     */
+    public SpendingSummary(int purchaseCount, long totalCents, long minCents, long maxCents,
+                           Map<Tag, Long> tagTotalCents) {
+        requireNonNull(tagTotalCents);
+        this.purchaseCount = purchaseCount;
+        this.totalCents = totalCents;
+        this.minCents = minCents;
+        this.maxCents = maxCents;
+        this.tagTotalCents = Collections.unmodifiableMap(new HashMap<>(tagTotalCents));
+    }
+
+    public int getPurchaseCount() {
+        return purchaseCount;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public long getMinCents() {
+        return minCents;
+    }
+
+    public long getMaxCents() {
+        return maxCents;
+    }
+
+    /**
+     * Returns the total price of the purchases with each tag, in cents, as an immutable map.
+     */
+    public Map<Tag, Long> getTagTotalCents() {
+        return tagTotalCents;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SpendingSummary)) {
+            return false;
+        }
+
+        SpendingSummary otherSummary = (SpendingSummary) other;
+        return purchaseCount == otherSummary.purchaseCount
+                && totalCents == otherSummary.totalCents
+                && minCents == otherSummary.minCents
+                && maxCents == otherSummary.maxCents
+                && tagTotalCents.equals(otherSummary.tagTotalCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(purchaseCount, totalCents, minCents, maxCents, tagTotalCents);
+    }
+
+    @Override
+    public String toString() {
+        return purchaseCount + " purchases, total " + Price.formatCents(totalCents) + ", min "
+                + Price.formatCents(minCents) + ", max " + Price.formatCents(maxCents) + ", by tag " + tagTotalCents;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.purchase;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Running totals of the prices of a collection of purchases.
+ * Purchases are added and removed one at a time as the list they belong to changes, so the totals never need to be
+ * recomputed from the whole list, and summarising them takes time independent of the number of purchases.
+ */
+public class SpendingTotals {
+    private int purchaseCount;
+    private long totalCents;
+    /** Number of purchases at each price in cents, so that the cheapest and dearest are known after removals. */
+    private final TreeMap<Long, Integer> priceCounts = new TreeMap<>();
+    private final Map<Tag, TagTotal> tagTotals = new HashMap<>();
+
+    /**
+     * Adds the price of {@code purchase} to the totals.
+     */
+    public void add(Purchase purchase) {
+        requireNonNull(purchase);
+        long cents = purchase.getPrice().cents;
+        purchaseCount++;
+        totalCents += cents;
+        priceCounts.merge(cents, 1, Integer::sum);
+        for (Tag tag : purchase.getTags()) {
+            tagTotals.computeIfAbsent(tag, unused -> new TagTotal()).add(cents);
+        }
+    }
+
+    /**
+     * Removes the price of {@code purchase} from the totals.
+     * {@code purchase} must have been added before.
+     */
+    public void remove(Purchase purchase) {
+        requireNonNull(purchase);
+        long cents = purchase.getPrice().cents;
+        purchaseCount--;
+        totalCents -= cents;
+        priceCounts.computeIfPresent(cents, (unused, count) -> count == 1 ? null : count - 1);
+        for (Tag tag : purchase.getTags()) {
+            TagTotal tagTotal = tagTotals.get(tag);
+            tagTotal.remove(cents);
+            if (tagTotal.purchaseCount == 0) {
+                tagTotals.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes every purchase from the totals.
+     */
+    public void clear() {
+        purchaseCount = 0;
+        totalCents = 0;
+        priceCounts.clear();
+        tagTotals.clear();
+    }
+
+    /**
+     * Returns true if no purchases have been added, or every purchase added has been removed.
+     */
+    public boolean isEmpty() {
+        return purchaseCount == 0;
+    }
+
+    /**
+     * Returns a summary of the purchases added.
+     * This takes time proportional to the number of tags, however many purchases there are.
+     */
+    public SpendingSummary getSummary() {
+        Map<Tag, Long> tagTotalCents = new HashMap<>();
+        tagTotals.forEach((tag, tagTotal) -> tagTotalCents.put(tag, tagTotal.totalCents));
+        return new SpendingSummary(purchaseCount, totalCents, priceCounts.isEmpty() ? 0 : priceCounts.firstKey(),
+                priceCounts.isEmpty() ? 0 : priceCounts.lastKey(), tagTotalCents);
+    }
+
+    /**
+     * The total price of the purchases with a tag.
+     */
+    private static class TagTotal {
+        private int purchaseCount;
+        private long totalCents;
+
+        void add(long cents) {
+            purchaseCount++;
+            totalCents += cents;
+        }
+
+        void remove(long cents) {
+            purchaseCount--;
+            totalCents -= cents;
+        }
+    }
+}
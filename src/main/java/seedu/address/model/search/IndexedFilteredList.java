@@ -0,0 +1,317 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of an {@code ObservableList} filtered by a predicate, like {@code FilteredList}, that can also be filtered
+ * to elements found without testing every element of the list, e.g. through a {@code ListSearchIndex}.
+ * <p>
+ * Filtering by a predicate tests every element of the source list. Filtering to found elements only looks up where
+ * they are in the source list, in a map of the positions of its elements, so it takes time proportional to the
+ * number of elements found. The map is kept up to date as elements are appended to the source list, and is built
+ * again the first time it is needed after any other change to the source list.
+ * The positions can be kept by a key of the elements rather than by the elements themselves, e.g. by the names of
+ * purchases, so that the map does not keep every element of a source list that creates its elements as they are read.
+ * <p>
+ * Either way, changes to the source list are applied to the view by only testing the elements that were added.
+ *
+ * @param <E> the type of the elements in the list
+ */
+public class IndexedFilteredList<E> extends TransformationList<E, E> {
+
+    /** The source indexes of the elements in the view, in increasing order. Only the first {@code size} are used. */
+    private int[] sourceIndexes = new int[0];
+    private int size = 0;
+    private Predicate<? super E> predicate = unused -> true;
+
+    private final Function<? super E, ?> keyOf;
+    private final IntFunction<?> keyAt;
+    /** The last position of an element with each key in the source list, or null if it has to be built again. */
+    private Map<Object, Integer> lastPositions;
+    /** The previous position of an element with the same key as the one at each position in the source list, or -1. */
+    private int[] previousPositions = new int[0];
+
+    /**
+     * Creates an {@code IndexedFilteredList} that shows every element of {@code source}, and keeps the positions of
+     * the elements by the elements themselves.
+     */
+    public IndexedFilteredList(ObservableList<E> source) {
+        this(source, element -> element, source::get);
+    }
+
+    /**
+     * Creates an {@code IndexedFilteredList} that shows every element of {@code source}, and keeps the positions of
+     * the elements by the keys {@code keyOf} returns for them. {@code keyAt} must return the key of the element at a
+     * position in {@code source}, and equal elements must have equal keys.
+     */
+    public IndexedFilteredList(ObservableList<E> source, Function<? super E, ?> keyOf, IntFunction<?> keyAt) {
+        super(source);
+        requireNonNull(keyOf);
+        requireNonNull(keyAt);
+        this.keyOf = keyOf;
+        this.keyAt = keyAt;
+        setPredicate(predicate);
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Filters the view to the elements of the source list that match {@code predicate}, testing every element.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+
+        int[] indexes = new int[getSource().size()];
+        int count = 0;
+        for (int i = 0; i < getSource().size(); i++) {
+            if (predicate.test(getSource().get(i))) {
+                indexes[count++] = i;
+            }
+        }
+        show(indexes, count);
+    }
+
+    /**
+     * Filters the view to the elements of the source list that are equal to one of {@code elements}, only testing the
+     * elements of the source list with the same key as one of them. Elements that are not in the source list are
+     * ignored.
+     * Elements added to the source list afterwards are shown if they are equal to one of {@code elements}.
+     */
+    public void setElements(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        Set<E> elementSet = new HashSet<>(elements);
+        predicate = elementSet::contains;
+
+        Set<Object> keys = new HashSet<>();
+        elementSet.forEach(element -> keys.add(keyOf.apply(element)));
+        int[] indexes = findPositions(keys);
+        int count = 0;
+        for (int i : indexes) {
+            if (elementSet.contains(getSource().get(i))) {
+                indexes[count++] = i;
+            }
+        }
+        Arrays.sort(indexes, 0, count);
+        show(indexes, count);
+    }
+
+    /**
+     * Returns the elements of the source list with one of {@code keys}, without reading the other elements of the
+     * source list.
+     */
+    public List<E> getSourceElements(Collection<?> keys) {
+        requireNonNull(keys);
+        List<E> elements = new ArrayList<>();
+        for (int i : findPositions(new HashSet<>(keys))) {
+            elements.add(getSource().get(i));
+        }
+        return elements;
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return sourceIndexes[index];
+    }
+
+    /**
+     * Returns the index in the view of the element at {@code sourceIndex} in the source list, or -1 if it is not
+     * shown.
+     */
+    public int getViewIndex(int sourceIndex) {
+        int index = Arrays.binarySearch(sourceIndexes, 0, size, sourceIndex);
+        return index >= 0 ? index : -1;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+                lastPositions = null;
+            } else if (change.wasUpdated()) {
+                replace(change.getFrom(), new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo())),
+                        change.getTo());
+            } else {
+                replace(change.getFrom(), change.getRemoved(), change.getTo());
+                updatePositions(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Replaces the elements in the view with the elements at {@code indexes} in the source list.
+     */
+    private void show(int[] indexes, int count) {
+        List<E> removed = new ArrayList<>(this);
+        sourceIndexes = indexes;
+        size = count;
+        if (removed.isEmpty() && size == 0) {
+            return;
+        }
+
+        beginChange();
+        if (removed.isEmpty()) {
+            nextAdd(0, size);
+        } else if (size == 0) {
+            nextRemove(0, removed);
+        } else {
+            nextReplace(0, size, removed);
+        }
+        endChange();
+    }
+
+    /**
+     * Applies the replacement of {@code removed} at {@code from} in the source list with the elements now from
+     * {@code from} to {@code to}, testing the added elements against the predicate.
+     */
+    private void replace(int from, List<? extends E> removed, int to) {
+        int fromIndex = findIndex(from);
+        int toIndex = findIndex(from + removed.size());
+        List<E> removedShown = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            removedShown.add(removed.get(sourceIndexes[i] - from));
+        }
+
+        int[] added = new int[to - from];
+        int addedCount = 0;
+        for (int i = from; i < to; i++) {
+            if (predicate.test(getSource().get(i))) {
+                added[addedCount++] = i;
+            }
+        }
+
+        int newSize = size - removedShown.size() + addedCount;
+        if (newSize > sourceIndexes.length) {
+            sourceIndexes = Arrays.copyOf(sourceIndexes, Math.max(newSize, sourceIndexes.length * 2));
+        }
+        int shift = (to - from) - removed.size();
+        System.arraycopy(sourceIndexes, toIndex, sourceIndexes, fromIndex + addedCount, size - toIndex);
+        for (int i = fromIndex + addedCount; i < newSize; i++) {
+            sourceIndexes[i] += shift;
+        }
+        System.arraycopy(added, 0, sourceIndexes, fromIndex, addedCount);
+        size = newSize;
+
+        if (removedShown.isEmpty() && addedCount > 0) {
+            nextAdd(fromIndex, fromIndex + addedCount);
+        } else if (!removedShown.isEmpty() && addedCount == 0) {
+            nextRemove(fromIndex, removedShown);
+        } else if (!removedShown.isEmpty()) {
+            nextReplace(fromIndex, fromIndex + addedCount, removedShown);
+        }
+    }
+
+    /**
+     * Applies the reordering of the elements from {@code change.getFrom()} to {@code change.getTo()} in the source
+     * list to the view.
+     */
+    private void permute(Change<? extends E> change) {
+        int fromIndex = findIndex(change.getFrom());
+        int toIndex = findIndex(change.getTo());
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            sourceIndexes[i] = change.getPermutation(sourceIndexes[i]);
+            removed.add(getSource().get(sourceIndexes[i]));
+        }
+        Arrays.sort(sourceIndexes, fromIndex, toIndex);
+        nextReplace(fromIndex, toIndex, removed);
+    }
+
+    /**
+     * Returns the index in the view of the first element at or after {@code sourceIndex} in the source list.
+     */
+    private int findIndex(int sourceIndex) {
+        int index = Arrays.binarySearch(sourceIndexes, 0, size, sourceIndex);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Returns the positions in the source list of the elements with one of {@code keys}, in no particular order.
+     */
+    private int[] findPositions(Set<?> keys) {
+        if (lastPositions == null) {
+            buildPositions();
+        }
+        int[] positions = new int[keys.size()];
+        int count = 0;
+        for (Object key : keys) {
+            for (int i = lastPositions.getOrDefault(key, -1); i >= 0; i = previousPositions[i]) {
+                if (count == positions.length) {
+                    positions = Arrays.copyOf(positions, count * 2);
+                }
+                positions[count++] = i;
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    private void buildPositions() {
+        lastPositions = new HashMap<>();
+        previousPositions = new int[getSource().size()];
+        for (int i = 0; i < getSource().size(); i++) {
+            addPosition(i);
+        }
+    }
+
+    /**
+     * Keeps the positions up to date if elements were only appended to the source list, or drops them otherwise.
+     */
+    private void updatePositions(Change<? extends E> change) {
+        if (lastPositions == null) {
+            return;
+        }
+        if (change.wasRemoved() || change.getTo() != getSource().size()) {
+            lastPositions = null;
+            return;
+        }
+        if (getSource().size() > previousPositions.length) {
+            previousPositions = Arrays.copyOf(previousPositions,
+                    Math.max(getSource().size(), previousPositions.length * 2));
+        }
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            addPosition(i);
+        }
+    }
+
+    private void addPosition(int position) {
+        Integer previousPosition = lastPositions.put(keyAt.apply(position), position);
+        previousPositions[position] = previousPosition == null ? -1 : previousPosition;
+    }
+}
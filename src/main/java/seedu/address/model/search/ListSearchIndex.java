@@ -0,0 +1,81 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A {@code WordIndex} of the words in the keys of the items of an {@code ObservableList}, kept up to date as items
+ * are added to and removed from the list.
+ * Items with equal keys share one entry in the index, so the index only grows with the number of distinct keys, e.g.
+ * the distinct names of the purchases in a list, and does not keep the items themselves.
+ *
+ * @param <T> the type of the items in the list
+ * @param <K> the type of the keys of the items
+ */
+public class ListSearchIndex<T, K> {
+
+    private final WordIndex<K> wordIndex = new WordIndex<>();
+    private final Function<? super T, ? extends K> keyOf;
+    private final Function<? super K, String> textOf;
+
+    /**
+     * Creates a {@code ListSearchIndex} of the words in the text {@code textOf} returns for the key {@code keyOf}
+     * returns for each item of {@code list}.
+     */
+    public ListSearchIndex(ObservableList<T> list, Function<? super T, ? extends K> keyOf,
+            Function<? super K, String> textOf) {
+        requireAllNonNull(list, keyOf, textOf);
+        this.keyOf = keyOf;
+        this.textOf = textOf;
+        list.forEach(this::add);
+        list.addListener(this::onListChanged);
+    }
+
+    /**
+     * Creates a {@code ListSearchIndex} of the words in the text {@code textOf} returns for each item of
+     * {@code list}, in which each item is its own key.
+     */
+    public static <T> ListSearchIndex<T, T> of(ObservableList<T> list, Function<? super T, String> textOf) {
+        return new ListSearchIndex<>(list, item -> item, textOf);
+    }
+
+    /**
+     * Returns the keys of the items matching any of {@code keywords}.
+     *
+     * @see SearchKeyword
+     */
+    public Set<K> find(List<String> keywords) {
+        Set<K> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(wordIndex.find(SearchKeyword.parse(keyword)));
+        }
+        return matches;
+    }
+
+    private void onListChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(T item) {
+        K key = keyOf.apply(item);
+        wordIndex.add(key, SearchKeyword.toWords(textOf.apply(key)));
+    }
+
+    private void remove(T item) {
+        K key = keyOf.apply(item);
+        wordIndex.remove(key, SearchKeyword.toWords(textOf.apply(key)));
+    }
+}
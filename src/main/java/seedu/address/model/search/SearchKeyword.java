@@ -0,0 +1,210 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A keyword to search for, parsed from what the user typed.
+ * A keyword ending with {@code *} matches words starting with it, and a keyword ending with {@code ~} matches words
+ * within one edit of it, or within two edits if it ends with {@code ~2}. Other keywords match whole words only.
+ * Keywords are compared ignoring case. A keyword made up of several words, e.g. an email address, matches a text if
+ * every one of its words matches a word in the text.
+ */
+public class SearchKeyword {
+
+    /** The match types of the keywords that can be searched for. */
+    public enum MatchType {
+        WHOLE_WORD, PREFIX, FUZZY
+    }
+
+    public static final String PREFIX_SUFFIX = "*";
+    public static final String FUZZY_SUFFIX = "~";
+    public static final int MAX_EDIT_DISTANCE = 2;
+
+    private final List<String> words;
+    private final MatchType matchType;
+    private final int maxEditDistance;
+
+    private SearchKeyword(List<String> words, MatchType matchType, int maxEditDistance) {
+        this.words = words;
+        this.matchType = matchType;
+        this.maxEditDistance = maxEditDistance;
+    }
+
+    /**
+     * Parses {@code keyword} into a {@code SearchKeyword}.
+     */
+    public static SearchKeyword parse(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.endsWith(PREFIX_SUFFIX)) {
+            return new SearchKeyword(toWords(keyword.substring(0, keyword.length() - PREFIX_SUFFIX.length())),
+                    MatchType.PREFIX, 0);
+        }
+
+        int fuzzySuffixIndex = keyword.lastIndexOf(FUZZY_SUFFIX);
+        if (fuzzySuffixIndex != -1) {
+            String distance = keyword.substring(fuzzySuffixIndex + FUZZY_SUFFIX.length());
+            if (distance.isEmpty()) {
+                return new SearchKeyword(toWords(keyword.substring(0, fuzzySuffixIndex)), MatchType.FUZZY, 1);
+            }
+            if (distance.length() == 1 && distance.charAt(0) >= '1' && distance.charAt(0) <= '0' + MAX_EDIT_DISTANCE) {
+                return new SearchKeyword(toWords(keyword.substring(0, fuzzySuffixIndex)), MatchType.FUZZY,
+                        distance.charAt(0) - '0');
+            }
+        }
+        return new SearchKeyword(toWords(keyword), MatchType.WHOLE_WORD, 0);
+    }
+
+    /**
+     * Returns the words of the keyword, in lower case.
+     */
+    public List<String> getWords() {
+        return Collections.unmodifiableList(words);
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    /**
+     * Returns the number of edits a word may be from a word of the keyword and still match it.
+     */
+    public int getMaxEditDistance() {
+        return maxEditDistance;
+    }
+
+    /**
+     * Returns true if every word of the keyword matches one of {@code textWords}.
+     * Returns false if the keyword has no words.
+     * @param textWords words in lower case, as returned by {@link #toWords(String)}
+     */
+    public boolean matches(List<String> textWords) {
+        requireNonNull(textWords);
+        return !words.isEmpty() && words.stream()
+                .allMatch(word -> textWords.stream().anyMatch(textWord -> matchesWord(word, textWord)));
+    }
+
+    /**
+     * Returns true if {@code textWord} matches {@code word} of the keyword.
+     */
+    private boolean matchesWord(String word, String textWord) {
+        switch (matchType) {
+        case WHOLE_WORD:
+            return textWord.equals(word);
+        case PREFIX:
+            return textWord.startsWith(word);
+        case FUZZY:
+            return isWithinEditDistance(word, textWord, maxEditDistance);
+        default:
+            throw new AssertionError("Unknown match type: " + matchType);
+        }
+    }
+
+    /**
+     * Returns true if {@code first} can be changed into {@code second} with at most {@code maxDistance} insertions,
+     * deletions and substitutions of characters.
+     */
+    static boolean isWithinEditDistance(String first, String second, int maxDistance) {
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return false;
+        }
+        int[] row = EditDistanceRow.first(first);
+        for (int i = 0; i < second.length(); i++) {
+            row = EditDistanceRow.next(row, first, second.charAt(i));
+            if (EditDistanceRow.min(row) > maxDistance) {
+                return false;
+            }
+        }
+        return row[first.length()] <= maxDistance;
+    }
+
+    /**
+     * Splits {@code text} into its maximal runs of letters and digits, in lower case.
+     * Any other character separates words, not only whitespace, e.g. {@code "#08-111"} has the words {@code "08"} and
+     * {@code "111"}.
+     */
+    public static List<String> toWords(String text) {
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && wordStart == -1) {
+                wordStart = i;
+            } else if (!isWordCharacter && wordStart != -1) {
+                words.add(text.substring(wordStart, i).toLowerCase(Locale.ROOT));
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchKeyword // instanceof handles nulls
+                && words.equals(((SearchKeyword) other).words)
+                && matchType == ((SearchKeyword) other).matchType
+                && maxEditDistance == ((SearchKeyword) other).maxEditDistance);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(words, matchType, maxEditDistance);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", words) + " (" + matchType + ")";
+    }
+
+    /**
+     * Rows of the table used to compute the edit distance between a word and each prefix of another word, one
+     * character at a time, so that words sharing a prefix can share the rows computed for it.
+     */
+    static class EditDistanceRow {
+        private EditDistanceRow() {} // prevents instantiation
+
+        /**
+         * Returns the edit distances between the empty string and each prefix of {@code word}.
+         */
+        static int[] first(String word) {
+            int[] row = new int[word.length() + 1];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = j;
+            }
+            return row;
+        }
+
+        /**
+         * Returns the edit distances between each prefix of {@code word} and the text {@code previousRow} was computed
+         * for, followed by {@code c}.
+         */
+        static int[] next(int[] previousRow, String word, char c) {
+            int[] row = new int[previousRow.length];
+            row[0] = previousRow[0] + 1;
+            for (int j = 1; j < row.length; j++) {
+                int substitutionCost = word.charAt(j - 1) == c ? 0 : 1;
+                row[j] = Math.min(Math.min(previousRow[j] + 1, row[j - 1] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            return row;
+        }
+
+        /**
+         * Returns the smallest edit distance in {@code row}. No longer text starting with the same characters can be
+         * closer to any prefix of the word than this.
+         */
+        static int min(int[] row) {
+            int min = Integer.MAX_VALUE;
+            for (int distance : row) {
+                min = Math.min(min, distance);
+            }
+            return min;
+        }
+    }
+}
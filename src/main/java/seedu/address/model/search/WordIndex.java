@@ -0,0 +1,162 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from words to the items containing them, supporting whole word, prefix and fuzzy lookups.
+ * Words are kept sorted, so the words starting with a prefix are next to each other, and a fuzzy lookup can walk the
+ * words like a trie: the edit distances computed for a prefix are shared by every word starting with it, and words
+ * starting with a prefix that is already too far from the keyword are skipped without being looked at.
+ * An item may be added more than once, and stays in the index until it has been removed as many times.
+ *
+ * @param <T> the type of the items indexed
+ */
+public class WordIndex<T> {
+
+    /** The number of times each item was added with each word. */
+    private final NavigableMap<String, Map<T, Integer>> postings = new TreeMap<>();
+
+    /**
+     * Adds {@code item} to the index under each of {@code words}.
+     */
+    public void add(T item, List<String> words) {
+        requireNonNull(item);
+        for (String word : words) {
+            postings.computeIfAbsent(word, unused -> new HashMap<>()).merge(item, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes {@code item} from the index under each of {@code words}.
+     */
+    public void remove(T item, List<String> words) {
+        requireNonNull(item);
+        for (String word : words) {
+            postings.computeIfPresent(word, (unused, items) -> {
+                items.computeIfPresent(item, (unusedItem, count) -> count == 1 ? null : count - 1);
+                return items.isEmpty() ? null : items;
+            });
+        }
+    }
+
+    /**
+     * Removes every item from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the items under a word matching each of the words of {@code keyword}.
+     */
+    public Set<T> find(SearchKeyword keyword) {
+        requireNonNull(keyword);
+        List<Set<T>> wordMatches = new ArrayList<>();
+        for (String word : keyword.getWords()) {
+            wordMatches.add(findWord(word, keyword));
+        }
+        return intersect(wordMatches);
+    }
+
+    /**
+     * Returns the items under a word matching {@code word} in the way {@code keyword} matches words.
+     */
+    private Set<T> findWord(String word, SearchKeyword keyword) {
+        switch (keyword.getMatchType()) {
+        case WHOLE_WORD:
+            Map<T, Integer> items = postings.get(word);
+            return items == null ? Collections.emptySet() : items.keySet();
+        case PREFIX:
+            Set<T> prefixMatches = new HashSet<>();
+            postings.subMap(word, true, word + Character.MAX_VALUE, false).values()
+                    .forEach(matches -> prefixMatches.addAll(matches.keySet()));
+            return prefixMatches;
+        case FUZZY:
+            return findWithinEditDistance(word, keyword.getMaxEditDistance());
+        default:
+            throw new AssertionError("Unknown match type: " + keyword.getMatchType());
+        }
+    }
+
+    /**
+     * Returns the items under a word within {@code maxDistance} edits of {@code word}.
+     */
+    private Set<T> findWithinEditDistance(String word, int maxDistance) {
+        Set<T> matches = new HashSet<>();
+        // rows.get(i) holds the edit distances between the first i characters of previousWord and prefixes of word
+        List<int[]> rows = new ArrayList<>();
+        rows.add(SearchKeyword.EditDistanceRow.first(word));
+        String previousWord = "";
+
+        String indexedWord = postings.isEmpty() ? null : postings.firstKey();
+        while (indexedWord != null) {
+            int length = Math.min(commonPrefixLength(previousWord, indexedWord), rows.size() - 1);
+            boolean isTooFar = false;
+            while (length < indexedWord.length() && !isTooFar) {
+                int[] row = SearchKeyword.EditDistanceRow.next(rows.get(length), word, indexedWord.charAt(length));
+                length++;
+                if (length < rows.size()) {
+                    rows.set(length, row);
+                } else {
+                    rows.add(row);
+                }
+                isTooFar = SearchKeyword.EditDistanceRow.min(row) > maxDistance;
+            }
+            while (rows.size() > length + 1) {
+                rows.remove(rows.size() - 1);
+            }
+            previousWord = indexedWord;
+
+            if (isTooFar) {
+                // every word starting with this prefix is too far as well
+                indexedWord = postings.higherKey(indexedWord.substring(0, length) + Character.MAX_VALUE);
+                continue;
+            }
+            if (rows.get(length)[word.length()] <= maxDistance) {
+                matches.addAll(postings.get(indexedWord).keySet());
+            }
+            indexedWord = postings.higherKey(indexedWord);
+        }
+        return matches;
+    }
+
+    private static int commonPrefixLength(String first, String second) {
+        int maxLength = Math.min(first.length(), second.length());
+        int length = 0;
+        while (length < maxLength && first.charAt(length) == second.charAt(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the items in every one of {@code sets}, iterating over the smallest set only.
+     * Returns an empty set if {@code sets} is empty.
+     */
+    public static <T> Set<T> intersect(List<Set<T>> sets) {
+        if (sets.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Set<T>> sortedSets = new ArrayList<>(sets);
+        sortedSets.sort(Comparator.comparingInt(Set::size));
+        Set<T> intersection = new HashSet<>(sortedSets.get(0));
+        for (Set<T> set : sortedSets.subList(1, sortedSets.size())) {
+            if (intersection.isEmpty()) {
+                break;
+            }
+            intersection.retainAll(set);
+        }
+        return intersection;
+    }
+}
@@ -3,6 +3,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.ModelManager.isValidDate;
 
+import seedu.address.commons.util.DateTimeUtil;
+
 /**
  * DeadlineDate class
  * Guarantees: immutable; is valid as declared in {@link #isValidDeadlineDate(String)}
@@ -12,7 +14,6 @@ public class DeadlineDate {
             + " 6 integers in the ddMMyy format";
     public static final String MESSAGE_CONSTRAINTS_INVALID_DATE = "The date "
             + "you have entered does not exist";
-    public static final String VALIDATION_REGEX = "\\d{6}";
     public final String value;
 
     /**
@@ -32,7 +33,7 @@ public class DeadlineDate {
      * @return Returns true if a given string is a valid time
      */
     public static boolean isValidDeadlineDateInput(String deadlineDate) {
-        return deadlineDate.matches(VALIDATION_REGEX);
+        return DateTimeUtil.isDigits(deadlineDate, 6);
     }
 
     public static boolean isValidDeadlineDate(String deadlineDate) {
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.ModelManager.isValidTime;
 
+import seedu.address.commons.util.DateTimeUtil;
+
 
 /**
  * DeadlineTime class
@@ -15,7 +17,6 @@ public class DeadlineTime {
     /* The input time should contain exactly 4 digits */
     public static final String MESSAGE_CONSTRAINTS_INVALID_TIME = "Deadline Time is not"
             + " within the range of the 24HR Format";
-    public static final String VALIDATION_REGEX = "\\d{4}";
     public final String value;
 
     /**
@@ -33,7 +34,7 @@ public class DeadlineTime {
      * Returns true if a given string is 4 integers
      */
     public static boolean isValidDeadlineTimeInput(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return DateTimeUtil.isDigits(test, 4);
     }
 
     /**
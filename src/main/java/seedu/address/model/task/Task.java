@@ -3,20 +3,28 @@ package seedu.address.model.task;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.tag.Tag;
 
 /**
  * Task class which contains all the different classes
  */
 public class Task {
+    /** Orders tasks from the earliest deadline, then by task name. */
+    public static final Comparator<Task> DEADLINE_ORDER = Comparator.comparingLong(Task::getDeadlineEpochMinutes)
+            .thenComparing(task -> task.getTaskName().fullName);
+
     private final DeadlineDate deadlineDate;
     private final DeadlineTime deadlineTime;
     private final TaskName taskName;
     private final Set<Tag> tags = new HashSet<>();
+    /** Minutes from the epoch to the deadline. */
+    private final long deadlineEpochMinutes;
 
     public Task (TaskName taskName, DeadlineTime deadlineTime, DeadlineDate deadlineDate,
                  Set<Tag> tags) {
@@ -25,6 +33,7 @@ public class Task {
         this.deadlineTime = deadlineTime;
         this.taskName = taskName;
         this.tags.addAll(tags);
+        this.deadlineEpochMinutes = DateTimeUtil.toEpochMinutes(deadlineDate.value, deadlineTime.value);
     }
 
     public TaskName getTaskName() {
@@ -43,6 +52,14 @@ public class Task {
         return deadlineTime;
     }
 
+    /**
+     * Returns the deadline as the number of minutes from the epoch, so that deadlines can be compared without parsing
+     * them again.
+     */
+    public long getDeadlineEpochMinutes() {
+        return deadlineEpochMinutes;
+    }
+
     /**
      * Adds a completed tag to the task list
      */
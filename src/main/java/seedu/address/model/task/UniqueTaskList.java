@@ -1,24 +1,33 @@
 package seedu.address.model.task;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.replaceRange;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 
 /**
  * UniqueTaskList class
+ * A task is considered unique by its {@code TaskName}, see {@code Task#isSameTask(Task)}.
+ * Every task name in the list is indexed to its position in the backing list, so that lookups by task do not need to
+ * scan the whole list.
  */
 public class UniqueTaskList implements Iterable<Task> {
 
@@ -26,6 +35,19 @@ public class UniqueTaskList implements Iterable<Task> {
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Position of every task in {@code internalList}, keyed by its task name.
+     * Positions at or after {@code firstStalePosition} may be out of date and are refreshed before they are used.
+     */
+    private final Map<TaskName, Integer> positions = new HashMap<>();
+    private int firstStalePosition = 0;
+
+    /**
+     * {@code internalList} ordered by {@link Task#DEADLINE_ORDER}, created when it is first needed.
+     * Once created, it is kept in order as tasks are added, replaced and removed, without sorting the whole list.
+     */
+    private SortedList<Task> deadlineOrderedList;
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     /**
@@ -35,7 +57,7 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return positions.containsKey(toCheck.getTaskName());
     }
 
     /**
@@ -47,6 +69,10 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
+        if (firstStalePosition == internalList.size()) {
+            firstStalePosition++;
+        }
+        positions.put(toAdd.getTaskName(), internalList.size());
         internalList.add(toAdd);
         logger.log(Level.FINE, "PROCESSINGT THROUGH UNIQUE TASK LIST");
     }
@@ -58,6 +84,62 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the tasks ordered by {@link Task#DEADLINE_ORDER} as an unmodifiable {@code ObservableList}, which stays
+     * in order as the backing list changes.
+     */
+    public ObservableList<Task> asDeadlineOrderedList() {
+        if (deadlineOrderedList == null) {
+            deadlineOrderedList = new SortedList<>(internalUnmodifiableList, Task.DEADLINE_ORDER);
+        }
+        return deadlineOrderedList;
+    }
+
+    /**
+     * Returns the tasks due from {@code fromEpochMinutes} (inclusive) to {@code toEpochMinutes} (exclusive), earliest
+     * first. The tasks are found by binary search over {@link #asDeadlineOrderedList()}, so only the tasks returned
+     * are visited.
+     *
+     * @see Task#getDeadlineEpochMinutes()
+     */
+    public List<Task> getTasksDueBetween(long fromEpochMinutes, long toEpochMinutes) {
+        if (fromEpochMinutes >= toEpochMinutes) {
+            return Collections.emptyList();
+        }
+        List<Task> orderedTasks = asDeadlineOrderedList();
+        int fromIndex = indexOfFirstTaskDueFrom(fromEpochMinutes);
+        int toIndex = indexOfFirstTaskDueFrom(toEpochMinutes);
+        return new ArrayList<>(orderedTasks.subList(fromIndex, toIndex));
+    }
+
+    /**
+     * Returns the first task due at or after {@code fromEpochMinutes}, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<Task> getNextTaskDue(long fromEpochMinutes) {
+        List<Task> orderedTasks = asDeadlineOrderedList();
+        int index = indexOfFirstTaskDueFrom(fromEpochMinutes);
+        return index < orderedTasks.size() ? Optional.of(orderedTasks.get(index)) : Optional.empty();
+    }
+
+    /**
+     * Returns the position in {@link #asDeadlineOrderedList()} of the first task due at or after
+     * {@code epochMinutes}, or the size of the list if there is none.
+     */
+    private int indexOfFirstTaskDueFrom(long epochMinutes) {
+        List<Task> orderedTasks = asDeadlineOrderedList();
+        int low = 0;
+        int high = orderedTasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (orderedTasks.get(middle).getDeadlineEpochMinutes() < epochMinutes) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
     @Override
     public Iterator<Task> iterator() {
         return internalList.iterator();
@@ -66,7 +148,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -75,6 +157,8 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
         internalList.set(index, editedTask);
+        positions.remove(target.getTaskName());
+        positions.put(editedTask.getTaskName(), index);
     }
 
     public void setTasks(List<Task> tasks) {
@@ -83,11 +167,30 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
         internalList.setAll(tasks);
+        rebuildPositions();
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildPositions();
+    }
+
+    /**
+     * Replaces the tasks from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     * Unlike the other mutators, {@code replacement} is not checked for duplicates, so this must only be used to
+     * restore a previously valid state of the list, e.g. when undoing or redoing a change.
+     */
+    public void replace(int fromIndex, int toIndex, List<Task> replacement) {
+        requireAllNonNull(replacement);
+        internalList.subList(fromIndex, toIndex).forEach(task -> positions.remove(task.getTaskName()));
+        replaceRange(internalList, fromIndex, toIndex, replacement);
+        for (int i = 0; i < replacement.size(); i++) {
+            positions.put(replacement.get(i).getTaskName(), fromIndex + i);
+        }
+        if (toIndex - fromIndex != replacement.size()) {
+            firstStalePosition = Math.min(firstStalePosition, fromIndex + replacement.size());
+        }
     }
 
     /**
@@ -96,18 +199,22 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getTaskName());
+        firstStalePosition = Math.min(firstStalePosition, index);
     }
 
     /**
-     * Sorts the tasks in the internallist from earliest first
+     * Sorts the tasks in the internallist from earliest first, in the same order as {@link #asDeadlineOrderedList()}.
+     * Sorting only permutes the tasks, so the deadline ordered list does not have to be rebuilt.
      */
     public void sortTask() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("ddMMyy HHmm");
-        internalList.sort(Comparator.comparing(task -> LocalDateTime.parse((task.getDeadlineDate().value
-                + ' ' + task.getDeadlineTime().value), formatter)));
+        internalList.sort(Task.DEADLINE_ORDER);
+        firstStalePosition = 0;
     }
 
     /**
@@ -133,13 +240,47 @@ public class UniqueTaskList implements Iterable<Task> {
      * @return a boolean
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<TaskName> seen = new HashSet<>();
+        for (Task task : tasks) {
+            if (!seen.add(task.getTaskName())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of the task equal to {@code task} in the list, or -1 if there is none.
+     */
+    public int indexOf(Task task) {
+        requireNonNull(task);
+        Integer index = positions.get(task.getTaskName());
+        if (index == null) {
+            return -1;
+        }
+        if (index >= firstStalePosition) {
+            refreshStalePositions();
+            index = positions.get(task.getTaskName());
+        }
+        return internalList.get(index).equals(task) ? index : -1;
+    }
+
+    /**
+     * Re-indexes the tasks from {@code firstStalePosition} to the end of {@code internalList}.
+     */
+    private void refreshStalePositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getTaskName(), i);
+        }
+        firstStalePosition = internalList.size();
+    }
+
+    /**
+     * Re-indexes every task in {@code internalList}.
+     */
+    private void rebuildPositions() {
+        positions.clear();
+        firstStalePosition = 0;
+        refreshStalePositions();
+    }
 }
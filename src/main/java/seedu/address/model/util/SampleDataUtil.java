@@ -25,6 +25,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.purchase.Price;
 import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.PurchaseDate;
 import seedu.address.model.purchase.PurchaseName;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.DeadlineDate;
@@ -77,15 +78,15 @@ public class SampleDataUtil {
 
     public static Purchase[] getSamplePurchases() {
         return new Purchase[] {
-            new Purchase(new PurchaseName("Chicken rice"), new Price("3.50"),
+            new Purchase(new PurchaseName("Chicken rice"), new Price("3.50"), new PurchaseDate("250319"),
                 getTagSet("food")),
-            new Purchase(new PurchaseName("Bicycle rental for 3hrs"), new Price("10.00"),
+            new Purchase(new PurchaseName("Bicycle rental for 3hrs"), new Price("10.00"), new PurchaseDate("300319"),
                 getTagSet("family", "outing")),
-            new Purchase(new PurchaseName("Calbee potato chip"), new Price("1.50"),
+            new Purchase(new PurchaseName("Calbee potato chip"), new Price("1.50"), new PurchaseDate("010419"),
                 getTagSet("snack")),
-            new Purchase(new PurchaseName("Gongcha honey milk tea"), new Price("3.70"),
+            new Purchase(new PurchaseName("Gongcha honey milk tea"), new Price("3.70"), new PurchaseDate("010419"),
                 getTagSet("drinks")),
-            new Purchase(new PurchaseName("Movie captain marvel"), new Price("13.50"),
+            new Purchase(new PurchaseName("Movie captain marvel"), new Price("13.50"), new PurchaseDate("070419"),
                 getTagSet("entertainment", "sunday"))
         };
     }
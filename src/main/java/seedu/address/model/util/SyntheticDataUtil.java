@@ -0,0 +1,231 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.habit.Habit;
+import seedu.address.model.habit.HabitTitle;
+import seedu.address.model.habit.Progress;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.purchase.Price;
+import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.PurchaseDate;
+import seedu.address.model.purchase.PurchaseName;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.DeadlineDate;
+import seedu.address.model.task.DeadlineTime;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskName;
+import seedu.address.model.workout.Exercise;
+import seedu.address.model.workout.Reps;
+import seedu.address.model.workout.Sets;
+import seedu.address.model.workout.Time;
+import seedu.address.model.workout.Workout;
+
+/**
+ * Contains utility methods for generating any number of realistic entries for each list in LIFE, in the style of
+ * {@link SampleDataUtil}, e.g. to measure how LIFE performs with a lot of data.
+ * The persons, tasks and habits generated for different indexes are distinct, and the same random numbers always give
+ * the same entry.
+ */
+public class SyntheticDataUtil {
+    /** The day that generated purchases are made up to, and that generated deadlines start from. */
+    public static final LocalDate REFERENCE_DATE = LocalDate.of(2019, 4, 1);
+
+    private static final String[] FIRST_NAMES = {"Alexis", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Siti", "Rajesh", "Mei", "Jun Jie", "Nur", "Priya", "Daniel", "Hui Min", "Arjun"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim",
+        "Ng", "Wong", "Kumar", "Abdullah", "Chua", "Goh", "Pillai", "Teo"};
+    private static final String[] STREETS = {"Geylang Street", "Serangoon Gardens", "Ang Mo Kio Street",
+        "Tampines Street", "Aljunied Street", "Bedok North Road", "Jurong West Street", "Clementi Avenue"};
+    private static final String[] PERSON_TAGS = {"friends", "colleagues", "family", "neighbours", "classmates"};
+
+    private static final String[] TASK_ACTIONS = {"Submit", "Review", "Prepare", "Draft", "Update", "Present"};
+    private static final String[] TASK_SUBJECTS = {"Developer Guide", "User Guide", "Pull Request", "Assignment",
+        "Product Demo", "Tutorial", "Report", "Slides"};
+    private static final String[] TASK_TAGS = {"IMPORTANT", "TEAM", "PRACTICE", "URGENT"};
+
+    private static final String[] PURCHASE_NAMES = {"Chicken rice", "Kopi", "Gongcha honey milk tea",
+        "Calbee potato chip", "Bus fare", "Movie ticket", "Bicycle rental", "Groceries", "Laksa", "Taxi ride"};
+    private static final String[] PURCHASE_TAGS = {"food", "drinks", "transport", "snack", "entertainment", "family"};
+
+    private static final String[] HABIT_TITLES = {"no supper", "drink water", "sleep early", "read", "meditate",
+        "walk"};
+    private static final String[] HABIT_TAGS = {"health", "food", "fitness"};
+    private static final String[] EXERCISES = {"push ups", "sit ups", "squats", "lunges", "plank", "running"};
+
+    private SyntheticDataUtil() {} // prevents instantiation
+
+    /**
+     * Returns the entries generated by {@code generator} for the indexes from 0 (inclusive) to {@code count}
+     * (exclusive), using random numbers seeded with {@code seed}.
+     */
+    public static <T> List<T> generate(int count, long seed, BiFunction<Random, Integer, T> generator) {
+        Random random = new Random(seed);
+        List<T> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(generator.apply(random, i));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns a person with a name, phone number and email address unique to {@code index}.
+     */
+    public static Person generatePerson(Random random, int index) {
+        return generatePerson(random, index, Distribution.DEFAULT);
+    }
+
+    /**
+     * Returns a person with a name, phone number and email address unique to {@code index}, with up to
+     * {@code distribution.maxTags} tags.
+     */
+    public static Person generatePerson(Random random, int index, Distribution distribution) {
+        String firstName = pick(random, FIRST_NAMES);
+        String lastName = pick(random, LAST_NAMES);
+        String emailName = (firstName + lastName).replace(" ", "").toLowerCase();
+        return new Person(new Name(firstName + " " + lastName + " " + index),
+                new Phone(String.valueOf(80000000L + index)),
+                new Email(emailName + index + "@example.com"),
+                new Address(String.format("Blk %d %s %d, #%02d-%02d", 1 + random.nextInt(999),
+                        pick(random, STREETS), 1 + random.nextInt(99), 1 + random.nextInt(30),
+                        1 + random.nextInt(99))),
+                pickTags(random, PERSON_TAGS, distribution.maxTags));
+    }
+
+    /**
+     * Returns a task with a name unique to {@code index}, due within a year from {@link #REFERENCE_DATE}.
+     */
+    public static Task generateTask(Random random, int index) {
+        return generateTask(random, index, Distribution.DEFAULT);
+    }
+
+    /**
+     * Returns a task with a name unique to {@code index}, due within {@code distribution.deadlineDays} days from
+     * {@link #REFERENCE_DATE}.
+     */
+    public static Task generateTask(Random random, int index, Distribution distribution) {
+        long epochDay = REFERENCE_DATE.toEpochDay() + random.nextInt(distribution.deadlineDays);
+        String date = DateTimeUtil.fromEpochDay(epochDay);
+        String time = String.format("%02d%02d", random.nextInt(24), 5 * random.nextInt(12));
+        return new Task(new TaskName(pick(random, TASK_ACTIONS) + " " + pick(random, TASK_SUBJECTS) + " " + index),
+                new DeadlineTime(time), new DeadlineDate(date), pickTags(random, TASK_TAGS, distribution.maxTags));
+    }
+
+    /**
+     * Returns a purchase made within 3 years up to {@link #REFERENCE_DATE}.
+     * Most purchases are cheap, and a few are expensive.
+     */
+    public static Purchase generatePurchase(Random random, int index) {
+        return generatePurchase(random, index, Distribution.DEFAULT);
+    }
+
+    /**
+     * Returns a purchase made within {@code distribution.purchaseDays} days up to {@link #REFERENCE_DATE}.
+     * The prices are exponentially distributed around {@code distribution.meanPurchaseCents}.
+     */
+    public static Purchase generatePurchase(Random random, int index, Distribution distribution) {
+        long cents = (long) (-Math.log(1 - random.nextDouble()) * distribution.meanPurchaseCents);
+        long epochDay = REFERENCE_DATE.toEpochDay() - random.nextInt(distribution.purchaseDays);
+        return new Purchase(new PurchaseName(pick(random, PURCHASE_NAMES)), Price.fromCents(cents),
+                PurchaseDate.fromEpochDay(epochDay), pickTags(random, PURCHASE_TAGS, distribution.maxTags));
+    }
+
+    /**
+     * Returns a habit with a title unique to {@code index}.
+     */
+    public static Habit generateHabit(Random random, int index) {
+        return generateHabit(random, index, Distribution.DEFAULT);
+    }
+
+    /**
+     * Returns a habit with a title unique to {@code index}, with up to {@code distribution.maxTags} tags.
+     */
+    public static Habit generateHabit(Random random, int index, Distribution distribution) {
+        return new Habit(new HabitTitle(pick(random, HABIT_TITLES) + " " + index),
+                new Progress(String.valueOf(random.nextInt(10))),
+                pickTags(random, HABIT_TAGS, distribution.maxTags));
+    }
+
+    /**
+     * Returns a workout.
+     */
+    public static Workout generateWorkout(Random random, int index) {
+        return new Workout(new Exercise(pick(random, EXERCISES)), new Sets(String.valueOf(1 + random.nextInt(5))),
+                new Reps(String.valueOf(5 + random.nextInt(16))), new Time(String.valueOf(5 + random.nextInt(56))));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Returns up to {@code maxTags} of {@code tagNames}, where the earlier tags are picked more often than the later
+     * ones.
+     */
+    private static Set<Tag> pickTags(Random random, String[] tagNames, int maxTags) {
+        String[] picked = new String[random.nextInt(maxTags + 1)];
+        for (int i = 0; i < picked.length; i++) {
+            picked[i] = tagNames[Math.min(random.nextInt(tagNames.length), random.nextInt(tagNames.length))];
+        }
+        return SampleDataUtil.getTagSet(picked);
+    }
+
+    /**
+     * The distributions that the fields of generated entries are drawn from.
+     */
+    public static class Distribution {
+        /**
+         * The most days that purchases can be made within, as dates are written with two digits for the year, which
+         * are read as a year in the 2000s.
+         */
+        public static final int MAX_PURCHASE_DAYS = (int) (REFERENCE_DATE.toEpochDay()
+                - LocalDate.of(2000, 1, 1).toEpochDay() + 1);
+        /** The most days that tasks can be due within, for the same reason. */
+        public static final int MAX_DEADLINE_DAYS = (int) (LocalDate.of(2099, 12, 31).toEpochDay()
+                - REFERENCE_DATE.toEpochDay() + 1);
+        /**
+         * The largest mean purchase price, in cents, that keeps every price generated within {@link Price#MAX_CENTS}.
+         * Prices are at most 37 times the mean, as {@code -Math.log(1 - random.nextDouble())} is below 53 ln 2.
+         */
+        public static final double MAX_MEAN_PURCHASE_CENTS = Price.MAX_CENTS / 37.0;
+
+        /** The distributions used when none are given, which resemble the sample data. */
+        public static final Distribution DEFAULT = new Distribution(2, 800, 3 * 365, 365);
+
+        public static final String MESSAGE_CONSTRAINTS = "The maximum number of tags cannot be negative, the mean "
+                + "purchase price must be from 0 to " + (long) MAX_MEAN_PURCHASE_CENTS + " cents, purchases must be "
+                + "made within 1 to " + MAX_PURCHASE_DAYS + " days, and tasks must be due within 1 to "
+                + MAX_DEADLINE_DAYS + " days";
+
+        /** The maximum number of tags of each entry. */
+        public final int maxTags;
+        /** The average price of a purchase, in cents. */
+        public final double meanPurchaseCents;
+        /** The number of days up to {@link #REFERENCE_DATE} that purchases are made within. */
+        public final int purchaseDays;
+        /** The number of days from {@link #REFERENCE_DATE} that tasks are due within. */
+        public final int deadlineDays;
+
+        public Distribution(int maxTags, double meanPurchaseCents, int purchaseDays, int deadlineDays) {
+            checkArgument(maxTags >= 0 && meanPurchaseCents >= 0 && meanPurchaseCents <= MAX_MEAN_PURCHASE_CENTS
+                    && purchaseDays > 0 && purchaseDays <= MAX_PURCHASE_DAYS
+                    && deadlineDays > 0 && deadlineDays <= MAX_DEADLINE_DAYS, MESSAGE_CONSTRAINTS);
+            this.maxTags = maxTags;
+            this.meanPurchaseCents = meanPurchaseCents;
+            this.purchaseDays = purchaseDays;
+            this.deadlineDays = deadlineDays;
+        }
+    }
+}
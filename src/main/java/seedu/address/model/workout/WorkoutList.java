@@ -1,6 +1,7 @@
 package seedu.address.model.workout;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.replaceRange;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
@@ -47,6 +48,14 @@ public class WorkoutList implements Iterable<Workout> {
         }
         return results;
     }
+    /**
+     * Replaces the workouts from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     */
+    public void replace(int fromIndex, int toIndex, List<Workout> replacement) {
+        requireAllNonNull(replacement);
+        replaceRange(internalList, fromIndex, toIndex, replacement);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
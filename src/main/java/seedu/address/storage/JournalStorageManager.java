@@ -0,0 +1,216 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ContactList;
+import seedu.address.model.ExpenditureList;
+import seedu.address.model.HabitTrackerList;
+import seedu.address.model.ListEdit;
+import seedu.address.model.ReadOnlyContactList;
+import seedu.address.model.ReadOnlyExpenditureList;
+import seedu.address.model.ReadOnlyHabitTrackerList;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.ReadOnlyWorkoutBook;
+import seedu.address.model.TaskList;
+import seedu.address.model.WorkoutBook;
+import seedu.address.model.habit.Habit;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.purchase.Purchase;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.DuplicateTaskException;
+import seedu.address.model.workout.Workout;
+
+/**
+ * Manages storage of the application's lists in local storage, saving each list by appending the edits made to it
+ * to a journal next to its data file instead of rewriting the whole file.
+ * The data files are only rewritten when their journals are compacted, or when a list is saved without its edits.
+ * Reading or saving a list at a path other than its data file is not journalled.
+ *
+ * @see JsonListJournal
+ */
+public class JournalStorageManager extends StorageManager {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalStorageManager.class);
+
+    private final JsonListJournal<Person, JsonAdaptedPerson> contactListJournal;
+    private final JsonListJournal<Task, JsonAdaptedTask> taskListJournal;
+    private final JsonListJournal<Purchase, JsonAdaptedPurchase> expenditureListJournal;
+    private final JsonListJournal<Workout, JsonAdaptedWorkout> workoutBookJournal;
+    private final JsonListJournal<Habit, JsonAdaptedHabit> habitTrackerListJournal;
+
+    public JournalStorageManager(ContactListStorage contactListStorage, UserPrefsStorage userPrefsStorage,
+                                 TaskListStorage taskListStorage, ExpenditureListStorage expenditureListStorage,
+                                 WorkoutBookStorage workoutBookStorage, TickedTaskListStorage tickedTaskListStorage,
+                                 HabitTrackerListStorage habitTrackerListStorage) {
+        this(contactListStorage, userPrefsStorage, taskListStorage, expenditureListStorage, workoutBookStorage,
+                tickedTaskListStorage, habitTrackerListStorage, JsonListJournal.DEFAULT_MIN_COMPACTION_SIZE);
+    }
+
+    /**
+     * Creates a {@code JournalStorageManager} that does not compact journals smaller than
+     * {@code minCompactionSize} bytes.
+     */
+    public JournalStorageManager(ContactListStorage contactListStorage, UserPrefsStorage userPrefsStorage,
+                                 TaskListStorage taskListStorage, ExpenditureListStorage expenditureListStorage,
+                                 WorkoutBookStorage workoutBookStorage, TickedTaskListStorage tickedTaskListStorage,
+                                 HabitTrackerListStorage habitTrackerListStorage, long minCompactionSize) {
+        super(contactListStorage, userPrefsStorage, taskListStorage, expenditureListStorage, workoutBookStorage,
+                tickedTaskListStorage, habitTrackerListStorage);
+
+        contactListJournal = new JsonListJournal<>(contactListStorage.getContactListFilePath(),
+                JsonAdaptedPerson.class, JsonAdaptedPerson::new, JsonAdaptedPerson::toModelType, () ->
+                contactListStorage.readContactList().map(ReadOnlyContactList::getPersonList), persons ->
+                contactListStorage.saveContactList(new ContactList(persons)), minCompactionSize);
+        taskListJournal = new JsonListJournal<>(taskListStorage.getTaskListFilePath(),
+                JsonAdaptedTask.class, JsonAdaptedTask::new, JsonAdaptedTask::toModelType, () ->
+                taskListStorage.readTaskList().map(ReadOnlyTaskList::getTaskList), tasks ->
+                taskListStorage.saveTaskList(new TaskList(tasks)), minCompactionSize);
+        expenditureListJournal = new JsonListJournal<>(expenditureListStorage.getExpenditureListFilePath(),
+                JsonAdaptedPurchase.class, JsonAdaptedPurchase::new, JsonAdaptedPurchase::toModelType, () ->
+                expenditureListStorage.readExpenditureList().map(ReadOnlyExpenditureList::getPurchaseList),
+                purchases -> expenditureListStorage.saveExpenditureList(new ExpenditureList(purchases)),
+                minCompactionSize);
+        workoutBookJournal = new JsonListJournal<>(workoutBookStorage.getWorkoutBookFilePath(),
+                JsonAdaptedWorkout.class, JsonAdaptedWorkout::new, JsonAdaptedWorkout::toModelType, () ->
+                workoutBookStorage.readWorkoutBook().map(ReadOnlyWorkoutBook::getWorkoutList), workouts ->
+                workoutBookStorage.saveWorkoutBook(new WorkoutBook(workouts)), minCompactionSize);
+        habitTrackerListJournal = new JsonListJournal<>(habitTrackerListStorage.getHabitTrackerListFilePath(),
+                JsonAdaptedHabit.class, JsonAdaptedHabit::new, JsonAdaptedHabit::toModelType, () ->
+                habitTrackerListStorage.readHabitTrackerList().map(ReadOnlyHabitTrackerList::getHabitList),
+                habits -> habitTrackerListStorage.saveHabitTrackerList(new HabitTrackerList(habits)),
+                minCompactionSize);
+    }
+
+    // ================ ContactList methods ==============================
+
+    @Override
+    public Optional<ReadOnlyContactList> readContactList() throws DataConversionException, IOException {
+        logger.fine("Attempting to read journalled data from file: " + getContactListFilePath());
+        Optional<List<Person>> persons = contactListJournal.read();
+        try {
+            return persons.map(ContactList::new);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataConversionException(dpe);
+        }
+    }
+
+    @Override
+    public void saveContactList(ReadOnlyContactList contactList) throws IOException {
+        logger.fine("Attempting to write data file: " + getContactListFilePath());
+        contactListJournal.save(contactList.getPersonList());
+    }
+
+    @Override
+    public void saveContactListEdits(List<ListEdit<Person>> edits, Supplier<List<Person>> persons) throws IOException {
+        logger.fine("Attempting to journal changes to data file: " + getContactListFilePath());
+        contactListJournal.save(edits, persons);
+    }
+
+    // ====================task List methods ========================================
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException {
+        logger.fine("Attempting to read journalled data from file: " + getTaskListFilePath());
+        Optional<List<Task>> tasks = taskListJournal.read();
+        try {
+            return tasks.map(TaskList::new);
+        } catch (DuplicateTaskException dte) {
+            throw new DataConversionException(dte);
+        }
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        logger.fine("Attempting to write data file: " + getTaskListFilePath());
+        taskListJournal.save(taskList.getTaskList());
+    }
+
+    @Override
+    public void saveTaskListEdits(List<ListEdit<Task>> edits, Supplier<List<Task>> tasks) throws IOException {
+        logger.fine("Attempting to journal changes to data file: " + getTaskListFilePath());
+        taskListJournal.save(edits, tasks);
+    }
+
+    // ================ Expenditure List methods ==============================
+
+    @Override
+    public Optional<ReadOnlyExpenditureList> readExpenditureList() throws DataConversionException, IOException {
+        logger.fine("Attempting to read journalled data from file: " + getExpenditureListFilePath());
+        return expenditureListJournal.read().map(ExpenditureList::new);
+    }
+
+    @Override
+    public void saveExpenditureList(ReadOnlyExpenditureList expenditureList) throws IOException {
+        logger.fine("Attempting to write data file: " + getExpenditureListFilePath());
+        expenditureListJournal.save(expenditureList.getPurchaseList());
+    }
+
+    @Override
+    public void saveExpenditureListEdits(List<ListEdit<Purchase>> edits, Supplier<List<Purchase>> purchases)
+            throws IOException {
+        logger.fine("Attempting to journal changes to data file: " + getExpenditureListFilePath());
+        expenditureListJournal.save(edits, purchases);
+    }
+
+    // =================WorkoutBook methods =====================================
+
+    @Override
+    public Optional<ReadOnlyWorkoutBook> readWorkoutBook() throws DataConversionException, IOException {
+        logger.fine("Attempting to read journalled data from file: " + getWorkoutBookFilePath());
+        return workoutBookJournal.read().map(WorkoutBook::new);
+    }
+
+    @Override
+    public void saveWorkoutBook(ReadOnlyWorkoutBook workoutList) throws IOException {
+        logger.fine("Attempting to write data file: " + getWorkoutBookFilePath());
+        workoutBookJournal.save(workoutList.getWorkoutList());
+    }
+
+    @Override
+    public void saveWorkoutBookEdits(List<ListEdit<Workout>> edits, Supplier<List<Workout>> workouts)
+            throws IOException {
+        logger.fine("Attempting to journal changes to data file: " + getWorkoutBookFilePath());
+        workoutBookJournal.save(edits, workouts);
+    }
+
+    // ================ Habit Tracker List methods ==============================
+
+    @Override
+    public Optional<ReadOnlyHabitTrackerList> readHabitTrackerList() throws DataConversionException, IOException {
+        logger.fine("Attempting to read journalled data from file: " + getHabitTrackerListFilePath());
+        return habitTrackerListJournal.read().map(HabitTrackerList::new);
+    }
+
+    @Override
+    public void saveHabitTrackerList(ReadOnlyHabitTrackerList habitTrackerList) throws IOException {
+        logger.fine("Attempting to write data file: " + getHabitTrackerListFilePath());
+        habitTrackerListJournal.save(habitTrackerList.getHabitList());
+    }
+
+    @Override
+    public void saveHabitTrackerListEdits(List<ListEdit<Habit>> edits, Supplier<List<Habit>> habits)
+            throws IOException {
+        logger.fine("Attempting to journal changes to data file: " + getHabitTrackerListFilePath());
+        habitTrackerListJournal.save(edits, habits);
+    }
+
+    @Override
+    public void compactJournals() {
+        for (JsonListJournal<?, ?> journal : Arrays.asList(contactListJournal, taskListJournal, expenditureListJournal,
+                workoutBookJournal, habitTrackerListJournal)) {
+            try {
+                journal.compactJournal();
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not write the changes in a journal into its data file: " + e);
+            }
+        }
+    }
+}
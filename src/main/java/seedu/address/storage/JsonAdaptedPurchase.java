@@ -12,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.purchase.Price;
 import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.PurchaseDate;
 import seedu.address.model.purchase.PurchaseName;
 import seedu.address.model.tag.Tag;
 
@@ -24,6 +25,7 @@ public class JsonAdaptedPurchase {
 
     private final String name;
     private final String price;
+    private final String date;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
@@ -31,9 +33,10 @@ public class JsonAdaptedPurchase {
      */
     @JsonCreator
     public JsonAdaptedPurchase(@JsonProperty("name") String name, @JsonProperty("price") String price,
-                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+                             @JsonProperty("date") String date, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
         this.name = name;
         this.price = price;
+        this.date = date;
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
@@ -45,6 +48,7 @@ public class JsonAdaptedPurchase {
     public JsonAdaptedPurchase(Purchase source) {
         name = source.getPurchaseName().fullName;
         price = source.getPrice().value;
+        date = source.getDate().isDated() ? source.getDate().value : null;
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -52,6 +56,7 @@ public class JsonAdaptedPurchase {
 
     /**
      * Converts this Jackson-friendly adapted purchase object into the model's {@code Purchase} object.
+     * Purchases saved before purchases were dated are left undated, and are saved without a date again.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted purchase.
      */
@@ -79,11 +84,13 @@ public class JsonAdaptedPurchase {
         }
         final Price modelPrice = new Price(price);
 
-
-
+        if (date != null && !PurchaseDate.isValidDate(date)) {
+            throw new IllegalValueException(PurchaseDate.MESSAGE_CONSTRAINTS);
+        }
+        final PurchaseDate modelDate = date != null ? new PurchaseDate(date) : PurchaseDate.UNDATED;
 
         final Set<Tag> modelTags = new HashSet<>(purchaseTags);
-        return new Purchase(modelName, modelPrice, modelTags);
+        return new Purchase(modelName, modelPrice, modelDate, modelTags);
     }
 
 }
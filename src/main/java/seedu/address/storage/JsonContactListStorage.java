@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonFileOptions;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyContactList;
 
@@ -22,9 +23,18 @@ public class JsonContactListStorage implements ContactListStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonContactListStorage.class);
 
     private Path filePath;
+    private final JsonFileOptions fileOptions;
 
     public JsonContactListStorage(Path filePath) {
+        this(filePath, JsonFileOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a {@code JsonContactListStorage} that writes the file as {@code fileOptions} say.
+     */
+    public JsonContactListStorage(Path filePath, JsonFileOptions fileOptions) {
         this.filePath = filePath;
+        this.fileOptions = fileOptions;
     }
 
     public Path getContactListFilePath() {
@@ -74,7 +84,7 @@ public class JsonContactListStorage implements ContactListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableContactList(contactList), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableContactList(contactList), filePath, fileOptions);
     }
 
 }
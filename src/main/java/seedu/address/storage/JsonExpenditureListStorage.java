@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonFileOptions;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyExpenditureList;
 
@@ -23,9 +24,18 @@ public class JsonExpenditureListStorage implements ExpenditureListStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonExpenditureListStorage.class);
 
     private Path filePath;
+    private final JsonFileOptions fileOptions;
 
     public JsonExpenditureListStorage(Path filePath) {
+        this(filePath, JsonFileOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a {@code JsonExpenditureListStorage} that writes the file as {@code fileOptions} say.
+     */
+    public JsonExpenditureListStorage(Path filePath, JsonFileOptions fileOptions) {
         this.filePath = filePath;
+        this.fileOptions = fileOptions;
     }
 
     public Path getExpenditureListFilePath() {
@@ -75,7 +85,7 @@ public class JsonExpenditureListStorage implements ExpenditureListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableExpenditureList(expenditureList), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableExpenditureList(expenditureList), filePath, fileOptions);
     }
 
 }
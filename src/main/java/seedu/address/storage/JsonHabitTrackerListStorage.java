@@ -9,6 +9,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonFileOptions;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyHabitTrackerList;
 
@@ -21,9 +22,18 @@ public class JsonHabitTrackerListStorage implements HabitTrackerListStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonHabitTrackerListStorage.class);
 
     private Path filePath;
+    private final JsonFileOptions fileOptions;
 
     public JsonHabitTrackerListStorage(Path filePath) {
+        this(filePath, JsonFileOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a {@code JsonHabitTrackerListStorage} that writes the file as {@code fileOptions} say.
+     */
+    public JsonHabitTrackerListStorage(Path filePath, JsonFileOptions fileOptions) {
         this.filePath = filePath;
+        this.fileOptions = fileOptions;
     }
 
     @Override
@@ -73,6 +83,6 @@ public class JsonHabitTrackerListStorage implements HabitTrackerListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableHabitTrackerList(habitTrackerList), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableHabitTrackerList(habitTrackerList), filePath, fileOptions);
     }
 }
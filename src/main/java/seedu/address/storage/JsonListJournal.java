@@ -0,0 +1,341 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ListEdit;
+
+/**
+ * Stores a list as a snapshot file, plus a journal of the changes made to the list since the snapshot was written.
+ * Saving the list only appends the edits made to it since the last save to the journal, so the cost of a save scales
+ * with the size of the change rather than with the size of the list, and the elements of the list are not even read.
+ * Once the journal has grown larger than the snapshot, the list is compacted: the whole list is written as a new
+ * snapshot and the journal is emptied.
+ *
+ * <p>The journal starts with a header holding the size and checksum of the content of the snapshot it applies to,
+ * so a journal left behind by a compaction that did not complete, or by a snapshot written without this journal,
+ * is ignored, while a snapshot that is copied or restored with its journal still has its changes applied.
+ * A change that was only partially written when the application stopped is discarded when the journal is read.
+ *
+ * @param <E> the type of elements in the list.
+ * @param <A> the Jackson-friendly type that elements are stored as in the journal.
+ */
+class JsonListJournal<E, A> {
+
+    /** Journals smaller than this are not compacted, no matter how small the snapshot is. */
+    public static final long DEFAULT_MIN_COMPACTION_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonListJournal.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String HEADER_PREFIX = "snapshot ";
+    private static final String RECORD_PREFIX = "replace ";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final Path snapshotFilePath;
+    private final Path journalFilePath;
+    private final Class<A> adaptedClass;
+    private final Function<? super E, ? extends A> adapter;
+    private final ModelConverter<? super A, ? extends E> converter;
+    private final SnapshotReader<E> snapshotReader;
+    private final SnapshotWriter<E> snapshotWriter;
+    private final long minCompactionSize;
+
+    /** The size of the list as it was last read or saved. */
+    private int savedSize;
+    private long snapshotSize;
+    private long journalSize;
+    /** Whether the next save must write a snapshot, as the saved list may not match the snapshot and journal. */
+    private boolean isCompactionNeeded = true;
+
+    /**
+     * Creates a journal for the list whose snapshot is read and written through {@code snapshotReader} and
+     * {@code snapshotWriter} at {@code snapshotFilePath}.
+     * Elements are stored in the journal as instances of {@code adaptedClass}, created through {@code adapter} and
+     * converted back through {@code converter}.
+     */
+    JsonListJournal(Path snapshotFilePath, Class<A> adaptedClass, Function<? super E, ? extends A> adapter,
+                    ModelConverter<? super A, ? extends E> converter, SnapshotReader<E> snapshotReader,
+                    SnapshotWriter<E> snapshotWriter, long minCompactionSize) {
+        requireNonNull(snapshotFilePath);
+        requireNonNull(adaptedClass);
+        requireNonNull(adapter);
+        requireNonNull(converter);
+        requireNonNull(snapshotReader);
+        requireNonNull(snapshotWriter);
+        this.snapshotFilePath = snapshotFilePath;
+        this.journalFilePath = getJournalFilePath(snapshotFilePath);
+        this.adaptedClass = adaptedClass;
+        this.adapter = adapter;
+        this.converter = converter;
+        this.snapshotReader = snapshotReader;
+        this.snapshotWriter = snapshotWriter;
+        this.minCompactionSize = minCompactionSize;
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Reads the snapshot and applies the changes in the journal to it.
+     * Returns {@code Optional.empty()} if there is no snapshot.
+     *
+     * @throws DataConversionException if the snapshot or a complete change in the journal is not in the correct
+     *     format.
+     */
+    public synchronized Optional<List<E>> read() throws DataConversionException, IOException {
+        isCompactionNeeded = true;
+        Optional<? extends List<E>> snapshot = snapshotReader.read();
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<E> elements = new ArrayList<>(snapshot.get());
+        snapshotSize = Files.size(snapshotFilePath);
+        isCompactionNeeded = !FileUtil.isFileExists(journalFilePath) || !replayJournal(elements);
+        savedSize = elements.size();
+        return Optional.of(elements);
+    }
+
+    /**
+     * Saves the list, given that {@code edits} are the edits made to it since it was last read or saved, by appending
+     * the edits to the journal, and compacting the journal if it has grown too large.
+     * The whole list is written as a snapshot instead if the edits do not follow on from the list as it was last read
+     * or saved, e.g. because it was never read or saved, or because the previous save failed.
+     * {@code elements} is only asked for the elements of the list when the whole list is written. It may supply a
+     * later version of the list than the edits lead to, as long as the edits that lead to that version are not saved
+     * again.
+     */
+    public synchronized void save(List<ListEdit<E>> edits, Supplier<List<E>> elements) throws IOException {
+        requireAllNonNull(edits, elements);
+        int size = isCompactionNeeded ? -1 : getSizeAfter(edits);
+        if (size == -1) {
+            compact(elements.get());
+            return;
+        }
+        if (edits.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (ListEdit<E> edit : edits) {
+            records.append(RECORD_PREFIX).append(edit.getIndex()).append(' ').append(edit.getRemoved().size())
+                    .append(' ').append(edit.getAdded().size()).append(LINE_SEPARATOR);
+            for (E element : edit.getAdded()) {
+                records.append(JsonUtil.toJsonLine(adapter.apply(element))).append(LINE_SEPARATOR);
+            }
+        }
+        try {
+            journalSize += FileUtil.appendToFile(journalFilePath, records.toString());
+        } catch (IOException ioe) {
+            // part of the change may have been written, so start over from a new snapshot on the next save
+            isCompactionNeeded = true;
+            throw ioe;
+        }
+        savedSize = size;
+
+        if (journalSize > Math.max(minCompactionSize, snapshotSize)) {
+            compact(elements.get());
+        }
+    }
+
+    /**
+     * Saves {@code elements} as a new snapshot, as the edits made since the list was last saved are not known.
+     */
+    public synchronized void save(List<E> elements) throws IOException {
+        requireNonNull(elements);
+        compact(elements);
+    }
+
+    /**
+     * Writes the changes in the journal into the snapshot, so that the snapshot can be read without the journal,
+     * e.g. by a storage that does not keep journals. Does nothing if the journal has no changes.
+     *
+     * @throws DataConversionException if the snapshot or a complete change in the journal is not in the correct
+     *     format, in which case the files are left as they are.
+     */
+    public synchronized void compactJournal() throws DataConversionException, IOException {
+        if (!hasChanges()) {
+            return;
+        }
+        Optional<List<E>> elements = read();
+        if (elements.isPresent()) {
+            compact(elements.get());
+        }
+    }
+
+    /**
+     * Returns the size of the list as it was last read or saved once the edits are applied to it in turn, or -1 if
+     * they cannot be applied to it.
+     */
+    private int getSizeAfter(List<ListEdit<E>> edits) {
+        int currentSize = savedSize;
+        for (ListEdit<E> edit : edits) {
+            if (edit.getIndex() < 0 || edit.getIndex() + edit.getRemoved().size() > currentSize) {
+                return -1;
+            }
+            currentSize += edit.getAdded().size() - edit.getRemoved().size();
+        }
+        return currentSize;
+    }
+
+    /**
+     * Returns true if the journal holds any changes after its header.
+     */
+    private boolean hasChanges() throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return false;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath)) {
+            return reader.readLine() != null && reader.readLine() != null;
+        }
+    }
+
+    /**
+     * Writes {@code elements} as a new snapshot and empties the journal.
+     */
+    private void compact(List<E> elements) throws IOException {
+        logger.fine("Compacting journal " + journalFilePath);
+        isCompactionNeeded = true;
+        snapshotWriter.write(elements);
+
+        snapshotSize = Files.size(snapshotFilePath);
+        String header = getHeader() + LINE_SEPARATOR;
+        FileUtil.writeToFile(journalFilePath, header);
+        journalSize = header.length();
+        savedSize = elements.size();
+        isCompactionNeeded = false;
+    }
+
+    /**
+     * Applies the changes in the journal to {@code elements}, if the journal applies to the current snapshot.
+     * Returns true if the journal applies to the snapshot, and all of its changes were applied.
+     */
+    private boolean replayJournal(List<E> elements) throws DataConversionException, IOException {
+        List<String> lines = Files.readAllLines(journalFilePath);
+        if (lines.isEmpty() || !lines.get(0).equals(getHeader())) {
+            logger.info("Ignoring journal " + journalFilePath + " as it does not match " + snapshotFilePath);
+            return false;
+        }
+
+        journalSize = Files.size(journalFilePath);
+        int lineIndex = 1;
+        while (lineIndex < lines.size()) {
+            String[] counts = lines.get(lineIndex).startsWith(RECORD_PREFIX)
+                    ? lines.get(lineIndex).substring(RECORD_PREFIX.length()).split(" ")
+                    : new String[0];
+            boolean isLastRecord = lineIndex == lines.size() - 1;
+            try {
+                isLastRecord |= counts.length == 3 && lineIndex + Integer.parseInt(counts[2]) >= lines.size() - 1;
+            } catch (NumberFormatException nfe) {
+                // reported when the change is replayed
+            }
+
+            try {
+                lineIndex = replayRecord(elements, lines, lineIndex, counts);
+            } catch (DataConversionException dce) {
+                if (!isLastRecord) {
+                    throw dce;
+                }
+                // the application stopped while the last change was being written
+                logger.warning("Discarding incomplete change at the end of " + journalFilePath);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies the change recorded from line {@code lineIndex} of the journal to {@code elements}.
+     * Returns the index of the line after the change.
+     */
+    private int replayRecord(List<E> elements, List<String> lines, int lineIndex, String[] counts)
+            throws DataConversionException {
+        try {
+            if (counts.length != 3) {
+                throw new IllegalValueException("Malformed change: " + lines.get(lineIndex));
+            }
+            int fromIndex = Integer.parseInt(counts[0]);
+            int toIndex = fromIndex + Integer.parseInt(counts[1]);
+            int addedCount = Integer.parseInt(counts[2]);
+            if (fromIndex < 0 || toIndex < fromIndex || toIndex > elements.size() || addedCount < 0
+                    || lineIndex + addedCount >= lines.size()) {
+                throw new IllegalValueException("Change out of range: " + lines.get(lineIndex));
+            }
+
+            List<E> added = new ArrayList<>(addedCount);
+            for (int i = 1; i <= addedCount; i++) {
+                added.add(converter.toModelType(JsonUtil.fromJsonString(lines.get(lineIndex + i), adaptedClass)));
+            }
+            CollectionUtil.replaceRange(elements, fromIndex, toIndex, added);
+            return lineIndex + addedCount + 1;
+        } catch (IllegalValueException | IOException | NumberFormatException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the header identifying the content of the current snapshot.
+     */
+    private String getHeader() throws IOException {
+        CRC32 checksum = new CRC32();
+        long size = 0;
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(snapshotFilePath)) {
+            int readCount;
+            while ((readCount = inputStream.read(buffer)) != -1) {
+                checksum.update(buffer, 0, readCount);
+                size += readCount;
+            }
+        }
+        return HEADER_PREFIX + size + " " + Long.toHexString(checksum.getValue());
+    }
+
+    /**
+     * Converts an element from the type it is stored as back into the model's type.
+     */
+    @FunctionalInterface
+    interface ModelConverter<A, E> {
+        E toModelType(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Reads the snapshot of the list.
+     */
+    @FunctionalInterface
+    interface SnapshotReader<E> {
+        Optional<? extends List<E>> read() throws DataConversionException, IOException;
+    }
+
+    /**
+     * Writes a snapshot of the list.
+     */
+    @FunctionalInterface
+    interface SnapshotWriter<E> {
+        void write(List<E> elements) throws IOException;
+    }
+}
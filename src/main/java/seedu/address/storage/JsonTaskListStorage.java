@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonFileOptions;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskList;
 
@@ -21,9 +22,18 @@ public class JsonTaskListStorage implements TaskListStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTaskListStorage.class);
     private Path filePath;
+    private final JsonFileOptions fileOptions;
 
     public JsonTaskListStorage(Path filePath) {
+        this(filePath, JsonFileOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a {@code JsonTaskListStorage} that writes the file as {@code fileOptions} say.
+     */
+    public JsonTaskListStorage(Path filePath, JsonFileOptions fileOptions) {
         this.filePath = filePath;
+        this.fileOptions = fileOptions;
     }
 
     public Path getTaskListFilePath() {
@@ -71,7 +81,7 @@ public class JsonTaskListStorage implements TaskListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList), filePath, fileOptions);
     }
 
 
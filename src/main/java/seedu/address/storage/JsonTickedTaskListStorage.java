@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonFileOptions;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskList;
 
@@ -21,9 +22,18 @@ public class JsonTickedTaskListStorage implements TickedTaskListStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTickedTaskListStorage.class);
     private Path filePath;
+    private final JsonFileOptions fileOptions;
 
     public JsonTickedTaskListStorage(Path filePath) {
+        this(filePath, JsonFileOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a {@code JsonTickedTaskListStorage} that writes the file as {@code fileOptions} say.
+     */
+    public JsonTickedTaskListStorage(Path filePath, JsonFileOptions fileOptions) {
         this.filePath = filePath;
+        this.fileOptions = fileOptions;
     }
 
     public Path getTickedTaskListFilePath() {
@@ -71,7 +81,7 @@ public class JsonTickedTaskListStorage implements TickedTaskListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList), filePath, fileOptions);
     }
 
 
@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonFileOptions;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyWorkoutBook;
 
@@ -22,9 +23,18 @@ public class JsonWorkoutBookStorage implements WorkoutBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonWorkoutBookStorage.class);
 
     private Path filePath;
+    private final JsonFileOptions fileOptions;
 
     public JsonWorkoutBookStorage(Path filePath) {
+        this(filePath, JsonFileOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a {@code JsonWorkoutBookStorage} that writes the file as {@code fileOptions} say.
+     */
+    public JsonWorkoutBookStorage(Path filePath, JsonFileOptions fileOptions) {
         this.filePath = filePath;
+        this.fileOptions = fileOptions;
     }
 
     public Path getWorkoutBookFilePath() {
@@ -74,7 +84,7 @@ public class JsonWorkoutBookStorage implements WorkoutBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableWorkoutBook(workoutBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableWorkoutBook(workoutBook), filePath, fileOptions);
     }
 
 }
@@ -2,17 +2,30 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import seedu.address.commons.exceptions.DataConversionException;
 
+import seedu.address.model.ContactList;
+import seedu.address.model.ExpenditureList;
+import seedu.address.model.HabitTrackerList;
+import seedu.address.model.ListEdit;
 import seedu.address.model.ReadOnlyContactList;
 import seedu.address.model.ReadOnlyExpenditureList;
 import seedu.address.model.ReadOnlyHabitTrackerList;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.ReadOnlyWorkoutBook;
+import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.WorkoutBook;
+import seedu.address.model.habit.Habit;
+import seedu.address.model.person.Person;
+import seedu.address.model.purchase.Purchase;
+import seedu.address.model.task.Task;
+import seedu.address.model.workout.Workout;
 
 
 /**
@@ -38,6 +51,15 @@ public interface Storage extends ContactListStorage, UserPrefsStorage,
     @Override
     void saveContactList(ReadOnlyContactList contactList) throws IOException;
 
+    /**
+     * Saves the contact list, given that {@code edits} are the edits made to it since it was last read or saved, and
+     * that {@code persons} supplies the persons in it. The persons are only supplied if the whole list is written,
+     * which is on every save unless the storage keeps a journal of the edits.
+     */
+    default void saveContactListEdits(List<ListEdit<Person>> edits, Supplier<List<Person>> persons) throws IOException {
+        saveContactList(new ContactList(persons.get()));
+    }
+
     /* -----------------------task List ---------------------------------------------*/
 
     @Override
@@ -49,6 +71,15 @@ public interface Storage extends ContactListStorage, UserPrefsStorage,
     @Override
     void saveTaskList (ReadOnlyTaskList taskList) throws IOException;
 
+    /**
+     * Saves the task list, given that {@code edits} are the edits made to it since it was last read or saved, and
+     * that {@code tasks} supplies the tasks in it. The tasks are only supplied if the whole list is written,
+     * which is on every save unless the storage keeps a journal of the edits.
+     */
+    default void saveTaskListEdits(List<ListEdit<Task>> edits, Supplier<List<Task>> tasks) throws IOException {
+        saveTaskList(new TaskList(tasks.get()));
+    }
+
     /* ----------------------Workout Book ----------------------------------------------*/
 
     @Override
@@ -60,6 +91,16 @@ public interface Storage extends ContactListStorage, UserPrefsStorage,
     @Override
     void saveWorkoutBook(ReadOnlyWorkoutBook workoutBook) throws IOException;
 
+    /**
+     * Saves the workout book, given that {@code edits} are the edits made to it since it was last read or saved, and
+     * that {@code workouts} supplies the workouts in it. The workouts are only supplied if the whole list is written,
+     * which is on every save unless the storage keeps a journal of the edits.
+     */
+    default void saveWorkoutBookEdits(List<ListEdit<Workout>> edits, Supplier<List<Workout>> workouts)
+            throws IOException {
+        saveWorkoutBook(new WorkoutBook(workouts.get()));
+    }
+
 
     /* -----------------------Expenditure List ---------------------------------------------*/
 
@@ -73,6 +114,16 @@ public interface Storage extends ContactListStorage, UserPrefsStorage,
     @Override
     void saveExpenditureList(ReadOnlyExpenditureList expenditureList) throws IOException;
 
+    /**
+     * Saves the expenditure list, given that {@code edits} are the edits made to it since it was last read or saved,
+     * and that {@code purchases} supplies the purchases in it. The purchases are only supplied if the whole list is
+     * written, which is on every save unless the storage keeps a journal of the edits.
+     */
+    default void saveExpenditureListEdits(List<ListEdit<Purchase>> edits, Supplier<List<Purchase>> purchases)
+            throws IOException {
+        saveExpenditureList(new ExpenditureList(purchases.get()));
+    }
+
     /* ------------------------Habit Tracker List--------------------------------------------*/
 
     @Override
@@ -84,4 +135,21 @@ public interface Storage extends ContactListStorage, UserPrefsStorage,
     @Override
     void saveHabitTrackerList(ReadOnlyHabitTrackerList habitTrackerList) throws IOException;
 
+    /**
+     * Saves the habit tracker list, given that {@code edits} are the edits made to it since it was last read or
+     * saved, and that {@code habits} supplies the habits in it. The habits are only supplied if the whole list is
+     * written, which is on every save unless the storage keeps a journal of the edits.
+     */
+    default void saveHabitTrackerListEdits(List<ListEdit<Habit>> edits, Supplier<List<Habit>> habits)
+            throws IOException {
+        saveHabitTrackerList(new HabitTrackerList(habits.get()));
+    }
+
+    /**
+     * Writes any changes that are only kept in journals into the data files, so that the data files can be read on
+     * their own, e.g. before the application stops. Does nothing unless the storage keeps journals.
+     */
+    default void compactJournals() {
+    }
+
 }
@@ -109,7 +109,6 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        logger.info("READING FROM FILE" + filePath);
         return taskListStorage.readTaskList(filePath);
     }
 
@@ -138,7 +137,6 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyTaskList> readTickedTaskList(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        logger.info("READING FROM FILE" + filePath);
         return tickedTaskListStorage.readTickedTaskList(filePath);
     }
 
@@ -0,0 +1,239 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonFileOptions;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.util.SyntheticDataUtil;
+import seedu.address.model.util.SyntheticDataUtil.Distribution;
+
+/**
+ * Generates data files of any size for every list in LIFE, in the same format as the files saved by LIFE, e.g. to
+ * try out LIFE with a lot of data or to measure how long it takes to load.
+ * <p>
+ * The entries are generated by {@link SyntheticDataUtil} and written to the files one at a time, so the size of the
+ * files is not limited by the available memory. The same options always generate the same files.
+ * <p>
+ * Options are given as {@code --name=value}, e.g. {@code --scale=1000 --seed=7 --output=data/large}.
+ * See {@link #USAGE} for the available options.
+ */
+public class SyntheticDataGenerator {
+
+    public static final String USAGE = "Options:\n"
+            + "  --output=DIRECTORY          directory to write the files to (default: data/synthetic)\n"
+            + "  --seed=SEED                 seed of the random numbers (default: 4113)\n"
+            + "  --scale=SCALE               multiplies the number of entries in every list (default: 1)\n"
+            + "  --persons=COUNT             number of contacts (default: 1000)\n"
+            + "  --tasks=COUNT               number of tasks (default: 1000)\n"
+            + "  --tickedtasks=COUNT         number of ticked tasks (default: 1000)\n"
+            + "  --purchases=COUNT           number of purchases (default: 10000)\n"
+            + "  --habits=COUNT              number of habits (default: 100)\n"
+            + "  --workouts=COUNT            number of workouts (default: 1000)\n"
+            + "  --maxtags=COUNT             maximum number of tags of each entry (default: 2)\n"
+            + "  --meanprice=CENTS           average price of a purchase, in cents (default: 800, at most "
+            + (long) Distribution.MAX_MEAN_PURCHASE_CENTS + ")\n"
+            + "  --purchasedays=DAYS         number of days that purchases are made within (default: 1095, at most "
+            + Distribution.MAX_PURCHASE_DAYS + ")\n"
+            + "  --deadlinedays=DAYS         number of days that tasks are due within (default: 365, at most "
+            + Distribution.MAX_DEADLINE_DAYS + ")\n"
+            + "  --pretty=true|false         indent the files, which makes them larger (default: false)";
+
+    public static final String MESSAGE_UNKNOWN_OPTION = "Unknown option: %1$s";
+    public static final String MESSAGE_INVALID_OPTION = "Invalid value for option --%1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(SyntheticDataGenerator.class);
+
+    private static final Set<String> OPTION_NAMES = new HashSet<>(Arrays.asList("output", "seed", "scale", "persons",
+            "tasks", "tickedtasks", "purchases", "habits", "workouts", "maxtags", "meanprice", "purchasedays",
+            "deadlinedays", "pretty"));
+
+    private final Path outputDirectory;
+    private final long seed;
+    private final int personCount;
+    private final int taskCount;
+    private final int tickedTaskCount;
+    private final int purchaseCount;
+    private final int habitCount;
+    private final int workoutCount;
+    private final Distribution distribution;
+    private final JsonFileOptions fileOptions;
+
+    /**
+     * Creates a generator with the options in {@code args}.
+     *
+     * @throws IllegalArgumentException if any of {@code args} is not a known option with a valid value.
+     */
+    public SyntheticDataGenerator(List<String> args) {
+        requireNonNull(args);
+        Map<String, String> options = parseOptions(args);
+        double scale = getDouble(options, "scale", 1);
+
+        outputDirectory = getPath(options, "output", Paths.get("data", "synthetic"));
+        seed = getLong(options, "seed", 4113);
+        personCount = getCount(options, "persons", 1000, scale);
+        taskCount = getCount(options, "tasks", 1000, scale);
+        tickedTaskCount = getCount(options, "tickedtasks", 1000, scale);
+        purchaseCount = getCount(options, "purchases", 10000, scale);
+        habitCount = getCount(options, "habits", 100, scale);
+        workoutCount = getCount(options, "workouts", 1000, scale);
+        boolean isPretty = Boolean.parseBoolean(options.getOrDefault("pretty", "false"));
+        fileOptions = new JsonFileOptions(!isPretty, false);
+
+        Distribution defaults = Distribution.DEFAULT;
+        distribution = new Distribution(getInt(options, "maxtags", defaults.maxTags),
+                getDouble(options, "meanprice", defaults.meanPurchaseCents),
+                getInt(options, "purchasedays", defaults.purchaseDays),
+                getInt(options, "deadlinedays", defaults.deadlineDays));
+    }
+
+    public static void main(String[] args) {
+        SyntheticDataGenerator generator;
+        try {
+            generator = new SyntheticDataGenerator(Arrays.asList(args));
+        } catch (IllegalArgumentException iae) {
+            System.err.println(iae.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        try {
+            generator.generate();
+        } catch (IOException ioe) {
+            logger.severe("Could not write the generated data: " + ioe);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Writes a file for every list to the output directory, with the same names as the default data files of LIFE.
+     * Existing files are overwritten. The files are only indented if the {@code pretty} option is set.
+     */
+    public void generate() throws IOException {
+        // a different seed for each list, so that the lists do not depend on the sizes of the other lists
+        writeList("contactlist.json", "persons", personCount, seed, (random, index) ->
+                new JsonAdaptedPerson(SyntheticDataUtil.generatePerson(random, index, distribution)));
+        writeList("tasklist.json", "tasks", taskCount, seed + 1, (random, index) ->
+                new JsonAdaptedTask(SyntheticDataUtil.generateTask(random, index, distribution)));
+        writeList("tickedtasklist.json", "tasks", tickedTaskCount, seed + 2, (random, index) ->
+                new JsonAdaptedTask(SyntheticDataUtil.generateTask(random, index, distribution)));
+        writeList("expenditurelist.json", "purchases", purchaseCount, seed + 3, (random, index) ->
+                new JsonAdaptedPurchase(SyntheticDataUtil.generatePurchase(random, index, distribution)));
+        writeList("habittrackerlist.json", "habits", habitCount, seed + 4, (random, index) ->
+                new JsonAdaptedHabit(SyntheticDataUtil.generateHabit(random, index, distribution)));
+        writeList("workoutbook.json", "workouts", workoutCount, seed + 5, (random, index) ->
+                new JsonAdaptedWorkout(SyntheticDataUtil.generateWorkout(random, index)));
+    }
+
+    public Path getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    /**
+     * Writes {@code count} entries generated by {@code generator} to {@code fileName} in the output directory,
+     * as an array named {@code arrayName}.
+     */
+    private void writeList(String fileName, String arrayName, int count, long listSeed,
+            BiFunction<Random, Integer, ?> generator) throws IOException {
+        Path filePath = outputDirectory.resolve(fileName);
+        logger.info("Generating " + count + " " + arrayName + " in " + filePath);
+        long startTime = System.nanoTime();
+
+        Random random = new Random(listSeed);
+        Iterator<?> entries = IntStream.range(0, count).mapToObj(index -> generator.apply(random, index)).iterator();
+        JsonUtil.saveJsonArrayFile(filePath, arrayName, entries, fileOptions);
+
+        logger.info("Generated " + filePath + " in " + (System.nanoTime() - startTime) / 1000000 + " ms");
+    }
+
+    /**
+     * Returns the options in {@code args} by name.
+     *
+     * @throws IllegalArgumentException if any of {@code args} is not a known option.
+     */
+    private static Map<String, String> parseOptions(List<String> args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            String name = separatorIndex < 0 ? "" : arg.substring(0, separatorIndex);
+            if (!name.startsWith("--") || !OPTION_NAMES.contains(name.substring(2))) {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_OPTION, arg));
+            }
+            options.put(name.substring(2), arg.substring(separatorIndex + 1));
+        }
+        return options;
+    }
+
+    private static Path getPath(Map<String, String> options, String name, Path defaultPath) {
+        if (!options.containsKey(name)) {
+            return defaultPath;
+        }
+        try {
+            return Paths.get(options.get(name));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_OPTION, name, options.get(name)), iae);
+        }
+    }
+
+    private static long getLong(Map<String, String> options, String name, long defaultValue) {
+        if (!options.containsKey(name)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(options.get(name));
+        } catch (NumberFormatException nfe) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_OPTION, name, options.get(name)), nfe);
+        }
+    }
+
+    private static int getInt(Map<String, String> options, String name, int defaultValue) {
+        long value = getLong(options, name, defaultValue);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_OPTION, name, options.get(name)));
+        }
+        return (int) value;
+    }
+
+    private static double getDouble(Map<String, String> options, String name, double defaultValue) {
+        if (!options.containsKey(name)) {
+            return defaultValue;
+        }
+        try {
+            double value = Double.parseDouble(options.get(name));
+            if (value < 0 || Double.isInfinite(value) || Double.isNaN(value)) {
+                throw new NumberFormatException();
+            }
+            return value;
+        } catch (NumberFormatException nfe) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_OPTION, name, options.get(name)), nfe);
+        }
+    }
+
+    /**
+     * Returns the number of entries given by the option {@code name}, multiplied by {@code scale}.
+     */
+    private static int getCount(Map<String, String> options, String name, int defaultCount, double scale) {
+        long count = Math.round(getLong(options, name, defaultCount) * scale);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_OPTION, name,
+                    options.getOrDefault(name, String.valueOf(defaultCount))));
+        }
+        return (int) count;
+    }
+}
@@ -20,6 +20,7 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
     private final List<String> history;
     private ListElementPointer historySnapshot;
 
@@ -27,11 +28,27 @@ public class CommandBox extends UiPart<Region> {
     private TextField commandTextField;
 
     public CommandBox(CommandExecutor commandExecutor, List<String> history) {
+        this(commandExecutor, history, commandText -> {});
+    }
+
+    /**
+     * Creates a {@code CommandBox} that passes the command to {@code commandPreviewer} whenever it is changed.
+     * The preview of a find command may list entries other than those the command lists when it is entered, as the
+     * preview matches every keyword as the start of a word, while the command matches whole words.
+     *
+     * @see seedu.address.logic.Logic#previewCommand(String)
+     */
+    public CommandBox(CommandExecutor commandExecutor, List<String> history, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandPreviewer = commandPreviewer;
         this.history = history;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // calls #setStyleToDefault() and previews the command whenever there is a change to the text of the
+        // command box.
+        commandTextField.textProperty().addListener((unused1, unused2, commandText) -> {
+            setStyleToDefault();
+            commandPreviewer.preview(commandText);
+        });
         historySnapshot = new ListElementPointer(history);
     }
 
@@ -151,4 +168,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that previews commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the command typed so far.
+         *
+         * @see seedu.address.logic.Logic#previewCommand(String)
+         */
+        void preview(String commandText);
+    }
+
 }
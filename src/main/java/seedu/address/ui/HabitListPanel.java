@@ -30,11 +30,11 @@ public class HabitListPanel extends UiPart<Region> {
         habitListView.setItems(habitList);
         habitListView.setCellFactory(listView -> new HabitListViewCell());
         habitListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selection in habit list panel changed to : '" + newValue + "'");
+            logger.fine(() -> "Selection in habit list panel changed to : '" + newValue + "'");
             onSelectedHabitChange.accept(newValue);
         });
         selectedHabit.addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selected habit changed to: " + newValue);
+            logger.fine(() -> "Selected habit changed to: " + newValue);
 
             // Don't modify selection if we are already selecting the selected habit,
             // otherwise we would have an infinite loop.
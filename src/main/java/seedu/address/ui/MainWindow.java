@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -167,8 +168,13 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getContactListFilePath(), logic.getContactList());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.saveErrorProperty().addListener((observable, oldError, newError) -> {
+            if (newError != null) {
+                Platform.runLater(() -> statusBarFooter.showSaveError(newError));
+            }
+        });
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory(), logic::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -229,6 +235,15 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     public HabitListPanel getHabitListPanel() { return habitListPanel; }
+
+    /**
+     * Shows a reminder {@code message} in the result display.
+     */
+    void showReminder(String message) {
+        logger.info(message);
+        resultDisplay.setFeedbackToUser(message);
+    }
+
     /**
      * Executes the command and returns the result.
      *
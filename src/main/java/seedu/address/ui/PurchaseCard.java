@@ -36,6 +36,8 @@ public class PurchaseCard extends UiPart<Region> {
     @FXML
     private Label price;
     @FXML
+    private Label date;
+    @FXML
 
     private FlowPane tags;
 
@@ -45,6 +47,7 @@ public class PurchaseCard extends UiPart<Region> {
         id.setText(displayedIndex + ". ");
         name.setText(purchase.getPurchaseName().fullName);
         price.setText("$" + purchase.getPrice().value);
+        date.setText(purchase.getDate().value);
         purchase.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
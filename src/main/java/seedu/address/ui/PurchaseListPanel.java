@@ -30,11 +30,11 @@ public class PurchaseListPanel extends UiPart<Region> {
         purchaseListView.setItems(purchaseList);
         purchaseListView.setCellFactory(listView -> new PurchaseListViewCell());
         purchaseListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selection in purchase list panel changed to : '" + newValue + "'");
+            logger.fine(() -> "Selection in purchase list panel changed to : '" + newValue + "'");
             onSelectedPurchaseChange.accept(newValue);
         });
         selectedPurchase.addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selected purchase changed to: " + newValue);
+            logger.fine(() -> "Selected purchase changed to: " + newValue);
 
             // Don't modify selection if we are already selecting the selected purchase,
             // otherwise we would have an infinite loop.
@@ -17,6 +17,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_SAVE_FAILED = "Save failed: %s";
 
     /**
      * Used to generate time stamps.
@@ -57,6 +58,13 @@ public class StatusBarFooter extends UiPart<Region> {
         return clock;
     }
 
+    /**
+     * Shows that saving data failed with {@code errorMessage}.
+     */
+    public void showSaveError(String errorMessage) {
+        syncStatus.setText(String.format(SYNC_STATUS_SAVE_FAILED, errorMessage));
+    }
+
     /**
      * Updates "last updated" status to the current time.
      */
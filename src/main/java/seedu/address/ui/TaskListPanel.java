@@ -30,11 +30,11 @@ public class TaskListPanel extends UiPart<Region> {
         taskListView.setItems(taskList);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
         taskListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selection in person list panel changed to : '" + newValue + "'");
+            logger.fine(() -> "Selection in person list panel changed to : '" + newValue + "'");
             onSelectedTaskChange.accept(newValue);
         });
         selectedTask.addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selected person changed to: " + newValue);
+            logger.fine(() -> "Selected person changed to: " + newValue);
 
             // Don't modify selection if we are already selecting the selected person,
             // otherwise we would have an infinite loop.
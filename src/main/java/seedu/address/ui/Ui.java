@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows a reminder {@code message} to the user. */
+    void showReminder(String message);
+
 }
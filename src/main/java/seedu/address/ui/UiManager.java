@@ -48,6 +48,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showReminder(String message) {
+        if (mainWindow != null) {
+            mainWindow.showReminder(message);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -31,11 +31,11 @@ public class WorkoutListPanel extends UiPart<Region> {
         workoutListView.setItems(workoutList);
         workoutListView.setCellFactory(listView -> new WorkoutListViewCell());
         workoutListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selection in person list panel changed to : '" + newValue + "'");
+            logger.fine(() -> "Selection in person list panel changed to : '" + newValue + "'");
             onSelectedWorkoutChange.accept(newValue);
         });
         selectedWorkout.addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selected person changed to: " + newValue);
+            logger.fine(() -> "Selected person changed to: " + newValue);
 
             if (Objects.equals(workoutListView.getSelectionModel().getSelectedItem(), newValue)) {
                 return;
@@ -0,0 +1,168 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncHandlerTest {
+
+    private final RecordingHandler recordingHandler = new RecordingHandler();
+    private AsyncHandler asyncHandler;
+
+    @After
+    public void tearDown() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
+    }
+
+    @Test
+    public void publish_manyRecords_writtenInOrderOnFlush() {
+        asyncHandler = new AsyncHandler(16, recordingHandler);
+        List<String> expectedMessages = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expectedMessages.add("message " + i);
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+
+        asyncHandler.flush();
+        assertEquals(expectedMessages, recordingHandler.getMessages());
+        assertTrue(recordingHandler.isFlushed);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        asyncHandler = new AsyncHandler(16, recordingHandler);
+        asyncHandler.setLevel(Level.INFO);
+        asyncHandler.publish(new LogRecord(Level.FINE, "fine"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "info"));
+
+        asyncHandler.flush();
+        assertEquals(Arrays.asList("info"), recordingHandler.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFull_recordsDroppedAndReported() throws Exception {
+        BlockingHandler blockingHandler = new BlockingHandler();
+        asyncHandler = new AsyncHandler(2, blockingHandler, recordingHandler);
+        asyncHandler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(blockingHandler.started.await(1, TimeUnit.SECONDS));
+
+        // the first record is being written, so the buffer only has space for two more
+        for (int i = 0; i < 5; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "queued " + i));
+        }
+        blockingHandler.release.countDown();
+
+        asyncHandler.flush();
+        assertEquals(Arrays.asList("first", String.format(AsyncHandler.MESSAGE_RECORDS_DROPPED, 3),
+                "queued 0", "queued 1"), recordingHandler.getMessages());
+    }
+
+    @Test
+    public void close_pendingRecords_writtenAndHandlersClosed() {
+        asyncHandler = new AsyncHandler(16, recordingHandler);
+        asyncHandler.publish(new LogRecord(Level.INFO, "before close"));
+
+        asyncHandler.close();
+        asyncHandler.publish(new LogRecord(Level.INFO, "after close"));
+        assertEquals(Arrays.asList("before close"), recordingHandler.getMessages());
+        assertTrue(recordingHandler.isClosed());
+    }
+
+    @Test
+    public void close_handlerStillWriting_handlersClosedOncePendingRecordsWritten() throws Exception {
+        BlockingHandler blockingHandler = new BlockingHandler();
+        asyncHandler = new AsyncHandler(16, blockingHandler, recordingHandler);
+        asyncHandler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(blockingHandler.started.await(1, TimeUnit.SECONDS));
+        asyncHandler.publish(new LogRecord(Level.INFO, "queued"));
+
+        // the first record is still being written when close() stops waiting
+        asyncHandler.close();
+        assertFalse(recordingHandler.isClosed());
+
+        blockingHandler.release.countDown();
+        assertTrue(recordingHandler.closed.await(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("first", "queued"), recordingHandler.getMessages());
+    }
+
+    /**
+     * A handler that keeps the messages of the records published to it.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private volatile boolean isFlushed = false;
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        public boolean isClosed() {
+            return closed.getCount() == 0;
+        }
+
+        public synchronized List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+    }
+
+    /**
+     * A handler that blocks on the first record published to it until it is released, for up to two seconds, even if
+     * it is interrupted.
+     */
+    private static class BlockingHandler extends Handler {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            started.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            boolean isInterrupted = false;
+            while (true) {
+                try {
+                    release.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    break;
+                } catch (InterruptedException ie) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram();
+
+    @Test
+    public void record_invalidValue_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    public void getValueAtPercentile_noValues_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        for (long value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+        assertEquals(8, histogram.getCount());
+        assertEquals(28, histogram.getTotal());
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(7, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void getValueAtPercentile_randomValues_withinAnEighth() {
+        Random random = new Random(23);
+        long[] values = new long[10000];
+        for (int i = 0; i < values.length; i++) {
+            // durations from nanoseconds to seconds
+            values[i] = (long) Math.pow(10, 9 * random.nextDouble());
+            histogram.record(values[i]);
+        }
+        histogram.record(Long.MAX_VALUE);
+        Arrays.sort(values);
+
+        for (double percentile : new double[] {1, 50, 90, 99}) {
+            long actual = values[(int) Math.ceil(percentile / 100 * (values.length + 1)) - 1];
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertTrue(percentile + ": " + reported + " vs " + actual,
+                    reported >= actual && reported <= actual + actual / 8);
+        }
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+    }
+}
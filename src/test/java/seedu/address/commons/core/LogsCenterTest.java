@@ -0,0 +1,38 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LogsCenterTest {
+
+    @After
+    public void tearDown() {
+        LogsCenter.init(new Config());
+    }
+
+    @Test
+    public void getLogger_sameNameTwice_configuredOnce() {
+        Logger logger = LogsCenter.getLogger("LogsCenterTest");
+
+        assertSame(logger, LogsCenter.getLogger("LogsCenterTest"));
+        assertEquals(1, logger.getHandlers().length);
+        assertFalse(logger.getUseParentHandlers());
+    }
+
+    @Test
+    public void init_newLogLevel_existingLoggersUpdated() {
+        Logger logger = LogsCenter.getLogger("LogsCenterTest");
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+
+        LogsCenter.init(config);
+        assertFalse(logger.isLoggable(Level.INFO));
+    }
+}
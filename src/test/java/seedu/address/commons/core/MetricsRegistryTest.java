@@ -0,0 +1,82 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+public class MetricsRegistryTest {
+
+    private final MBeanServer server = MBeanServerFactory.newMBeanServer();
+    private final MetricsRegistry registry = new MetricsRegistry(server);
+
+    @Test
+    public void register_validMxBean_attributesReadable() throws Exception {
+        registry.register("Test", "First", new Counter(3));
+
+        assertEquals(3L, server.getAttribute(MetricsRegistry.getObjectName("Test", "First"), "Count"));
+    }
+
+    @Test
+    public void register_sameName_replacesMxBean() throws Exception {
+        registry.register("Test", "First", new Counter(3));
+        new MetricsRegistry(server).register("Test", "First", new Counter(4));
+
+        assertEquals(4L, server.getAttribute(MetricsRegistry.getObjectName("Test", "First"), "Count"));
+    }
+
+    @Test
+    public void register_notMxBean_ignored() throws Exception {
+        registry.register("Test", "First", new Object());
+
+        assertFalse(server.isRegistered(MetricsRegistry.getObjectName("Test", "First")));
+    }
+
+    @Test
+    public void unregisterAll_registeredMxBeans_unregistered() throws Exception {
+        ObjectName first = MetricsRegistry.getObjectName("Test", "First");
+        ObjectName second = MetricsRegistry.getObjectName("Test", "Second");
+        registry.register("Test", "First", new Counter(1));
+        registry.register("Test", "Second", new Counter(2));
+        assertTrue(server.isRegistered(first));
+
+        registry.unregisterAll();
+        assertFalse(server.isRegistered(first));
+        assertFalse(server.isRegistered(second));
+    }
+
+    @Test
+    public void unregisterAll_mxBeanReplacedByOtherRegistry_replacementKept() throws Exception {
+        ObjectName first = MetricsRegistry.getObjectName("Test", "First");
+        registry.register("Test", "First", new Counter(3));
+        new MetricsRegistry(server).register("Test", "First", new Counter(4));
+
+        registry.unregisterAll();
+        assertEquals(4L, server.getAttribute(first, "Count"));
+    }
+
+    /**
+     * An MXBean that reports a fixed count.
+     */
+    public interface CounterMXBean {
+        long getCount();
+    }
+
+    private static class Counter implements CounterMXBean {
+        private final long count;
+
+        Counter(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class DateTimeUtilTest {
+
+    @Test
+    public void isDigits() {
+        Assert.assertThrows(NullPointerException.class, () -> DateTimeUtil.isDigits(null, 4));
+
+        assertFalse(DateTimeUtil.isDigits("", 4)); // empty string
+        assertFalse(DateTimeUtil.isDigits("123", 4)); // too short
+        assertFalse(DateTimeUtil.isDigits("12345", 4)); // too long
+        assertFalse(DateTimeUtil.isDigits("12a4", 4)); // alphabets within digits
+        assertFalse(DateTimeUtil.isDigits("12 4", 4)); // spaces within digits
+        assertFalse(DateTimeUtil.isDigits("\u0661\u0662\u0663\u0664", 4)); // non-ASCII digits
+
+        assertTrue(DateTimeUtil.isDigits("0123", 4));
+    }
+
+    @Test
+    public void isValidDate() {
+        Assert.assertThrows(NullPointerException.class, () -> DateTimeUtil.isValidDate(null));
+
+        // invalid dates
+        assertFalse(DateTimeUtil.isValidDate("01011")); // too short
+        assertFalse(DateTimeUtil.isValidDate("0101199")); // too long
+        assertFalse(DateTimeUtil.isValidDate("0a0119")); // non-numeric
+        assertFalse(DateTimeUtil.isValidDate("000119")); // day 0
+        assertFalse(DateTimeUtil.isValidDate("320119")); // day after end of month
+        assertFalse(DateTimeUtil.isValidDate("310419")); // day after end of 30 day month
+        assertFalse(DateTimeUtil.isValidDate("010019")); // month 0
+        assertFalse(DateTimeUtil.isValidDate("011319")); // month 13
+        assertFalse(DateTimeUtil.isValidDate("290219")); // 29 February in common year
+        assertFalse(DateTimeUtil.isValidDate("300220")); // 30 February in leap year
+
+        // valid dates
+        assertTrue(DateTimeUtil.isValidDate("010119")); // first day of year
+        assertTrue(DateTimeUtil.isValidDate("311219")); // last day of year
+        assertTrue(DateTimeUtil.isValidDate("300419")); // last day of 30 day month
+        assertTrue(DateTimeUtil.isValidDate("280219")); // last day of February in common year
+        assertTrue(DateTimeUtil.isValidDate("290220")); // 29 February in leap year
+        assertTrue(DateTimeUtil.isValidDate("290200")); // 29 February in 2000
+    }
+
+    @Test
+    public void isValidTime() {
+        Assert.assertThrows(NullPointerException.class, () -> DateTimeUtil.isValidTime(null));
+
+        // invalid times
+        assertFalse(DateTimeUtil.isValidTime("123")); // too short
+        assertFalse(DateTimeUtil.isValidTime("12345")); // too long
+        assertFalse(DateTimeUtil.isValidTime("12:3")); // non-numeric
+        assertFalse(DateTimeUtil.isValidTime("2400")); // hour out of range
+        assertFalse(DateTimeUtil.isValidTime("1260")); // minute out of range
+
+        // valid times
+        assertTrue(DateTimeUtil.isValidTime("0000")); // lower boundary
+        assertTrue(DateTimeUtil.isValidTime("2359")); // upper boundary
+        assertTrue(DateTimeUtil.isValidTime("1230"));
+    }
+
+    @Test
+    public void toEpochMinutes() {
+        // 10957 days from 1 January 1970 to 1 January 2000
+        assertEquals(10957L * 24 * 60, DateTimeUtil.toEpochMinutes("010100", "0000"));
+        assertEquals(10957L * 24 * 60 + 90, DateTimeUtil.toEpochMinutes("010100", "0130"));
+
+        // consecutive minutes across the end of a year
+        assertEquals(1, DateTimeUtil.toEpochMinutes("010120", "0000") - DateTimeUtil.toEpochMinutes("311219", "2359"));
+    }
+
+    @Test
+    public void toEpochDay() {
+        assertEquals(10957L, DateTimeUtil.toEpochDay("010100"));
+        assertEquals(1, DateTimeUtil.toEpochDay("010120") - DateTimeUtil.toEpochDay("311219"));
+    }
+
+    @Test
+    public void fromEpochDay() {
+        assertEquals("010100", DateTimeUtil.fromEpochDay(10957));
+        assertEquals("290220", DateTimeUtil.fromEpochDay(DateTimeUtil.toEpochDay("290220")));
+        assertEquals("311299", DateTimeUtil.fromEpochDay(DateTimeUtil.toEpochDay("311299")));
+    }
+}
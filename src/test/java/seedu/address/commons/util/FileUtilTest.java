@@ -1,14 +1,29 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+import org.junit.Assume;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +36,52 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_keepBackup_replacesFileAndKeepsOldContent() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("dir").resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+
+        FileUtil.writeAtomically(file, outputStream -> outputStream.write("new".getBytes("UTF-8")), true);
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals("old", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+
+        // no temporary files are left behind
+        assertEquals(2, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeAtomically_writerThrows_fileUnchanged() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, outputStream -> {
+            outputStream.write("partial".getBytes("UTF-8"));
+            throw new IOException("dummy exception");
+        }, false));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeAtomically_existingFile_keepsPermissions() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+        Assume.assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeAtomically(file, outputStream -> outputStream.write("new".getBytes("UTF-8")), false);
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeAtomically_newFile_hasPermissionsOfNewFile() throws IOException {
+        Path newFile = Files.createFile(temporaryFolder.getRoot().toPath().resolve("new.json"));
+        Assume.assumeTrue(Files.getFileAttributeView(newFile, PosixFileAttributeView.class) != null);
+        Path file = temporaryFolder.getRoot().toPath().resolve("data.json");
+
+        FileUtil.writeAtomically(file, outputStream -> outputStream.write("new".getBytes("UTF-8")), false);
+        assertEquals(Files.getPosixFilePermissions(newFile), Files.getPosixFilePermissions(file));
+    }
+
 }
@@ -0,0 +1,96 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.MetricsRegistry;
+
+import seedu.address.logic.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void getSummary_noCommands_noMetricsMessage() {
+        metrics.recordSave("contact list", 1000, 10);
+        assertEquals(CommandMetrics.MESSAGE_NO_METRICS, metrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_commandsAndSaves_sortedByName() {
+        recordCommand("list", 1000000, 2000000, 0);
+        recordCommand("add", 500000, 1000000, 3000000);
+        recordCommand("add", 500000, 1000000, 3000000);
+        metrics.recordSave("task list", 4000000, 2048);
+        metrics.recordSave("contact list", 2000000, 512);
+        metrics.recordSave("contact list", 2000000, 512);
+
+        assertEquals(CommandMetrics.MESSAGE_COMMANDS_HEADER
+                + String.format(CommandMetrics.MESSAGE_COMMAND, "add", 2, "0.50/0.50", "1.00/1.00", "3.00/3.00")
+                + String.format(CommandMetrics.MESSAGE_COMMAND, "list", 1, "1.00/1.00", "2.00/2.00", "0.00/0.00")
+                + CommandMetrics.MESSAGE_SAVES_HEADER
+                + String.format(CommandMetrics.MESSAGE_SAVE, "contact list", 2, "2.00/2.00", 1.0)
+                + String.format(CommandMetrics.MESSAGE_SAVE, "task list", 1, "4.00/4.00", 2.0),
+                metrics.getSummary());
+    }
+
+    @Test
+    public void registerSaveMetrics_savesBeforeAndAfterRegistering_reportedThroughMxBeans() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        metrics.recordSave("contact list", 2000000, 512);
+        metrics.registerSaveMetrics(new MetricsRegistry(server));
+        metrics.recordSave("contact list", 4000000, 512);
+        metrics.recordSave("task list", 1000000, 2048);
+
+        ObjectName contactListName = MetricsRegistry.getObjectName(CommandMetrics.SAVE_METRICS_TYPE, "contact list");
+        assertEquals(2L, server.getAttribute(contactListName, "SaveCount"));
+        assertEquals(6.0, server.getAttribute(contactListName, "TotalSaveMillis"));
+        assertEquals(4.0, server.getAttribute(contactListName, "MaxSaveMillis"));
+        assertEquals(1024L, server.getAttribute(contactListName, "BytesWritten"));
+
+        ObjectName taskListName = MetricsRegistry.getObjectName(CommandMetrics.SAVE_METRICS_TYPE, "task list");
+        assertEquals(1L, server.getAttribute(taskListName, "SaveCount"));
+    }
+
+    @Test
+    public void getCurrentThreadAllocatedBytes_allocationNotMeasured_returnsMinusOne() {
+        assertEquals(-1, metrics.getCurrentThreadAllocatedBytes());
+    }
+
+    @Test
+    public void getCurrentThreadAllocatedBytes_allocationMeasured_countsAllocations() {
+        CommandMetrics allocationMetrics = new CommandMetrics(true);
+        long startBytes = allocationMetrics.getCurrentThreadAllocatedBytes();
+        if (startBytes == -1) {
+            return; // not supported by this JVM
+        }
+        byte[] allocated = new byte[1 << 20];
+        assertTrue(allocationMetrics.getCurrentThreadAllocatedBytes() - startBytes >= allocated.length);
+
+        allocationMetrics.recordPhase("add", Phase.PARSE, 0);
+        allocationMetrics.recordAllocation("add", 2048);
+        assertTrue(allocationMetrics.getSummary().endsWith(
+                String.format(CommandMetrics.MESSAGE_COMMAND_ALLOCATED, "2.0/2.0")));
+    }
+
+    @Test
+    public void getPhaseTimes_unmeasuredCommand_emptyHistogram() {
+        assertEquals(0, metrics.getPhaseTimes("add", Phase.EXECUTE).getCount());
+        recordCommand("add", 1, 2, 3);
+        assertEquals(2, metrics.getPhaseTimes("add", Phase.EXECUTE).getTotal());
+        assertEquals(0, metrics.getSaveTimes("contact list").getCount());
+    }
+
+    private void recordCommand(String commandWord, long parseNanos, long executeNanos, long persistNanos) {
+        metrics.recordPhase(commandWord, Phase.PARSE, parseNanos);
+        metrics.recordPhase(commandWord, Phase.EXECUTE, executeNanos);
+        metrics.recordPhase(commandWord, Phase.PERSIST, persistNanos);
+    }
+}
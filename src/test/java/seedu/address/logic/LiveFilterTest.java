@@ -0,0 +1,165 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.model.search.SearchKeyword;
+
+public class LiveFilterTest {
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final List<String> ITEMS = Arrays.asList("Alice Pauline", "Alex Yeoh", "Benson Meier",
+            "Alice Kurz");
+
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor();
+    private final BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+    private final List<String> prefixesFound = new ArrayList<>();
+    private Predicate<String> filter = item -> item.startsWith("A");
+    private List<String> shownResults;
+    private final LiveFilter<String> liveFilter = new LiveFilter<>(this::findPrefix, SearchKeyword::toWords,
+            () -> filter, predicate -> filter = predicate, this::showResults, worker, modelTasks::add, 0);
+
+    @After
+    public void tearDown() {
+        worker.shutdownNow();
+    }
+
+    private Set<String> findPrefix(String word) {
+        prefixesFound.add(word);
+        return ITEMS.stream().filter(item -> SearchKeyword.toWords(item).stream().anyMatch(itemWord ->
+                itemWord.startsWith(word))).collect(Collectors.toSet());
+    }
+
+    private void showResults(Collection<String> results) {
+        shownResults = new ArrayList<>(results);
+        filter = shownResults::contains;
+    }
+
+    /**
+     * Runs the model tasks submitted by the live filter on this thread until it shows its results, and returns the
+     * items shown.
+     */
+    private List<String> runModelTasksUntilShown() throws InterruptedException {
+        shownResults = null;
+        while (shownResults == null) {
+            Runnable modelTask = modelTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull("Live filter did not show results", modelTask);
+            modelTask.run();
+        }
+        return ITEMS.stream().filter(shownResults::contains).collect(Collectors.toList());
+    }
+
+    @Test
+    public void filter_prefixes_showsItemsStartingEveryWord() throws Exception {
+        liveFilter.filter(Arrays.asList("al", "p"));
+        assertEquals(Collections.singletonList("Alice Pauline"), runModelTasksUntilShown());
+        assertEquals(Collections.singletonList("al"), prefixesFound);
+    }
+
+    @Test
+    public void filter_narrowingSearch_onlyShownItemsTested() throws Exception {
+        liveFilter.filter(Collections.singletonList("al"));
+        assertEquals(Arrays.asList("Alice Pauline", "Alex Yeoh", "Alice Kurz"), runModelTasksUntilShown());
+
+        liveFilter.filter(Collections.singletonList("ali"));
+        assertEquals(Arrays.asList("Alice Pauline", "Alice Kurz"), runModelTasksUntilShown());
+
+        liveFilter.filter(Arrays.asList("ali", "k"));
+        assertEquals(Collections.singletonList("Alice Kurz"), runModelTasksUntilShown());
+
+        // only the first search looked up the index
+        assertEquals(Collections.singletonList("al"), prefixesFound);
+    }
+
+    @Test
+    public void filter_wideningSearch_indexSearchedAgain() throws Exception {
+        liveFilter.filter(Collections.singletonList("ali"));
+        assertEquals(Arrays.asList("Alice Pauline", "Alice Kurz"), runModelTasksUntilShown());
+
+        liveFilter.filter(Collections.singletonList("al"));
+        assertEquals(Arrays.asList("Alice Pauline", "Alex Yeoh", "Alice Kurz"), runModelTasksUntilShown());
+        assertEquals(Arrays.asList("ali", "al"), prefixesFound);
+    }
+
+    @Test
+    public void filter_replacedBeforeShown_onlyLatestSearchShown() throws Exception {
+        liveFilter.filter(Collections.singletonList("al"));
+        liveFilter.filter(Collections.singletonList("be"));
+        assertEquals(Collections.singletonList("Benson Meier"), runModelTasksUntilShown());
+    }
+
+    @Test
+    public void stop_resultsShown_previousFilterRestored() throws Exception {
+        Predicate<String> previousFilter = filter;
+        liveFilter.filter(Collections.singletonList("be"));
+        runModelTasksUntilShown();
+        liveFilter.filter(Collections.singletonList("al"));
+        runModelTasksUntilShown();
+
+        liveFilter.stop();
+        assertEquals(ITEMS.stream().filter(previousFilter).collect(Collectors.toList()),
+                ITEMS.stream().filter(filter).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void stop_noResultsShown_filterUnchanged() {
+        Predicate<String> previousFilter = filter;
+        liveFilter.stop();
+        assertSame(previousFilter, filter);
+    }
+
+    @Test
+    public void reset_resultsShown_filterNotRestored() throws Exception {
+        liveFilter.filter(Collections.singletonList("be"));
+        runModelTasksUntilShown();
+
+        // e.g. the search is entered, and the command filters the list instead
+        liveFilter.reset();
+        Predicate<String> commandFilter = filter;
+        liveFilter.stop();
+        assertSame(commandFilter, filter);
+    }
+
+    @Test
+    public void isNarrowing() {
+        // nothing searched before
+        assertFalse(LiveFilter.isNarrowing(Collections.emptyList(), Collections.singletonList("a")));
+
+        // last word extended
+        assertTrue(LiveFilter.isNarrowing(Arrays.asList("al", "p"), Arrays.asList("al", "pa")));
+
+        // same words
+        assertTrue(LiveFilter.isNarrowing(Arrays.asList("al", "p"), Arrays.asList("al", "p")));
+
+        // words added
+        assertTrue(LiveFilter.isNarrowing(Collections.singletonList("al"), Arrays.asList("alice", "p")));
+
+        // last word shortened
+        assertFalse(LiveFilter.isNarrowing(Collections.singletonList("ali"), Collections.singletonList("al")));
+
+        // earlier word changed
+        assertFalse(LiveFilter.isNarrowing(Arrays.asList("al", "p"), Arrays.asList("alice", "p")));
+
+        // words removed
+        assertFalse(LiveFilter.isNarrowing(Arrays.asList("al", "p"), Collections.singletonList("al")));
+    }
+}
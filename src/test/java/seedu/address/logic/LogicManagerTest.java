@@ -1,24 +1,45 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.DEADLINEDATE_DESC_ONE;
 import static seedu.address.logic.commands.CommandTestUtil.DEADLINETIME_DESC_ONE;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PRICE_DESC_PRAWNMEE;
 import static seedu.address.logic.commands.CommandTestUtil.PURCHASENAME_DESC_PRAWNMEE;
+import static seedu.address.logic.commands.CommandTestUtil.PURCHASE_DATE_DESC_PRAWNMEE;
 import static seedu.address.logic.commands.CommandTestUtil.TASKNAME_DESC_ONE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPurchases.PRAWNMEE;
 import static seedu.address.testutil.TypicalTasks.TASKONE;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -26,15 +47,18 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.logic.CommandMetrics.Phase;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddPurchaseCommand;
 import seedu.address.logic.commands.AddTaskCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelLoader;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyContactList;
 import seedu.address.model.ReadOnlyExpenditureList;
@@ -44,6 +68,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.purchase.Purchase;
 import seedu.address.model.task.Task;
 import seedu.address.storage.*;
+import seedu.address.testutil.ContactListBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PurchaseBuilder;
 import seedu.address.testutil.TaskBuilder;
@@ -59,6 +84,8 @@ public class LogicManagerTest {
     public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     private Model model = new ModelManager();
+    private CommandMetrics metrics = new CommandMetrics();
+    private StorageManager storage;
     private Logic logic;
 
     @Before
@@ -72,9 +99,9 @@ public class LogicManagerTest {
                 new JsonExpenditureListStorage(temporaryFolder.newFile().toPath());
         JsonHabitTrackerListStorage habitTrackerListStorage = new JsonHabitTrackerListStorage(temporaryFolder.newFile().toPath());
         JsonWorkoutBookStorage workoutBookStorage = new JsonWorkoutBookStorage(temporaryFolder.newFile().toPath());
-        StorageManager storage = new StorageManager(contactListStorage, userPrefsStorage,
+        storage = new StorageManager(contactListStorage, userPrefsStorage,
                 taskListStorage, expenditureListStorage, workoutBookStorage, tickedTaskListStorage, habitTrackerListStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager.Builder(model, storage).withMetrics(metrics).build();
     }
 
     @Test
@@ -102,7 +129,73 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
+    public void execute_validCommands_measured() throws Exception {
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("  " + AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+
+        assertEquals(0, metrics.getPhaseTimes("uicfhmowqewca", Phase.PARSE).getCount());
+        assertEquals(1, metrics.getPhaseTimes(ListCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+        assertEquals(1, metrics.getPhaseTimes(AddCommand.COMMAND_WORD, Phase.PERSIST).getCount());
+        assertEquals(1, metrics.getSaveTimes("contact list").getCount());
+        assertTrue(metrics.getSavedBytes("contact list").getTotal() > 0);
+    }
+
+    @Test
+    public void execute_dataLoading_throwsCommandException() throws Exception {
+        CompletableFuture<ReadOnlyContactList> contactList = new CompletableFuture<>();
+        ModelLoader modelLoader = new ModelLoader(model, Runnable::run);
+        modelLoader.load(contactList, model::setContactList);
+        modelLoader.start();
+        logic = new LogicManager.Builder(model, storage).withModelLoader(modelLoader).build();
+
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_DATA_LOADING);
+
+        contactList.complete(new ContactListBuilder().withPerson(AMY).build());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_saveDeferred_savesListAsModifiedByLaterCommands() throws Exception {
+        List<Runnable> pendingSaves = new ArrayList<>();
+        JsonContactListStorage contactListStorage =
+                new JsonContactListStorage(temporaryFolder.getRoot().toPath().resolve("contacts.json"));
+        logic = new LogicManager.Builder(model, createJournalStorage(contactListStorage))
+                .withSaveExecutor(pendingSaves::add).build();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB);
+        pendingSaves.forEach(Runnable::run);
+        pendingSaves.clear();
+
+        // the first save wrote the whole list, so only the edits of the next command are journalled
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        pendingSaves.forEach(Runnable::run);
+
+        assertEquals(Arrays.asList(new PersonBuilder(AMY).withTags().build(),
+                new PersonBuilder(BOB).withTags().build()), contactListStorage.readContactList().get().getPersonList());
+        assertEquals(Collections.singletonList(new PersonBuilder(BOB).withTags().build()),
+                createJournalStorage(contactListStorage).readContactList().get().getPersonList());
+    }
+
+    @Test
+    public void execute_journalledStorage_journalsEditsOfCommands() throws Exception {
+        JsonContactListStorage contactListStorage =
+                new JsonContactListStorage(temporaryFolder.getRoot().toPath().resolve("contacts.json"));
+        logic = new LogicManager(model, createJournalStorage(contactListStorage));
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+
+        // only the first save writes the whole list, the edits of later commands are journalled
+        assertEquals(Collections.singletonList(new PersonBuilder(AMY).withTags().build()),
+                contactListStorage.readContactList().get().getPersonList());
+        assertEquals(Collections.singletonList(new PersonBuilder(BOB).withTags().build()),
+                createJournalStorage(contactListStorage).readContactList().get().getPersonList());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_saveErrorReportedWithResult() throws Exception {
         // Setup LogicManager with JsonContactListIoExceptionThrowingStub
         JsonContactListStorage contactListStorage =
                 new JsonContactListIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
@@ -127,8 +220,15 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
         expectedModel.commitContactList();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
+        String saveErrorMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        List<String> reportedSaveErrors = new ArrayList<>();
+        logic.saveErrorProperty().addListener((observable, oldError, newError) -> {
+            if (newError != null) {
+                reportedSaveErrors.add(newError);
+            }
+        });
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, expectedPerson) + "\n"
+                + saveErrorMessage, expectedModel);
 
 
         String addTaskCommand = AddTaskCommand.COMMAND_WORD + TASKNAME_DESC_ONE + DEADLINETIME_DESC_ONE
@@ -136,12 +236,43 @@ public class LogicManagerTest {
         Task expectedTask = new TaskBuilder(TASKONE).withTags().build();
         expectedModel.addTask(expectedTask);
         expectedModel.commitTaskList();
-        assertCommandBehavior(CommandException.class, addTaskCommand, expectedMessage, expectedModel);
+        assertCommandSuccess(addTaskCommand, String.format(AddTaskCommand.MESSAGE_SUCCESS, expectedTask) + "\n"
+                + saveErrorMessage, expectedModel);
         assertHistoryCorrect(addTaskCommand, addCommand);
 
+        // every failed save is reported, even with the same message as the previous one
+        assertEquals(Arrays.asList(saveErrorMessage, saveErrorMessage, saveErrorMessage), reportedSaveErrors);
+        assertEquals(saveErrorMessage, logic.saveErrorProperty().getValue());
+
 
     }
 
+    @Test
+    public void previewCommand_findCommandTyped_previousFilterRestoredWhenChanged() throws Exception {
+        ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor();
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        try {
+            logic = new LogicManager.Builder(model, storage).withLiveFilters(worker, modelTasks::add).build();
+            model.addPerson(ALICE);
+            model.addPerson(BENSON);
+            model.addPerson(CARL);
+            model.updateFilteredPersonList(person -> !person.equals(ALICE));
+
+            logic.previewCommand("find be");
+            while (!model.getFilteredPersonList().equals(Collections.singletonList(BENSON))) {
+                Runnable modelTask = modelTasks.poll(5, TimeUnit.SECONDS);
+                assertNotNull("Find command was not previewed", modelTask);
+                modelTask.run();
+            }
+
+            // the filter set before the find command was typed is shown again
+            logic.previewCommand("list");
+            assertEquals(Arrays.asList(BENSON, CARL), model.getFilteredPersonList());
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -149,7 +280,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_expstorageThrowsIoException_throwsCommandException() throws Exception {
+    public void execute_expstorageThrowsIoException_saveErrorReportedWithResult() throws Exception {
         // Setup LogicManager with JsonContactListIoExceptionThrowingStub
         JsonContactListStorage contactListStorage =
                 new JsonContactListIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
@@ -169,13 +300,15 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
 
         // Execute addpurchase command
-        String addpurchaseCommand = AddPurchaseCommand.COMMAND_WORD + PURCHASENAME_DESC_PRAWNMEE + PRICE_DESC_PRAWNMEE;
+        String addpurchaseCommand = AddPurchaseCommand.COMMAND_WORD + PURCHASENAME_DESC_PRAWNMEE + PRICE_DESC_PRAWNMEE
+                + PURCHASE_DATE_DESC_PRAWNMEE;
         Purchase expectedPurchase = new PurchaseBuilder(PRAWNMEE).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPurchase(expectedPurchase);
         expectedModel.commitExpenditureList();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addpurchaseCommand, expectedMessage, expectedModel);
+        String expectedMessage = String.format(AddPurchaseCommand.MESSAGE_SUCCESS, expectedPurchase) + "\n"
+                + LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandSuccess(addpurchaseCommand, expectedMessage, expectedModel);
         assertHistoryCorrect(addpurchaseCommand);
     }
 
@@ -184,6 +317,16 @@ public class LogicManagerTest {
      * Also confirms that {@code expectedModel} is as specified.
      * @see #assertCommandBehavior(Class, String, String, Model)
      */
+    private JournalStorageManager createJournalStorage(JsonContactListStorage contactListStorage) {
+        return new JournalStorageManager(contactListStorage,
+                new JsonUserPrefsStorage(temporaryFolder.getRoot().toPath().resolve("prefs.json")),
+                new JsonTaskListStorage(temporaryFolder.getRoot().toPath().resolve("tasks.json")),
+                new JsonExpenditureListStorage(temporaryFolder.getRoot().toPath().resolve("purchases.json")),
+                new JsonWorkoutBookStorage(temporaryFolder.getRoot().toPath().resolve("workouts.json")),
+                new JsonTickedTaskListStorage(temporaryFolder.getRoot().toPath().resolve("ticked.json")),
+                new JsonHabitTrackerListStorage(temporaryFolder.getRoot().toPath().resolve("habits.json")));
+    }
+
     private void assertCommandSuccess(String inputCommand, String expectedMessage, Model expectedModel) {
         assertCommandBehavior(null, inputCommand, expectedMessage, expectedModel);
     }
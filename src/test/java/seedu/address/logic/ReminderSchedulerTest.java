@@ -0,0 +1,107 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static seedu.address.testutil.TypicalTasks.TASKFOUR;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class ReminderSchedulerTest {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final Model model = new ModelManager();
+    private final BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+    private final List<String> reminders = new ArrayList<>();
+    private final SettableClock clock = new SettableClock();
+    private final ReminderScheduler reminderScheduler = new ReminderScheduler(model,
+            Executors.newSingleThreadScheduledExecutor(), modelTasks::add, clock, reminders::add);
+
+    @After
+    public void tearDown() {
+        reminderScheduler.stop();
+    }
+
+    /**
+     * Waits for the scheduler to wake up, then runs the model task it submitted on this thread.
+     */
+    private void runNextModelTask() throws InterruptedException {
+        Runnable modelTask = modelTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull("Scheduler did not wake up", modelTask);
+        modelTask.run();
+    }
+
+    @Test
+    public void start_taskDueAfterStart_remindedAtDeadline() throws Exception {
+        model.setTaskList(getTypicalTaskList());
+        // one millisecond before TASKFOUR is due
+        clock.setInstant(Instant.parse("2019-12-27T23:58:59.999Z"));
+        reminderScheduler.start();
+
+        clock.setInstant(Instant.parse("2019-12-27T23:59:00Z"));
+        runNextModelTask();
+        assertEquals(Collections.singletonList(String.format(ReminderScheduler.MESSAGE_REMINDER,
+                TASKFOUR.getTaskName().fullName)), reminders);
+    }
+
+    @Test
+    public void start_earlierTaskAddedAfterStart_rescheduled() throws Exception {
+        model.setTaskList(getTypicalTaskList());
+        clock.setInstant(Instant.parse("2019-12-27T12:00:59.999Z"));
+        reminderScheduler.start();
+
+        // the scheduler is waiting for TASKFOUR, due almost 12 hours later
+        Task dueNextMinute = new TaskBuilder().withTaskName("Call home").withDeadlineDate("271219")
+                .withDeadlineTime("1201").build();
+        model.addTask(dueNextMinute);
+
+        clock.setInstant(Instant.parse("2019-12-27T12:01:00Z"));
+        runNextModelTask();
+        assertEquals(Collections.singletonList(String.format(ReminderScheduler.MESSAGE_REMINDER, "Call home")),
+                reminders);
+    }
+
+    /**
+     * A UTC clock whose time is set by the test.
+     */
+    private static class SettableClock extends Clock {
+        private volatile Instant instant = Instant.EPOCH;
+
+        void setInstant(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
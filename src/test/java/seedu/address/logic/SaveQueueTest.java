@@ -0,0 +1,117 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+
+public class SaveQueueTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<Runnable> scheduledFlushes = new ArrayList<>();
+    private final List<String> writes = new ArrayList<>();
+    private final List<IOException> errors = new ArrayList<>();
+    private final CommandMetrics metrics = new CommandMetrics();
+    private SaveQueue saveQueue;
+
+    @Before
+    public void setUp() {
+        saveQueue = new SaveQueue(scheduledFlushes::add, errors::add, metrics);
+    }
+
+    @Test
+    public void queue_repeatedSavesBeforeFlush_writesLatestSaveOnce() {
+        saveQueue.queue("contacts", () -> writes.add("contacts 1"));
+        saveQueue.queue("tasks", () -> writes.add("tasks 1"));
+        saveQueue.queue("contacts", () -> writes.add("contacts 2"));
+        assertEquals(1, scheduledFlushes.size());
+        assertEquals(Collections.emptyList(), writes);
+
+        scheduledFlushes.get(0).run();
+        assertEquals(Arrays.asList("contacts 2", "tasks 1"), writes);
+
+        // a save queued after the flush schedules another flush
+        saveQueue.queue("contacts", () -> writes.add("contacts 3"));
+        assertEquals(2, scheduledFlushes.size());
+    }
+
+    @Test
+    public void flush_pendingSaves_writesOnCallingThread() {
+        saveQueue.queue("contacts", () -> writes.add("contacts"));
+        saveQueue.flush();
+        assertEquals(Collections.singletonList("contacts"), writes);
+
+        // the scheduled flush finds nothing left to save
+        scheduledFlushes.get(0).run();
+        assertEquals(Collections.singletonList("contacts"), writes);
+    }
+
+    @Test
+    public void flush_saveFails_reportsErrorAndRetries() {
+        IOException ioException = new IOException("dummy exception");
+        saveQueue.queue("contacts", () -> {
+            writes.add("contacts");
+            throw ioException;
+        });
+        saveQueue.flush();
+        assertEquals(Collections.singletonList(ioException), errors);
+
+        saveQueue.flush();
+        assertEquals(Arrays.asList("contacts", "contacts"), writes);
+    }
+
+    @Test
+    public void flush_failedSavesSucceed_recoveryReported() {
+        List<String> recoveries = new ArrayList<>();
+        saveQueue = new SaveQueue(scheduledFlushes::add, errors::add, () -> recoveries.add("recovered"), metrics);
+        saveQueue.queue("contacts", () -> {
+            throw new IOException("dummy exception");
+        });
+        saveQueue.queue("tasks", () -> {
+            throw new IOException("dummy exception");
+        });
+        saveQueue.flush();
+
+        // the tasks are still not saved
+        saveQueue.queue("contacts", () -> writes.add("contacts"));
+        saveQueue.flush();
+        assertEquals(Collections.emptyList(), recoveries);
+
+        saveQueue.queue("tasks", () -> writes.add("tasks"));
+        saveQueue.flush();
+        assertEquals(Collections.singletonList("recovered"), recoveries);
+
+        // saves that follow successful ones are not recoveries
+        saveQueue.queue("tasks", () -> writes.add("tasks"));
+        saveQueue.flush();
+        assertEquals(Collections.singletonList("recovered"), recoveries);
+    }
+
+    @Test
+    public void flush_successfulSaves_recordedInMetrics() {
+        Path file = temporaryFolder.getRoot().toPath().resolve("contacts.json");
+        saveQueue.queue("contacts", () -> FileUtil.writeToFile(file, "12345"));
+        saveQueue.queue("tasks", () -> {
+            throw new IOException("dummy exception");
+        });
+        saveQueue.flush();
+        saveQueue.queue("contacts", () -> FileUtil.appendToFile(file, "678"));
+        saveQueue.flush();
+
+        assertEquals(2, metrics.getSaveTimes("contacts").getCount());
+        assertEquals(8, metrics.getSavedBytes("contacts").getTotal());
+        assertEquals(0, metrics.getSaveTimes("tasks").getCount());
+    }
+}
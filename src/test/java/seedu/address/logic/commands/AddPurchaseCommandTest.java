@@ -5,25 +5,19 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.beans.property.ReadOnlyProperty;
-import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.CommandHistory;
-import seedu.address.model.*;
-import seedu.address.model.habit.Habit;
-import seedu.address.model.person.Person;
+import seedu.address.model.ExpenditureList;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyExpenditureList;
 import seedu.address.model.purchase.Purchase;
-import seedu.address.model.task.Task;
-import seedu.address.model.workout.Workout;
+import seedu.address.testutil.ModelStub;
 import seedu.address.testutil.PurchaseBuilder;
 
 public class AddPurchaseCommandTest {
@@ -77,373 +71,6 @@ public class AddPurchaseCommandTest {
         assertFalse(addChickenriceCommand.equals(addPrawnmeeCommand));
     }
 
-    /**
-     * A default model stub that have all of the methods failing.
-     */
-    private class ModelStub implements Model {
-        // -----------------------------UserPrefs and GuiSettings-------------------------------------
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        //-----------------------------Expenditure List------------------------------------
-
-        @Override
-        public void addPurchase(Purchase purchase) {
-
-        }
-
-        @Override
-        public void setExpenditureList(ReadOnlyExpenditureList newData) {
-
-        }
-
-        @Override
-        public ReadOnlyExpenditureList getExpenditureList() {
-            return null;
-        }
-
-
-        @Override
-        public ObservableList<Purchase> getFilteredPurchaseList() {
-            return null;
-        }
-
-        @Override
-        public void updateFilteredPurchaseList(Predicate<Purchase> predicate) {
-
-        }
-
-        @Override
-        public void commitExpenditureList() {
-
-        }
-
-        @Override
-        public ReadOnlyProperty<Purchase> selectedPurchaseProperty() {
-            return null;
-        }
-
-        @Override
-        public void setSelectedPurchase(Purchase purchase) {
-
-        }
-
-        @Override
-        public Path getExpenditureListFilePath() {
-            return null;
-        }
-
-        @Override
-        public void setExpenditureListFilePath(Path expenditureListFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Purchase getSelectedPurchase() {
-            return null;
-        }
-
-        // --------------------------------Task List-------------------------------------
-
-        @Override
-        public ReadOnlyTaskList getTaskList() {
-            return null;
-        }
-
-        @Override
-        public ReadOnlyTaskList getTickedTaskList() {
-            return null;
-        }
-
-        @Override
-        public void addTask(Task task) {
-
-        }
-
-        @Override
-        public void addTickedTaskList(Task task) {
-
-        }
-
-        @Override
-        public boolean hasTask(Task task) {
-            return false;
-        }
-
-        @Override
-        public void deleteTask(Task task) {
-
-        }
-
-        @Override
-        public void sortTask() {
-
-        }
-
-        @Override
-        public void commitTaskList() {
-
-        }
-
-        @Override
-        public void commitTickedTaskList() {
-
-        }
-
-        @Override
-        public void updateFilteredTaskList(Predicate<Task> predicate) {
-
-        }
-
-        @Override
-        public void updateFilteredTickedTaskList(Predicate<Task> predicate) {
-
-        }
-
-        @Override
-        public ObservableList<Task> getFilteredTaskList() {
-            return null;
-        }
-
-        @Override
-        public ObservableList<Task> getFilteredTickedTaskList() {
-            return null;
-        }
-
-        @Override
-        public ReadOnlyProperty<Task> selectedTaskProperty() {
-            return null;
-        }
-
-        @Override
-        public void setSelectedTask(Task task) {
-
-        }
-
-        @Override
-        public void setTask(Task target, Task editedTask) {
-
-        }
-
-        @Override
-        public Task getSelectedTask() {
-            return null;
-        }
-
-
-        // ---------------------------Workout Book----------------------------
-        @Override
-        public void addWorkout(Workout workout) {
-
-        }
-
-        @Override
-        public void commitWorkoutBook() {
-
-        }
-
-        @Override
-        public void setSelectedWorkout(Workout workout) {
-
-        }
-
-        @Override
-        public ReadOnlyProperty<Workout> selectedWorkoutProperty() {
-            return null;
-        }
-
-        @Override
-        public ObservableList<Workout> getFilteredWorkoutList() {
-            return null;
-        }
-
-        @Override
-        public ReadOnlyWorkoutBook getWorkoutList() {
-            return null;
-        }
-
-        @Override
-        public void updateFilteredWorkoutList(Predicate<Workout> predicate) {
-
-        }
-
-        @Override
-        public void setWorkoutBook(ReadOnlyWorkoutBook workoutBook) {
-
-        }
-
-        @Override
-        public ArrayList<Workout> getRecent() {
-            return null;
-        }
-
-        @Override
-        public void setHabitTrackerList(ReadOnlyHabitTrackerList habitTrackerList) {
-
-        }
-
-        @Override
-        public ReadOnlyHabitTrackerList getHabitTrackerList() {
-            return null;
-        }
-
-        @Override
-        public void addHabit(Habit habit) {
-
-        }
-
-        @Override
-        public ObservableList<Habit> getFilteredHabitList() {
-            return null;
-        }
-
-        @Override
-        public void updateFilteredHabitList(Predicate<Habit> predicate) {
-
-        }
-
-        @Override
-        public void commitHabitTrackerList() {
-
-        }
-
-        @Override
-        public ReadOnlyProperty<Habit> selectedHabitProperty() {
-            return null;
-        }
-
-        @Override
-        public Habit getSelectedHabit() {
-            return null;
-        }
-
-        @Override
-        public void setSelectedHabit(Habit habit) {
-
-        }
-
-        @Override
-        public void deleteHabit(Habit habit) {
-
-        }
-
-        // ------------------------------- contact list---------------------------
-
-        @Override
-        public Path getContactListFilePath() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setContactListFilePath(Path contactListFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setContactList(ReadOnlyContactList contactList) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyContactList getContactList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-
-
-        @Override
-        public boolean hasPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deletePerson(Person target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-
-        @Override
-        public void setPerson(Person target, Person editedPerson) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Person> getFilteredPersonList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-
-
-        @Override
-        public boolean canUndoContactList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean canRedoContactList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void undoContactList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void redoContactList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void commitContactList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyProperty<Person> selectedPersonProperty() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Person getSelectedPerson() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setSelectedPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-    }
-
-
     /**
      * A Model stub that always accept the purchase being added.
      */
@@ -10,6 +10,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PURCHASENAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PURCHASE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
@@ -51,6 +52,8 @@ public class CommandTestUtil {
     public static final String VALID_PRICE_MOVIE = "27.00";
     public static final String VALID_PURCHASENAME_PRAWNMEE = "Prawn mee";
     public static final String VALID_PURCHASENAME_MOVIE = "2 Movie tickets for Avengers";
+    public static final String VALID_PURCHASE_DATE_PRAWNMEE = "020419";
+    public static final String VALID_PURCHASE_DATE_MOVIE = "260419";
     public static final String VALID_TAG_FOOD = "food";
     public static final String VALID_TAG_ENTERTAINMENT = "entertainment";
     public static final String VALID_TAG_FAMILY = "family";
@@ -70,6 +73,8 @@ public class CommandTestUtil {
     public static final String PURCHASENAME_DESC_MOVIE = " " + PREFIX_PURCHASENAME + VALID_PURCHASENAME_MOVIE;
     public static final String PRICE_DESC_PRAWNMEE = " " + PREFIX_PRICE + VALID_PRICE_PRAWNMEE;
     public static final String PRICE_DESC_MOVIE = " " + PREFIX_PRICE + VALID_PRICE_MOVIE;
+    public static final String PURCHASE_DATE_DESC_PRAWNMEE = " " + PREFIX_PURCHASE_DATE + VALID_PURCHASE_DATE_PRAWNMEE;
+    public static final String PURCHASE_DATE_DESC_MOVIE = " " + PREFIX_PURCHASE_DATE + VALID_PURCHASE_DATE_MOVIE;
     public static final String TAG_DESC_FOOD = " " + PREFIX_TAG + VALID_TAG_FOOD;
     public static final String TAG_DESC_ENTERTAINMENT = " " + PREFIX_TAG + VALID_TAG_ENTERTAINMENT;
     public static final String TAG_DESC_FAMILY = " " + PREFIX_TAG + VALID_TAG_FAMILY;
@@ -83,6 +88,7 @@ public class CommandTestUtil {
     public static final String INVALID_PURCHASENAME_DESC = " " + PREFIX_PURCHASENAME + "PRAWNMEE!!";
     // '! not allowed in purchasenames
     public static final String INVALID_PRICE_DESC = " " + PREFIX_PRICE + "$5.00"; // '$' not allowed in prices
+    public static final String INVALID_PURCHASE_DATE_DESC = " " + PREFIX_PURCHASE_DATE + "310219"; // no 31 Feb
 
     public static final String PREAMBLE_WHITESPACE = "\t  \r  \n";
     public static final String PREAMBLE_NON_EMPTY = "NonEmptyPreamble";
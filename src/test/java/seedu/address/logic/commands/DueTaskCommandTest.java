@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalHabits.getTypicalHabitTrackerList;
+import static seedu.address.testutil.TypicalPersons.getTypicalContactList;
+import static seedu.address.testutil.TypicalPurchases.getTypicalExpenditureList;
+import static seedu.address.testutil.TypicalTasks.TASKFIVE;
+import static seedu.address.testutil.TypicalTasks.TASKFOUR;
+import static seedu.address.testutil.TypicalTasks.TASKSEVEN;
+import static seedu.address.testutil.TypicalTasks.TASKSIX;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+import static seedu.address.testutil.TypicalWorkouts.getTypicalWorkoutList;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DueTaskCommand}.
+ */
+public class DueTaskCommandTest {
+    /** Midday of 27 December 2019, before {@code TASKFOUR} and {@code TASKFIVE} are due. */
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2019-12-27T12:00:00Z"), ZoneOffset.UTC);
+
+    private Model model = new ModelManager(getTypicalContactList(), new UserPrefs(),
+            getTypicalTaskList(), getTypicalExpenditureList(), getTypicalWorkoutList(), getTypicalHabitTrackerList());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        DueTaskCommand dueWithinDayCommand = DueTaskCommand.dueWithinHours(24, CLOCK);
+        DueTaskCommand overdueCommand = DueTaskCommand.overdue(CLOCK);
+
+        // same object -> returns true
+        assertTrue(dueWithinDayCommand.equals(dueWithinDayCommand));
+
+        // same values -> returns true
+        assertTrue(dueWithinDayCommand.equals(DueTaskCommand.dueWithinHours(24, CLOCK)));
+        assertTrue(overdueCommand.equals(DueTaskCommand.overdue(CLOCK)));
+
+        // different types -> returns false
+        assertFalse(dueWithinDayCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(dueWithinDayCommand.equals(null));
+
+        // different hours -> returns false
+        assertFalse(dueWithinDayCommand.equals(DueTaskCommand.dueWithinHours(48, CLOCK)));
+
+        // overdue -> returns false
+        assertFalse(dueWithinDayCommand.equals(overdueCommand));
+    }
+
+    @Test
+    public void execute_dueWithinHours_tasksDueInRangeListed() throws Exception {
+        CommandResult result = DueTaskCommand.dueWithinHours(24, CLOCK).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(TASKFOUR), model.getFilteredTaskList());
+
+        result = DueTaskCommand.dueWithinHours(48, CLOCK).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(TASKFOUR, TASKFIVE), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_overdue_tasksDueBeforeNowListed() throws Exception {
+        CommandResult result = DueTaskCommand.overdue(CLOCK).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(TASKSIX, TASKSEVEN), model.getFilteredTaskList());
+    }
+}
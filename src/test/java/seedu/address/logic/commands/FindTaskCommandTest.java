@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalHabits.getTypicalHabitTrackerList;
+import static seedu.address.testutil.TypicalPersons.getTypicalContactList;
+import static seedu.address.testutil.TypicalPurchases.getTypicalExpenditureList;
+import static seedu.address.testutil.TypicalTasks.TASKFOUR;
+import static seedu.address.testutil.TypicalTasks.TASKSIX;
+import static seedu.address.testutil.TypicalTasks.TASKTHREE;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+import static seedu.address.testutil.TypicalWorkouts.getTypicalWorkoutList;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindTaskCommand}.
+ */
+public class FindTaskCommandTest {
+    private Model model = new ModelManager(getTypicalContactList(), new UserPrefs(),
+            getTypicalTaskList(), getTypicalExpenditureList(), getTypicalWorkoutList(), getTypicalHabitTrackerList());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        FindTaskCommand findFirstCommand = new FindTaskCommand(Collections.singletonList("first"));
+        FindTaskCommand findSecondCommand = new FindTaskCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindTaskCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_prefixAndFuzzyKeywords_matchingTasksListed() {
+        CommandResult result = new FindTaskCommand(Arrays.asList("bu*", "assignmnt~")).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(TASKTHREE, TASKSIX), model.getFilteredTaskList());
+
+        result = new FindTaskCommand(Collections.singletonList("tickets")).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(TASKFOUR), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_tasksChanged_searchIndexUpdated() {
+        Task task = new TaskBuilder().withTaskName("Buy groceries").build();
+        model.addTask(task);
+        model.deleteTask(TASKSIX);
+
+        CommandResult result = new FindTaskCommand(Collections.singletonList("buy")).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(task), model.getFilteredTaskList());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.deleteFirstPerson;
@@ -16,6 +17,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.WorkoutBuilder;
 
 public class RedoCommandTest {
 
@@ -52,4 +54,21 @@ public class RedoCommandTest {
         // no redoable state in model
         assertCommandFailure(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_filteredLists_everyListShownAgain() throws Exception {
+        model.addWorkout(new WorkoutBuilder().build());
+        model.updateFilteredPersonList(unused -> false);
+        model.updateFilteredTaskList(unused -> false);
+        model.updateFilteredPurchaseList(unused -> false);
+        model.updateFilteredHabitList(unused -> false);
+        model.updateFilteredWorkoutList(unused -> false);
+
+        new RedoCommand().execute(model, commandHistory);
+        assertEquals(model.getContactList().getPersonList().size(), model.getFilteredPersonList().size());
+        assertEquals(model.getTaskList().getTaskList().size(), model.getFilteredTaskList().size());
+        assertEquals(model.getExpenditureList().getPurchaseList().size(), model.getFilteredPurchaseList().size());
+        assertEquals(model.getHabitTrackerList().getHabitList().size(), model.getFilteredHabitList().size());
+        assertEquals(1, model.getFilteredWorkoutList().size());
+    }
 }
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalHabits.getTypicalHabitTrackerList;
+import static seedu.address.testutil.TypicalPersons.getTypicalContactList;
+import static seedu.address.testutil.TypicalPurchases.CHICKENRICE;
+import static seedu.address.testutil.TypicalPurchases.getTypicalExpenditureList;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+import static seedu.address.testutil.TypicalWorkouts.getTypicalWorkoutList;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.purchase.Purchase;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PurchaseBuilder;
+
+public class SpendingCommandTest {
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_emptyExpenditureList_noPurchases() {
+        assertCommandSuccess(new SpendingCommand(Collections.emptySet()), new ModelManager(), commandHistory,
+                SpendingCommand.MESSAGE_NO_PURCHASES, new ModelManager());
+    }
+
+    @Test
+    public void execute_typicalExpenditureList_summaryShown() {
+        Model model = new ModelManager(getTypicalContactList(), new UserPrefs(), getTypicalTaskList(),
+                getTypicalExpenditureList(), getTypicalWorkoutList(), getTypicalHabitTrackerList());
+        model.addPurchase(CHICKENRICE);
+        Model expectedModel = new ModelManager(getTypicalContactList(), new UserPrefs(), getTypicalTaskList(),
+                getTypicalExpenditureList(), getTypicalWorkoutList(), getTypicalHabitTrackerList());
+        expectedModel.addPurchase(CHICKENRICE);
+
+        String expectedMessage = String.format(SpendingCommand.MESSAGE_SUCCESS, "31.20", 4, "2.30", "18.50")
+                + String.format(SpendingCommand.MESSAGE_TAG_TOTALS, "entertainment $18.50, food $10.40, snacks $2.30");
+        assertCommandSuccess(new SpendingCommand(Collections.emptySet()), model, commandHistory, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_requiredTags_onlyPurchasesWithEveryTagSummarised() {
+        Purchase lunch = new PurchaseBuilder().withPurchaseName("Lunch").withPrice("5.00").withTags("food", "work")
+                .build();
+        Purchase dinner = new PurchaseBuilder().withPurchaseName("Dinner").withPrice("12.00").withTags("food").build();
+        Model model = new ModelManager();
+        model.addPurchase(lunch);
+        model.addPurchase(dinner);
+        Model expectedModel = new ModelManager();
+        expectedModel.addPurchase(lunch);
+        expectedModel.addPurchase(dinner);
+
+        Set<Tag> requiredTags = new HashSet<>();
+        requiredTags.add(new Tag("work"));
+        requiredTags.add(new Tag("food"));
+        String expectedMessage = String.format(SpendingCommand.MESSAGE_REQUIRED_TAGS, "food, work")
+                + String.format(SpendingCommand.MESSAGE_SUCCESS, "5.00", 1, "5.00", "5.00")
+                + String.format(SpendingCommand.MESSAGE_TAG_TOTALS, "food $5.00, work $5.00");
+        assertCommandSuccess(new SpendingCommand(requiredTags), model, commandHistory, expectedMessage,
+                expectedModel);
+
+        // no purchase has the tag
+        assertCommandSuccess(new SpendingCommand(Collections.singleton(new Tag("travel"))), model, commandHistory,
+                SpendingCommand.MESSAGE_NO_PURCHASES, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SpendingCommand allCommand = new SpendingCommand(Collections.emptySet());
+        SpendingCommand foodCommand = new SpendingCommand(Collections.singleton(new Tag("food")));
+
+        // same object -> returns true
+        assertTrue(foodCommand.equals(foodCommand));
+
+        // same values -> returns true
+        assertTrue(foodCommand.equals(new SpendingCommand(Collections.singleton(new Tag("food")))));
+
+        // different types -> returns false
+        assertFalse(foodCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(foodCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(foodCommand.equals(allCommand));
+    }
+
+    @Test
+    public void execute_untaggedPurchases_noTagTotals() {
+        Purchase untagged = new PurchaseBuilder().withPurchaseName("Bus fare").withPrice("1.05").withTags().build();
+        Model model = new ModelManager();
+        model.addPurchase(untagged);
+        Model expectedModel = new ModelManager();
+        expectedModel.addPurchase(untagged);
+
+        String expectedMessage = String.format(SpendingCommand.MESSAGE_SUCCESS, "1.05", 1, "1.05", "1.05");
+        assertCommandSuccess(new SpendingCommand(Collections.emptySet()), model, commandHistory, expectedMessage,
+                expectedModel);
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalHabits.getTypicalHabitTrackerList;
+import static seedu.address.testutil.TypicalPersons.getTypicalContactList;
+import static seedu.address.testutil.TypicalPurchases.getTypicalExpenditureList;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+import static seedu.address.testutil.TypicalWorkouts.getTypicalWorkoutList;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.purchase.SpendingPeriod;
+
+public class SpendingReportCommandTest {
+    /** Monday 8 April 2019. */
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2019-04-08T12:00:00Z"), ZoneOffset.UTC);
+
+    private CommandHistory commandHistory = new CommandHistory();
+    private Model model = new ModelManager(getTypicalContactList(), new UserPrefs(), getTypicalTaskList(),
+            getTypicalExpenditureList(), getTypicalWorkoutList(), getTypicalHabitTrackerList());
+    private Model expectedModel = new ModelManager(getTypicalContactList(), new UserPrefs(), getTypicalTaskList(),
+            getTypicalExpenditureList(), getTypicalWorkoutList(), getTypicalHabitTrackerList());
+
+    @Test
+    public void execute_months_spendingPerMonthShown() {
+        String expectedMessage = String.format(SpendingReportCommand.MESSAGE_HEADER, "month", 3)
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD, "Feb 2019", "0.00")
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD, "Mar 2019", "2.30")
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD_PURCHASES, 1)
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD_TAG_TOTALS, "snacks $2.30")
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD, "Apr 2019", "26.40")
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD_PURCHASES, 2)
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD_TAG_TOTALS, "entertainment $18.50, food $7.90")
+                + String.format(SpendingReportCommand.MESSAGE_TOTAL, "28.70", 3);
+        assertCommandSuccess(new SpendingReportCommand(SpendingPeriod.MONTH, 3, CLOCK), model, commandHistory,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_weeks_currentWeekIncluded() {
+        String expectedMessage = String.format(SpendingReportCommand.MESSAGE_HEADER, "week", 2)
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD, "Week of 1 Apr 2019", "26.40")
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD_PURCHASES, 2)
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD_TAG_TOTALS, "entertainment $18.50, food $7.90")
+                + String.format(SpendingReportCommand.MESSAGE_PERIOD, "Week of 8 Apr 2019", "0.00")
+                + String.format(SpendingReportCommand.MESSAGE_TOTAL, "26.40", 2);
+        assertCommandSuccess(new SpendingReportCommand(SpendingPeriod.WEEK, 2, CLOCK), model, commandHistory,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SpendingReportCommand monthsCommand = new SpendingReportCommand(SpendingPeriod.MONTH, 3, CLOCK);
+
+        // same object -> returns true
+        assertTrue(monthsCommand.equals(monthsCommand));
+
+        // same values -> returns true
+        assertTrue(monthsCommand.equals(new SpendingReportCommand(SpendingPeriod.MONTH, 3, CLOCK)));
+
+        // different types -> returns false
+        assertFalse(monthsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(monthsCommand.equals(null));
+
+        // different period -> returns false
+        assertFalse(monthsCommand.equals(new SpendingReportCommand(SpendingPeriod.WEEK, 3, CLOCK)));
+
+        // different count -> returns false
+        assertFalse(monthsCommand.equals(new SpendingReportCommand(SpendingPeriod.MONTH, 4, CLOCK)));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.CommandMetrics.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+    private CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void execute() {
+        assertCommandSuccess(new StatsCommand(metrics), model, history, CommandMetrics.MESSAGE_NO_METRICS,
+                expectedModel);
+
+        metrics.recordPhase(ListCommand.COMMAND_WORD, Phase.PARSE, 1000);
+        assertCommandSuccess(new StatsCommand(metrics), model, history, metrics.getSummary(), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+    }
+}
@@ -42,8 +42,7 @@ public class TickTaskCommandTest {
                 model.getTaskList(), model.getExpenditureList(), model.getWorkoutList(), model.getHabitTrackerList());
         expectedModel.addTickedTaskList(taskToTick);
         expectedModel.deleteTask(taskToTick);
-        expectedModel.commitTickedTaskList();
-        expectedModel.commitTaskList();
+        expectedModel.commitTaskAndTickedTaskLists();
 
         assertCommandSuccess(tickTaskCommand, model, commandHistory, expectedMessage, expectedModel);
     }
@@ -68,8 +67,7 @@ public class TickTaskCommandTest {
                 model.getTaskList(), model.getExpenditureList(), model.getWorkoutList(), model.getHabitTrackerList());
         expectedModel.addTickedTaskList(taskToTick);
         expectedModel.deleteTask(taskToTick);
-        expectedModel.commitTickedTaskList();
-        expectedModel.commitTaskList();
+        expectedModel.commitTaskAndTickedTaskLists();
         showNoTask(expectedModel);
 
         assertCommandSuccess(tickTaskCommand, model, commandHistory, expectedMessage, expectedModel);
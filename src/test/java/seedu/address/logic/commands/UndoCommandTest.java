@@ -1,8 +1,10 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.deleteFirstPerson;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TASK;
 import static seedu.address.testutil.TypicalPersons.getTypicalContactList;
 import static seedu.address.testutil.TypicalHabits.getTypicalHabitTrackerList;
 import static seedu.address.testutil.TypicalPurchases.getTypicalExpenditureList;
@@ -16,6 +18,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.WorkoutBuilder;
 
 public class UndoCommandTest {
 
@@ -48,4 +51,35 @@ public class UndoCommandTest {
         // no undoable states in model
         assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_filteredLists_everyListShownAgain() throws Exception {
+        model.addWorkout(new WorkoutBuilder().build());
+        model.updateFilteredPersonList(unused -> false);
+        model.updateFilteredTaskList(unused -> false);
+        model.updateFilteredPurchaseList(unused -> false);
+        model.updateFilteredHabitList(unused -> false);
+        model.updateFilteredWorkoutList(unused -> false);
+
+        new UndoCommand().execute(model, commandHistory);
+        assertEquals(model.getContactList().getPersonList().size(), model.getFilteredPersonList().size());
+        assertEquals(model.getTaskList().getTaskList().size(), model.getFilteredTaskList().size());
+        assertEquals(model.getExpenditureList().getPurchaseList().size(), model.getFilteredPurchaseList().size());
+        assertEquals(model.getHabitTrackerList().getHabitList().size(), model.getFilteredHabitList().size());
+        assertEquals(1, model.getFilteredWorkoutList().size());
+    }
+
+    @Test
+    public void execute_afterTickTask_taskAndTickedTaskListsRestored() throws Exception {
+        new TickTaskCommand(INDEX_FIRST_TASK).execute(model, commandHistory);
+
+        // the task is back in the task list only, as before it was ticked
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(expectedModel.getTaskList().getTaskList(), model.getTaskList().getTaskList());
+        assertEquals(expectedModel.getTickedTaskList().getTaskList(), model.getTickedTaskList().getTaskList());
+
+        // the contact list is undone next
+        expectedModel.undoContactList();
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
 }
@@ -3,31 +3,55 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_PRICE_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_PURCHASENAME_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_PURCHASE_DATE_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
 import static seedu.address.logic.commands.CommandTestUtil.PRICE_DESC_MOVIE;
 import static seedu.address.logic.commands.CommandTestUtil.PURCHASENAME_DESC_MOVIE;
+import static seedu.address.logic.commands.CommandTestUtil.PURCHASE_DATE_DESC_MOVIE;
 import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_ENTERTAINMENT;
 import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FAMILY;
 import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FOOD;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PRICE_MOVIE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PURCHASENAME_MOVIE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ENTERTAINMENT;
-
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalPurchases.MOVIE;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.AddPurchaseCommand;
 import seedu.address.model.purchase.Price;
+import seedu.address.model.purchase.PurchaseDate;
 import seedu.address.model.purchase.PurchaseName;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PurchaseBuilder;
 
 
 
 public class AddPurchaseCommandParserTest {
 
-    private AddPurchaseCommandParser parser = new AddPurchaseCommandParser();
+    /** 1 April 2019 in Singapore. */
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2019-03-31T16:30:00Z"), ZoneOffset.ofHours(8));
+
+    private AddPurchaseCommandParser parser = new AddPurchaseCommandParser(CLOCK);
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, PURCHASENAME_DESC_MOVIE + PRICE_DESC_MOVIE + PURCHASE_DATE_DESC_MOVIE
+                + TAG_DESC_ENTERTAINMENT, new AddPurchaseCommand(MOVIE));
+    }
+
+    @Test
+    public void parse_dateMissing_datedToday() {
+        assertParseSuccess(parser, PURCHASENAME_DESC_MOVIE + PRICE_DESC_MOVIE + TAG_DESC_ENTERTAINMENT,
+                new AddPurchaseCommand(new PurchaseBuilder(MOVIE).withDate("010419").build()));
+    }
 
     @Test
     public void parse_compulsoryFieldMissing_failure() {
@@ -56,6 +80,10 @@ public class AddPurchaseCommandParserTest {
         assertParseFailure(parser, PURCHASENAME_DESC_MOVIE + INVALID_PRICE_DESC
                 + TAG_DESC_FAMILY + TAG_DESC_ENTERTAINMENT, Price.MESSAGE_CONSTRAINTS);
 
+        // invalid date
+        assertParseFailure(parser, PURCHASENAME_DESC_MOVIE + PRICE_DESC_MOVIE + INVALID_PURCHASE_DATE_DESC
+                + TAG_DESC_ENTERTAINMENT, PurchaseDate.MESSAGE_CONSTRAINTS);
+
         // invalid tag
         assertParseFailure(parser, PURCHASENAME_DESC_MOVIE + PRICE_DESC_MOVIE
                 + INVALID_TAG_DESC + VALID_TAG_ENTERTAINMENT, Tag.MESSAGE_CONSTRAINTS);
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.DueTaskCommand;
+
+public class DueTaskCommandParserTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
+    private DueTaskCommandParser parser = new DueTaskCommandParser(CLOCK);
+
+    @Test
+    public void parse_validArgs_returnsDueTaskCommand() {
+        assertParseSuccess(parser, "24", DueTaskCommand.dueWithinHours(24, CLOCK));
+        assertParseSuccess(parser, " 1 ", DueTaskCommand.dueWithinHours(1, CLOCK));
+        assertParseSuccess(parser, "overdue", DueTaskCommand.overdue(CLOCK));
+        assertParseSuccess(parser, "OVERDUE", DueTaskCommand.overdue(CLOCK));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueTaskCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-5", expectedMessage);
+        assertParseFailure(parser, "soon", expectedMessage);
+    }
+}
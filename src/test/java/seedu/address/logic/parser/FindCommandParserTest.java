@@ -5,11 +5,16 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearchIndex.Field;
 
 public class FindCommandParserTest {
 
@@ -31,4 +36,24 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldKeywords_returnsFindCommand() {
+        Map<Field, List<String>> keywords = new EnumMap<>(Field.class);
+        keywords.put(Field.ADDRESS, Arrays.asList("Clementi", "Jurong"));
+        keywords.put(Field.TAG, Arrays.asList("friends", "colleagues"));
+        FindCommand expectedFindCommand = new FindCommand(new PersonContainsKeywordsPredicate(keywords));
+        assertParseSuccess(parser, " a/Clementi  Jurong t/friends t/colleagues", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFieldKeywords_throwsParseException() {
+        // keywords before the first field
+        assertParseFailure(parser, " Alice a/Clementi",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // field without keywords
+        assertParseFailure(parser, " a/Clementi t/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
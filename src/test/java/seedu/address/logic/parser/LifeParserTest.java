@@ -6,7 +6,9 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,20 +21,27 @@ import seedu.address.logic.commands.AddTaskCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearExpListCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DueTaskCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExpListCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindTaskCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.SpendingCommand;
+import seedu.address.logic.commands.SpendingReportCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.purchase.SpendingPeriod;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -81,6 +90,20 @@ public class LifeParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_dueTask() throws Exception {
+        DueTaskCommand command = (DueTaskCommand) parser.parseCommand(DueTaskCommand.COMMAND_WORD + " 24");
+        assertEquals(DueTaskCommand.dueWithinHours(24, Clock.systemDefaultZone()), command);
+    }
+
+    @Test
+    public void parseCommand_findTask() throws Exception {
+        List<String> keywords = Arrays.asList("foo*", "bar~", "baz");
+        FindTaskCommand command = (FindTaskCommand) parser.parseCommand(
+                FindTaskCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FindTaskCommand(keywords), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -95,6 +118,12 @@ public class LifeParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_history() throws Exception {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
@@ -161,6 +190,19 @@ public class LifeParserTest {
                 instanceof ClearExpListCommand);
     }
 
+    @Test
+    public void parseCommand_spending() throws Exception {
+        assertEquals(new SpendingCommand(Collections.emptySet()), parser.parseCommand(SpendingCommand.COMMAND_WORD));
+        assertEquals(new SpendingCommand(Collections.singleton(new Tag("food"))),
+                parser.parseCommand(SpendingCommand.COMMAND_WORD + " t/food"));
+    }
+
+    @Test
+    public void parseCommand_spendingReport() throws Exception {
+        assertEquals(new SpendingReportCommand(SpendingPeriod.MONTH, 36, Clock.systemDefaultZone()),
+                parser.parseCommand(SpendingReportCommand.COMMAND_WORD + " month 36"));
+    }
+
     @Test
     public void parseCommand_explist() throws Exception {
         assertTrue(parser.parseCommand(ExpListCommand.COMMAND_WORD) instanceof ExpListCommand);
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SpendingCommand;
+import seedu.address.model.tag.Tag;
+
+public class SpendingCommandParserTest {
+
+    private SpendingCommandParser parser = new SpendingCommandParser();
+
+    @Test
+    public void parse_noTags_returnsSpendingCommand() {
+        assertParseSuccess(parser, "", new SpendingCommand(Collections.emptySet()));
+        assertParseSuccess(parser, "   ", new SpendingCommand(Collections.emptySet()));
+    }
+
+    @Test
+    public void parse_tags_returnsSpendingCommand() {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag("food"));
+        tags.add(new Tag("work"));
+        assertParseSuccess(parser, " t/food t/work", new SpendingCommand(tags));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // preamble
+        assertParseFailure(parser, " food",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SpendingCommand.MESSAGE_USAGE));
+
+        // invalid tag
+        assertParseFailure(parser, " t/fo od", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
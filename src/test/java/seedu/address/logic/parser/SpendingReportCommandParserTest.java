@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SpendingReportCommand;
+import seedu.address.model.purchase.SpendingPeriod;
+
+public class SpendingReportCommandParserTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
+    private SpendingReportCommandParser parser = new SpendingReportCommandParser(CLOCK);
+
+    @Test
+    public void parse_validArgs_returnsSpendingReportCommand() {
+        assertParseSuccess(parser, "month 36", new SpendingReportCommand(SpendingPeriod.MONTH, 36, CLOCK));
+        assertParseSuccess(parser, " WEEK  4 ", new SpendingReportCommand(SpendingPeriod.WEEK, 4, CLOCK));
+        assertParseSuccess(parser, "day " + SpendingReportCommand.MAX_PERIOD_COUNT,
+                new SpendingReportCommand(SpendingPeriod.DAY, SpendingReportCommand.MAX_PERIOD_COUNT, CLOCK));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SpendingReportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "month", expectedMessage);
+        assertParseFailure(parser, "year 3", expectedMessage);
+        assertParseFailure(parser, "month 0", expectedMessage);
+        assertParseFailure(parser, "day " + (SpendingReportCommand.MAX_PERIOD_COUNT + 1), expectedMessage);
+        assertParseFailure(parser, "month 3 4", expectedMessage);
+    }
+}
@@ -4,13 +4,22 @@ import static org.junit.Assert.assertEquals;
 //import static org.junit.Assert.assertFalse;
 //import static org.junit.Assert.assertTrue;
 //import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ENTERTAINMENT;
+import static seedu.address.testutil.TypicalPurchases.CHICKENRICE;
+import static seedu.address.testutil.TypicalPurchases.KARAOKE;
+import static seedu.address.testutil.TypicalPurchases.MCFLURRY;
 import static seedu.address.testutil.TypicalPurchases.PRAWNMEE;
+import static seedu.address.testutil.TypicalPurchases.SUBWAY;
 import static seedu.address.testutil.TypicalPurchases.getTypicalExpenditureList;
 
 //import java.util.Arrays;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 //import java.util.List;
 
 import org.junit.Rule;
@@ -21,7 +30,11 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.purchase.PeriodSpending;
 import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.SpendingPeriod;
+import seedu.address.model.purchase.SpendingSummary;
+import seedu.address.model.tag.Tag;
 //import seedu.address.testutil.PurchaseBuilder;
 
 public class ExpenditureListTest {
@@ -56,6 +69,89 @@ public class ExpenditureListTest {
         expenditureList.getPurchaseList().remove(0);
     }
 
+    @Test
+    public void getSpendingSummary_emptyList_allZero() {
+        assertEquals(new SpendingSummary(0, 0, 0, 0, Collections.emptyMap()), expenditureList.getSpendingSummary());
+    }
+
+    @Test
+    public void getSpendingSummary_purchasesChanged_summaryUpdated() {
+        expenditureList.setPurchases(Arrays.asList(MCFLURRY, SUBWAY, KARAOKE));
+        Map<Tag, Long> tagTotals = new HashMap<>();
+        tagTotals.put(new Tag("snacks"), 230L);
+        tagTotals.put(new Tag("food"), 790L);
+        tagTotals.put(new Tag("entertainment"), 1850L);
+        assertEquals(new SpendingSummary(3, 2870, 230, 1850, tagTotals), expenditureList.getSpendingSummary());
+
+        // purchase with an existing tag added
+        expenditureList.addPurchase(CHICKENRICE);
+        tagTotals.put(new Tag("food"), 1040L);
+        assertEquals(new SpendingSummary(4, 3120, 230, 1850, tagTotals), expenditureList.getSpendingSummary());
+
+        // dearest purchase and the only purchase with its tag removed
+        expenditureList.removePurchase(KARAOKE);
+        tagTotals.remove(new Tag("entertainment"));
+        assertEquals(new SpendingSummary(3, 1270, 230, 790, tagTotals), expenditureList.getSpendingSummary());
+
+        // purchases replaced
+        expenditureList.setPurchases(Collections.singletonList(CHICKENRICE));
+        assertEquals(new SpendingSummary(1, 250, 250, 250, Collections.singletonMap(new Tag("food"), 250L)),
+                expenditureList.getSpendingSummary());
+    }
+
+    @Test
+    public void getSpendingSummary_undoAndRedo_summaryRestored() {
+        VersionedExpenditureList versionedExpenditureList = new VersionedExpenditureList(getTypicalExpenditureList());
+        SpendingSummary typicalSummary = versionedExpenditureList.getSpendingSummary();
+        versionedExpenditureList.addPurchase(CHICKENRICE);
+        versionedExpenditureList.removePurchase(KARAOKE);
+        versionedExpenditureList.commit();
+        SpendingSummary editedSummary = versionedExpenditureList.getSpendingSummary();
+
+        versionedExpenditureList.undo();
+        assertEquals(typicalSummary, versionedExpenditureList.getSpendingSummary());
+
+        versionedExpenditureList.redo();
+        assertEquals(editedSummary, versionedExpenditureList.getSpendingSummary());
+    }
+
+    @Test
+    public void getSpendingPerPeriod_undoAndRedo_rollupsRestored() {
+        VersionedExpenditureList versionedExpenditureList = new VersionedExpenditureList(getTypicalExpenditureList());
+        long march = SpendingPeriod.MONTH.indexOf(LocalDate.of(2019, 3, 1).toEpochDay());
+        SpendingSummary marchSummary = new SpendingSummary(1, 230, 230, 230,
+                Collections.singletonMap(new Tag("snacks"), 230L));
+        Map<Tag, Long> aprilTagTotals = new HashMap<>();
+        aprilTagTotals.put(new Tag("food"), 790L);
+        aprilTagTotals.put(new Tag("entertainment"), 1850L);
+        List<PeriodSpending> typicalSpending = Arrays.asList(
+                new PeriodSpending(SpendingPeriod.MONTH, march, marchSummary),
+                new PeriodSpending(SpendingPeriod.MONTH, march + 1, new SpendingSummary(2, 2640, 790, 1850,
+                        aprilTagTotals)));
+        assertEquals(typicalSpending, versionedExpenditureList.getSpendingPerPeriod(SpendingPeriod.MONTH, march,
+                march + 1));
+
+        versionedExpenditureList.addPurchase(CHICKENRICE);
+        versionedExpenditureList.removePurchase(KARAOKE);
+        versionedExpenditureList.commit();
+        aprilTagTotals.put(new Tag("food"), 1040L);
+        aprilTagTotals.remove(new Tag("entertainment"));
+        List<PeriodSpending> editedSpending = Arrays.asList(
+                new PeriodSpending(SpendingPeriod.MONTH, march, marchSummary),
+                new PeriodSpending(SpendingPeriod.MONTH, march + 1, new SpendingSummary(2, 1040, 250, 790,
+                        aprilTagTotals)));
+        assertEquals(editedSpending, versionedExpenditureList.getSpendingPerPeriod(SpendingPeriod.MONTH, march,
+                march + 1));
+
+        versionedExpenditureList.undo();
+        assertEquals(typicalSpending, versionedExpenditureList.getSpendingPerPeriod(SpendingPeriod.MONTH, march,
+                march + 1));
+
+        versionedExpenditureList.redo();
+        assertEquals(editedSpending, versionedExpenditureList.getSpendingPerPeriod(SpendingPeriod.MONTH, march,
+                march + 1));
+    }
+
     @Test
     public void addListener_withInvalidationListener_listenerAdded() {
         SimpleIntegerProperty counter = new SimpleIntegerProperty();
@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalTasks.TASKONE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.ContactListBuilder;
+import seedu.address.testutil.TaskListBuilder;
+
+public class ModelLoaderTest {
+    private final List<Runnable> scheduledApplies = new ArrayList<>();
+    private ModelManager model;
+    private ModelLoader modelLoader;
+
+    @Before
+    public void setUp() {
+        model = new ModelManager();
+        modelLoader = new ModelLoader(model, scheduledApplies::add);
+    }
+
+    @Test
+    public void load_dataRead_setsDataThroughExecutor() {
+        CompletableFuture<ReadOnlyContactList> contactList = new CompletableFuture<>();
+        CompletableFuture<ReadOnlyTaskList> taskList = new CompletableFuture<>();
+        modelLoader.load(contactList, model::setContactList);
+        modelLoader.load(taskList, model::setTaskList);
+        modelLoader.start();
+
+        contactList.complete(new ContactListBuilder().withPerson(ALICE).build());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+        scheduledApplies.forEach(Runnable::run);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+        assertFalse(modelLoader.isLoaded());
+
+        taskList.complete(new TaskListBuilder().withTask(TASKONE).build());
+        scheduledApplies.forEach(Runnable::run);
+        assertTrue(model.hasTask(TASKONE));
+        assertTrue(modelLoader.isLoaded());
+
+        // loading cannot be undone
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void load_dataReadBeforeOtherDataLoaded_notLoadedUntilStarted() {
+        CompletableFuture<ReadOnlyContactList> contactList = new CompletableFuture<>();
+        contactList.complete(new ContactListBuilder().withPerson(ALICE).build());
+        modelLoader.load(contactList, model::setContactList);
+        scheduledApplies.forEach(Runnable::run);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+
+        // the history is not cleared before the task list is loaded too
+        model.commitContactList();
+        CompletableFuture<ReadOnlyTaskList> taskList = new CompletableFuture<>();
+        modelLoader.load(taskList, model::setTaskList);
+        modelLoader.start();
+        scheduledApplies.forEach(Runnable::run);
+        assertFalse(modelLoader.isLoaded());
+        assertTrue(model.canUndo());
+
+        taskList.complete(new TaskListBuilder().withTask(TASKONE).build());
+        new ArrayList<>(scheduledApplies).forEach(Runnable::run);
+        assertTrue(modelLoader.isLoaded());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void load_afterStart_throwsIllegalStateException() {
+        modelLoader.start();
+        Assert.assertThrows(IllegalStateException.class, () ->
+                modelLoader.load(new CompletableFuture<ReadOnlyContactList>(), model::setContactList));
+    }
+
+    @Test
+    public void awaitLoaded_dataRead_setsDataOnCallingThread() {
+        CompletableFuture<ReadOnlyContactList> contactList = new CompletableFuture<>();
+        modelLoader.load(contactList, model::setContactList);
+
+        contactList.complete(new ContactListBuilder().withPerson(ALICE).build());
+        modelLoader.awaitLoaded();
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+        assertTrue(modelLoader.isLoaded());
+    }
+
+    @Test
+    public void awaitLoaded_readFailed_leavesDataEmpty() {
+        CompletableFuture<ReadOnlyContactList> contactList = new CompletableFuture<>();
+        modelLoader.load(contactList, model::setContactList);
+
+        contactList.completeExceptionally(new IllegalStateException());
+        modelLoader.awaitLoaded();
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+        assertTrue(modelLoader.isLoaded());
+    }
+}
@@ -23,11 +23,16 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.MetricsRegistry;
 import seedu.address.model.habit.Habit;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -202,6 +207,59 @@ public class ModelManagerTest {
         modelManager.setExpenditureList(null);
     }
 
+    @Test
+    public void undoRedo_differentLists_restoresMostRecentlyChangedList() {
+        modelManager.addTask(TASKONE);
+        modelManager.commitTaskList();
+        modelManager.addPurchase(SUBWAY);
+        modelManager.commitExpenditureList();
+
+        modelManager.undo();
+        assertTrue(modelManager.hasTask(TASKONE));
+        assertFalse(modelManager.getExpenditureList().getPurchaseList().contains(SUBWAY));
+
+        modelManager.undo();
+        assertFalse(modelManager.hasTask(TASKONE));
+        assertFalse(modelManager.canUndo());
+
+        modelManager.redo();
+        assertTrue(modelManager.hasTask(TASKONE));
+        assertFalse(modelManager.getExpenditureList().getPurchaseList().contains(SUBWAY));
+        assertTrue(modelManager.canRedo());
+    }
+
+    @Test
+    public void registerMetrics_filterAndCommit_reportedThroughMxBean() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        modelManager.registerMetrics(new MetricsRegistry(server));
+        ObjectName contactListName = MetricsRegistry.getObjectName(ModelManager.LIST_METRICS_TYPE, "ContactList");
+
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitContactList();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        assertEquals(2, server.getAttribute(contactListName, "Size"));
+        assertEquals(1, server.getAttribute(contactListName, "UndoDepth"));
+        assertEquals(2L, server.getAttribute(contactListName, "HistoryElementCount"));
+        // adding a person shows every person again
+        assertEquals(3L, server.getAttribute(contactListName, "FilterUpdateCount"));
+        assertEquals(5L, server.getAttribute(contactListName, "FilterEvaluationCount"));
+    }
+
+    @Test
+    public void registerMetrics_filterToFoundElements_noEvaluationsReported() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        modelManager.registerMetrics(new MetricsRegistry(server));
+        ObjectName contactListName = MetricsRegistry.getObjectName(ModelManager.LIST_METRICS_TYPE, "ContactList");
+
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(Collections.singletonList(ALICE));
+
+        assertEquals(3L, server.getAttribute(contactListName, "FilterUpdateCount"));
+        assertEquals(3L, server.getAttribute(contactListName, "FilterEvaluationCount"));
+    }
 
     @Test
     public void equals() {
@@ -207,6 +207,74 @@ public class VersionedContactListTest {
         assertThrows(VersionedContactList.NoRedoableStateException.class, versionedContactList::redo);
     }
 
+    @Test
+    public void undo_personLevelChanges_restoresPreviousOrder() {
+        VersionedContactList versionedContactList = prepareContactListList(
+                new ContactListBuilder().withPerson(AMY).withPerson(BOB).build());
+        versionedContactList.removePerson(AMY);
+        versionedContactList.setPerson(BOB, CARL);
+        versionedContactList.addPerson(AMY);
+        versionedContactList.commit();
+
+        versionedContactList.undo();
+        assertEquals(new ContactListBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new ContactList(versionedContactList));
+
+        versionedContactList.redo();
+        assertEquals(new ContactListBuilder().withPerson(CARL).withPerson(AMY).build(),
+                new ContactList(versionedContactList));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsChangesAndRestoresPreviousState() {
+        VersionedContactList versionedContactList = prepareContactListList(emptyContactList, contactListWithAmy);
+        versionedContactList.addPerson(BOB);
+
+        versionedContactList.undo();
+        assertContactListListStatus(versionedContactList,
+                Collections.emptyList(),
+                emptyContactList,
+                Collections.singletonList(contactListWithAmy));
+    }
+
+    @Test
+    public void commit_historyFull_oldestStateForgotten() {
+        VersionedContactList versionedContactList = new VersionedContactList(emptyContactList, 1);
+        versionedContactList.resetData(contactListWithAmy);
+        versionedContactList.commit();
+        versionedContactList.resetData(contactListWithBob);
+        versionedContactList.commit();
+
+        assertContactListListStatus(versionedContactList,
+                Collections.singletonList(contactListWithAmy),
+                contactListWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void getHistoryElementCount_commitsAndUndo_countsElementsOfUndoableAndRedoableStates() {
+        VersionedContactList versionedContactList = prepareContactListList(emptyContactList);
+        versionedContactList.addPerson(AMY);
+        versionedContactList.commit();
+        versionedContactList.setPerson(AMY, BOB);
+        versionedContactList.commit();
+        assertHistoryStatus(versionedContactList, 2, 0, 3);
+
+        versionedContactList.undo();
+        assertHistoryStatus(versionedContactList, 1, 1, 3);
+
+        // committing forgets the undone state
+        versionedContactList.addPerson(CARL);
+        versionedContactList.commit();
+        assertHistoryStatus(versionedContactList, 2, 0, 2);
+
+        // undoing uncommitted changes forgets them
+        versionedContactList.removePerson(CARL);
+        assertHistoryStatus(versionedContactList, 2, 0, 3);
+        versionedContactList.undo();
+        assertHistoryStatus(versionedContactList, 1, 1, 2);
+    }
+
     @Test
     public void equals() {
         VersionedContactList versionedContactList = prepareContactListList(contactListWithAmy, contactListWithBob);
@@ -235,6 +303,17 @@ public class VersionedContactListTest {
         assertFalse(versionedContactList.equals(differentCurrentStatePointer));
     }
 
+    /**
+     * Asserts that {@code versionedContactList} can be undone {@code expectedUndoDepth} times and redone
+     * {@code expectedRedoDepth} times, and that its history holds {@code expectedElementCount} elements.
+     */
+    private void assertHistoryStatus(VersionedContactList versionedContactList, int expectedUndoDepth,
+                                     int expectedRedoDepth, long expectedElementCount) {
+        assertEquals(expectedUndoDepth, versionedContactList.getUndoDepth());
+        assertEquals(expectedRedoDepth, versionedContactList.getRedoDepth());
+        assertEquals(expectedElementCount, versionedContactList.getHistoryElementCount());
+    }
+
     /**
      * Asserts that {@code versionedContactList} is currently pointing at {@code expectedCurrentState},
      * states before {@code versionedContactList#currentStatePointer} is equal to {@code expectedStatesBeforePointer},
@@ -0,0 +1,152 @@
+package seedu.address.model.purchase;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPurchases.CHICKENRICE;
+import static seedu.address.testutil.TypicalPurchases.KARAOKE;
+import static seedu.address.testutil.TypicalPurchases.MCFLURRY;
+import static seedu.address.testutil.TypicalPurchases.MILKTEA;
+import static seedu.address.testutil.TypicalPurchases.SUBWAY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PurchaseBuilder;
+
+public class ColumnarPurchaseListTest {
+
+    private final ColumnarPurchaseList purchaseList = new ColumnarPurchaseList();
+
+    @Test
+    public void get_purchasesAdded_equalPurchasesReturned() {
+        purchaseList.add(MCFLURRY);
+        purchaseList.add(0, KARAOKE);
+        purchaseList.addAll(1, Arrays.asList(SUBWAY, CHICKENRICE));
+        assertEquals(Arrays.asList(KARAOKE, SUBWAY, CHICKENRICE, MCFLURRY), purchaseList);
+
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> purchaseList.get(4));
+        Assert.assertThrows(NullPointerException.class, () -> purchaseList.add(null));
+    }
+
+    @Test
+    public void modify_purchasesChanged_listenersNotified() {
+        purchaseList.setAll(Arrays.asList(MCFLURRY, SUBWAY, KARAOKE));
+        List<String> changes = new ArrayList<>();
+        purchaseList.addListener((ListChangeListener<Purchase>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo() + " removed " + change.getRemoved());
+            }
+        });
+
+        purchaseList.set(1, MILKTEA);
+        purchaseList.remove(0);
+        purchaseList.subList(0, 2).clear();
+        purchaseList.addAll(Arrays.asList(CHICKENRICE, SUBWAY));
+        assertEquals(Arrays.asList(
+                "1-2 removed " + Collections.singletonList(SUBWAY),
+                "0-0 removed " + Collections.singletonList(MCFLURRY),
+                "0-0 removed " + Arrays.asList(MILKTEA, KARAOKE),
+                "0-2 removed " + Collections.emptyList()), changes);
+        assertEquals(Arrays.asList(CHICKENRICE, SUBWAY), purchaseList);
+    }
+
+    @Test
+    public void get_equalPricesWrittenDifferently_pricesReturnedAsWritten() {
+        Purchase leadingZero = new PurchaseBuilder(MCFLURRY).withPrice("01.50").build();
+        Purchase noLeadingZero = new PurchaseBuilder(SUBWAY).withPrice("1.50").build();
+        purchaseList.setAll(Arrays.asList(leadingZero, noLeadingZero));
+        purchaseList.add(new PurchaseBuilder(KARAOKE).withPrice("01.50").build());
+
+        assertEquals("01.50", purchaseList.get(0).getPrice().value);
+        assertEquals("1.50", purchaseList.get(1).getPrice().value);
+        assertEquals("01.50", purchaseList.get(2).getPrice().value);
+    }
+
+    @Test
+    public void remove_lastPurchasesWithValues_valuesDropped() {
+        purchaseList.setAll(Arrays.asList(MCFLURRY, SUBWAY));
+        int dictionarySize = purchaseList.getDictionarySize();
+
+        purchaseList.add(KARAOKE);
+        purchaseList.remove(2);
+        assertEquals(dictionarySize, purchaseList.getDictionarySize());
+
+        purchaseList.set(0, MILKTEA);
+        purchaseList.set(0, MCFLURRY);
+        assertEquals(dictionarySize, purchaseList.getDictionarySize());
+
+        // values of removed purchases are numbered again
+        purchaseList.addAll(Arrays.asList(KARAOKE, CHICKENRICE));
+        purchaseList.subList(0, 3).clear();
+        assertEquals(Collections.singletonList(CHICKENRICE), purchaseList);
+        purchaseList.clear();
+        assertEquals(0, purchaseList.getDictionarySize());
+    }
+
+    @Test
+    public void summarise_requiredTags_onlyPurchasesWithEveryTagSummarised() {
+        Purchase lunch = new PurchaseBuilder().withPurchaseName("Lunch").withPrice("5.00").withTags("food", "work")
+                .build();
+        Purchase freeSnack = new PurchaseBuilder().withPurchaseName("Snack").withPrice("0.00").withTags("snacks")
+                .build();
+        purchaseList.setAll(Arrays.asList(MCFLURRY, SUBWAY, lunch, freeSnack));
+
+        assertEquals(new SpendingSummary(2, 1290, 500, 790, tagTotals("food", 1290L, "work", 500L)),
+                purchaseList.summarise(Collections.singleton(new Tag("food"))));
+        assertEquals(new SpendingSummary(1, 500, 500, 500, tagTotals("food", 500L, "work", 500L)),
+                purchaseList.summarise(new HashSet<>(Arrays.asList(new Tag("food"), new Tag("work")))));
+
+        // tag only on a free purchase
+        assertEquals(new SpendingSummary(2, 230, 0, 230, tagTotals("snacks", 230L)),
+                purchaseList.summarise(Collections.singleton(new Tag("snacks"))));
+
+        // tag on no purchase
+        assertEquals(new SpendingSummary(0, 0, 0, 0, Collections.emptyMap()),
+                purchaseList.summarise(Collections.singleton(new Tag("travel"))));
+    }
+
+    @Test
+    public void summarise_randomPurchases_sameAsRunningTotals() {
+        Random random = new Random(19);
+        List<Purchase> purchases = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // more than 64 tags, so that each purchase needs several words of tag bits
+            String[] tags = new String[random.nextInt(4)];
+            for (int j = 0; j < tags.length; j++) {
+                tags[j] = "tag" + random.nextInt(100);
+            }
+            purchases.add(new PurchaseBuilder().withPurchaseName("Item " + random.nextInt(50))
+                    .withPrice(random.nextInt(10000) + "." + (10 + random.nextInt(90))).withTags(tags).build());
+        }
+        purchaseList.setAll(purchases.subList(0, 100));
+        purchaseList.addAll(purchases.subList(100, 300));
+        purchaseList.subList(50, 150).clear();
+
+        SpendingTotals spendingTotals = new SpendingTotals();
+        purchaseList.forEach(spendingTotals::add);
+        assertEquals(spendingTotals.getSummary(), purchaseList.summarise(Collections.emptySet()));
+        assertEquals(purchases.subList(0, 50), purchaseList.subList(0, 50));
+        assertEquals(purchases.subList(150, 300), purchaseList.subList(50, 200));
+    }
+
+    /**
+     * Returns a map from tags to totals, given as alternating tag names and totals.
+     */
+    private static Map<Tag, Long> tagTotals(Object... tagNamesAndTotals) {
+        Map<Tag, Long> tagTotals = new HashMap<>();
+        for (int i = 0; i < tagNamesAndTotals.length; i += 2) {
+            tagTotals.put(new Tag((String) tagNamesAndTotals[i]), (Long) tagNamesAndTotals[i + 1]);
+        }
+        return tagTotals;
+    }
+}
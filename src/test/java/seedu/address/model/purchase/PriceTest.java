@@ -1,5 +1,6 @@
 package seedu.address.model.purchase;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -38,10 +39,26 @@ public class PriceTest {
         assertFalse(Price.isValidPrice("100.00!")); // '!' after digits
         assertFalse(Price.isValidPrice("1,000.00")); // commas within digits
         assertFalse(Price.isValidPrice("20 000.00")); // spaces within digits
+        assertFalse(Price.isValidPrice("980000000000000.00")); // too many numbers for dollars
 
         // valid prices
         assertTrue(Price.isValidPrice("20.50")); // exactly 2 numbers after decimal point
         assertTrue(Price.isValidPrice("0.90"));
         assertTrue(Price.isValidPrice("98000000000000.00")); // long prices
     }
+
+    @Test
+    public void constructor_validPrice_centsParsed() {
+        assertEquals(2050, new Price("20.50").cents);
+        assertEquals(5, new Price("0.05").cents);
+        assertEquals(9800000000000000L, new Price("98000000000000.00").cents);
+    }
+
+    @Test
+    public void formatCents() {
+        assertEquals("0.00", Price.formatCents(0));
+        assertEquals("0.05", Price.formatCents(5));
+        assertEquals("20.50", Price.formatCents(2050));
+        assertEquals("98000000000000.00", Price.formatCents(9800000000000000L));
+    }
 }
@@ -0,0 +1,60 @@
+package seedu.address.model.purchase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class PurchaseDateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new PurchaseDate(null));
+    }
+
+    @Test
+    public void constructor_invalidDate_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new PurchaseDate("310419"));
+    }
+
+    @Test
+    public void isValidDate() {
+        // invalid dates
+        assertFalse(PurchaseDate.isValidDate("")); // empty string
+        assertFalse(PurchaseDate.isValidDate("1419")); // too few digits
+        assertFalse(PurchaseDate.isValidDate("01-04-19")); // separators
+        assertFalse(PurchaseDate.isValidDate("011319")); // no 13th month
+        assertFalse(PurchaseDate.isValidDate("290219")); // not a leap year
+
+        // valid dates
+        assertTrue(PurchaseDate.isValidDate("010419"));
+        assertTrue(PurchaseDate.isValidDate("290220")); // leap year
+    }
+
+    @Test
+    public void fromEpochDay_sameAsParsedDate() {
+        PurchaseDate date = new PurchaseDate("010419");
+        assertEquals(17987, date.epochDay);
+        assertEquals(date, PurchaseDate.fromEpochDay(17987));
+        assertEquals("010419", PurchaseDate.fromEpochDay(17987).value);
+    }
+
+    @Test
+    public void isDated() {
+        assertTrue(new PurchaseDate("010419").isDated());
+        assertFalse(PurchaseDate.UNDATED.isDated());
+    }
+
+    @Test
+    public void today_fixedClock_dateOfClock() {
+        Clock clock = Clock.fixed(Instant.parse("2019-04-01T23:30:00Z"), ZoneOffset.ofHours(8));
+        assertEquals(new PurchaseDate("020419"), PurchaseDate.today(clock));
+    }
+}
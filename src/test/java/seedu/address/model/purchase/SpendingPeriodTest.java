@@ -0,0 +1,44 @@
+package seedu.address.model.purchase;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+public class SpendingPeriodTest {
+
+    @Test
+    public void indexOf_consecutivePeriods_consecutiveIndexes() {
+        LocalDate date = LocalDate.of(1969, 12, 1);
+        for (SpendingPeriod period : SpendingPeriod.values()) {
+            long previousIndex = period.indexOf(date.toEpochDay());
+            for (LocalDate day = date; day.isBefore(date.plusYears(2)); day = day.plusDays(1)) {
+                long index = period.indexOf(day.toEpochDay());
+                if (index != previousIndex) {
+                    // a new period starts on this day
+                    assertEquals(previousIndex + 1, index);
+                    assertEquals(day, period.getFirstDay(index));
+                }
+                previousIndex = index;
+            }
+        }
+    }
+
+    @Test
+    public void getFirstDay_weeksStartOnMonday() {
+        LocalDate sunday = LocalDate.of(2019, 4, 7);
+        LocalDate firstDay = SpendingPeriod.WEEK.getFirstDay(SpendingPeriod.WEEK.indexOf(sunday.toEpochDay()));
+        assertEquals(DayOfWeek.MONDAY, firstDay.getDayOfWeek());
+        assertEquals(LocalDate.of(2019, 4, 1), firstDay);
+    }
+
+    @Test
+    public void getLabel() {
+        long epochDay = LocalDate.of(2019, 4, 7).toEpochDay();
+        assertEquals("7 Apr 2019", SpendingPeriod.DAY.getLabel(SpendingPeriod.DAY.indexOf(epochDay)));
+        assertEquals("Week of 1 Apr 2019", SpendingPeriod.WEEK.getLabel(SpendingPeriod.WEEK.indexOf(epochDay)));
+        assertEquals("Apr 2019", SpendingPeriod.MONTH.getLabel(SpendingPeriod.MONTH.indexOf(epochDay)));
+    }
+}
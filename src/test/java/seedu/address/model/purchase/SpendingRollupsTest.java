@@ -0,0 +1,118 @@
+package seedu.address.model.purchase;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPurchases.CHICKENRICE;
+import static seedu.address.testutil.TypicalPurchases.KARAOKE;
+import static seedu.address.testutil.TypicalPurchases.MCFLURRY;
+import static seedu.address.testutil.TypicalPurchases.MILKTEA;
+import static seedu.address.testutil.TypicalPurchases.SUBWAY;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PurchaseBuilder;
+
+public class SpendingRollupsTest {
+
+    private final SpendingRollups spendingRollups = new SpendingRollups();
+
+    @Test
+    public void getSpending_periodsWithoutPurchases_noSpending() {
+        spendingRollups.add(MCFLURRY);
+        long april = monthIndex(2019, 4);
+        List<PeriodSpending> spending = spendingRollups.getSpending(SpendingPeriod.MONTH, april, april + 2);
+        assertEquals(3, spending.size());
+        for (int i = 0; i < spending.size(); i++) {
+            assertEquals(april + i, spending.get(i).getIndex());
+            assertEquals(new SpendingSummary(0, 0, 0, 0, Collections.emptyMap()), spending.get(i).getSummary());
+        }
+    }
+
+    @Test
+    public void add_undatedPurchase_leftOutOfTotals() {
+        Purchase undated = new Purchase(SUBWAY.getPurchaseName(), SUBWAY.getPrice(), PurchaseDate.UNDATED,
+                SUBWAY.getTags());
+        spendingRollups.add(SUBWAY);
+        spendingRollups.add(undated);
+
+        long april = monthIndex(2019, 4);
+        assertEquals(new SpendingSummary(1, 790, 790, 790, Collections.singletonMap(new Tag("food"), 790L)),
+                spendingRollups.getSpending(SpendingPeriod.MONTH, april, april).get(0).getSummary());
+
+        spendingRollups.remove(undated);
+        spendingRollups.remove(SUBWAY);
+        assertEquals(new SpendingSummary(0, 0, 0, 0, Collections.emptyMap()),
+                spendingRollups.getSpending(SpendingPeriod.MONTH, april, april).get(0).getSummary());
+    }
+
+    @Test
+    public void getSpending_purchasesAddedAndRemoved_totalsUpdated() {
+        // SUBWAY and KARAOKE in the week of 1 Apr, CHICKENRICE and MILKTEA on 8 Apr
+        spendingRollups.add(SUBWAY);
+        spendingRollups.add(KARAOKE);
+        spendingRollups.add(CHICKENRICE);
+        spendingRollups.add(MILKTEA);
+        spendingRollups.remove(KARAOKE);
+
+        long week = SpendingPeriod.WEEK.indexOf(LocalDate.of(2019, 4, 1).toEpochDay());
+        List<PeriodSpending> spending = spendingRollups.getSpending(SpendingPeriod.WEEK, week, week + 1);
+        assertEquals(summaryOf(SUBWAY), spending.get(0).getSummary());
+        assertEquals(summaryOf(CHICKENRICE, MILKTEA), spending.get(1).getSummary());
+
+        long day = LocalDate.of(2019, 4, 8).toEpochDay();
+        assertEquals(summaryOf(CHICKENRICE, MILKTEA),
+                spendingRollups.getSpending(SpendingPeriod.DAY, day, day).get(0).getSummary());
+
+        spendingRollups.clear();
+        assertEquals(summaryOf(), spendingRollups.getSpending(SpendingPeriod.DAY, day, day).get(0).getSummary());
+    }
+
+    @Test
+    public void getSpending_randomPurchases_sameAsTotalsOfEachPeriod() {
+        Random random = new Random(20);
+        LocalDate firstDay = LocalDate.of(2016, 1, 1);
+        List<Purchase> purchases = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDate date = firstDay.plusDays(random.nextInt(3 * 366));
+            purchases.add(new PurchaseBuilder().withPurchaseName("Item " + i)
+                    .withPrice(random.nextInt(100) + "." + (10 + random.nextInt(90)))
+                    .withDate(PurchaseDate.fromEpochDay(date.toEpochDay()).value)
+                    .withTags("tag" + random.nextInt(5)).build());
+        }
+        purchases.forEach(spendingRollups::add);
+        purchases.subList(0, 100).forEach(spendingRollups::remove);
+        List<Purchase> remaining = purchases.subList(100, 500);
+
+        for (SpendingPeriod period : SpendingPeriod.values()) {
+            long firstIndex = period.indexOf(firstDay.toEpochDay());
+            long lastIndex = period.indexOf(firstDay.plusYears(3).toEpochDay());
+            List<PeriodSpending> spending = spendingRollups.getSpending(period, firstIndex, lastIndex);
+            assertEquals(lastIndex - firstIndex + 1, spending.size());
+            for (PeriodSpending periodSpending : spending) {
+                SpendingTotals expectedTotals = new SpendingTotals();
+                remaining.stream()
+                        .filter(purchase -> period.indexOf(purchase.getDate().epochDay) == periodSpending.getIndex())
+                        .forEach(expectedTotals::add);
+                assertEquals(expectedTotals.getSummary(), periodSpending.getSummary());
+            }
+        }
+    }
+
+    private static long monthIndex(int year, int month) {
+        return SpendingPeriod.MONTH.indexOf(LocalDate.of(year, month, 1).toEpochDay());
+    }
+
+    private static SpendingSummary summaryOf(Purchase... purchases) {
+        SpendingTotals totals = new SpendingTotals();
+        for (Purchase purchase : purchases) {
+            totals.add(purchase);
+        }
+        return totals.getSummary();
+    }
+}
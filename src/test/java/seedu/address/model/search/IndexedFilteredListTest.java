@@ -0,0 +1,116 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IndexedFilteredListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("ant", "bee", "cat", "dog");
+    private final IndexedFilteredList<String> filteredList = new IndexedFilteredList<>(source);
+
+    @Test
+    public void constructor_everyElementShown() {
+        assertEquals(source, filteredList);
+    }
+
+    @Test
+    public void setPredicate_matchingElementsShown() {
+        filteredList.setPredicate(element -> element.contains("a"));
+        assertEquals(Arrays.asList("ant", "cat"), filteredList);
+        assertEquals(2, filteredList.getSourceIndex(1));
+        assertEquals(-1, filteredList.getViewIndex(1));
+    }
+
+    @Test
+    public void setElements_elementsShownInSourceOrder() {
+        filteredList.setElements(Arrays.asList("dog", "bee", "eel"));
+        assertEquals(Arrays.asList("bee", "dog"), filteredList);
+        assertEquals(1, filteredList.getViewIndex(3));
+    }
+
+    @Test
+    public void setElements_duplicateElements_everyDuplicateShown() {
+        filteredList.setElements(Collections.singleton("ant"));
+        source.add("bee");
+        filteredList.setElements(Collections.singleton("bee"));
+        assertEquals(Arrays.asList("bee", "bee"), filteredList);
+        assertEquals(4, filteredList.getSourceIndex(1));
+    }
+
+    @Test
+    public void setElements_afterSourceChanged_elementsFoundAtNewPositions() {
+        filteredList.setElements(Collections.singleton("cat"));
+        source.remove("ant");
+        source.add("eel");
+        source.add(0, "fox");
+
+        filteredList.setElements(Arrays.asList("eel", "fox", "bee"));
+        assertEquals(Arrays.asList("fox", "bee", "eel"), filteredList);
+        assertEquals(4, filteredList.getSourceIndex(2));
+    }
+
+    @Test
+    public void setElements_keyedByFirstLetter_onlyEqualElementsShown() {
+        IndexedFilteredList<String> keyedList = new IndexedFilteredList<>(source, element -> element.charAt(0),
+                position -> source.get(position).charAt(0));
+        source.add("bat");
+        keyedList.setElements(Arrays.asList("bee", "dog", "eel"));
+        assertEquals(Arrays.asList("bee", "dog"), keyedList);
+    }
+
+    @Test
+    public void getSourceElements_keys_elementsWithKeysReturned() {
+        IndexedFilteredList<String> keyedList = new IndexedFilteredList<>(source, element -> element.charAt(0),
+                position -> source.get(position).charAt(0));
+        source.add("bat");
+        assertEquals(new HashSet<>(Arrays.asList("bee", "bat", "dog")),
+                new HashSet<>(keyedList.getSourceElements(Arrays.asList('b', 'd', 'e'))));
+    }
+
+    @Test
+    public void sourceChanged_onlyElementsAddedTested() {
+        filteredList.setElements(Arrays.asList("cat", "eel"));
+        List<String> testedElements = new ArrayList<>();
+        filteredList.setPredicate(element -> testedElements.add(element) && element.length() == 3);
+        testedElements.clear();
+
+        source.add(1, "eel");
+        source.add("fish");
+        source.set(0, "ape");
+        source.remove("cat");
+
+        assertEquals(Arrays.asList("eel", "fish", "ape"), testedElements);
+        assertEquals(Arrays.asList("ape", "eel", "bee", "dog"), filteredList);
+        assertEquals(3, filteredList.getSourceIndex(3));
+    }
+
+    @Test
+    public void sourceChanged_shownElementsChanged_changeReported() {
+        filteredList.setElements(Arrays.asList("bee", "dog"));
+        List<String> changes = new ArrayList<>();
+        filteredList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + " " + change.getRemoved() + " " + change.getAddedSubList());
+            }
+        });
+
+        source.remove("ant");
+        source.remove("bee");
+        source.add("bee");
+
+        // removing a hidden element does not change the view
+        assertEquals(Arrays.asList("0 [bee] []", "1 [] [bee]"), changes);
+        assertEquals(Arrays.asList("dog", "bee"), filteredList);
+    }
+}
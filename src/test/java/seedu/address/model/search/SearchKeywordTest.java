@@ -0,0 +1,82 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.search.SearchKeyword.MatchType;
+
+public class SearchKeywordTest {
+
+    @Test
+    public void parse() {
+        SearchKeyword keyword = SearchKeyword.parse("Alice");
+        assertEquals(Collections.singletonList("alice"), keyword.getWords());
+        assertEquals(MatchType.WHOLE_WORD, keyword.getMatchType());
+
+        keyword = SearchKeyword.parse("Ali*");
+        assertEquals(Collections.singletonList("ali"), keyword.getWords());
+        assertEquals(MatchType.PREFIX, keyword.getMatchType());
+
+        keyword = SearchKeyword.parse("Alcie~");
+        assertEquals(MatchType.FUZZY, keyword.getMatchType());
+        assertEquals(1, keyword.getMaxEditDistance());
+
+        keyword = SearchKeyword.parse("Alcie~2");
+        assertEquals(MatchType.FUZZY, keyword.getMatchType());
+        assertEquals(2, keyword.getMaxEditDistance());
+
+        // edit distance out of range -> whole words
+        keyword = SearchKeyword.parse("Alcie~3");
+        assertEquals(Arrays.asList("alcie", "3"), keyword.getWords());
+        assertEquals(MatchType.WHOLE_WORD, keyword.getMatchType());
+
+        // punctuation separates words
+        assertEquals(Arrays.asList("alice", "example", "com"), SearchKeyword.parse("alice@example.com").getWords());
+    }
+
+    @Test
+    public void matches() {
+        assertTrue(SearchKeyword.parse("alice").matches(Arrays.asList("alice", "pauline")));
+        assertFalse(SearchKeyword.parse("ali").matches(Arrays.asList("alice", "pauline")));
+
+        assertTrue(SearchKeyword.parse("ali*").matches(Arrays.asList("alice", "pauline")));
+        assertFalse(SearchKeyword.parse("lice*").matches(Arrays.asList("alice", "pauline")));
+
+        assertTrue(SearchKeyword.parse("paulina~").matches(Arrays.asList("alice", "pauline"))); // substitution
+        assertTrue(SearchKeyword.parse("paulie~").matches(Arrays.asList("alice", "pauline"))); // insertion
+        assertFalse(SearchKeyword.parse("paulien~").matches(Arrays.asList("alice", "pauline")));
+        assertTrue(SearchKeyword.parse("paulien~2").matches(Arrays.asList("alice", "pauline")));
+
+        // every word of the keyword must match
+        assertTrue(SearchKeyword.parse("alice@example.com").matches(Arrays.asList("alice", "example", "com")));
+        assertFalse(SearchKeyword.parse("alice@example.com").matches(Arrays.asList("alice", "pauline")));
+
+        // keyword without words
+        assertFalse(SearchKeyword.parse("*").matches(Arrays.asList("alice", "pauline")));
+    }
+
+    @Test
+    public void toWords() {
+        assertEquals(Collections.emptyList(), SearchKeyword.toWords(" \t"));
+        assertEquals(Arrays.asList("alice", "pauline"), SearchKeyword.toWords(" Alice\tPAULINE "));
+
+        // punctuation separates words, not only whitespace
+        assertEquals(Arrays.asList("123", "jurong", "west", "08", "111"),
+                SearchKeyword.toWords("123, Jurong West, #08-111"));
+    }
+
+    @Test
+    public void isWithinEditDistance() {
+        assertTrue(SearchKeyword.isWithinEditDistance("kitten", "kitten", 0));
+        assertFalse(SearchKeyword.isWithinEditDistance("kitten", "sitting", 2));
+        assertTrue(SearchKeyword.isWithinEditDistance("kitten", "sitting", 3));
+        assertTrue(SearchKeyword.isWithinEditDistance("", "ab", 2));
+        assertFalse(SearchKeyword.isWithinEditDistance("", "abc", 2));
+    }
+}
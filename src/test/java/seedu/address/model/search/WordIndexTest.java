@@ -0,0 +1,104 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class WordIndexTest {
+
+    private final WordIndex<String> wordIndex = new WordIndex<>();
+
+    private void add(String text) {
+        wordIndex.add(text, SearchKeyword.toWords(text));
+    }
+
+    private Set<String> find(String keyword) {
+        return wordIndex.find(SearchKeyword.parse(keyword));
+    }
+
+    @Test
+    public void find_wholeWord_itemsWithWordFound() {
+        add("Buy milk");
+        add("Buy milkshake");
+        add("Return books");
+
+        assertEquals(new HashSet<>(Arrays.asList("Buy milk", "Buy milkshake")), find("BUY"));
+        assertEquals(Collections.singleton("Buy milk"), find("milk"));
+        assertEquals(Collections.singleton("Buy milk"), find("milk-buy"));
+        assertEquals(Collections.emptySet(), find("book"));
+    }
+
+    @Test
+    public void find_prefix_itemsWithWordStartingWithPrefixFound() {
+        add("Buy milk");
+        add("Buy milkshake");
+        add("Return books");
+
+        assertEquals(new HashSet<>(Arrays.asList("Buy milk", "Buy milkshake")), find("mil*"));
+        assertEquals(Collections.singleton("Buy milkshake"), find("milks*"));
+        assertEquals(Collections.singleton("Return books"), find("bo*"));
+    }
+
+    @Test
+    public void find_fuzzy_itemsWithinEditDistanceFound() {
+        add("Buy milk");
+        add("Buy milkshake");
+        add("Return books");
+
+        assertEquals(Collections.singleton("Buy milk"), find("mlik~2"));
+        assertEquals(Collections.singleton("Buy milkshake"), find("milkshak~"));
+        assertEquals(Collections.singleton("Return books"), find("bokos~2"));
+        assertEquals(Collections.emptySet(), find("bokos~"));
+    }
+
+    @Test
+    public void find_fuzzyAmongManyWords_sameAsTestingEveryWord() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            words.add(randomWord(random));
+        }
+        words.forEach(this::add);
+
+        for (int i = 0; i < 50; i++) {
+            String keyword = randomWord(random);
+            for (int maxDistance = 1; maxDistance <= SearchKeyword.MAX_EDIT_DISTANCE; maxDistance++) {
+                Set<String> expected = new HashSet<>();
+                for (String word : words) {
+                    if (SearchKeyword.isWithinEditDistance(keyword, word, maxDistance)) {
+                        expected.add(word);
+                    }
+                }
+                assertEquals(expected, find(keyword + SearchKeyword.FUZZY_SUFFIX + maxDistance));
+            }
+        }
+    }
+
+    @Test
+    public void remove_itemAddedTwice_foundUntilRemovedTwice() {
+        add("Buy milk");
+        add("Buy milk");
+
+        wordIndex.remove("Buy milk", SearchKeyword.toWords("Buy milk"));
+        assertEquals(Collections.singleton("Buy milk"), find("milk"));
+
+        wordIndex.remove("Buy milk", SearchKeyword.toWords("Buy milk"));
+        assertEquals(Collections.emptySet(), find("milk"));
+    }
+
+    private static String randomWord(Random random) {
+        char[] word = new char[2 + random.nextInt(5)];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = (char) ('a' + random.nextInt(4));
+        }
+        return new String(word);
+    }
+}
@@ -4,7 +4,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_PROJECT;
+import static seedu.address.testutil.TypicalTasks.TASKFOUR;
 import static seedu.address.testutil.TypicalTasks.TASKONE;
+import static seedu.address.testutil.TypicalTasks.TASKTHREE;
 import static seedu.address.testutil.TypicalTasks.TASKTWO;
 
 import java.util.Arrays;
@@ -15,6 +17,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ObservableList;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 import seedu.address.testutil.TaskBuilder;
@@ -138,6 +141,30 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void remove_taskWithSameIdentityButDifferentFields_throwsTaskNotFoundException() {
+        uniqueTaskList.add(TASKONE);
+        Task editedTaskOne = new TaskBuilder(TASKONE).withTags(VALID_TAG_PROJECT).build();
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.remove(editedTaskOne);
+    }
+
+    @Test
+    public void remove_taskAfterEarlierRemoval_removesTask() {
+        uniqueTaskList.add(TASKONE);
+        uniqueTaskList.add(TASKTWO);
+        uniqueTaskList.add(TASKTHREE);
+        uniqueTaskList.add(TASKFOUR);
+        uniqueTaskList.remove(TASKTWO);
+        uniqueTaskList.remove(TASKFOUR);
+        uniqueTaskList.setTask(TASKTHREE, TASKTWO);
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.add(TASKONE);
+        expectedUniqueTaskList.add(TASKTWO);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+        assertFalse(uniqueTaskList.contains(TASKTHREE));
+    }
+
     @Test
     public void setTasks_nullUniqueTaskList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -176,6 +203,45 @@ public class UniqueTaskListTest {
         uniqueTaskList.setTasks(listWithDuplicateTasks);
     }
 
+    @Test
+    public void sortTask_unsortedTasks_sortedByDeadline() {
+        Task sameDayEarlier = new TaskBuilder().withTaskName("Same day earlier").withDeadlineDate("271219")
+                .withDeadlineTime("0900").build();
+        Task nextYear = new TaskBuilder().withTaskName("Next year").withDeadlineDate("010120")
+                .withDeadlineTime("0000").build();
+        uniqueTaskList.setTasks(Arrays.asList(TASKTHREE, nextYear, TASKFOUR, sameDayEarlier));
+        uniqueTaskList.sortTask();
+        assertEquals(Arrays.asList(sameDayEarlier, TASKFOUR, nextYear, TASKTHREE),
+                uniqueTaskList.asUnmodifiableObservableList());
+
+        // positions are still found after sorting
+        assertTrue(uniqueTaskList.contains(TASKFOUR));
+        uniqueTaskList.remove(TASKFOUR);
+        assertEquals(Arrays.asList(sameDayEarlier, nextYear, TASKTHREE),
+                uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asDeadlineOrderedList_tasksChanged_staysInOrder() {
+        uniqueTaskList.add(TASKTHREE);
+        ObservableList<Task> deadlineOrderedList = uniqueTaskList.asDeadlineOrderedList();
+        uniqueTaskList.add(TASKFOUR);
+        Task sameDeadlineAsTaskFour = new TaskBuilder(TASKFOUR).withTaskName("Another Book tickets").build();
+        uniqueTaskList.add(sameDeadlineAsTaskFour);
+        assertEquals(Arrays.asList(sameDeadlineAsTaskFour, TASKFOUR, TASKTHREE), deadlineOrderedList);
+
+        Task laterTaskFour = new TaskBuilder(TASKFOUR).withDeadlineDate("010320").build();
+        uniqueTaskList.setTask(TASKFOUR, laterTaskFour);
+        assertEquals(Arrays.asList(sameDeadlineAsTaskFour, TASKTHREE, laterTaskFour), deadlineOrderedList);
+
+        uniqueTaskList.remove(TASKTHREE);
+        assertEquals(Arrays.asList(sameDeadlineAsTaskFour, laterTaskFour), deadlineOrderedList);
+
+        // the backing list keeps the order in which tasks were added
+        assertEquals(Arrays.asList(laterTaskFour, sameDeadlineAsTaskFour),
+                uniqueTaskList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,79 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.ContactList;
+import seedu.address.model.TaskList;
+import seedu.address.model.habit.Habit;
+import seedu.address.model.person.Person;
+import seedu.address.model.purchase.Price;
+import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.PurchaseDate;
+import seedu.address.model.task.Task;
+import seedu.address.model.util.SyntheticDataUtil.Distribution;
+
+public class SyntheticDataUtilTest {
+    private static final int COUNT = 2000;
+    private static final long SEED = 1;
+
+    @Test
+    public void generate_sameSeed_sameEntries() {
+        assertEquals(SyntheticDataUtil.generate(COUNT, SEED, SyntheticDataUtil::generatePurchase),
+                SyntheticDataUtil.generate(COUNT, SEED, SyntheticDataUtil::generatePurchase));
+    }
+
+    @Test
+    public void generate_uniqueLists_noDuplicates() {
+        // contact and task lists throw exceptions on duplicates
+        List<Person> persons = SyntheticDataUtil.generate(COUNT, SEED, SyntheticDataUtil::generatePerson);
+        new ContactList().setPersons(persons);
+
+        List<Task> tasks = SyntheticDataUtil.generate(COUNT, SEED, SyntheticDataUtil::generateTask);
+        TaskList taskList = new TaskList();
+        tasks.forEach(taskList::addTask);
+        assertEquals(COUNT, taskList.getTaskList().size());
+
+        List<Habit> habits = SyntheticDataUtil.generate(COUNT, SEED, SyntheticDataUtil::generateHabit);
+        assertEquals(COUNT, habits.stream().map(Habit::getHabitTitle).distinct().count());
+    }
+
+    @Test
+    public void generatePurchase_manyPurchases_datedWithinThreeYears() {
+        List<Purchase> purchases = SyntheticDataUtil.generate(COUNT, SEED, SyntheticDataUtil::generatePurchase);
+        long referenceDay = SyntheticDataUtil.REFERENCE_DATE.toEpochDay();
+        for (Purchase purchase : purchases) {
+            long daysBefore = referenceDay - purchase.getDate().epochDay;
+            assertTrue(daysBefore >= 0 && daysBefore < 3 * 365);
+        }
+    }
+
+    @Test
+    public void generate_largestDistribution_datesAndPricesReadBack() {
+        Distribution distribution = new Distribution(2, Distribution.MAX_MEAN_PURCHASE_CENTS,
+                Distribution.MAX_PURCHASE_DAYS, Distribution.MAX_DEADLINE_DAYS);
+        long referenceDay = SyntheticDataUtil.REFERENCE_DATE.toEpochDay();
+
+        List<Purchase> purchases = SyntheticDataUtil.generate(COUNT, SEED, (random, index) ->
+                SyntheticDataUtil.generatePurchase(random, index, distribution));
+        for (Purchase purchase : purchases) {
+            // dates are written with two digits for the year, so they are only read back within the 2000s
+            assertEquals(purchase.getDate(), new PurchaseDate(purchase.getDate().value));
+            assertEquals(purchase.getPrice(), new Price(purchase.getPrice().value));
+        }
+        assertTrue(purchases.stream().anyMatch(purchase ->
+                referenceDay - purchase.getDate().epochDay > Distribution.MAX_PURCHASE_DAYS / 2));
+
+        List<Task> tasks = SyntheticDataUtil.generate(COUNT, SEED, (random, index) ->
+                SyntheticDataUtil.generateTask(random, index, distribution));
+        for (Task task : tasks) {
+            long epochDay = DateTimeUtil.toEpochDay(task.getDeadlineDate().value);
+            assertTrue(epochDay >= referenceDay && epochDay < referenceDay + Distribution.MAX_DEADLINE_DAYS);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalContactList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ContactList;
+import seedu.address.model.ListEdit;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalStorageManagerTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private JsonContactListStorage contactListStorage;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        contactListStorage = new JsonContactListStorage(getTempFilePath("contacts.json"));
+        journalFilePath = JsonListJournal.getJournalFilePath(contactListStorage.getContactListFilePath());
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private JournalStorageManager createStorageManager(long minCompactionSize) {
+        return createStorageManager(contactListStorage, minCompactionSize);
+    }
+
+    private JournalStorageManager createStorageManager(JsonContactListStorage contactListStorage,
+                                                       long minCompactionSize) {
+        return new JournalStorageManager(contactListStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonTaskListStorage(getTempFilePath("tasks")), new JsonExpenditureListStorage(
+                getTempFilePath("purchases")), new JsonWorkoutBookStorage(getTempFilePath("workouts")),
+                new JsonTickedTaskListStorage(getTempFilePath("ticked")),
+                new JsonHabitTrackerListStorage(getTempFilePath("habits")), minCompactionSize);
+    }
+
+    /**
+     * Adds HOON to {@code contactList}, removes ALICE and replaces HOON with IDA, and returns the edits made.
+     */
+    private List<ListEdit<Person>> editContactList(ContactList contactList) {
+        int size = contactList.getPersonList().size();
+        contactList.addPerson(HOON);
+        contactList.removePerson(ALICE);
+        contactList.setPerson(HOON, IDA);
+        return Arrays.asList(new ListEdit<>(size, Collections.emptyList(), Collections.singletonList(HOON)),
+                new ListEdit<>(0, Collections.singletonList(ALICE), Collections.emptyList()),
+                new ListEdit<>(size - 1, Collections.singletonList(HOON), Collections.singletonList(IDA)));
+    }
+
+    @Test
+    public void saveContactListEdits_editsAfterFirstSave_appendedToJournal() throws Exception {
+        JournalStorageManager storageManager = createStorageManager(Long.MAX_VALUE);
+        ContactList original = getTypicalContactList();
+        storageManager.saveContactList(original);
+
+        ContactList modified = new ContactList(original);
+        storageManager.saveContactListEdits(editContactList(modified), modified::getPersonList);
+
+        // the data file is left as it was first saved
+        assertEquals(original, contactListStorage.readContactList().get());
+
+        assertEquals(modified, createStorageManager(Long.MAX_VALUE).readContactList().get());
+    }
+
+    @Test
+    public void saveContactListEdits_editsDoNotFollowSavedList_compacted() throws Exception {
+        JournalStorageManager storageManager = createStorageManager(Long.MAX_VALUE);
+        ContactList contactList = getTypicalContactList();
+        storageManager.saveContactList(contactList);
+
+        // the edit of an earlier save that failed is missing
+        contactList.addPerson(HOON);
+        contactList.addPerson(IDA);
+        storageManager.saveContactListEdits(Collections.singletonList(new ListEdit<>(
+                contactList.getPersonList().size() - 1, Collections.emptyList(), Collections.singletonList(IDA))),
+                contactList::getPersonList);
+
+        assertEquals(contactList, contactListStorage.readContactList().get());
+        assertEquals(contactList, createStorageManager(Long.MAX_VALUE).readContactList().get());
+    }
+
+    @Test
+    public void saveContactList_changesInJournal_compacted() throws Exception {
+        JournalStorageManager storageManager = createStorageManager(Long.MAX_VALUE);
+        ContactList contactList = getTypicalContactList();
+        storageManager.saveContactList(contactList);
+        storageManager.saveContactListEdits(editContactList(contactList), contactList::getPersonList);
+
+        contactList.addPerson(HOON);
+        storageManager.saveContactList(contactList);
+
+        assertEquals(contactList, contactListStorage.readContactList().get());
+        assertEquals(contactList, createStorageManager(Long.MAX_VALUE).readContactList().get());
+    }
+
+    @Test
+    public void saveContactListEdits_journalLargerThanDataFile_compacted() throws Exception {
+        JournalStorageManager storageManager = createStorageManager(0);
+        ContactList contactList = getTypicalContactList();
+        storageManager.saveContactList(contactList);
+
+        for (int i = 0; i < 10; i++) {
+            Person person = new PersonBuilder(BOB).withName("Bob " + (char) ('a' + i)).build();
+            ListEdit<Person> edit = new ListEdit<>(contactList.getPersonList().size(), Collections.emptyList(),
+                    Collections.singletonList(person));
+            contactList.addPerson(person);
+            storageManager.saveContactListEdits(Collections.singletonList(edit), contactList::getPersonList);
+        }
+
+        // the data file has been rewritten, and the journal is kept smaller than it
+        assertNotEquals(getTypicalContactList(), contactListStorage.readContactList().get());
+        assertTrue(Files.size(journalFilePath) <= Files.size(contactListStorage.getContactListFilePath()));
+
+        assertEquals(contactList, createStorageManager(0).readContactList().get());
+    }
+
+    @Test
+    public void readContactList_incompleteChangeAtEndOfJournal_changeDiscarded() throws Exception {
+        JournalStorageManager storageManager = createStorageManager(Long.MAX_VALUE);
+        ContactList contactList = getTypicalContactList();
+        storageManager.saveContactList(contactList);
+        storageManager.saveContactListEdits(editContactList(contactList), contactList::getPersonList);
+        ContactList savedContactList = new ContactList(contactList);
+
+        FileUtil.appendToFile(journalFilePath, "replace 0 1 1\n{\"name\":\"Ida");
+        storageManager = createStorageManager(Long.MAX_VALUE);
+        assertEquals(savedContactList, storageManager.readContactList().get());
+
+        // the incomplete change does not affect later saves
+        contactList.addPerson(HOON);
+        storageManager.saveContactListEdits(Collections.singletonList(new ListEdit<>(
+                contactList.getPersonList().size() - 1, Collections.emptyList(), Collections.singletonList(HOON))),
+                contactList::getPersonList);
+        assertEquals(contactList, createStorageManager(Long.MAX_VALUE).readContactList().get());
+    }
+
+    @Test
+    public void readContactList_dataFileOverwrittenWithoutJournal_journalIgnored() throws Exception {
+        JournalStorageManager storageManager = createStorageManager(Long.MAX_VALUE);
+        ContactList contactList = getTypicalContactList();
+        storageManager.saveContactList(contactList);
+        storageManager.saveContactListEdits(editContactList(contactList), contactList::getPersonList);
+
+        ContactList overwritten = new ContactList();
+        overwritten.addPerson(IDA);
+        contactListStorage.saveContactList(overwritten);
+
+        assertEquals(overwritten, createStorageManager(Long.MAX_VALUE).readContactList().get());
+    }
+
+    @Test
+    public void readContactList_dataFileCopiedWithJournal_changesApplied() throws Exception {
+        JournalStorageManager storageManager = createStorageManager(Long.MAX_VALUE);
+        ContactList contactList = getTypicalContactList();
+        storageManager.saveContactList(contactList);
+        storageManager.saveContactListEdits(editContactList(contactList), contactList::getPersonList);
+
+        Path copiedFilePath = testFolder.newFolder("copy").toPath().resolve("contacts.json");
+        Files.copy(contactListStorage.getContactListFilePath(), copiedFilePath);
+        Files.copy(journalFilePath, JsonListJournal.getJournalFilePath(copiedFilePath));
+
+        JsonContactListStorage copiedStorage = new JsonContactListStorage(copiedFilePath);
+        assertEquals(contactList, createStorageManager(copiedStorage, Long.MAX_VALUE).readContactList().get());
+    }
+
+    @Test
+    public void compactJournals_changesInJournal_writtenToDataFile() throws Exception {
+        JournalStorageManager storageManager = createStorageManager(Long.MAX_VALUE);
+        ContactList contactList = getTypicalContactList();
+        storageManager.saveContactList(contactList);
+        storageManager.saveContactListEdits(editContactList(contactList), contactList::getPersonList);
+
+        createStorageManager(Long.MAX_VALUE).compactJournals();
+
+        // the data file can be read without the journal, e.g. once journalling is turned off
+        assertEquals(contactList, contactListStorage.readContactList().get());
+    }
+
+}
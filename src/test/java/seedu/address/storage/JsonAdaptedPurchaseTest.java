@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.storage.JsonAdaptedPurchase.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.TypicalPurchases.SUBWAY;
 
@@ -10,34 +11,44 @@ import java.util.stream.Collectors;
 import org.junit.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.purchase.Price;
+import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.PurchaseDate;
 import seedu.address.model.purchase.PurchaseName;
 import seedu.address.testutil.Assert;
 
 public class JsonAdaptedPurchaseTest {
     private static final String INVALID_PURCHASENAME = "Ice cream!";
     private static final String INVALID_PRICE = "$1.50";
+    private static final String INVALID_DATE = "290219";
     private static final String INVALID_TAG = "snacks!";
 
     private static final String VALID_PURCHASENAME = SUBWAY.getPurchaseName().toString();
     private static final String VALID_PRICE = SUBWAY.getPrice().toString();
+    private static final String VALID_DATE = SUBWAY.getDate().toString();
     private static final List<JsonAdaptedTag> VALID_TAGS = SUBWAY.getTags().stream()
             .map(JsonAdaptedTag::new)
             .collect(Collectors.toList());
 
 
+    @Test
+    public void toModelType_validPurchaseDetails_returnsPurchase() throws Exception {
+        JsonAdaptedPurchase purchase = new JsonAdaptedPurchase(SUBWAY);
+        assertEquals(SUBWAY, purchase.toModelType());
+    }
 
     @Test
     public void toModelType_invalidPurchaseName_throwsIllegalValueException() {
         JsonAdaptedPurchase purchase =
-                new JsonAdaptedPurchase(INVALID_PURCHASENAME, VALID_PRICE, VALID_TAGS);
+                new JsonAdaptedPurchase(INVALID_PURCHASENAME, VALID_PRICE, VALID_DATE, VALID_TAGS);
         String expectedMessage = PurchaseName.MESSAGE_CONSTRAINTS;
         Assert.assertThrows(IllegalValueException.class, expectedMessage, purchase::toModelType);
     }
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedPurchase purchase = new JsonAdaptedPurchase(null, VALID_PRICE, VALID_TAGS);
+        JsonAdaptedPurchase purchase = new JsonAdaptedPurchase(null, VALID_PRICE, VALID_DATE, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, PurchaseName.class.getSimpleName());
         Assert.assertThrows(IllegalValueException.class, expectedMessage, purchase::toModelType);
     }
@@ -45,25 +56,44 @@ public class JsonAdaptedPurchaseTest {
     @Test
     public void toModelType_invalidPrice_throwsIllegalValueException() {
         JsonAdaptedPurchase purchase =
-                new JsonAdaptedPurchase(VALID_PURCHASENAME, INVALID_PRICE, VALID_TAGS);
+                new JsonAdaptedPurchase(VALID_PURCHASENAME, INVALID_PRICE, VALID_DATE, VALID_TAGS);
         String expectedMessage = Price.MESSAGE_CONSTRAINTS;
         Assert.assertThrows(IllegalValueException.class, expectedMessage, purchase::toModelType);
     }
 
     @Test
     public void toModelType_nullPrice_throwsIllegalValueException() {
-        JsonAdaptedPurchase purchase = new JsonAdaptedPurchase(VALID_PURCHASENAME, null, VALID_TAGS);
+        JsonAdaptedPurchase purchase = new JsonAdaptedPurchase(VALID_PURCHASENAME, null, VALID_DATE, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Price.class.getSimpleName());
         Assert.assertThrows(IllegalValueException.class, expectedMessage, purchase::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidDate_throwsIllegalValueException() {
+        JsonAdaptedPurchase purchase =
+                new JsonAdaptedPurchase(VALID_PURCHASENAME, VALID_PRICE, INVALID_DATE, VALID_TAGS);
+        String expectedMessage = PurchaseDate.MESSAGE_CONSTRAINTS;
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, purchase::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullDate_undated() throws Exception {
+        // purchases saved before purchases were dated
+        JsonAdaptedPurchase purchase = new JsonAdaptedPurchase(VALID_PURCHASENAME, VALID_PRICE, null, VALID_TAGS);
+        Purchase loadedPurchase = purchase.toModelType();
+        assertEquals(PurchaseDate.UNDATED, loadedPurchase.getDate());
+
+        // saved without a date again
+        String savedJson = JsonUtil.toJsonString(new JsonAdaptedPurchase(loadedPurchase));
+        assertEquals(loadedPurchase, JsonUtil.fromJsonString(savedJson, JsonAdaptedPurchase.class).toModelType());
+    }
 
     @Test
     public void toModelType_invalidTags_throwsIllegalValueException() {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedPurchase purchase =
-                new JsonAdaptedPurchase(VALID_PURCHASENAME, VALID_PRICE, invalidTags);
+                new JsonAdaptedPurchase(VALID_PURCHASENAME, VALID_PRICE, VALID_DATE, invalidTags);
         Assert.assertThrows(IllegalValueException.class, purchase::toModelType);
     }
 }
@@ -17,6 +17,8 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonFileOptions;
 import seedu.address.model.ContactList;
 import seedu.address.model.ReadOnlyContactList;
 
@@ -98,6 +100,20 @@ public class JsonContactListStorageTest {
 
     }
 
+    @Test
+    public void saveContactList_compactWithBackup_writesSingleLineAndKeepsBackup() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempContactList.json");
+        JsonContactListStorage jsonContactListStorage =
+                new JsonContactListStorage(filePath, new JsonFileOptions(true, true));
+
+        jsonContactListStorage.saveContactList(getTypicalContactList());
+        jsonContactListStorage.saveContactList(new ContactList());
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(getTypicalContactList(), new ContactList(
+                new JsonContactListStorage(FileUtil.getBackupPath(filePath)).readContactList().get()));
+    }
+
     @Test
     public void saveContactList_nullContactList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.util.SyntheticDataUtil.Distribution;
+import seedu.address.testutil.Assert;
+
+public class SyntheticDataGeneratorTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_invalidOptions_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> createGenerator("--people=10"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> createGenerator("persons=10"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> createGenerator("--persons"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> createGenerator("--persons=ten"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> createGenerator("--persons=-1"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> createGenerator("--scale=-1"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> createGenerator("--scale=1e10"));
+        Assert.assertThrows(IllegalArgumentException.class, Distribution.MESSAGE_CONSTRAINTS, () ->
+                createGenerator("--purchasedays=0"));
+
+        // dates outside the 2000s, and prices with too many digits
+        Assert.assertThrows(IllegalArgumentException.class, Distribution.MESSAGE_CONSTRAINTS, () ->
+                createGenerator("--purchasedays=" + (Distribution.MAX_PURCHASE_DAYS + 1)));
+        Assert.assertThrows(IllegalArgumentException.class, Distribution.MESSAGE_CONSTRAINTS, () ->
+                createGenerator("--deadlinedays=" + (Distribution.MAX_DEADLINE_DAYS + 1)));
+        Assert.assertThrows(IllegalArgumentException.class, Distribution.MESSAGE_CONSTRAINTS, () ->
+                createGenerator("--meanprice=1e15"));
+    }
+
+    @Test
+    public void generate_validOptions_filesReadBySameStorage() throws Exception {
+        Path outputDirectory = testFolder.getRoot().toPath();
+        createGenerator("--output=" + outputDirectory, "--scale=0.01", "--persons=300", "--tickedtasks=50",
+                "--habits=0", "--maxtags=5").generate();
+
+        assertEquals(3, new JsonContactListStorage(outputDirectory.resolve("contactlist.json")).readContactList()
+                .get().getPersonList().size());
+        assertEquals(10, new JsonTaskListStorage(outputDirectory.resolve("tasklist.json")).readTaskList()
+                .get().getTaskList().size());
+        assertEquals(1, new JsonTickedTaskListStorage(outputDirectory.resolve("tickedtasklist.json"))
+                .readTickedTaskList().get().getTaskList().size());
+        assertEquals(100, new JsonExpenditureListStorage(outputDirectory.resolve("expenditurelist.json"))
+                .readExpenditureList().get().getPurchaseList().size());
+        assertEquals(0, new JsonHabitTrackerListStorage(outputDirectory.resolve("habittrackerlist.json"))
+                .readHabitTrackerList().get().getHabitList().size());
+        assertEquals(10, new JsonWorkoutBookStorage(outputDirectory.resolve("workoutbook.json")).readWorkoutBook()
+                .get().getWorkoutList().size());
+    }
+
+    @Test
+    public void generate_sameOptions_sameFiles() throws Exception {
+        Path firstDirectory = testFolder.newFolder("first").toPath();
+        Path secondDirectory = testFolder.newFolder("second").toPath();
+        createGenerator("--output=" + firstDirectory, "--scale=0.05", "--seed=7").generate();
+        createGenerator("--output=" + secondDirectory, "--scale=0.05", "--seed=7").generate();
+
+        for (String fileName : Arrays.asList("contactlist.json", "tasklist.json", "tickedtasklist.json",
+                "expenditurelist.json", "habittrackerlist.json", "workoutbook.json")) {
+            assertEquals(FileUtil.readFromFile(firstDirectory.resolve(fileName)),
+                    FileUtil.readFromFile(secondDirectory.resolve(fileName)));
+        }
+    }
+
+    private static SyntheticDataGenerator createGenerator(String... args) {
+        return new SyntheticDataGenerator(Arrays.asList(args));
+    }
+}
@@ -0,0 +1,516 @@
+package seedu.address.testutil;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyContactList;
+import seedu.address.model.ReadOnlyExpenditureList;
+import seedu.address.model.ReadOnlyHabitTrackerList;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReadOnlyWorkoutBook;
+import seedu.address.model.habit.Habit;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.purchase.PeriodSpending;
+import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.SpendingPeriod;
+import seedu.address.model.purchase.SpendingSummary;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+import seedu.address.model.workout.Workout;
+
+/**
+ * A default model stub that have all of the methods failing.
+ * Tests extend it to implement only the methods the code under test should call.
+ */
+public class ModelStub implements Model {
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Path getContactListFilePath() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setContactListFilePath(Path contactListFilePath) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setContactList(ReadOnlyContactList contactList) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyContactList getContactList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyTaskList getTaskList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyTaskList getTickedTaskList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addTask(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addTickedTaskList(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasTask(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteTask(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void sortTask() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTaskList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTickedTaskList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTaskAndTickedTaskLists() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Person> findPersons(PersonContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Task> findTasks(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Purchase> findPurchases(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public SpendingSummary getSpendingSummary(Set<Tag> requiredTags) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<PeriodSpending> getSpendingPerPeriod(SpendingPeriod period, long firstIndex, long lastIndex) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Workout> findWorkouts(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Habit> findHabits(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredTaskList(Predicate<Task> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPersonList(Collection<? extends Person> persons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<? super Person> getFilteredPersonListPredicate() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredTaskList(Collection<? extends Task> tasks) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<? super Task> getFilteredTaskListPredicate() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredTickedTaskList(Predicate<Task> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoContactList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoContactList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoContactList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoContactList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitContactList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void clearHistory() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setTaskList(ReadOnlyTaskList taskList) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyProperty<Person> selectedPersonProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Person getSelectedPerson() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSelectedPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Task> getFilteredTaskList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Task> getTaskListByDeadline() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> getTasksDueBetween(long fromEpochMinutes, long toEpochMinutes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Task> getNextTaskDue(long fromEpochMinutes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Task> getFilteredTickedTaskList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyProperty<Task> selectedTaskProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSelectedTask(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setTask(Task target, Task editedTask) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Task getSelectedTask() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addPurchase(Purchase purchase) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setExpenditureList(ReadOnlyExpenditureList newData) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyExpenditureList getExpenditureList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Purchase> getFilteredPurchaseList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPurchaseList(Predicate<Purchase> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPurchaseList(Collection<? extends Purchase> purchases) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<? super Purchase> getFilteredPurchaseListPredicate() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitExpenditureList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyProperty<Purchase> selectedPurchaseProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSelectedPurchase(Purchase purchase) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Path getExpenditureListFilePath() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setExpenditureListFilePath(Path expenditureListFilePath) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addWorkout(Workout workout) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ArrayList<Workout> getRecent() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitWorkoutBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSelectedWorkout(Workout workout) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyProperty<Workout> selectedWorkoutProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Workout> getFilteredWorkoutList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyWorkoutBook getWorkoutList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredWorkoutList(Predicate<Workout> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredWorkoutList(Collection<? extends Workout> workouts) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<? super Workout> getFilteredWorkoutListPredicate() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setWorkoutBook(ReadOnlyWorkoutBook workoutBook) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setHabitTrackerList(ReadOnlyHabitTrackerList habitTrackerList) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyHabitTrackerList getHabitTrackerList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addHabit(Habit habit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Habit> getFilteredHabitList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredHabitList(Predicate<Habit> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredHabitList(Collection<? extends Habit> habits) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<? super Habit> getFilteredHabitListPredicate() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitHabitTrackerList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyProperty<Habit> selectedHabitProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Habit getSelectedHabit() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSelectedHabit(Habit habit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteHabit(Habit habit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Purchase getSelectedPurchase() {
+        throw new AssertionError("This method should not be called.");
+    }
+}
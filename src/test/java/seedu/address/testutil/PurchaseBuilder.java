@@ -5,6 +5,7 @@ import java.util.Set;
 
 import seedu.address.model.purchase.Price;
 import seedu.address.model.purchase.Purchase;
+import seedu.address.model.purchase.PurchaseDate;
 import seedu.address.model.purchase.PurchaseName;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
@@ -15,13 +16,16 @@ import seedu.address.model.util.SampleDataUtil;
 public class PurchaseBuilder {
     public static final String DEFAULT_PURCHASENAME = "Oreo mcflurry";
     public static final String DEFAULT_PRICE = "2.30";
+    public static final String DEFAULT_DATE = "010419";
     private PurchaseName name;
     private Price price;
+    private PurchaseDate date;
     private Set<Tag> tags;
 
     public PurchaseBuilder() {
         name = new PurchaseName(DEFAULT_PURCHASENAME);
         price = new Price(DEFAULT_PRICE);
+        date = new PurchaseDate(DEFAULT_DATE);
         tags = new HashSet<>();
     }
 
@@ -31,6 +35,7 @@ public class PurchaseBuilder {
     public PurchaseBuilder(Purchase purchaseToCopy) {
         name = purchaseToCopy.getPurchaseName();
         price = purchaseToCopy.getPrice();
+        date = purchaseToCopy.getDate();
         tags = new HashSet<>(purchaseToCopy.getTags());
     }
 
@@ -58,8 +63,16 @@ public class PurchaseBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code PurchaseDate} of the {@code Purchase} that we are building.
+     */
+    public PurchaseBuilder withDate(String date) {
+        this.date = new PurchaseDate(date);
+        return this;
+    }
+
     public Purchase build() {
-        return new Purchase(name, price, tags);
+        return new Purchase(name, price, date, tags);
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PURCHASENAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PURCHASE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import seedu.address.logic.commands.AddPurchaseCommand;
@@ -26,6 +27,7 @@ public class PurchaseUtil {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_PURCHASENAME + purchase.getPurchaseName().fullName + " ");
         sb.append(PREFIX_PRICE + purchase.getPrice().value + " ");
+        sb.append(PREFIX_PURCHASE_DATE + purchase.getDate().value + " ");
         purchase.getTags().stream().forEach(s -> sb.append(PREFIX_TAG + s.tagName + " ")
         );
         return sb.toString();
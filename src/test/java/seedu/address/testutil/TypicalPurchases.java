@@ -4,6 +4,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PRICE_MOVIE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PRICE_PRAWNMEE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PURCHASENAME_MOVIE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PURCHASENAME_PRAWNMEE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PURCHASE_DATE_MOVIE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PURCHASE_DATE_PRAWNMEE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ENTERTAINMENT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FOOD;
 
@@ -19,23 +21,24 @@ import seedu.address.model.purchase.Purchase;
  */
 public class TypicalPurchases {
     public static final Purchase MCFLURRY = new PurchaseBuilder().withPurchaseName("Oreo mcflurry")
-            .withPrice("2.30").withTags("snacks").build();
+            .withPrice("2.30").withDate("250319").withTags("snacks").build();
     public static final Purchase SUBWAY = new PurchaseBuilder().withPurchaseName("6inch cold cut trio")
-            .withPrice("7.90").withTags("food").build();
+            .withPrice("7.90").withDate("010419").withTags("food").build();
     public static final Purchase KARAOKE = new PurchaseBuilder().withPurchaseName("Karaoke at katong")
-            .withPrice("18.50").withTags("entertainment").build();
+            .withPrice("18.50").withDate("070419").withTags("entertainment").build();
 
     // Manually added
     public static final Purchase CHICKENRICE = new PurchaseBuilder().withPurchaseName("Deck chicken rice")
-            .withPrice("2.50").withTags("food").build();
+            .withPrice("2.50").withDate("080419").withTags("food").build();
     public static final Purchase MILKTEA = new PurchaseBuilder().withPurchaseName("Gongcha milk tea")
-            .withPrice("3.90").withTags("drink").build();
+            .withPrice("3.90").withDate("080419").withTags("drink").build();
 
     // Manually added - Purchase's details found in {@code CommandTestUtil}
     public static final Purchase PRAWNMEE = new PurchaseBuilder().withPurchaseName(VALID_PURCHASENAME_PRAWNMEE)
-            .withPrice(VALID_PRICE_PRAWNMEE).withTags(VALID_TAG_FOOD).build();
+            .withPrice(VALID_PRICE_PRAWNMEE).withDate(VALID_PURCHASE_DATE_PRAWNMEE).withTags(VALID_TAG_FOOD).build();
     public static final Purchase MOVIE = new PurchaseBuilder().withPurchaseName(VALID_PURCHASENAME_MOVIE)
-            .withPrice(VALID_PRICE_MOVIE).withTags(VALID_TAG_ENTERTAINMENT).build();
+            .withPrice(VALID_PRICE_MOVIE).withDate(VALID_PURCHASE_DATE_MOVIE).withTags(VALID_TAG_ENTERTAINMENT)
+            .build();
 
     public static final String KEYWORD_MATCHING_MEIER = "Meier"; // A keyword that matches MEIER
 